@@ -0,0 +1,86 @@
+package lsk.commerce.benchmark;
+
+import lsk.commerce.domain.Category;
+import lsk.commerce.domain.Product;
+import lsk.commerce.domain.product.Album;
+import lsk.commerce.dto.response.CategoryResponse;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CategoryBenchmark {
+
+    private static final Field CATEGORY_ID = ReflectionUtils.findField(Category.class, "id");
+
+    static {
+        ReflectionUtils.makeAccessible(CATEGORY_ID);
+    }
+
+    @State(Scope.Benchmark)
+    public static class DeepTree {
+
+        @Param({"5", "50"})
+        int depth;
+
+        Category leaf;
+
+        @Setup
+        public void setup() {
+            Category parent = null;
+            for (int i = 0; i < depth; i++) {
+                parent = createCategory(parent, "DEPTH " + i, i + 1);
+            }
+            leaf = parent;
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class WideTree {
+
+        @Param({"10", "100", "1000"})
+        int width;
+
+        Category root;
+
+        @Setup
+        public void setup() {
+            long id = 1;
+            root = createCategory(null, "ROOT", id++);
+            for (int i = 0; i < width; i++) {
+                Category child = createCategory(root, "CHILD " + i, id++);
+                createCategory(child, "GRANDCHILD " + i, id++);
+            }
+        }
+    }
+
+    //카테고리 쪽 목록에 계속 쌓이지 않도록 연결한 뒤 다시 끊는다.
+    @Benchmark
+    public Product connectCategory(DeepTree tree) {
+        Album album = Album.builder().name("BANG BANG").price(15000).stockQuantity(10).artist("IVE").studio("STARSHIP").build();
+        album.connectCategory(tree.leaf);
+        album.removeCategoryProductsFormCategory();
+        return album;
+    }
+
+    @Benchmark
+    public CategoryResponse categoryResponseFrom(WideTree tree) {
+        return CategoryResponse.from(tree.root);
+    }
+
+    private static Category createCategory(Category parent, String name, long id) {
+        Category category = Category.createCategory(parent, name);
+        ReflectionUtils.setField(CATEGORY_ID, category, id);
+        return category;
+    }
+}
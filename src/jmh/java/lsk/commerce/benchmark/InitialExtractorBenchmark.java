@@ -0,0 +1,44 @@
+package lsk.commerce.benchmark;
+
+import lsk.commerce.util.InitialExtractor;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+//영문, 한글, 섞인 입력에서 이전 방식(toCharArray + StringBuilder)과 현재 방식의 ns/op, bytes/op를 비교한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class InitialExtractorBenchmark {
+
+    private static final char[] INITIAL = {
+            'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+    };
+
+    @Param({"Blue Valentine", "자바 ORM 표준 JPA 프로그래밍", "면접을 위한 전공지식 노트", "STARSHIP"})
+    String text;
+
+    @Benchmark
+    public String stringBuilder() {
+        StringBuilder sb = new StringBuilder();
+        for (char c : text.toCharArray()) {
+            if (c >= 0xAC00 && c <= 0xD7A3) {
+                sb.append(INITIAL[(c - 0xAC00) / (21 * 28)]);
+            } else {
+                sb.append(c);
+            }
+        }
+        return sb.toString();
+    }
+
+    @Benchmark
+    public String charBuffer() {
+        return InitialExtractor.extract(text);
+    }
+}
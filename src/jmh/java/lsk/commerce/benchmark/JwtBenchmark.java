@@ -0,0 +1,77 @@
+package lsk.commerce.benchmark;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lsk.commerce.domain.Member;
+import lsk.commerce.dto.LoginPrincipalDto;
+import lsk.commerce.util.JwtProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import javax.crypto.SecretKey;
+import java.util.concurrent.TimeUnit;
+
+//요청 하나의 인증 비용을 비교한다.
+//이전: 인터셉터에서 검증 + 클레임 추출, ArgumentResolver에서 클레임 추출 (매번 새 파서로 세 번 파싱)
+//현재: 인터셉터에서 verify 한 번 (같은 토큰이면 캐시)
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class JwtBenchmark {
+
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3Itand0LXByb3ZpZGVyLXRlc3QtMDEyMzQ1Njc4OQ==";
+
+    SecretKey secretKey;
+    JwtProvider jwtProvider;
+    JwtProvider noCacheJwtProvider;
+    String token;
+
+    @Setup
+    public void setup() {
+        secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+        jwtProvider = new JwtProvider(SECRET, 10_000);
+        noCacheJwtProvider = new JwtProvider(SECRET, 0);
+        token = jwtProvider.createToken(Member.builder()
+                .name("UserA")
+                .loginId("id_A")
+                .password("abAB12!@")
+                .zipcode("01234")
+                .baseAddress("서울시 강남구")
+                .detailAddress("101동 101호")
+                .build());
+    }
+
+    @Benchmark
+    public String previousRequest() {
+        parseWithNewParser(token);
+        Claims claims = parseWithNewParser(token);
+        claims.get("role", String.class);
+        return parseWithNewParser(token).getSubject();
+    }
+
+    @Benchmark
+    public String verifyWithoutCache() {
+        return noCacheJwtProvider.verify(token).loginId();
+    }
+
+    @Benchmark
+    public String verifyWithCache() {
+        LoginPrincipalDto principal = jwtProvider.verify(token);
+        return principal.loginId();
+    }
+
+    private Claims parseWithNewParser(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
@@ -0,0 +1,30 @@
+package lsk.commerce.benchmark;
+
+import lsk.commerce.util.NanoIdProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.TimeUnit;
+
+//SecureRandom 하나를 같이 쓰므로 여러 스레드에서 동시에 만들 때도 측정한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class NanoIdBenchmark {
+
+    @Benchmark
+    public String createNanoId() {
+        return NanoIdProvider.createNanoId();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String createNanoId_4Threads() {
+        return NanoIdProvider.createNanoId();
+    }
+}
@@ -0,0 +1,83 @@
+package lsk.commerce.benchmark;
+
+import lsk.commerce.domain.Delivery;
+import lsk.commerce.domain.Member;
+import lsk.commerce.domain.Order;
+import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.domain.product.Album;
+import lsk.commerce.dto.request.OrderProductRequest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class OrderBenchmark {
+
+    @Param({"1", "10", "100"})
+    int lines;
+
+    List<OrderProduct> orderProducts;
+    Order order;
+    List<OrderProductRequest> sameRequests;
+    List<OrderProductRequest> changedRequests;
+
+    @Setup
+    public void setup() {
+        orderProducts = new ArrayList<>();
+        List<OrderProductRequest> requests = new ArrayList<>();
+        for (int i = 0; i < lines; i++) {
+            Album album = Album.builder().name("ALBUM " + i).price(10000 + i).stockQuantity(1000).artist("IVE").studio("STARSHIP").build();
+            orderProducts.add(OrderProduct.createOrderProduct(album, 1 + i % 3));
+            requests.add(new OrderProductRequest(album.getProductNumber(), 1 + i % 3));
+        }
+
+        Member member = createMember();
+        order = Order.createOrder(member, new Delivery(member), orderProducts);
+
+        Collections.shuffle(requests, new Random(0));
+        sameRequests = List.copyOf(requests);
+        requests.set(requests.size() - 1, new OrderProductRequest(requests.getLast().productNumber(), 100));
+        changedRequests = List.copyOf(requests);
+    }
+
+    //회원의 주문 목록에 계속 쌓이지 않도록 회원과 배송은 매번 새로 만든다.
+    @Benchmark
+    public Order createOrder() {
+        Member member = createMember();
+        return Order.createOrder(member, new Delivery(member), orderProducts);
+    }
+
+    @Benchmark
+    public boolean isSameOrderProducts_Same() {
+        return order.isSameOrderProducts(sameRequests);
+    }
+
+    @Benchmark
+    public boolean isSameOrderProducts_Changed() {
+        return order.isSameOrderProducts(changedRequests);
+    }
+
+    private static Member createMember() {
+        return Member.builder()
+                .name("UserA")
+                .loginId("id_A")
+                .password("abAB12!@")
+                .zipcode("01234")
+                .baseAddress("서울시 강남구")
+                .detailAddress("101동 101호")
+                .build();
+    }
+}
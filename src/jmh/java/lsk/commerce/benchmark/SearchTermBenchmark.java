@@ -0,0 +1,32 @@
+package lsk.commerce.benchmark;
+
+import lsk.commerce.query.dto.SearchTerm;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.concurrent.TimeUnit;
+
+//검색어마다 String.matches로 정규식을 새로 만드는 방식과 한 번 훑어서 구분하는 방식을 비교한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class SearchTermBenchmark {
+
+    @Param({"BANG BANG", "자바 ORM 표준 JPA 프로그래밍", "ㅍㄹㄱㄹㅁ", "범죄ㄷㅅ"})
+    String value;
+
+    @Benchmark
+    public boolean stringMatches() {
+        return value.matches(".*[ㄱ-ㅎ].*");
+    }
+
+    @Benchmark
+    public boolean searchTerm() {
+        return SearchTerm.of(value).usesInitial();
+    }
+}
@@ -0,0 +1,146 @@
+package lsk.commerce.interceptor;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lsk.commerce.controller.MemberController;
+import lsk.commerce.controller.ProductController;
+import lsk.commerce.dto.LoginPrincipalDto;
+import lsk.commerce.util.JwtProvider;
+import lsk.commerce.util.NanoIdProvider;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.bind.annotation.RequestMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.ParameterizableViewController;
+import org.springframework.web.servlet.mvc.method.RequestMappingInfo;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+//토큰 검증은 고정된 결과로 바꾸고, 요청 하나의 인증, 권한 판단 비용만 비교한다.
+//이전: 요청 URI와 메서드를 문자열로 비교 (info 로그 출력 비용은 제외)
+//현재: 핸들러 메서드로 미리 만든 규칙을 찾는다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LoginCheckInterceptorBenchmark {
+
+    private static final String SECRET = "c2VjcmV0LWtleS1mb3Itand0LXByb3ZpZGVyLXRlc3QtMDEyMzQ1Njc4OQ==";
+
+    @Param({"member", "product", "payment"})
+    String route;
+
+    JwtProvider jwtProvider;
+    LoginCheckInterceptor loginCheckInterceptor;
+    MockHttpServletRequest request;
+    MockHttpServletResponse response;
+    Object handler;
+
+    @Setup
+    public void setup() throws Exception {
+        jwtProvider = new JwtProvider(SECRET, 0) {
+            @Override
+            public String getToken(HttpServletRequest request) {
+                return "token";
+            }
+
+            @Override
+            public LoginPrincipalDto verify(String token) {
+                return new LoginPrincipalDto("id_A", "ADMIN", Long.MAX_VALUE);
+            }
+        };
+
+        request = new MockHttpServletRequest();
+        response = new MockHttpServletResponse();
+
+        RequestMappingHandlerMapping handlerMapping = new RequestMappingHandlerMapping();
+        switch (route) {
+            case "member" -> {
+                request.setMethod("GET");
+                request.setRequestURI("/members/id_A");
+                request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("memberLoginId", "id_A"));
+                handler = register(handlerMapping, new MemberController(null, null), "findMember", "/members/{memberLoginId}", RequestMethod.GET);
+            }
+            case "product" -> {
+                request.setMethod("DELETE");
+                request.setRequestURI("/products/" + NanoIdProvider.createNanoId());
+                handler = register(handlerMapping, new ProductController(null, null, null), "delete", "/products/{productNumber}", RequestMethod.DELETE);
+            }
+            default -> {
+                request.setMethod("GET");
+                request.setRequestURI("/payments/" + NanoIdProvider.createNanoId());
+                handler = new ParameterizableViewController();
+            }
+        }
+
+        //시작할 때처럼 등록된 핸들러 메서드로 규칙 표를 만든다.
+        RoutePolicyTable routePolicyTable = new RoutePolicyTable(
+                new StaticListableBeanFactory(Map.of("requestMappingHandlerMapping", handlerMapping)).getBeanProvider(RequestMappingHandlerMapping.class));
+        routePolicyTable.afterSingletonsInstantiated();
+        loginCheckInterceptor = new LoginCheckInterceptor(jwtProvider, routePolicyTable);
+    }
+
+    @Benchmark
+    public boolean previousPreHandle() {
+        String requestURI = request.getRequestURI();
+        String method = request.getMethod();
+        if ("OPTIONS".equalsIgnoreCase(method)) {
+            return true;
+        }
+
+        if (!(handler instanceof HandlerMethod)) {
+            if (requestURI.equals("/payments.html")) {
+                return true;
+            }
+
+            return requestURI.startsWith("/payments/") && NanoIdProvider.validateNanoId(requestURI.substring("/payments/".length()));
+        }
+
+        if ("/members".equals(requestURI) && "POST".equalsIgnoreCase(method)) {
+            return true;
+        }
+
+        LoginPrincipalDto principal = jwtProvider.verify(jwtProvider.getToken(request));
+        request.setAttribute(LoginPrincipalDto.REQUEST_ATTRIBUTE, principal);
+
+        boolean owner = true;
+        if (requestURI.startsWith("/members/")) {
+            Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+            if (pathVariables != null && pathVariables.containsKey("memberLoginId")) {
+                owner = principal.loginId().equals(pathVariables.get("memberLoginId"));
+            }
+        }
+
+        boolean adminPath = ("/members".equals(requestURI) && "GET".equalsIgnoreCase(method))
+                || ((requestURI.startsWith("/products") || requestURI.startsWith("/categories")) && !"GET".equalsIgnoreCase(method))
+                || (requestURI.equals("/orders") && "GET".equalsIgnoreCase(method));
+
+        return owner && (!adminPath || "ADMIN".equals(principal.role()));
+    }
+
+    @Benchmark
+    public boolean routePolicyPreHandle() throws Exception {
+        return loginCheckInterceptor.preHandle(request, response, handler);
+    }
+
+    private static HandlerMethod register(RequestMappingHandlerMapping handlerMapping, Object controller, String methodName, String path, RequestMethod requestMethod) {
+        for (Method method : controller.getClass().getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                handlerMapping.registerMapping(RequestMappingInfo.paths(path).methods(requestMethod).build(), controller, method);
+                return new HandlerMethod(controller, method);
+            }
+        }
+        throw new IllegalArgumentException(methodName);
+    }
+}
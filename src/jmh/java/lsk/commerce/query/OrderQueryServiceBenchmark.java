@@ -0,0 +1,80 @@
+package lsk.commerce.query;
+
+import lsk.commerce.domain.DeliveryStatus;
+import lsk.commerce.domain.OrderStatus;
+import lsk.commerce.query.dto.OrderProductQueryDto;
+import lsk.commerce.query.dto.OrderQueryDto;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.stream.Collectors.groupingBy;
+
+//DB 조회는 미리 만든 결과로 바꾸고, 주문과 주문 상품을 합쳐서 회원별로 묶는 부분만 측정한다.
+//assembleOrders는 private이라 같은 패키지에서 findOrderMapByLoginIds로 호출한다.
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OrderQueryServiceBenchmark {
+
+    private static final int MEMBERS = 10;
+    private static final int LINES_PER_ORDER = 3;
+
+    @Param({"10", "1000"})
+    int orders;
+
+    OrderQueryService orderQueryService;
+    List<String> loginIds;
+
+    @Setup
+    public void setup() {
+        List<OrderQueryDto> orderQueryDtoList = new ArrayList<>();
+        List<OrderProductQueryDto> orderProductQueryDtoList = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < orders; i++) {
+            String orderNumber = String.format("order%07d", i);
+            orderQueryDtoList.add(new OrderQueryDto("id_" + i % MEMBERS, orderNumber, 30000, OrderStatus.CREATED, now,
+                    null, null, DeliveryStatus.WAITING, null, null));
+            for (int line = 0; line < LINES_PER_ORDER; line++) {
+                orderProductQueryDtoList.add(new OrderProductQueryDto(orderNumber, "ALBUM " + line, 10000, 1, 10000));
+            }
+        }
+        Map<String, List<OrderProductQueryDto>> orderProductMap = orderProductQueryDtoList.stream()
+                .collect(groupingBy(OrderProductQueryDto::orderNumber));
+
+        OrderQueryRepository orderQueryRepository = new OrderQueryRepository(null, null) {
+            @Override
+            protected List<OrderQueryDto> findOrdersByLoginIds(List<String> loginIds) {
+                return orderQueryDtoList;
+            }
+        };
+        OrderProductQueryRepository orderProductQueryRepository = new OrderProductQueryRepository(null) {
+            @Override
+            protected Map<String, List<OrderProductQueryDto>> findOrderProductListByOrderNumbers(List<String> orderNumbers) {
+                return orderProductMap;
+            }
+        };
+
+        orderQueryService = new OrderQueryService(orderQueryRepository, orderProductQueryRepository);
+        loginIds = new ArrayList<>();
+        for (int i = 0; i < MEMBERS; i++) {
+            loginIds.add("id_" + i);
+        }
+    }
+
+    @Benchmark
+    public Map<String, List<OrderQueryDto>> assembleOrders() {
+        return orderQueryService.findOrderMapByLoginIds(loginIds);
+    }
+}
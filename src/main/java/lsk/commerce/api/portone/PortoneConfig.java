@@ -2,15 +2,19 @@ package lsk.commerce.api.portone;
 
 import io.portone.sdk.server.payment.PaymentClient;
 import io.portone.sdk.server.webhook.WebhookVerifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class PortoneConfig {
 
+    //부하 테스트할 때는 base-url을 로컬 stand-in 서버로 바꾼다.
     @Bean
-    public PaymentClient paymentClient(PortoneSecretProperties secret) {
-        return new PaymentClient(secret.api(), "https://api.portone.io", "store-3218fbd8-7af7-4043-8a4e-ec6e84fd858c");
+    public PaymentClient paymentClient(PortoneSecretProperties secret,
+                                       @Value("${portone.api.base-url:https://api.portone.io}") String baseUrl,
+                                       @Value("${portone.api.store-id:store-3218fbd8-7af7-4043-8a4e-ec6e84fd858c}") String storeId) {
+        return new PaymentClient(secret.api(), baseUrl, storeId);
     }
 
     @Bean
@@ -0,0 +1,169 @@
+package lsk.commerce.api.portone;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.portone.sdk.server.errors.ForbiddenException;
+import io.portone.sdk.server.errors.InvalidRequestException;
+import io.portone.sdk.server.errors.PaymentNotFoundException;
+import io.portone.sdk.server.errors.UnauthorizedException;
+import io.portone.sdk.server.payment.Payment;
+import io.portone.sdk.server.payment.PaymentClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+//포트원 결제 조회는 한 번에 timeout-ms까지만 기다리고, 시간 초과, 연결 오류, 5xx 같은 포트원 장애면 지터를 넣어 max-retries번까지 다시 조회한다.
+//연속으로 failure-threshold번 실패하면 open-seconds 동안 포트원을 부르지 않고 바로 실패시켜서 결제 스레드가 묶이지 않게 한다.
+@Slf4j
+@Component
+public class PortoneGateway {
+
+    private static final int CLOSED = 0;
+    private static final int OPEN = 1;
+    private static final int HALF_OPEN = 2;
+
+    private final PaymentClient portone;
+    private final Duration timeout;
+    private final Duration deadline;
+    private final int maxRetries;
+    private final Duration retryBackoff;
+    private final int failureThreshold;
+    private final long openNanos;
+
+    private final AtomicInteger state = new AtomicInteger(CLOSED);
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong openedAt = new AtomicLong();
+
+    private final Timer successTimer;
+    private final Timer failureTimer;
+    private final Counter retryCounter;
+    private final Counter rejectedCounter;
+
+    public PortoneGateway(PaymentClient portone,
+                          MeterRegistry meterRegistry,
+                          @Value("${portone.gateway.timeout-ms:3000}") long timeoutMillis,
+                          @Value("${portone.gateway.deadline-ms:10000}") long deadlineMillis,
+                          @Value("${portone.gateway.max-retries:2}") int maxRetries,
+                          @Value("${portone.gateway.retry-backoff-ms:200}") long retryBackoffMillis,
+                          @Value("${portone.gateway.failure-threshold:5}") int failureThreshold,
+                          @Value("${portone.gateway.open-seconds:30}") long openSeconds) {
+        this.portone = portone;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+        this.deadline = Duration.ofMillis(deadlineMillis);
+        this.maxRetries = maxRetries;
+        this.retryBackoff = Duration.ofMillis(retryBackoffMillis);
+        this.failureThreshold = failureThreshold;
+        this.openNanos = Duration.ofSeconds(openSeconds).toNanos();
+
+        this.successTimer = latencyTimer("success", meterRegistry);
+        this.failureTimer = latencyTimer("failure", meterRegistry);
+        this.retryCounter = Counter.builder("portone.gateway.retries")
+                .description("포트원 장애로 포트원을 다시 조회한 횟수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("portone.gateway.rejected")
+                .description("포트원 조회를 중단한 동안 바로 실패시킨 조회 수")
+                .register(meterRegistry);
+        Gauge.builder("portone.gateway.circuit.state", state, AtomicInteger::get)
+                .description("포트원 조회 상태 (0: 정상, 1: 중단, 2: 한 번만 시험 조회)")
+                .register(meterRegistry);
+    }
+
+    public Mono<Payment> getPayment(String paymentId) {
+        return Mono.defer(() -> {
+            if (!tryAcquire()) {
+                rejectedCounter.increment();
+                return Mono.error(new SyncPaymentException("포트원 응답이 없어 결제 조회를 잠시 중단했습니다"));
+            }
+
+            long start = System.nanoTime();
+            return Mono.fromFuture(() -> portone.getPayment(paymentId))
+                    .timeout(timeout)
+                    .retryWhen(Retry.backoff(maxRetries, retryBackoff)
+                            .jitter(0.5)
+                            .filter(e -> !isClientError(e))
+                            .doBeforeRetry(signal -> retryCounter.increment())
+                            .onRetryExhaustedThrow((spec, signal) -> signal.failure()))
+                    .timeout(deadline)
+                    .doOnSuccess(payment -> {
+                        successTimer.record(Duration.ofNanos(System.nanoTime() - start));
+                        onSuccess();
+                    })
+                    .doOnError(e -> {
+                        failureTimer.record(Duration.ofNanos(System.nanoTime() - start));
+                        onFailure(paymentId, e);
+                    })
+                    .doOnCancel(this::onCancel);
+        });
+    }
+
+    //중단한 지 open-seconds가 지나면 한 요청만 포트원을 불러 보고, 그 결과로 다시 열지 닫을지 정한다.
+    private boolean tryAcquire() {
+        int current = state.get();
+        if (current == CLOSED) {
+            return true;
+        }
+        if (current == OPEN && System.nanoTime() - openedAt.get() >= openNanos) {
+            return state.compareAndSet(OPEN, HALF_OPEN);
+        }
+        return false;
+    }
+
+    private void onSuccess() {
+        consecutiveFailures.set(0);
+        if (state.getAndSet(CLOSED) != CLOSED) {
+            log.info("포트원 결제 조회 재개");
+        }
+    }
+
+    private void onFailure(String paymentId, Throwable e) {
+        //포트원이 요청을 거절한 4xx 오류(없는 결제, 권한 오류 등)는 포트원 장애로 보지 않는다.
+        if (isClientError(e)) {
+            onSuccess();
+            return;
+        }
+
+        int failures = consecutiveFailures.incrementAndGet();
+        if (state.get() == HALF_OPEN || failures >= failureThreshold) {
+            openedAt.set(System.nanoTime());
+            if (state.getAndSet(OPEN) != OPEN) {
+                log.warn("포트원 결제 조회 중단. paymentId: {}, consecutiveFailures: {}", paymentId, failures, e);
+            }
+        }
+    }
+
+    //시험 조회가 취소되면 바로 다음 요청이 다시 시험 조회를 할 수 있게 한다.
+    private void onCancel() {
+        if (state.get() == HALF_OPEN) {
+            openedAt.set(System.nanoTime() - openNanos);
+            state.compareAndSet(HALF_OPEN, OPEN);
+        }
+    }
+
+    //결제 조회는 몇 번을 불러도 같은 GET이라, 다시 불러도 결과가 같은 4xx 오류만 빼고 모두 다시 조회한다.
+    //SDK가 모르는 오류 응답(500, 503 등)도 포트원 장애로 보고 연속 실패에 센다.
+    private static boolean isClientError(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof PaymentNotFoundException || cause instanceof InvalidRequestException
+                    || cause instanceof UnauthorizedException || cause instanceof ForbiddenException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Timer latencyTimer(String outcome, MeterRegistry meterRegistry) {
+        return Timer.builder("portone.gateway.latency")
+                .description("다시 조회한 시간까지 합친 포트원 결제 조회 시간")
+                .tag("outcome", outcome)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -1,8 +1,8 @@
 package lsk.commerce.argumentresolver;
 
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import lsk.commerce.dto.LoginPrincipalDto;
 import lsk.commerce.util.JwtProvider;
 import org.springframework.core.MethodParameter;
 import org.springframework.web.bind.support.WebDataBinderFactory;
@@ -25,8 +25,11 @@ public class LoginArgumentResolver implements HandlerMethodArgumentResolver {
     @Override
     public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer, NativeWebRequest webRequest, WebDataBinderFactory binderFactory) throws Exception {
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-        String token = jwtProvider.getToken(request);
-        Claims claims = jwtProvider.extractClaims(token);
-        return claims.getSubject();
+        if (request.getAttribute(LoginPrincipalDto.REQUEST_ATTRIBUTE) instanceof LoginPrincipalDto principal) {
+            return principal.loginId();
+        }
+
+        //인터셉터를 거치지 않은 경로
+        return jwtProvider.verify(jwtProvider.getToken(request)).loginId();
     }
 }
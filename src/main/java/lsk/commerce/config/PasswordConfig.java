@@ -1,5 +1,8 @@
 package lsk.commerce.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import lsk.commerce.util.BoundedPasswordEncoder;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
@@ -8,8 +11,13 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 @Configuration
 public class PasswordConfig {
 
+    //threads가 0이면 CPU 수만큼 사용한다.
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${password.bcrypt.strength:10}") int strength,
+                                           @Value("${password.hash.threads:0}") int threads,
+                                           @Value("${password.hash.queue-capacity:64}") int queueCapacity,
+                                           MeterRegistry meterRegistry) {
+        int hashThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(new BCryptPasswordEncoder(strength), hashThreads, queueCapacity, meterRegistry);
     }
 }
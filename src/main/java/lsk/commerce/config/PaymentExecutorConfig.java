@@ -0,0 +1,22 @@
+package lsk.commerce.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lsk.commerce.util.BoundedPaymentExecutor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class PaymentExecutorConfig {
+
+    //max-concurrency가 0이면 커넥션 풀의 절반만 사용해서 주문, 조회 요청이 쓸 커넥션을 남겨 둔다.
+    @Bean
+    public BoundedPaymentExecutor paymentExecutor(@Value("${payment.executor.max-concurrency:0}") int maxConcurrency,
+                                                  @Value("${payment.executor.queue-capacity:1000}") int queueCapacity,
+                                                  @Value("${payment.executor.acquire-timeout-ms:5000}") long acquireTimeoutMillis,
+                                                  @Value("${spring.datasource.hikari.maximum-pool-size:10}") int poolSize,
+                                                  MeterRegistry meterRegistry) {
+        int concurrency = maxConcurrency > 0 ? maxConcurrency : Math.max(1, poolSize / 2);
+        return new BoundedPaymentExecutor(concurrency, queueCapacity, acquireTimeoutMillis, meterRegistry);
+    }
+}
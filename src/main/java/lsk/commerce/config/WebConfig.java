@@ -2,7 +2,9 @@ package lsk.commerce.config;
 
 import lsk.commerce.argumentresolver.LoginArgumentResolver;
 import lsk.commerce.interceptor.LoginCheckInterceptor;
+import lsk.commerce.interceptor.RoutePolicyTable;
 import lsk.commerce.util.JwtProvider;
+import lsk.commerce.util.NanoIdProvider;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
@@ -19,9 +21,12 @@ public class WebConfig implements WebMvcConfigurer {
     @Autowired
     JwtProvider jwtProvider;
 
+    @Autowired
+    RoutePolicyTable routePolicyTable;
+
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
-        registry.addInterceptor(new LoginCheckInterceptor(jwtProvider))
+        registry.addInterceptor(new LoginCheckInterceptor(jwtProvider, routePolicyTable))
                 .order(1)
                 .addPathPatterns("/**")
                 .excludePathPatterns(
@@ -49,6 +54,7 @@ public class WebConfig implements WebMvcConfigurer {
 
     @Override
     public void addViewControllers(ViewControllerRegistry registry) {
-        registry.addViewController("/payments/**").setViewName("forward:/payments.html");
+        //주문 번호 형식 검사는 매핑할 때 한 번만 하고, 인터셉터는 뷰 컨트롤러인지만 본다.
+        registry.addViewController("/payments/{orderNumber:" + NanoIdProvider.NANOID_REGEX + "}").setViewName("forward:/payments.html");
     }
 }
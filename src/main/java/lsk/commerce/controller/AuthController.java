@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import lsk.commerce.dto.request.MemberLoginRequest;
 import lsk.commerce.dto.response.Result;
 import lsk.commerce.exception.ErrorResult;
+import lsk.commerce.interceptor.PublicApi;
 import lsk.commerce.service.AuthService;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
@@ -49,6 +50,7 @@ public class AuthController {
                     )
             )
     })
+    @PublicApi
     @PostMapping("/login")
     public ResponseEntity<Result<String>> login(
             @RequestBody @Valid MemberLoginRequest loginRequest,
@@ -67,6 +69,7 @@ public class AuthController {
 
     @Operation(summary = "로그아웃", description = "쿠키를 제거합니다.")
     @ApiResponse(responseCode = "200")
+    @PublicApi
     @PostMapping("/logout")
     public ResponseEntity<Result<String>> logout(HttpServletResponse response) {
         Cookie cookie = new Cookie("jjwt", null);
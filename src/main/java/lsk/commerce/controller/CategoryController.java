@@ -12,12 +12,14 @@ import jakarta.validation.Valid;
 import jakarta.validation.constraints.Pattern;
 import lombok.RequiredArgsConstructor;
 import lsk.commerce.domain.Category;
+import lsk.commerce.dto.CategoryTreeJsonDto;
 import lsk.commerce.dto.request.CategoryChangeParentRequest;
 import lsk.commerce.dto.request.CategoryCreateRequest;
 import lsk.commerce.dto.response.CategoryDisconnectResponse;
 import lsk.commerce.dto.response.CategoryResponse;
 import lsk.commerce.dto.response.Result;
 import lsk.commerce.exception.ErrorResult;
+import lsk.commerce.interceptor.AdminOnly;
 import lsk.commerce.query.CategoryQueryService;
 import lsk.commerce.query.dto.CategoryQueryDto;
 import lsk.commerce.service.CategoryProductService;
@@ -25,6 +27,7 @@ import lsk.commerce.service.CategoryService;
 import lsk.commerce.swagger.ApiAdminForbiddenResponse;
 import lsk.commerce.swagger.ApiUnauthorizedResponse;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -33,8 +36,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
-
-import java.util.List;
+import org.springframework.web.context.request.WebRequest;
 
 @Tag(name = "03. 카테고리", description = "생성, 조회, 수정, 삭제, 상품과 연결 해제")
 @RestController
@@ -88,6 +90,7 @@ public class CategoryController {
             )
     })
     @ApiAdminForbiddenResponse
+    @AdminOnly
     @PostMapping("/categories")
     public ResponseEntity<Result<String>> create(@RequestBody @Valid CategoryCreateRequest request) {
         String categoryName = categoryService.create(request);
@@ -95,15 +98,23 @@ public class CategoryController {
     }
 
     @Operation(summary = "카테고리 목록 조회", description = "전체 최상위 카테고리와 하위 카테고리 목록을 조회합니다.")
-    @ApiResponse(responseCode = "200")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200"),
+            @ApiResponse(responseCode = "304", description = "If-None-Match가 현재 ETag와 같으면 본문 없이 응답합니다.", content = @Content)
+    })
     @ApiUnauthorizedResponse
     @GetMapping("/categories")
-    public ResponseEntity<Result<List<CategoryResponse>>> categoryList() {
-        List<Category> categories = categoryService.findRootCategories();
-        List<CategoryResponse> categoryResponseList = categories.stream()
-                .map(categoryService::getCategoryDto)
-                .toList();
-        return ResponseEntity.ok(new Result<>(categoryResponseList, categoryResponseList.size()));
+    public ResponseEntity<byte[]> categoryList(WebRequest webRequest) {
+        CategoryTreeJsonDto categoryTreeJson = categoryService.findCategoryTreeJson();
+        if (webRequest.checkNotModified(categoryTreeJson.eTag())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(categoryTreeJson.eTag()).build();
+        }
+
+        //미리 만든 JSON을 다시 직렬화하지 않고 그대로 보낸다.
+        return ResponseEntity.ok()
+                .eTag(categoryTreeJson.eTag())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(categoryTreeJson.body());
     }
 
     @Operation(summary = "카테고리 상세 조회", description = "카테고리와 연결된 상품 목록을 조회합니다.")
@@ -180,6 +191,7 @@ public class CategoryController {
             )
     })
     @ApiAdminForbiddenResponse
+    @AdminOnly
     @PatchMapping("/categories/{categoryNumber}")
     public ResponseEntity<Result<CategoryResponse>> changeParentCategory(
             @Parameter(description = "**12**자리의 카테고리 번호를 입력해 주세요.", example = "LVjBKQYeuJQP")
@@ -214,6 +226,7 @@ public class CategoryController {
             ),
     })
     @ApiAdminForbiddenResponse
+    @AdminOnly
     @DeleteMapping("/categories/{categoryNumber}")
     public ResponseEntity<Result<String>> delete(
             @Parameter(description = "**12**자리의 카테고리 번호를 입력해 주세요.", example = "LVjBKQYeuJQP")
@@ -254,6 +267,7 @@ public class CategoryController {
             )
     })
     @ApiAdminForbiddenResponse
+    @AdminOnly
     @DeleteMapping("/categories/{categoryNumber}/{productNumber}")
     public ResponseEntity<Result<CategoryDisconnectResponse>> disconnectProduct(
             @Parameter(description = "**12**자리의 카테고리 번호를 입력해 주세요.", example = "LVjBKQYeuJQP")
@@ -290,6 +304,7 @@ public class CategoryController {
             )
     })
     @ApiAdminForbiddenResponse
+    @AdminOnly
     @DeleteMapping("/categories/{categoryNumber}/products")
     public ResponseEntity<Result<CategoryDisconnectResponse>> disconnectProducts(
             @Parameter(description = "**12**자리의 카테고리 번호를 입력해 주세요.", example = "LVjBKQYeuJQP")
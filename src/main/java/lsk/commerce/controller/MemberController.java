@@ -18,6 +18,9 @@ import lsk.commerce.dto.request.MemberCreateRequest;
 import lsk.commerce.dto.response.MemberResponse;
 import lsk.commerce.dto.response.Result;
 import lsk.commerce.exception.ErrorResult;
+import lsk.commerce.interceptor.AdminOnly;
+import lsk.commerce.interceptor.OwnerOnly;
+import lsk.commerce.interceptor.PublicApi;
 import lsk.commerce.query.MemberQueryService;
 import lsk.commerce.query.dto.MemberQueryDto;
 import lsk.commerce.query.dto.MemberSearchCond;
@@ -79,6 +82,7 @@ public class MemberController {
                     )
             )
     })
+    @PublicApi
     @PostMapping("/members")
     public ResponseEntity<Result<String>> create(@RequestBody @Valid MemberCreateRequest request) {
         String loginId = memberService.join(request);
@@ -90,8 +94,8 @@ public class MemberController {
             description = "**관리자**만 검색할 수 있습니다. \n\n" +
                     "검색 조건에 맞춰 조회합니다. \n\n" +
                     "원하지 않는 검색 조건은 비워주세요. \n\n" +
-                    "초성과 한글이 섞이면 검색 결과가 나오지 않습니다. \n\n" +
-                    "ex) ㅇ저 (X), ㅇㅈa (O)"
+                    "초성과 한글이 섞이면 한글도 초성으로 바꿔서 초성으로 검색합니다. \n\n" +
+                    "ex) ㅇ저 -> ㅇㅈ, ㅇㅈa (O)"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200"),
@@ -108,6 +112,7 @@ public class MemberController {
             )
     })
     @ApiAdminForbiddenResponse
+    @AdminOnly
     @GetMapping("/members")
     public ResponseEntity<Result<List<MemberResponse>>> memberList(@ParameterObject @ModelAttribute @Valid MemberSearchCond cond) {
         List<MemberResponse> memberResponseList = memberQueryService.searchMembers(cond);
@@ -121,6 +126,7 @@ public class MemberController {
     )
     @ApiResponse(responseCode = "200")
     @ApiMemberOwnerForbiddenResponse
+    @OwnerOnly
     @GetMapping("/members/{memberLoginId}")
     public ResponseEntity<Result<MemberQueryDto>> findMember(
             @Parameter(example = "testId")
@@ -154,6 +160,7 @@ public class MemberController {
             )
     })
     @ApiMemberOwnerForbiddenResponse
+    @OwnerOnly
     @PostMapping("/members/{memberLoginId}/password")
     public ResponseEntity<Result<String>> changePassword(
             @Parameter(example = "testId")
@@ -188,6 +195,7 @@ public class MemberController {
             )
     })
     @ApiMemberOwnerForbiddenResponse
+    @OwnerOnly
     @PatchMapping("/members/{memberLoginId}/address")
     public ResponseEntity<Result<MemberResponse>> changeAddress(
             @Parameter(example = "testId")
@@ -207,6 +215,7 @@ public class MemberController {
     )
     @ApiResponse(responseCode = "200")
     @ApiMemberOwnerForbiddenResponse
+    @OwnerOnly
     @DeleteMapping("/members/{memberLoginId}")
     public ResponseEntity<Result<String>> delete(
             @Parameter(example = "testId")
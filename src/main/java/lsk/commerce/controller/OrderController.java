@@ -20,6 +20,7 @@ import lsk.commerce.dto.response.OrderChangeResponse;
 import lsk.commerce.dto.response.OrderSearchResponse;
 import lsk.commerce.dto.response.Result;
 import lsk.commerce.exception.ErrorResult;
+import lsk.commerce.interceptor.AdminOnly;
 import lsk.commerce.query.OrderQueryService;
 import lsk.commerce.query.dto.OrderQueryDto;
 import lsk.commerce.query.dto.OrderSearchCond;
@@ -96,8 +97,8 @@ public class OrderController {
                     "검색 조건에 맞춰 조회합니다. \n\n" +
                     "원하지 않는 검색 조건은 비워주세요. \n\n" +
                     "Postman에서 검색 시작일과 검색 종료일은 형식이 불일치되면 기본 예외 메시지가 출력됩니다. (공백만 입력되면 무시됩니다.) \n\n" +
-                    "초성과 한글은 섞이면 검색 결과가 나오지 않습니다. \n\n" +
-                    "ex) 프로그래ㅁ (X), jPa ㅍㄹㄱㄹㅁ (O)"
+                    "초성과 한글이 섞이면 한글도 초성으로 바꿔서 초성으로 검색합니다. \n\n" +
+                    "ex) 프로그래ㅁ -> ㅍㄹㄱㄹㅁ, jPa ㅍㄹㄱㄹㅁ (O)"
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200"),
@@ -113,6 +114,7 @@ public class OrderController {
             )
     })
     @ApiAdminForbiddenResponse
+    @AdminOnly
     @GetMapping("/orders")
     public ResponseEntity<Result<List<OrderSearchResponse>>> orderList(@ParameterObject @ModelAttribute @Valid OrderSearchCond cond) {
         List<OrderSearchResponse> orderSearchResponseList = orderQueryService.searchOrders(cond);
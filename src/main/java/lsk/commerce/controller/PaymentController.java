@@ -12,7 +12,6 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.Pattern;
-import kotlin.Unit;
 import lombok.RequiredArgsConstructor;
 import lsk.commerce.api.portone.CompletePaymentRequest;
 import lsk.commerce.api.portone.SyncPaymentException;
@@ -24,9 +23,11 @@ import lsk.commerce.dto.response.OrderPaymentResponse;
 import lsk.commerce.dto.response.PaymentResponse;
 import lsk.commerce.dto.response.Result;
 import lsk.commerce.exception.ErrorResult;
+import lsk.commerce.interceptor.PublicApi;
 import lsk.commerce.service.OrderService;
 import lsk.commerce.service.PaymentService;
 import lsk.commerce.service.PaymentSyncService;
+import lsk.commerce.service.WebhookInboxService;
 import lsk.commerce.swagger.ApiOrderOwnerForbiddenResponse;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -51,6 +52,7 @@ public class PaymentController {
     private final OrderService orderService;
     private final PaymentService paymentService;
     private final PaymentSyncService paymentSyncService;
+    private final WebhookInboxService webhookInboxService;
 
     @Operation(
             summary = "결제 요청",
@@ -121,13 +123,14 @@ public class PaymentController {
 
     @Operation(hidden = true)
     //결제 정보를 실시간으로 전달받기 위한 웹훅
+    //서명을 검증하고 webhook_inbox에 쌓은 뒤 바로 응답한다. 결제 동기화는 WebhookInboxWorker가 한다.
+    @PublicApi
     @PostMapping("/api/payment/webhook")
-    public Mono<Unit> handleWebhook(
+    public ResponseEntity<Void> handleWebhook(
             @RequestBody String body,
             @RequestHeader("webhook-id") String webhookId,
             @RequestHeader("webhook-timestamp") String webhookTimestamp,
-            @RequestHeader("webhook-signature") String webhookSignature,
-            @Login String loginId
+            @RequestHeader("webhook-signature") String webhookSignature
     ) throws SyncPaymentException {
         Webhook webhook;
         try {
@@ -136,8 +139,8 @@ public class PaymentController {
             throw new SyncPaymentException("포트원 웹훅 처리 중 오류 발생");
         }
         if (webhook instanceof WebhookTransaction transaction) {
-            return paymentSyncService.syncPayment(transaction.getData().getPaymentId(), loginId).map(payment -> Unit.INSTANCE);
+            webhookInboxService.receive(webhookId, transaction.getData().getPaymentId());
         }
-        return Mono.empty();
+        return ResponseEntity.ok().build();
     }
 }
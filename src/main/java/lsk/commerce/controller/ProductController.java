@@ -21,8 +21,11 @@ import lsk.commerce.dto.response.ProductNameWithCategoryNameResponse;
 import lsk.commerce.dto.response.ProductResponse;
 import lsk.commerce.dto.response.Result;
 import lsk.commerce.exception.ErrorResult;
+import lsk.commerce.interceptor.AdminOnly;
 import lsk.commerce.query.ProductQueryService;
+import lsk.commerce.query.dto.ProductPageCond;
 import lsk.commerce.query.dto.ProductSearchCond;
+import lsk.commerce.query.dto.ProductSearchPage;
 import lsk.commerce.service.CategoryProductService;
 import lsk.commerce.service.ProductService;
 import lsk.commerce.swagger.ApiAdminForbiddenResponse;
@@ -101,6 +104,7 @@ public class ProductController {
             )
     })
     @ApiAdminForbiddenResponse
+    @AdminOnly
     @PostMapping("/products")
     public ResponseEntity<Result<String>> create(
             @Parameter(
@@ -120,8 +124,9 @@ public class ProductController {
             description = "검색 조건에 맞춰 조회합니다. \n\n" +
                     "원하지 않는 검색 조건은 비워주세요. \n\n" +
                     "Postman에서 최소 가격과 최대 가격은 숫자를 넣지 않으면 기본 예외 메시지가 출력됩니다. (빈 문자열과 공백은 무시됩니다. '  12  3 ' -> '123') \n\n" +
-                    "초성과 한글은 섞이면 검색 결과가 나오지 않습니다. \n\n" +
-                    "ex) 프로그래ㅁ (X), jPa ㅍㄹㄱㄹㅁ (O)"
+                    "초성과 한글이 섞이면 한글도 초성으로 바꿔서 초성으로 검색합니다. \n\n" +
+                    "ex) 프로그래ㅁ -> ㅍㄹㄱㄹㅁ, jPa ㅍㄹㄱㄹㅁ (O) \n\n" +
+                    "결과는 size개씩 나눠서 반환합니다. hasNext가 true이면 응답의 nextCursor를 cursor에 넣어 다음 페이지를 조회해 주세요."
     )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200"),
@@ -133,16 +138,19 @@ public class ProductController {
                                     @ExampleObject(name = "카테고리 이름 빈 문자열 (공백 미 포함, 패턴 불일치 포함)", value = "{\"code\": \"NOT_VALID\", \"message\": \"입력값이 잘못되었습니다\", \"errors\": [{\"location\": \"FORM\", \"field\": \"categoryName\", \"message\": \"카테고리 이름은 한글, 영문, 숫자, 공백, _만 사용하여 1~20자 사이로 입력해 주세요\"}]}"),
                                     @ExampleObject(name = "가수 빈 문자열 (공백 미 포함, 패턴 불일치 포함)", value = "{\"code\": \"NOT_VALID\", \"message\": \"입력값이 잘못되었습니다\", \"errors\": [{\"location\": \"FORM\", \"field\": \"artist\", \"message\": \"가수는 한글, 초성, 영문, 숫자, 공백, 특수문자((),._)만 사용하여 1~50자 사이로 입력해 주세요\"}]}"),
                                     @ExampleObject(name = "최소 가격 100원 미만", value = "{\"code\": \"NOT_VALID\", \"message\": \"입력값이 잘못되었습니다\", \"errors\": [{\"location\": \"FORM\", \"field\": \"minPrice\", \"message\": \"최소 가격은 100원 이상이어야 합니다\"}]}"),
-                                    @ExampleObject(name = "최소 가격 타입 불일치", value = "{\"code\": \"NOT_VALID\", \"message\": \"입력값이 잘못되었습니다\", \"errors\": [{\"location\": \"FORM\", \"field\": \"minPrice\", \"message\": \"Failed to convert value of type 'java.lang.String' to required type 'java.lang.Integer'; For input string: \\\"a\\\"\"}]}")
+                                    @ExampleObject(name = "최소 가격 타입 불일치", value = "{\"code\": \"NOT_VALID\", \"message\": \"입력값이 잘못되었습니다\", \"errors\": [{\"location\": \"FORM\", \"field\": \"minPrice\", \"message\": \"Failed to convert value of type 'java.lang.String' to required type 'java.lang.Integer'; For input string: \\\"a\\\"\"}]}"),
+                                    @ExampleObject(name = "잘못된 커서", value = "{\"code\": \"BAD_ARGUMENT\", \"message\": \"잘못된 커서입니다. cursor: abc\", \"errors\": null}")
                             }
                     )
             )
     })
     @ApiUnauthorizedResponse
     @GetMapping("/products")
-    public ResponseEntity<Result<List<ProductResponse>>> productList(@ParameterObject @ModelAttribute @Valid ProductSearchCond cond) {
-        List<ProductResponse> productResponseList = productQueryService.searchProducts(cond);
-        return ResponseEntity.ok(new Result<>(productResponseList, productResponseList.size()));
+    public ResponseEntity<Result<List<ProductResponse>>> productList(@ParameterObject @ModelAttribute @Valid ProductSearchCond cond,
+                                                                    @ParameterObject @ModelAttribute @Valid ProductPageCond pageCond) {
+        ProductSearchPage productSearchPage = productQueryService.searchProducts(cond, pageCond);
+        List<ProductResponse> productResponseList = productSearchPage.products();
+        return ResponseEntity.ok(new Result<>(productResponseList, productResponseList.size(), productSearchPage.nextCursor(), productSearchPage.hasNext()));
     }
 
     @Operation(summary = "상품 상세 조회", description = "상품의 상세 정보를 조회합니다.")
@@ -201,6 +209,7 @@ public class ProductController {
             )
     })
     @ApiAdminForbiddenResponse
+    @AdminOnly
     @PatchMapping("/products/{productNumber}")
     public ResponseEntity<Result<ProductDetailResponse>> changeProduct(
             @Parameter(description = "**12**자리의 상품 번호를 입력해 주세요.", example = "WxgG3CzGZhAZ")
@@ -229,6 +238,7 @@ public class ProductController {
             )
     })
     @ApiAdminForbiddenResponse
+    @AdminOnly
     @DeleteMapping("/products/{productNumber}")
     public ResponseEntity<Result<String>> delete(
             @Parameter(description = "**12**자리의 상품 번호를 입력해 주세요.", example = "WxgG3CzGZhAZ")
@@ -264,6 +274,7 @@ public class ProductController {
             )
     })
     @ApiAdminForbiddenResponse
+    @AdminOnly
     @PatchMapping("/products/{productNumber}/{categoryNumber}")
     public ResponseEntity<Result<ProductNameWithCategoryNameResponse>> connectCategory(
             @Parameter(description = "**12**자리의 상품 번호를 입력해 주세요.", example = "WxgG3CzGZhAZ")
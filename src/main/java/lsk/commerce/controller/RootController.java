@@ -1,11 +1,13 @@
 package lsk.commerce.controller;
 
+import lsk.commerce.interceptor.PublicApi;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.GetMapping;
 
 @Controller
 public class RootController {
 
+    @PublicApi
     @GetMapping("/")
     public String swagger() {
         return "redirect:/swagger-ui/index.html";
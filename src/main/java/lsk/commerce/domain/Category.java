@@ -8,6 +8,7 @@ import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
@@ -21,7 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.TABLE;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
@@ -31,7 +32,9 @@ import static lombok.AccessLevel.PROTECTED;
 public class Category {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = TABLE, generator = "category_id")
+    @TableGenerator(name = "category_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = "category", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "category_id")
     private Long id;
 
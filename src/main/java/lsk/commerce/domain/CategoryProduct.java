@@ -6,12 +6,13 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.TABLE;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
@@ -20,7 +21,9 @@ import static lombok.AccessLevel.PROTECTED;
 public class CategoryProduct {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = TABLE, generator = "category_product_id")
+    @TableGenerator(name = "category_product_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = "category_product", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "category_product_id")
     private Long id;
 
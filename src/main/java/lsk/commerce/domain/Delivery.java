@@ -7,6 +7,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotNull;
 import lombok.Getter;
@@ -19,7 +20,7 @@ import java.time.LocalDateTime;
 import static jakarta.persistence.CascadeType.ALL;
 import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.TABLE;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
@@ -30,7 +31,9 @@ import static lombok.AccessLevel.PROTECTED;
 public class Delivery {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = TABLE, generator = "delivery_id")
+    @TableGenerator(name = "delivery_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = "delivery", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "delivery_id")
     private Long id;
 
@@ -0,0 +1,17 @@
+package lsk.commerce.domain;
+
+import lombok.NoArgsConstructor;
+
+import static lombok.AccessLevel.PRIVATE;
+
+//IDENTITY는 INSERT를 해야 id를 알 수 있어서 Hibernate가 JDBC 배치를 끈다.
+//id_sequence 테이블에서 엔티티마다 100개씩 미리 받아 두고 메모리에서 나눠 준다. (pooled)
+//블록을 받을 때는 별도 트랜잭션에서 행 잠금 후 값을 올리므로 서버가 여러 대여도 겹치지 않는다.
+@NoArgsConstructor(access = PRIVATE)
+public final class IdSequence {
+
+    public static final String TABLE = "id_sequence";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "next_val";
+    public static final int ALLOCATION_SIZE = 100;
+}
@@ -9,6 +9,7 @@ import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.Valid;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -24,7 +25,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static jakarta.persistence.EnumType.STRING;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.TABLE;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
@@ -33,7 +34,9 @@ import static lombok.AccessLevel.PROTECTED;
 public class Member {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = TABLE, generator = "member_id")
+    @TableGenerator(name = "member_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = "member", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "member_id")
     private Long id;
 
@@ -86,6 +89,15 @@ public class Member {
         this.password = passwordEncoder.encode(newPassword);
     }
 
+    //그 사이에 비밀번호가 바뀌었으면 덮어쓰지 않는다.
+    public void upgradePassword(String encodedPassword, String newEncodedPassword) {
+        if (!this.password.equals(encodedPassword)) {
+            return;
+        }
+
+        this.password = newEncodedPassword;
+    }
+
     public void changeAddress(String newZipcode, String newBaseAddress, String newDetailAddress) {
         if (this.address.getZipcode().equals(newZipcode) && this.address.getBaseAddress().equals(newBaseAddress) && this.address.getDetailAddress().equals(newDetailAddress)) {
             return;
@@ -5,18 +5,22 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import lsk.commerce.dto.OrderProductChangeDto;
 import lsk.commerce.dto.request.OrderProductRequest;
+import lsk.commerce.exception.DataNotFoundException;
 import lsk.commerce.exception.NotResourceOwnerException;
 import lsk.commerce.util.NanoIdProvider;
 import org.hibernate.annotations.SQLDelete;
@@ -25,17 +29,24 @@ import org.hibernate.annotations.SQLRestriction;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static jakarta.persistence.CascadeType.ALL;
+import static jakarta.persistence.CascadeType.PERSIST;
 import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.TABLE;
 import static lombok.AccessLevel.PROTECTED;
 import static lsk.commerce.domain.OrderStatus.CREATED;
 
 @Entity
-@Table(name = "orders")
+@Table(name = "orders", indexes = {
+        //미결제 주문 만료 키셋 조회용
+        @Index(name = "idx_orders_status_id", columnList = "order_status, order_id")
+})
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 @SQLRestriction("deleted = false")
@@ -43,7 +54,9 @@ import static lsk.commerce.domain.OrderStatus.CREATED;
 public class Order {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = TABLE, generator = "order_id")
+    @TableGenerator(name = "order_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = "orders", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "order_id")
     private Long id;
 
@@ -67,7 +80,8 @@ public class Order {
     private Payment payment;
 
     //양방향 매핑으로 변경
-    @OneToMany(mappedBy = "order")
+    //주문을 저장할 때 주문 상품도 같이 저장해서 배송, 주문 상품 INSERT가 한 번에 배치로 나간다.
+    @OneToMany(mappedBy = "order", cascade = PERSIST)
     private List<OrderProduct> orderProducts = new ArrayList<>();
 
     @NotNull
@@ -123,17 +137,6 @@ public class Order {
         return order;
     }
 
-    public void clearOrderProduct() {
-        validateStatusForClear();
-
-        for (OrderProduct orderProduct : this.orderProducts) {
-            orderProduct.getProduct().addStock(orderProduct.getQuantity());
-        }
-
-        this.totalAmount = 0;
-        this.orderProducts.clear();
-    }
-
     public boolean isSameOrderProducts(List<OrderProductRequest> orderProductRequestList) {
         if (this.getOrderProducts().size() != orderProductRequestList.size()) {
             return false;
@@ -150,30 +153,79 @@ public class Order {
         return currentOrderProductRequestList.equals(requestOrderProductRequestList);
     }
 
-    public void changeOrder(List<OrderProduct> newOrderProducts) {
+    //요청한 상품별 수량과 비교해서 바뀐 주문 상품만 추가, 수정, 삭제한다.
+    //재고는 상품마다 늘어난 수량만 차감하고 줄어든 수량만 복구하도록 변화량을 돌려준다.
+    public OrderProductChangeDto changeOrderProducts(Map<String, Integer> quantities, Map<String, Product> newProducts) {
+        validateStatusForChange();
+
+        List<OrderProduct> reserved = new ArrayList<>();
+        List<OrderProduct> released = new ArrayList<>();
+        List<OrderProduct> removed = new ArrayList<>();
+        Set<String> keptProductNumbers = new HashSet<>();
+
+        for (OrderProduct orderProduct : this.orderProducts) {
+            String productNumber = orderProduct.getProductNumber();
+            Integer quantity = quantities.get(productNumber);
+
+            //요청에 없는 상품이거나 같은 상품이 두 줄 이상이면 삭제
+            if (quantity == null || !keptProductNumbers.add(productNumber)) {
+                removed.add(orderProduct);
+                released.add(orderProduct);
+                continue;
+            }
+
+            int delta = quantity - orderProduct.getQuantity();
+            if (delta > 0) {
+                reserved.add(OrderProduct.createOrderProduct(orderProduct.getProduct(), delta));
+            } else if (delta < 0) {
+                released.add(OrderProduct.createOrderProduct(orderProduct.getProduct(), -delta));
+            }
+
+            if (delta != 0) {
+                orderProduct.changeQuantity(quantity);
+            }
+        }
+        this.orderProducts.removeAll(removed);
+
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            if (keptProductNumbers.contains(entry.getKey())) {
+                continue;
+            }
+
+            Product product = newProducts.get(entry.getKey());
+            if (product == null) {
+                throw new DataNotFoundException("존재하지 않는 상품입니다. productNumber: " + entry.getKey());
+            }
+
+            OrderProduct orderProduct = OrderProduct.createOrderProduct(product, entry.getValue());
+            this.addOrderProduct(orderProduct);
+            reserved.add(orderProduct);
+        }
+
         int calculatedPrice = 0;
-        for (OrderProduct newOrderProduct : newOrderProducts) {
-            this.addOrderProduct(newOrderProduct);
-            calculatedPrice += newOrderProduct.getOrderPrice();
+        for (OrderProduct orderProduct : this.orderProducts) {
+            calculatedPrice += orderProduct.getOrderPrice();
         }
         this.totalAmount = calculatedPrice;
+
+        return new OrderProductChangeDto(reserved, released, removed);
     }
 
     public void cancel() {
-        if (this.orderStatus == OrderStatus.CANCELED || this.delivery.getDeliveryStatus() == DeliveryStatus.CANCELED) {
+        if (isCanceled()) {
             return;
         }
 
         validateStatusForCancel();
 
-        for (OrderProduct orderProduct : this.orderProducts) {
-            orderProduct.getProduct().addStock(orderProduct.getQuantity());
-        }
-
         this.getDelivery().canceled();
         this.orderStatus = OrderStatus.CANCELED;
     }
 
+    public boolean isCanceled() {
+        return this.orderStatus == OrderStatus.CANCELED || this.delivery.getDeliveryStatus() == DeliveryStatus.CANCELED;
+    }
+
     public void completePaid() {
         if (this.orderStatus == OrderStatus.PAID && this.delivery.getDeliveryStatus() == DeliveryStatus.PREPARING) {
             return;
@@ -237,21 +289,21 @@ public class Order {
         }
     }
 
-    private void validateStatusForClear() {
+    private void validateStatusForChange() {
         if (this.getOrderStatus() != CREATED) {
-            throw new IllegalStateException("주문 생성 상태가 아니어서 주문 상품을 비울 수 없습니다. OrderStatus: " + this.orderStatus);
+            throw new IllegalStateException("주문 생성 상태가 아니어서 주문 상품을 수정할 수 없습니다. OrderStatus: " + this.orderStatus);
         }
 
         if (this.payment != null) {
             PaymentStatus paymentStatus = this.payment.getPaymentStatus();
             if (paymentStatus != PaymentStatus.PENDING) {
-                throw new IllegalStateException("결제 대기 상태가 아니어서 주문 상품을 비울 수 없습니다. PaymentStatus: " + paymentStatus);
+                throw new IllegalStateException("결제 대기 상태가 아니어서 주문 상품을 수정할 수 없습니다. PaymentStatus: " + paymentStatus);
             }
         }
 
         DeliveryStatus deliveryStatus = this.delivery.getDeliveryStatus();
         if (deliveryStatus != DeliveryStatus.WAITING) {
-            throw new IllegalStateException("배송 대기 상태가 아니어서 주문 상품을 비울 수 없습니다. DeliveryStatus: " + deliveryStatus);
+            throw new IllegalStateException("배송 대기 상태가 아니어서 주문 상품을 수정할 수 없습니다. DeliveryStatus: " + deliveryStatus);
         }
     }
 
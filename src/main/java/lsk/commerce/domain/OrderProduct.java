@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.EqualsAndHashCode;
@@ -17,7 +18,7 @@ import org.hibernate.annotations.SQLDelete;
 import org.hibernate.annotations.SQLRestriction;
 
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.TABLE;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
@@ -29,7 +30,9 @@ import static lombok.AccessLevel.PROTECTED;
 public class OrderProduct {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = TABLE, generator = "order_product_id")
+    @TableGenerator(name = "order_product_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = "order_product", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "order_product_id")
     private Long id;
 
@@ -64,7 +67,6 @@ public class OrderProduct {
         orderProduct.orderPrice = product.getPrice() * quantity;
         orderProduct.quantity = quantity;
 
-        product.removeStock(quantity);
         return orderProduct;
     }
 
@@ -82,4 +84,10 @@ public class OrderProduct {
     protected void setOrder(Order order) {
         this.order = order;
     }
+
+    //수량이 바뀐 주문 상품만 현재 가격으로 다시 계산한다.
+    protected void changeQuantity(Integer quantity) {
+        this.orderPrice = this.product.getPrice() * quantity;
+        this.quantity = quantity;
+    }
 }
@@ -0,0 +1,55 @@
+package lsk.commerce.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+//결제 완료, 배송 시작 후 처리할 일을 상태 변경과 같은 트랜잭션에서 쌓고 OutboxRelay가 처리한 뒤 지운다.
+//JdbcTemplate으로만 쓰고 읽어서 테이블 정의 용도로만 엔티티를 둔다.
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "outbox_event", indexes = {
+        //처리할 시각이 된 기록 조회용
+        @Index(name = "idx_outbox_event_available_at", columnList = "available_at")
+})
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "outbox_event_id")
+    private Long id;
+
+    @NotNull
+    @Enumerated(STRING)
+    @Column(name = "event_type", length = 30)
+    private OutboxEventType eventType;
+
+    @NotNull
+    @Column(name = "order_number", length = 12)
+    private String orderNumber;
+
+    //처리할 수 있는 시각, 가져간 동안과 실패한 뒤에는 다시 가져갈 시각으로 미룬다.
+    @NotNull
+    @Column(name = "available_at")
+    private LocalDateTime availableAt;
+
+    @NotNull
+    private Integer attempts;
+
+    @NotNull
+    private LocalDateTime createdAt;
+}
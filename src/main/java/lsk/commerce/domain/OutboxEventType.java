@@ -0,0 +1,5 @@
+package lsk.commerce.domain;
+
+public enum OutboxEventType {
+    PAYMENT_COMPLETED, DELIVERY_STARTED;
+}
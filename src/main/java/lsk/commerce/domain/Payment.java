@@ -5,7 +5,10 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.OneToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -19,11 +22,15 @@ import java.time.LocalDateTime;
 
 import static jakarta.persistence.EnumType.STRING;
 import static jakarta.persistence.FetchType.LAZY;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.TABLE;
 import static java.util.UUID.randomUUID;
 import static lombok.AccessLevel.PROTECTED;
 
 @Entity
+@Table(name = "payment", indexes = {
+        //결제 대사 키셋 조회용
+        @Index(name = "idx_payment_status_id", columnList = "payment_status, payment_id")
+})
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 @SQLRestriction("deleted = false")
@@ -31,7 +38,9 @@ import static lombok.AccessLevel.PROTECTED;
 public class Payment {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = TABLE, generator = "payment_id")
+    @TableGenerator(name = "payment_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = "payment", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "payment_id")
     private Long id;
 
@@ -54,6 +63,10 @@ public class Payment {
     @Enumerated(STRING)
     private PaymentStatus paymentStatus;
 
+    //결제 대사가 가져간 결제는 이 시각까지 다른 서버가 다시 가져가지 않는다.
+    @Column(name = "reconcile_at")
+    private LocalDateTime reconcileAt;
+
     @Column(nullable = false)
     private boolean deleted = false;
 
@@ -5,12 +5,15 @@ import jakarta.persistence.DiscriminatorColumn;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Inheritance;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
+import jakarta.persistence.TableGenerator;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -20,11 +23,12 @@ import lombok.NoArgsConstructor;
 import lsk.commerce.util.InitialExtractor;
 import lsk.commerce.util.NanoIdProvider;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import static jakarta.persistence.CascadeType.ALL;
-import static jakarta.persistence.GenerationType.IDENTITY;
+import static jakarta.persistence.GenerationType.TABLE;
 import static jakarta.persistence.InheritanceType.SINGLE_TABLE;
 import static lombok.AccessLevel.PROTECTED;
 
@@ -35,13 +39,20 @@ import static lombok.AccessLevel.PROTECTED;
         @UniqueConstraint(name = "UniqueAlbum", columnNames = {"name", "artist", "studio"}),
         @UniqueConstraint(name = "UniqueBook", columnNames = {"name", "author", "isbn"}),
         @UniqueConstraint(name = "UniqueMovie", columnNames = {"name", "actor", "director"})
+}, indexes = {
+        //상품 검색 커서 페이지네이션용
+        @Index(name = "idx_product_price_id", columnList = "price, product_id"),
+        @Index(name = "idx_product_name_id", columnList = "name, product_id"),
+        @Index(name = "idx_product_created_at_id", columnList = "created_at, product_id")
 })
 @Getter
 @NoArgsConstructor(access = PROTECTED)
 public abstract class Product {
 
     @Id
-    @GeneratedValue(strategy = IDENTITY)
+    @GeneratedValue(strategy = TABLE, generator = "product_id")
+    @TableGenerator(name = "product_id", table = IdSequence.TABLE, pkColumnName = IdSequence.NAME_COLUMN, valueColumnName = IdSequence.VALUE_COLUMN,
+            pkColumnValue = "product", allocationSize = IdSequence.ALLOCATION_SIZE)
     @Column(name = "product_id")
     private Long id;
 
@@ -70,11 +81,22 @@ public abstract class Product {
     @Min(0)
     private Integer stockQuantity;
 
+    //id는 서버마다 받은 블록에서 나눠 주므로 등록 순서와 다를 수 있어서 최신순 정렬은 등록 시각으로 한다.
+    @NotNull
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    //재고를 JDBC로 직접 수정할 때도 함께 올려서 동시 수정을 감지한다.
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     protected Product(String name, Integer price, Integer stockQuantity) {
         this.name = name;
         this.productNumber = NanoIdProvider.createNanoId();
         this.price = price;
         this.stockQuantity = stockQuantity;
+        this.createdAt = LocalDateTime.now();
     }
 
     protected void addStock(Integer stock) {
@@ -0,0 +1,47 @@
+package lsk.commerce.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.EnumType.STRING;
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+//상품 등록, 삭제를 같은 트랜잭션에서 쌓아 두고, 서버마다 ProductSearchIndex가 마지막으로 읽은 번호 다음부터 읽어서 색인에 반영한다.
+//JdbcTemplate으로만 쓰고 읽어서 테이블 정의 용도로만 엔티티를 둔다.
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "product_search_change", indexes = {
+        //오래된 기록 삭제용
+        @Index(name = "idx_product_search_change_created_at", columnList = "created_at")
+})
+public class ProductSearchChange {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "change_id")
+    private Long id;
+
+    @NotNull
+    @Column(name = "product_id")
+    private Long productId;
+
+    @NotNull
+    @Enumerated(STRING)
+    @Column(name = "change_type", length = 20)
+    private ProductSearchChangeType changeType;
+
+    @NotNull
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,5 @@
+package lsk.commerce.domain;
+
+public enum ProductSearchChangeType {
+    REGISTERED, DELETED;
+}
@@ -0,0 +1,37 @@
+package lsk.commerce.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+//인기 상품 재고 변경 기록, 주문 트랜잭션에서 쌓고 HotStockFlusher가 상품 재고에 반영한 뒤 지운다.
+//JdbcTemplate으로만 쓰고 읽어서 테이블 정의 용도로만 엔티티를 둔다.
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+public class ProductStockDelta {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "product_stock_delta_id")
+    private Long id;
+
+    @NotNull
+    @Column(name = "product_id")
+    private Long productId;
+
+    @NotNull
+    private Integer delta;
+
+    @NotNull
+    private LocalDateTime createdAt;
+}
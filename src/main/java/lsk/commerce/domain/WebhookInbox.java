@@ -0,0 +1,60 @@
+package lsk.commerce.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import static jakarta.persistence.GenerationType.IDENTITY;
+import static lombok.AccessLevel.PROTECTED;
+
+//서명을 검증한 포트원 웹훅을 받은 즉시 쌓아 두고 WebhookInboxWorker가 결제 동기화를 한다.
+//JdbcTemplate으로만 쓰고 읽어서 테이블 정의 용도로만 엔티티를 둔다.
+@Entity
+@Getter
+@NoArgsConstructor(access = PROTECTED)
+@Table(name = "webhook_inbox", uniqueConstraints = {
+        //포트원이 같은 웹훅을 다시 보내면 한 번만 쌓는다.
+        @UniqueConstraint(name = "uk_webhook_inbox_webhook_id", columnNames = "webhook_id")
+}, indexes = {
+        //처리할 웹훅 조회, 오래된 처리 완료 웹훅 삭제용
+        @Index(name = "idx_webhook_inbox_processed_at_available_at", columnList = "processed_at, available_at")
+})
+public class WebhookInbox {
+
+    @Id
+    @GeneratedValue(strategy = IDENTITY)
+    @Column(name = "webhook_inbox_id")
+    private Long id;
+
+    @NotNull
+    @Column(name = "webhook_id", length = 100)
+    private String webhookId;
+
+    @NotNull
+    @Column(name = "payment_id", length = 100)
+    private String paymentId;
+
+    //처리할 수 있는 시각, 가져간 동안과 실패한 뒤에는 다시 가져갈 시각으로 미룬다.
+    @NotNull
+    @Column(name = "available_at")
+    private LocalDateTime availableAt;
+
+    @NotNull
+    private Integer attempts;
+
+    @NotNull
+    @Column(name = "received_at")
+    private LocalDateTime receivedAt;
+
+    @Column(name = "processed_at")
+    private LocalDateTime processedAt;
+}
@@ -0,0 +1,19 @@
+package lsk.commerce.dto;
+
+import lsk.commerce.domain.Category;
+
+public record CategoryNodeDto(
+        Long id,
+        String categoryNumber,
+        String name,
+        Long parentId
+) {
+    public static CategoryNodeDto from(Category category) {
+        return new CategoryNodeDto(
+                category.getId(),
+                category.getCategoryNumber(),
+                category.getName(),
+                category.getParent() == null ? null : category.getParent().getId()
+        );
+    }
+}
@@ -0,0 +1,7 @@
+package lsk.commerce.dto;
+
+public record CategoryTreeJsonDto(
+        String eTag,
+        byte[] body
+) {
+}
@@ -0,0 +1,10 @@
+package lsk.commerce.dto;
+
+import java.util.List;
+
+public record InitialBackfillRowDto(
+        Long id,
+        List<String> sources,
+        List<String> initials
+) {
+}
@@ -0,0 +1,10 @@
+package lsk.commerce.dto;
+
+//검증된 토큰의 내용. 인터셉터가 요청 속성에 넣어 두고 ArgumentResolver가 다시 꺼내 쓴다.
+public record LoginPrincipalDto(
+        String loginId,
+        String role,
+        long expiresAtMillis
+) {
+    public static final String REQUEST_ATTRIBUTE = LoginPrincipalDto.class.getName();
+}
@@ -0,0 +1,14 @@
+package lsk.commerce.dto;
+
+import lsk.commerce.domain.OrderProduct;
+
+import java.util.List;
+
+//reserved, released는 재고를 바꿀 상품과 변화량만 담고 있어서 저장하지 않는다.
+//removed는 주문에서 빠진 주문 상품이다.
+public record OrderProductChangeDto(
+        List<OrderProduct> reserved,
+        List<OrderProduct> released,
+        List<OrderProduct> removed
+) {
+}
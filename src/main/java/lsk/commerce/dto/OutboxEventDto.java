@@ -0,0 +1,11 @@
+package lsk.commerce.dto;
+
+import lsk.commerce.domain.OutboxEventType;
+
+public record OutboxEventDto(
+        Long id,
+        OutboxEventType eventType,
+        String orderNumber,
+        int attempts
+) {
+}
@@ -0,0 +1,7 @@
+package lsk.commerce.dto;
+
+public record PendingPaymentDto(
+        Long id,
+        String paymentId
+) {
+}
@@ -0,0 +1,13 @@
+package lsk.commerce.dto;
+
+import lsk.commerce.domain.ProductSearchChangeType;
+
+import java.time.LocalDateTime;
+
+public record ProductSearchChangeDto(
+        long changeId,
+        Long productId,
+        ProductSearchChangeType changeType,
+        LocalDateTime createdAt
+) {
+}
@@ -0,0 +1,58 @@
+package lsk.commerce.dto;
+
+import lsk.commerce.domain.Product;
+import lsk.commerce.domain.product.Album;
+import lsk.commerce.domain.product.Book;
+import lsk.commerce.domain.product.Movie;
+import lsk.commerce.query.dto.ProductSearchField;
+
+public record ProductSearchDocumentDto(
+        Long productId,
+        String name,
+        String nameInitial,
+        String artist,
+        String artistInitial,
+        String studio,
+        String studioInitial,
+        String author,
+        String authorInitial,
+        String actor,
+        String actorInitial,
+        String director,
+        String directorInitial
+) {
+    //@PrePersist로 초성이 채워진 뒤에 만들어야 한다.
+    public static ProductSearchDocumentDto from(Product product) {
+        return switch (product) {
+            case Album album -> new ProductSearchDocumentDto(album.getId(), album.getName(), album.getNameInitial(),
+                    album.getArtist(), album.getArtistInitial(), album.getStudio(), album.getStudioInitial(),
+                    null, null, null, null, null, null);
+            case Book book -> new ProductSearchDocumentDto(book.getId(), book.getName(), book.getNameInitial(),
+                    null, null, null, null,
+                    book.getAuthor(), book.getAuthorInitial(),
+                    null, null, null, null);
+            case Movie movie -> new ProductSearchDocumentDto(movie.getId(), movie.getName(), movie.getNameInitial(),
+                    null, null, null, null, null, null,
+                    movie.getActor(), movie.getActorInitial(), movie.getDirector(), movie.getDirectorInitial());
+            default -> new ProductSearchDocumentDto(product.getId(), product.getName(), product.getNameInitial(),
+                    null, null, null, null, null, null, null, null, null, null);
+        };
+    }
+
+    public String value(ProductSearchField field) {
+        return switch (field) {
+            case NAME -> name;
+            case NAME_INITIAL -> nameInitial;
+            case ARTIST -> artist;
+            case ARTIST_INITIAL -> artistInitial;
+            case STUDIO -> studio;
+            case STUDIO_INITIAL -> studioInitial;
+            case AUTHOR -> author;
+            case AUTHOR_INITIAL -> authorInitial;
+            case ACTOR -> actor;
+            case ACTOR_INITIAL -> actorInitial;
+            case DIRECTOR -> director;
+            case DIRECTOR_INITIAL -> directorInitial;
+        };
+    }
+}
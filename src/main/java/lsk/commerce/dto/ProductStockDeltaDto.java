@@ -0,0 +1,8 @@
+package lsk.commerce.dto;
+
+public record ProductStockDeltaDto(
+        Long id,
+        Long productId,
+        int delta
+) {
+}
@@ -0,0 +1,8 @@
+package lsk.commerce.dto;
+
+public record ProductStockDto(
+        Long productId,
+        int stockQuantity,
+        long version
+) {
+}
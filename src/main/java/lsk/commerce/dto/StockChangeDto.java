@@ -0,0 +1,28 @@
+package lsk.commerce.dto;
+
+import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.domain.Product;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public record StockChangeDto(
+        Long productId,
+        String productNumber,
+        int quantity
+) {
+    //같은 상품은 수량을 합치고, 잠금 순서를 맞추기 위해 product_id 순서로 정렬
+    public static List<StockChangeDto> from(List<OrderProduct> orderProducts) {
+        Map<Long, StockChangeDto> stockChangeMap = new TreeMap<>();
+        for (OrderProduct orderProduct : orderProducts) {
+            Product product = orderProduct.getProduct();
+            stockChangeMap.merge(product.getId(),
+                    new StockChangeDto(product.getId(), product.getProductNumber(), orderProduct.getQuantity()),
+                    (current, added) -> new StockChangeDto(current.productId, current.productNumber, current.quantity + added.quantity));
+        }
+
+        return new ArrayList<>(stockChangeMap.values());
+    }
+}
@@ -0,0 +1,12 @@
+package lsk.commerce.dto;
+
+import java.time.LocalDateTime;
+
+public record WebhookInboxDto(
+        Long id,
+        String webhookId,
+        String paymentId,
+        int attempts,
+        LocalDateTime receivedAt
+) {
+}
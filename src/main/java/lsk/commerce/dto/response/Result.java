@@ -1,7 +1,16 @@
 package lsk.commerce.dto.response;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+//목록을 커서로 나눠서 내려줄 때만 nextCursor, hasNext를 채운다.
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record Result<T>(
         T data,
-        int count
+        int count,
+        String nextCursor,
+        Boolean hasNext
 ) {
+    public Result(T data, int count) {
+        this(data, count, null, null);
+    }
 }
@@ -0,0 +1,33 @@
+package lsk.commerce.event;
+
+import lsk.commerce.domain.OutboxEventType;
+import lsk.commerce.repository.OutboxJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+//커밋 뒤 메모리에서 예약하면 서버가 재시작될 때 사라지므로, 이벤트를 발행한 트랜잭션 안에서 outbox_event에 기록한다.
+//기록은 delay초 뒤부터 OutboxRelay가 가져가서 처리한다.
+@Component
+public class OutboxEventListener {
+
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final long delaySeconds;
+
+    public OutboxEventListener(OutboxJdbcRepository outboxJdbcRepository, @Value("${delay}") long delaySeconds) {
+        this.outboxJdbcRepository = outboxJdbcRepository;
+        this.delaySeconds = delaySeconds;
+    }
+
+    @EventListener
+    public void paymentCompleted(PaymentCompletedEvent event) {
+        outboxJdbcRepository.save(OutboxEventType.PAYMENT_COMPLETED, event.orderNumber(), LocalDateTime.now().plusSeconds(delaySeconds));
+    }
+
+    @EventListener
+    public void deliveryStarted(DeliveryStartedEvent event) {
+        outboxJdbcRepository.save(OutboxEventType.DELIVERY_STARTED, event.orderNumber(), LocalDateTime.now().plusSeconds(delaySeconds));
+    }
+}
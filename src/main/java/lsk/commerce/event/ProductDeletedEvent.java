@@ -0,0 +1,4 @@
+package lsk.commerce.event;
+
+public record ProductDeletedEvent(Long productId) {
+}
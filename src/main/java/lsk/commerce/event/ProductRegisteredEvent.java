@@ -0,0 +1,6 @@
+package lsk.commerce.event;
+
+import lsk.commerce.dto.ProductSearchDocumentDto;
+
+public record ProductRegisteredEvent(ProductSearchDocumentDto document) {
+}
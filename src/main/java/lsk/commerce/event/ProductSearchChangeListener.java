@@ -0,0 +1,27 @@
+package lsk.commerce.event;
+
+import lombok.RequiredArgsConstructor;
+import lsk.commerce.domain.ProductSearchChangeType;
+import lsk.commerce.repository.ProductSearchJdbcRepository;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+//다른 서버의 검색 색인도 바뀐 상품만 반영할 수 있도록, 이벤트를 발행한 트랜잭션 안에서 product_search_change에 기록한다.
+@Component
+@RequiredArgsConstructor
+public class ProductSearchChangeListener {
+
+    private final ProductSearchJdbcRepository productSearchJdbcRepository;
+
+    @EventListener
+    public void productRegistered(ProductRegisteredEvent event) {
+        productSearchJdbcRepository.saveChange(ProductSearchChangeType.REGISTERED, event.document().productId(), LocalDateTime.now());
+    }
+
+    @EventListener
+    public void productDeleted(ProductDeletedEvent event) {
+        productSearchJdbcRepository.saveChange(ProductSearchChangeType.DELETED, event.productId(), LocalDateTime.now());
+    }
+}
@@ -4,6 +4,7 @@ import io.jsonwebtoken.JwtException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.MessageSourceResolvable;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
@@ -122,6 +123,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(new ErrorResult("DUPLICATE_RESOURCE", e.getMessage(), null));
     }
 
+    @ExceptionHandler(ServiceBusyException.class)
+    public ResponseEntity<ErrorResult> serviceBusyExHandle(ServiceBusyException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorResult("SERVICE_BUSY", e.getMessage(), null));
+    }
+
     @ExceptionHandler(InvalidDataException.class)
     public ResponseEntity<ErrorResult> invalidDataExHandle(InvalidDataException e) {
         log.error("[500 INVALID_DATA] 데이터 정합성 오류 발생: {}", e.getMessage(), e);
@@ -1,19 +1,18 @@
 package lsk.commerce.interceptor;
 
-import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lsk.commerce.dto.LoginPrincipalDto;
 import lsk.commerce.exception.NotAdminException;
 import lsk.commerce.exception.NotResourceOwnerException;
 import lsk.commerce.util.JwtProvider;
-import lsk.commerce.util.NanoIdProvider;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.method.HandlerMethod;
 import org.springframework.web.servlet.HandlerInterceptor;
 import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.ParameterizableViewController;
 
 import java.util.Map;
 
@@ -21,57 +20,44 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class LoginCheckInterceptor implements HandlerInterceptor {
 
+    private static final String PAYMENT_PAGE = "/payments.html";
+
     private final JwtProvider jwtProvider;
+    private final RoutePolicyTable routePolicyTable;
 
     @Override
     public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) throws Exception {
-        String requestURI = request.getRequestURI();
         String method = request.getMethod();
-        log.info("인증 체크 인터셉터 실행 [{}]{}", method, requestURI);
         if (HttpMethod.OPTIONS.matches(method)) {
             return true;
         }
 
-        if (!(handler instanceof HandlerMethod)) {
-            if (requestURI.equals("/payments.html")) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            //결제 페이지는 주문 번호 형식이 맞는 경로만 뷰 컨트롤러에 매핑된다.
+            if (handler instanceof ParameterizableViewController || PAYMENT_PAGE.equals(request.getRequestURI())) {
                 return true;
             }
 
-            if (requestURI.startsWith("/payments/")) {
-                String pathVariable = requestURI.substring("/payments/".length());
-
-                if (NanoIdProvider.validateNanoId(pathVariable)) {
-                    return true;
-                }
-            }
-
-            log.warn("미등록 경로 접근 차단: [{}][{}]{}", getClientIp(request), method, requestURI);
+            log.warn("미등록 경로 접근 차단: [{}][{}]{}", getClientIp(request), method, request.getRequestURI());
             return false;
         }
 
-        if (("/members".equals(requestURI) && "POST".equalsIgnoreCase(method)) || "OPTIONS".equalsIgnoreCase(method)) {
+        RoutePolicy policy = routePolicyTable.get(handlerMethod);
+        if (policy.publicApi()) {
             return true;
         }
 
         String token = jwtProvider.getToken(request);
 
-        if (!jwtProvider.validateToken(token)) {
-            throw new JwtException("유효하지 않은 토큰입니다");
-        }
+        LoginPrincipalDto principal = jwtProvider.verify(token);
+        request.setAttribute(LoginPrincipalDto.REQUEST_ATTRIBUTE, principal);
 
-        Claims claims = jwtProvider.extractClaims(token);
-        String loginId = claims.getSubject();
-        String role = claims.get("role", String.class);
-        if (loginId == null || role == null) {
-            throw new JwtException("잘못된 토큰입니다");
+        if (policy.ownerPathVariable() != null) {
+            checkOwner(request, policy.ownerPathVariable(), principal.loginId());
         }
 
-        isMemberPath(request, requestURI, loginId);
-
-        if (isAdminPath(requestURI, method)) {
-            if (!"ADMIN".equals(role)) {
-                throw new NotAdminException("관리자만 접근할 수 있습니다");
-            }
+        if (policy.adminOnly() && !"ADMIN".equals(principal.role())) {
+            throw new NotAdminException("관리자만 접근할 수 있습니다");
         }
 
         return true;
@@ -87,29 +73,14 @@ public class LoginCheckInterceptor implements HandlerInterceptor {
         return clientIp;
     }
 
-    private static void isMemberPath(HttpServletRequest request, String requestURI, String loginId) {
-        if (requestURI.startsWith("/members/")) {
-
-            Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
-            if (pathVariables != null && pathVariables.containsKey("memberLoginId")) {
-                String memberLoginId = pathVariables.get("memberLoginId");
+    private static void checkOwner(HttpServletRequest request, String pathVariableName, String loginId) {
+        Map<String, String> pathVariables = (Map<String, String>) request.getAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE);
+        if (pathVariables != null && pathVariables.containsKey(pathVariableName)) {
+            String ownerLoginId = pathVariables.get(pathVariableName);
 
-                if (memberLoginId == null || !memberLoginId.equals(loginId)) {
-                    throw new NotResourceOwnerException("아이디의 주인이 아닙니다");
-                }
+            if (ownerLoginId == null || !ownerLoginId.equals(loginId)) {
+                throw new NotResourceOwnerException("아이디의 주인이 아닙니다");
             }
         }
     }
-
-    private static boolean isAdminPath(String requestURI, String method) {
-        if ("/members".equals(requestURI) && "GET".equalsIgnoreCase(method)) {
-            return true;
-        }
-
-        if ((requestURI.startsWith("/products") || requestURI.startsWith("/categories")) && !"GET".equalsIgnoreCase(method)) {
-            return true;
-        }
-
-        return requestURI.equals("/orders") && "GET".equalsIgnoreCase(method);
-    }
 }
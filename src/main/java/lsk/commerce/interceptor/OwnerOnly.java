@@ -0,0 +1,14 @@
+package lsk.commerce.interceptor;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+//경로 변수의 아이디가 로그인한 회원의 아이디와 같아야 호출할 수 있다.
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface OwnerOnly {
+
+    String value() default "memberLoginId";
+}
@@ -0,0 +1,30 @@
+package lsk.commerce.interceptor;
+
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.web.method.HandlerMethod;
+
+import java.lang.annotation.Annotation;
+
+//핸들러 메서드 하나의 인증, 권한 규칙
+//아무 애노테이션도 없으면 로그인만 확인한다.
+public record RoutePolicy(boolean publicApi, boolean adminOnly, String ownerPathVariable) {
+
+    public static RoutePolicy from(HandlerMethod handlerMethod) {
+        OwnerOnly ownerOnly = findAnnotation(handlerMethod, OwnerOnly.class);
+        return new RoutePolicy(
+                findAnnotation(handlerMethod, PublicApi.class) != null,
+                findAnnotation(handlerMethod, AdminOnly.class) != null,
+                ownerOnly == null ? null : ownerOnly.value()
+        );
+    }
+
+    //메서드에 붙은 것을 먼저 보고, 없으면 컨트롤러 클래스에 붙은 것을 쓴다.
+    private static <A extends Annotation> A findAnnotation(HandlerMethod handlerMethod, Class<A> annotationType) {
+        A annotation = AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getMethod(), annotationType);
+        if (annotation != null) {
+            return annotation;
+        }
+
+        return AnnotatedElementUtils.findMergedAnnotation(handlerMethod.getBeanType(), annotationType);
+    }
+}
@@ -0,0 +1,39 @@
+package lsk.commerce.interceptor;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+//등록된 모든 핸들러 메서드의 규칙을 시작할 때 한 번 만들어 두고, 요청마다 메서드로 바로 찾는다.
+@Component
+public class RoutePolicyTable implements SmartInitializingSingleton {
+
+    private final ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+
+    private volatile Map<Method, RoutePolicy> policies = Map.of();
+
+    public RoutePolicyTable(ObjectProvider<RequestMappingHandlerMapping> handlerMappings) {
+        this.handlerMappings = handlerMappings;
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        Map<Method, RoutePolicy> built = new HashMap<>();
+        handlerMappings.orderedStream()
+                .flatMap(handlerMapping -> handlerMapping.getHandlerMethods().values().stream())
+                .forEach(handlerMethod -> built.put(handlerMethod.getMethod(), RoutePolicy.from(handlerMethod)));
+        policies = Map.copyOf(built);
+    }
+
+    //표에 없는 메서드는 시작 전에 들어온 요청뿐이라 그때만 애노테이션을 직접 읽는다.
+    public RoutePolicy get(HandlerMethod handlerMethod) {
+        RoutePolicy policy = policies.get(handlerMethod.getMethod());
+        return policy != null ? policy : RoutePolicy.from(handlerMethod);
+    }
+}
@@ -8,6 +8,7 @@ import lsk.commerce.dto.response.MemberResponse;
 import lsk.commerce.dto.response.QMemberResponse;
 import lsk.commerce.query.dto.MemberQueryDto;
 import lsk.commerce.query.dto.MemberSearchCond;
+import lsk.commerce.query.dto.SearchTerm;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
@@ -54,15 +55,16 @@ public class MemberQueryRepository {
     }
 
     private BooleanExpression containsMemberName(String name) {
-        if (!StringUtils.hasText(name)) {
+        SearchTerm term = SearchTerm.of(name);
+        if (term == null) {
             return null;
         }
 
-        if (name.matches(".*[ㄱ-ㅎ].*")) {
-            return member.initial.containsIgnoreCase(name);
+        if (term.usesInitial()) {
+            return member.initial.containsIgnoreCase(term.initialValue());
         }
 
-        return member.name.containsIgnoreCase(name);
+        return member.name.containsIgnoreCase(term.value());
     }
 
     private BooleanExpression containsMemberLoginId(String loginId) {
@@ -15,6 +15,7 @@ import lsk.commerce.dto.response.QOrderSearchResponse;
 import lsk.commerce.query.dto.OrderProductQueryDto;
 import lsk.commerce.query.dto.OrderQueryDto;
 import lsk.commerce.query.dto.OrderSearchCond;
+import lsk.commerce.query.dto.SearchTerm;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
@@ -107,7 +108,8 @@ public class OrderQueryRepository {
     }
 
     private BooleanExpression containsProductName(String productName) {
-        if (!StringUtils.hasText(productName)) {
+        SearchTerm term = SearchTerm.of(productName);
+        if (term == null) {
             return null;
         }
 
@@ -121,17 +123,17 @@ public class OrderQueryRepository {
                 .from(subOrderProduct)
                 .where(
                         subOrderProduct.order.eq(order),
-                        containsProductNameAndInitial(productName, subOrderProduct)
+                        containsProductNameAndInitial(term, subOrderProduct)
                 )
                 .exists();
     }
 
-    private static BooleanExpression containsProductNameAndInitial(String productName, QOrderProduct subOrderProduct) {
-        if (productName.matches(".*[ㄱ-ㅎ].*")) {
-            return subOrderProduct.product.nameInitial.containsIgnoreCase(productName);
+    private static BooleanExpression containsProductNameAndInitial(SearchTerm term, QOrderProduct subOrderProduct) {
+        if (term.usesInitial()) {
+            return subOrderProduct.product.nameInitial.containsIgnoreCase(term.initialValue());
         }
 
-        return subOrderProduct.product.name.containsIgnoreCase(productName);
+        return subOrderProduct.product.name.containsIgnoreCase(term.value());
     }
 
     private BooleanExpression eqOrderStatus(OrderStatus orderStatus) {
@@ -1,6 +1,10 @@
 package lsk.commerce.query;
 
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -9,11 +13,20 @@ import lsk.commerce.domain.product.QBook;
 import lsk.commerce.domain.product.QMovie;
 import lsk.commerce.dto.response.ProductResponse;
 import lsk.commerce.dto.response.QProductResponse;
+import lsk.commerce.query.dto.ProductCursor;
+import lsk.commerce.query.dto.ProductPageCond;
 import lsk.commerce.query.dto.ProductSearchCond;
+import lsk.commerce.query.dto.ProductSearchField;
+import lsk.commerce.query.dto.ProductSearchPage;
+import lsk.commerce.query.dto.ProductSort;
+import lsk.commerce.query.dto.SearchTerm;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 
 import static lsk.commerce.domain.QCategory.category;
 import static lsk.commerce.domain.QCategoryProduct.categoryProduct;
@@ -24,13 +37,20 @@ import static lsk.commerce.domain.QProduct.product;
 public class ProductQueryRepository {
 
     private final JPAQueryFactory query;
+    private final ObjectProvider<ProductSearchIndex> productSearchIndex;
 
     private final QAlbum album = product.as(QAlbum.class);
     private final QBook book = product.as(QBook.class);
     private final QMovie movie = product.as(QMovie.class);
 
-    protected List<ProductResponse> search(ProductSearchCond cond) {
-        return query.select(new QProductResponse(product.name, product.productNumber, product.price, product.stockQuantity))
+    //OFFSET 없이 마지막으로 본 (정렬 값, product_id) 다음부터 읽어서 깊은 페이지도 같은 비용으로 조회한다.
+    protected ProductSearchPage search(ProductSearchCond cond, ProductPageCond pageCond) {
+        ProductSort sort = pageCond.sortOrDefault();
+        ProductCursor cursor = StringUtils.hasText(pageCond.cursor()) ? ProductCursor.decode(pageCond.cursor(), sort) : null;
+        int pageSize = pageCond.pageSize();
+
+        QProductResponse productResponse = new QProductResponse(product.name, product.productNumber, product.price, product.stockQuantity);
+        List<Tuple> tuples = query.select(productResponse, product.id, product.createdAt)
                 .from(product)
                 .where(
                         eqCategoryName(cond.categoryName()),
@@ -42,9 +62,57 @@ public class ProductQueryRepository {
                         containsAuthor(cond.author()),
                         containsIsbn(cond.isbn()),
                         containsActor(cond.actor()),
-                        containsDirector(cond.director())
+                        containsDirector(cond.director()),
+                        afterCursor(sort, cursor)
                 )
+                .orderBy(orderBy(sort))
+                .limit(pageSize + 1)
                 .fetch();
+
+        boolean hasNext = tuples.size() > pageSize;
+        List<Tuple> pageTuples = hasNext ? tuples.subList(0, pageSize) : tuples;
+        List<ProductResponse> products = pageTuples.stream()
+                .map(tuple -> tuple.get(productResponse))
+                .toList();
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = pageTuples.getLast();
+            ProductResponse lastProduct = last.get(productResponse);
+            nextCursor = ProductCursor.of(sort, last.get(product.id), lastProduct.name(), lastProduct.price(), last.get(product.createdAt)).encode();
+        }
+
+        return new ProductSearchPage(products, nextCursor, hasNext);
+    }
+
+    private OrderSpecifier<?>[] orderBy(ProductSort sort) {
+        return switch (sort) {
+            case LATEST -> new OrderSpecifier<?>[]{product.createdAt.desc(), product.id.desc()};
+            case PRICE_ASC -> new OrderSpecifier<?>[]{product.price.asc(), product.id.asc()};
+            case PRICE_DESC -> new OrderSpecifier<?>[]{product.price.desc(), product.id.desc()};
+            case NAME_ASC -> new OrderSpecifier<?>[]{product.name.asc(), product.id.asc()};
+            case NAME_DESC -> new OrderSpecifier<?>[]{product.name.desc(), product.id.desc()};
+        };
+    }
+
+    private BooleanExpression afterCursor(ProductSort sort, ProductCursor cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        Long productId = cursor.productId();
+        return switch (sort) {
+            case LATEST -> product.createdAt.lt(cursor.createdAtKey())
+                    .or(product.createdAt.eq(cursor.createdAtKey()).and(product.id.lt(productId)));
+            case PRICE_ASC -> product.price.gt(cursor.priceKey())
+                    .or(product.price.eq(cursor.priceKey()).and(product.id.gt(productId)));
+            case PRICE_DESC -> product.price.lt(cursor.priceKey())
+                    .or(product.price.eq(cursor.priceKey()).and(product.id.lt(productId)));
+            case NAME_ASC -> product.name.gt(cursor.key())
+                    .or(product.name.eq(cursor.key()).and(product.id.gt(productId)));
+            case NAME_DESC -> product.name.lt(cursor.key())
+                    .or(product.name.eq(cursor.key()).and(product.id.lt(productId)));
+        };
     }
 
     private BooleanExpression eqCategoryName(String categoryName) {
@@ -63,15 +131,16 @@ public class ProductQueryRepository {
     }
 
     private BooleanExpression containsProductName(String productName) {
-        if (!StringUtils.hasText(productName)) {
+        SearchTerm term = SearchTerm.of(productName);
+        if (term == null) {
             return null;
         }
 
-        if (productName.matches(".*[ㄱ-ㅎ].*")) {
-            return product.nameInitial.containsIgnoreCase(productName);
+        if (term.usesInitial()) {
+            return containsText(ProductSearchField.NAME_INITIAL, product.nameInitial, term.initialValue());
         }
 
-        return product.name.containsIgnoreCase(productName);
+        return containsText(ProductSearchField.NAME, product.name, term.value());
     }
 
     private BooleanExpression minPrice(Integer minPrice) {
@@ -91,39 +160,42 @@ public class ProductQueryRepository {
     }
 
     private BooleanExpression containsArtist(String artist) {
-        if (!StringUtils.hasText(artist)) {
+        SearchTerm term = SearchTerm.of(artist);
+        if (term == null) {
             return null;
         }
 
-        if (artist.matches(".*[ㄱ-ㅎ].*")) {
-            return album.artistInitial.containsIgnoreCase(artist);
+        if (term.usesInitial()) {
+            return containsText(ProductSearchField.ARTIST_INITIAL, album.artistInitial, term.initialValue());
         }
 
-        return album.artist.containsIgnoreCase(artist);
+        return containsText(ProductSearchField.ARTIST, album.artist, term.value());
     }
 
     private BooleanExpression containsStudio(String studio) {
-        if (!StringUtils.hasText(studio)) {
+        SearchTerm term = SearchTerm.of(studio);
+        if (term == null) {
             return null;
         }
 
-        if (studio.matches(".*[ㄱ-ㅎ].*")) {
-            return album.studioInitial.containsIgnoreCase(studio);
+        if (term.usesInitial()) {
+            return containsText(ProductSearchField.STUDIO_INITIAL, album.studioInitial, term.initialValue());
         }
 
-        return album.studio.containsIgnoreCase(studio);
+        return containsText(ProductSearchField.STUDIO, album.studio, term.value());
     }
 
     private BooleanExpression containsAuthor(String author) {
-        if (!StringUtils.hasText(author)) {
+        SearchTerm term = SearchTerm.of(author);
+        if (term == null) {
             return null;
         }
 
-        if (author.matches(".*[ㄱ-ㅎ].*")) {
-            return book.authorInitial.containsIgnoreCase(author);
+        if (term.usesInitial()) {
+            return containsText(ProductSearchField.AUTHOR_INITIAL, book.authorInitial, term.initialValue());
         }
 
-        return book.author.containsIgnoreCase(author);
+        return containsText(ProductSearchField.AUTHOR, book.author, term.value());
     }
 
     private BooleanExpression containsIsbn(String isbn) {
@@ -135,26 +207,43 @@ public class ProductQueryRepository {
     }
 
     private BooleanExpression containsActor(String actor) {
-        if (!StringUtils.hasText(actor)) {
+        SearchTerm term = SearchTerm.of(actor);
+        if (term == null) {
             return null;
         }
 
-        if (actor.matches(".*[ㄱ-ㅎ].*")) {
-            return movie.actorInitial.containsIgnoreCase(actor);
+        if (term.usesInitial()) {
+            return containsText(ProductSearchField.ACTOR_INITIAL, movie.actorInitial, term.initialValue());
         }
 
-        return movie.actor.containsIgnoreCase(actor);
+        return containsText(ProductSearchField.ACTOR, movie.actor, term.value());
     }
 
     private BooleanExpression containsDirector(String director) {
-        if (!StringUtils.hasText(director)) {
+        SearchTerm term = SearchTerm.of(director);
+        if (term == null) {
             return null;
         }
 
-        if (director.matches(".*[ㄱ-ㅎ].*")) {
-            return movie.directorInitial.containsIgnoreCase(director);
+        if (term.usesInitial()) {
+            return containsText(ProductSearchField.DIRECTOR_INITIAL, movie.directorInitial, term.initialValue());
+        }
+
+        return containsText(ProductSearchField.DIRECTOR, movie.director, term.value());
+    }
+
+    //검색 색인이 후보를 좁혀 주면 id로 찾고, 색인이 없거나 후보가 너무 많으면 LIKE로 찾는다.
+    private BooleanExpression containsText(ProductSearchField field, StringPath path, String value) {
+        ProductSearchIndex index = productSearchIndex.getIfAvailable();
+        Optional<Set<Long>> productIds = index == null ? Optional.empty() : index.find(field, value);
+        if (productIds.isEmpty()) {
+            return path.containsIgnoreCase(value);
+        }
+
+        if (productIds.get().isEmpty()) {
+            return Expressions.FALSE.isTrue();
         }
 
-        return movie.director.containsIgnoreCase(director);
+        return product.id.in(productIds.get());
     }
 }
@@ -1,13 +1,12 @@
 package lsk.commerce.query;
 
 import lombok.RequiredArgsConstructor;
-import lsk.commerce.dto.response.ProductResponse;
+import lsk.commerce.query.dto.ProductPageCond;
 import lsk.commerce.query.dto.ProductSearchCond;
+import lsk.commerce.query.dto.ProductSearchPage;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.util.List;
-
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -15,7 +14,7 @@ public class ProductQueryService {
 
     private final ProductQueryRepository productQueryRepository;
 
-    public List<ProductResponse> searchProducts(ProductSearchCond cond) {
-        return productQueryRepository.search(cond);
+    public ProductSearchPage searchProducts(ProductSearchCond cond, ProductPageCond pageCond) {
+        return productQueryRepository.search(cond, pageCond);
     }
 }
@@ -0,0 +1,285 @@
+package lsk.commerce.query;
+
+import lsk.commerce.domain.ProductSearchChangeType;
+import lsk.commerce.dto.ProductSearchChangeDto;
+import lsk.commerce.dto.ProductSearchDocumentDto;
+import lsk.commerce.event.ProductDeletedEvent;
+import lsk.commerce.event.ProductRegisteredEvent;
+import lsk.commerce.query.dto.ProductSearchField;
+import lsk.commerce.repository.ProductSearchJdbcRepository;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+//상품 이름, 아티스트, 저자 등의 글자 1개, 2개 조각으로 상품 id를 찾는 메모리 역색인
+//LIKE '%검색어%'로 product 테이블 전체를 훑지 않고 후보 상품 id만 IN 조건으로 넘긴다.
+//다른 서버에서 등록, 삭제한 상품은 product_search_change에서 마지막으로 읽은 번호 다음 기록만 읽어서 그 상품만 반영한다.
+//id는 서버마다 따로 받은 블록에서 나눠 주므로 색인의 가장 큰 id보다 작은 상품도 새로 생길 수 있어서 상품 id로는 비교하지 않는다.
+@Component
+@ConditionalOnProperty(name = "product.search.index.enabled", havingValue = "true", matchIfMissing = true)
+public class ProductSearchIndex implements SmartInitializingSingleton {
+
+    private final ProductSearchJdbcRepository productSearchJdbcRepository;
+    private final int maxCandidates;
+    private final int changeBatchSize;
+    private final Duration changeSettle;
+    private final Duration changeRetention;
+
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    //처음 만들기 전에는 null이고, 그동안은 LIKE 검색을 그대로 쓴다.
+    private volatile Index index;
+
+    //여기까지의 기록은 색인에 반영했다. rebuildLock을 잡은 스레드만 바꾼다.
+    private long lastChangeId;
+
+    //다시 만드는 동안 들어온 등록, 삭제를 모아 두었다가 새 색인에 한 번 더 반영한다.
+    private List<Consumer<Index>> pendingChanges;
+
+    public ProductSearchIndex(ProductSearchJdbcRepository productSearchJdbcRepository,
+                              @Value("${product.search.index.max-candidates:1000}") int maxCandidates,
+                              @Value("${product.search.index.change-batch-size:1000}") int changeBatchSize,
+                              @Value("${product.search.index.change-settle-seconds:10}") long changeSettleSeconds,
+                              @Value("${product.search.index.change-retention-hours:24}") long changeRetentionHours) {
+        this.productSearchJdbcRepository = productSearchJdbcRepository;
+        this.maxCandidates = maxCandidates;
+        this.changeBatchSize = changeBatchSize;
+        this.changeSettle = Duration.ofSeconds(changeSettleSeconds);
+        this.changeRetention = Duration.ofHours(changeRetentionHours);
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${product.search.index.rebuild-interval-ms:300000}", initialDelayString = "${product.search.index.rebuild-interval-ms:300000}")
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+
+        try {
+            synchronized (this) {
+                pendingChanges = new ArrayList<>();
+            }
+
+            //상품을 읽기 전에 자리 잡은 기록 다음부터 이어서 읽으면, 읽는 동안 바뀐 상품도 다음 확인에서 다시 반영된다.
+            long rebuiltChangeId = productSearchJdbcRepository.findLastChangeIdBefore(LocalDateTime.now().minus(changeSettle));
+            Index rebuilt = new Index();
+            productSearchJdbcRepository.findAllDocuments(rebuilt::add);
+
+            synchronized (this) {
+                pendingChanges.forEach(change -> change.accept(rebuilt));
+                pendingChanges = null;
+                index = rebuilt;
+            }
+            lastChangeId = rebuiltChangeId;
+
+            productSearchJdbcRepository.deleteChangesBefore(LocalDateTime.now().minus(changeRetention));
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    //마지막으로 읽은 기록 다음부터 읽어서 바뀐 상품만 반영한다. 이 서버에서 바꾼 상품도 다시 반영되지만 결과는 같다.
+    //change_id는 INSERT할 때 정해져서 커밋 순서와 다를 수 있으므로, change-settle-seconds가 지난 기록까지만 읽은 것으로 치고
+    //그 뒤의 기록은 다음 확인에서 다시 읽는다. 그보다 오래 커밋되지 않은 기록은 rebuild-interval-ms마다 다시 만들 때 반영된다.
+    @Scheduled(fixedDelayString = "${product.search.index.change-check-interval-ms:1000}", initialDelayString = "${product.search.index.change-check-interval-ms:1000}")
+    public void applyChanges() {
+        if (index == null || !rebuildLock.tryLock()) {
+            return;
+        }
+
+        try {
+            LocalDateTime settledBefore = LocalDateTime.now().minus(changeSettle);
+            long afterId = lastChangeId;
+            boolean settled = true;
+            List<ProductSearchChangeDto> changes;
+            do {
+                changes = productSearchJdbcRepository.findChangesAfter(afterId, changeBatchSize);
+                apply(changes);
+
+                for (ProductSearchChangeDto change : changes) {
+                    afterId = change.changeId();
+                    settled = settled && change.createdAt().isBefore(settledBefore);
+                    if (settled) {
+                        lastChangeId = change.changeId();
+                    }
+                }
+            } while (changes.size() == changeBatchSize);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    //상품 id는 다시 쓰이지 않으므로, 등록한 상품은 지금 DB에 있는 값으로 넣고 삭제한 상품은 빼면 같은 기록을 여러 번 반영해도 결과가 같다.
+    private void apply(List<ProductSearchChangeDto> changes) {
+        Set<Long> registeredIds = new HashSet<>();
+        for (ProductSearchChangeDto change : changes) {
+            if (change.changeType() == ProductSearchChangeType.REGISTERED) {
+                registeredIds.add(change.productId());
+            }
+        }
+        productSearchJdbcRepository.findDocuments(registeredIds, document -> change(current -> current.add(document)));
+
+        for (ProductSearchChangeDto change : changes) {
+            if (change.changeType() == ProductSearchChangeType.DELETED) {
+                change(current -> current.remove(change.productId()));
+            }
+        }
+    }
+
+    //검색어를 포함하는 상품 id를 반환한다.
+    //색인이 아직 없거나 후보가 너무 많아서 IN 조건이 LIKE보다 느릴 것 같으면 비어 있는 Optional을 반환한다.
+    public Optional<Set<Long>> find(ProductSearchField field, String term) {
+        Index current = index;
+        if (current == null) {
+            return Optional.empty();
+        }
+
+        return current.fields.get(field).find(term.toLowerCase(Locale.ROOT), maxCandidates);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void add(ProductRegisteredEvent event) {
+        change(current -> current.add(event.document()));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void remove(ProductDeletedEvent event) {
+        change(current -> current.remove(event.productId()));
+    }
+
+    private synchronized void change(Consumer<Index> change) {
+        if (index != null) {
+            change.accept(index);
+        }
+        if (pendingChanges != null) {
+            pendingChanges.add(change);
+        }
+    }
+
+    private static final class Index {
+
+        private final Map<ProductSearchField, FieldIndex> fields = new EnumMap<>(ProductSearchField.class);
+
+        private Index() {
+            for (ProductSearchField field : ProductSearchField.values()) {
+                fields.put(field, new FieldIndex());
+            }
+        }
+
+        private void add(ProductSearchDocumentDto document) {
+            fields.forEach((field, fieldIndex) -> fieldIndex.add(document.productId(), document.value(field)));
+        }
+
+        private void remove(Long productId) {
+            fields.values().forEach(fieldIndex -> fieldIndex.remove(productId));
+        }
+    }
+
+    private static final class FieldIndex {
+
+        private final Map<Long, String> values = new ConcurrentHashMap<>();
+        private final Map<String, Set<Long>> postings = new ConcurrentHashMap<>();
+
+        private void add(Long productId, String value) {
+            if (value == null || value.isEmpty()) {
+                return;
+            }
+
+            String lowerValue = value.toLowerCase(Locale.ROOT);
+            values.put(productId, lowerValue);
+            for (String gram : grams(lowerValue)) {
+                postings.computeIfAbsent(gram, key -> ConcurrentHashMap.newKeySet()).add(productId);
+            }
+        }
+
+        private void remove(Long productId) {
+            String lowerValue = values.remove(productId);
+            if (lowerValue == null) {
+                return;
+            }
+
+            for (String gram : grams(lowerValue)) {
+                postings.computeIfPresent(gram, (key, productIds) -> {
+                    productIds.remove(productId);
+                    return productIds.isEmpty() ? null : productIds;
+                });
+            }
+        }
+
+        //가장 짧은 목록의 후보만 원래 값으로 다시 확인해서 조각끼리 떨어져 있는 경우를 걸러낸다.
+        private Optional<Set<Long>> find(String lowerTerm, int maxCandidates) {
+            Set<Long> smallest = null;
+            for (String gram : termGrams(lowerTerm)) {
+                Set<Long> productIds = postings.get(gram);
+                if (productIds == null) {
+                    return Optional.of(Collections.emptySet());
+                }
+
+                if (smallest == null || productIds.size() < smallest.size()) {
+                    smallest = productIds;
+                }
+            }
+
+            if (smallest == null || smallest.size() > maxCandidates) {
+                return Optional.empty();
+            }
+
+            Set<Long> result = new HashSet<>();
+            for (Long productId : smallest) {
+                String lowerValue = values.get(productId);
+                if (lowerValue != null && lowerValue.contains(lowerTerm)) {
+                    result.add(productId);
+                }
+            }
+
+            return Optional.of(result);
+        }
+
+        //한 글자 검색어도 찾을 수 있도록 글자 1개 조각과 2개 조각을 모두 색인한다.
+        private static Set<String> grams(String lowerValue) {
+            Set<String> grams = new HashSet<>();
+            for (int i = 0; i < lowerValue.length(); i++) {
+                grams.add(lowerValue.substring(i, i + 1));
+                if (i + 1 < lowerValue.length()) {
+                    grams.add(lowerValue.substring(i, i + 2));
+                }
+            }
+            return grams;
+        }
+
+        private static Set<String> termGrams(String lowerTerm) {
+            if (lowerTerm.length() == 1) {
+                return Set.of(lowerTerm);
+            }
+
+            Set<String> grams = new HashSet<>();
+            for (int i = 0; i + 1 < lowerTerm.length(); i++) {
+                grams.add(lowerTerm.substring(i, i + 2));
+            }
+            return grams;
+        }
+    }
+}
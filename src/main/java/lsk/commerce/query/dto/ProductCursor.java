@@ -0,0 +1,63 @@
+package lsk.commerce.query.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+//마지막으로 내려준 상품의 정렬 값과 product_id를 묶어서 다음 페이지의 시작점으로 쓴다.
+//클라이언트는 내용을 알 필요가 없어서 Base64로 감싸서 내려준다.
+public record ProductCursor(
+        ProductSort sort,
+        String key,
+        Long productId
+) {
+    public static ProductCursor of(ProductSort sort, Long productId, String name, Integer price, LocalDateTime createdAt) {
+        String key = switch (sort) {
+            case LATEST -> createdAt.toString();
+            case PRICE_ASC, PRICE_DESC -> String.valueOf(price);
+            case NAME_ASC, NAME_DESC -> name;
+        };
+
+        return new ProductCursor(sort, key, productId);
+    }
+
+    public String encode() {
+        String raw = sort.name() + ":" + productId + ":" + key;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ProductCursor decode(String cursor, ProductSort sort) {
+        ProductCursor productCursor;
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(":", 3);
+            productCursor = new ProductCursor(ProductSort.valueOf(parts[0]), parts[2], Long.valueOf(parts[1]));
+            if (productCursor.isPriceSort()) {
+                productCursor.priceKey();
+            } else if (productCursor.sort() == ProductSort.LATEST) {
+                productCursor.createdAtKey();
+            }
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다. cursor: " + cursor);
+        }
+
+        if (productCursor.sort() != sort) {
+            throw new IllegalArgumentException("커서와 정렬 조건이 다릅니다. sort: " + sort);
+        }
+
+        return productCursor;
+    }
+
+    public int priceKey() {
+        return Integer.parseInt(key);
+    }
+
+    public LocalDateTime createdAtKey() {
+        return LocalDateTime.parse(key);
+    }
+
+    private boolean isPriceSort() {
+        return sort == ProductSort.PRICE_ASC || sort == ProductSort.PRICE_DESC;
+    }
+}
@@ -0,0 +1,33 @@
+package lsk.commerce.query.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import lombok.Builder;
+
+@Builder
+public record ProductPageCond(
+        @Schema(description = "**커서**는 이전 응답의 nextCursor를 그대로 넣어 주세요. \n\n" +
+                "첫 페이지는 비워 주세요.")
+        String cursor,
+
+        @Schema(description = "**페이지 크기**는 1~100 사이로 입력해 주세요. \n\n" +
+                "비우면 20개씩 조회합니다.", example = "20")
+        @Min(value = 1, message = "페이지 크기는 1 이상이어야 합니다")
+        @Max(value = 100, message = "페이지 크기는 100 이하여야 합니다")
+        Integer size,
+
+        @Schema(description = "**정렬** 기준입니다. \n\n" +
+                "비우면 최신 등록순(LATEST)으로 정렬합니다. 다음 페이지를 조회할 때는 같은 정렬을 유지해 주세요.", example = "PRICE_ASC")
+        ProductSort sort
+) {
+    private static final int DEFAULT_SIZE = 20;
+
+    public int pageSize() {
+        return size == null ? DEFAULT_SIZE : size;
+    }
+
+    public ProductSort sortOrDefault() {
+        return sort == null ? ProductSort.LATEST : sort;
+    }
+}
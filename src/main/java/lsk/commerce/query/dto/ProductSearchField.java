@@ -0,0 +1,8 @@
+package lsk.commerce.query.dto;
+
+public enum ProductSearchField {
+    NAME, NAME_INITIAL,
+    ARTIST, ARTIST_INITIAL, STUDIO, STUDIO_INITIAL,
+    AUTHOR, AUTHOR_INITIAL,
+    ACTOR, ACTOR_INITIAL, DIRECTOR, DIRECTOR_INITIAL
+}
@@ -0,0 +1,12 @@
+package lsk.commerce.query.dto;
+
+import lsk.commerce.dto.response.ProductResponse;
+
+import java.util.List;
+
+public record ProductSearchPage(
+        List<ProductResponse> products,
+        String nextCursor,
+        boolean hasNext
+) {
+}
@@ -0,0 +1,5 @@
+package lsk.commerce.query.dto;
+
+public enum ProductSort {
+    LATEST, PRICE_ASC, PRICE_DESC, NAME_ASC, NAME_DESC
+}
@@ -0,0 +1,44 @@
+package lsk.commerce.query.dto;
+
+import lsk.commerce.util.InitialExtractor;
+import org.springframework.util.StringUtils;
+
+//검색어를 한 번만 훑어서 초성 검색인지 구분해 둔다.
+//초성과 완성된 한글이 섞여 있으면 한글도 초성으로 바꿔서 초성 컬럼에서 찾는다. (ㅂ죄 -> ㅂㅈ)
+public record SearchTerm(String value, SearchTermType type) {
+
+    public static SearchTerm of(String value) {
+        if (!StringUtils.hasText(value)) {
+            return null;
+        }
+
+        return new SearchTerm(value, classify(value));
+    }
+
+    public static SearchTermType classify(String value) {
+        boolean hasInitial = false;
+        boolean hasSyllable = false;
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c >= 'ㄱ' && c <= 'ㅎ') {
+                hasInitial = true;
+            } else if (c >= '가' && c <= '힣') {
+                hasSyllable = true;
+            }
+        }
+
+        if (!hasInitial) {
+            return SearchTermType.PLAIN;
+        }
+
+        return hasSyllable ? SearchTermType.MIXED : SearchTermType.INITIAL_ONLY;
+    }
+
+    public boolean usesInitial() {
+        return type != SearchTermType.PLAIN;
+    }
+
+    public String initialValue() {
+        return type == SearchTermType.MIXED ? InitialExtractor.extract(value) : value;
+    }
+}
@@ -0,0 +1,5 @@
+package lsk.commerce.query.dto;
+
+public enum SearchTermType {
+    PLAIN, INITIAL_ONLY, MIXED
+}
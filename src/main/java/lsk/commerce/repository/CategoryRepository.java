@@ -3,6 +3,7 @@ package lsk.commerce.repository;
 import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 import lsk.commerce.domain.Category;
+import lsk.commerce.dto.CategoryNodeDto;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -19,6 +20,20 @@ public class CategoryRepository {
         em.persist(category);
     }
 
+    public Optional<Category> findById(Long id) {
+        return Optional.ofNullable(em.find(Category.class, id));
+    }
+
+    public Optional<Category> findByCategoryNumber(String categoryNumber) {
+        return em.createQuery(
+                        "select c from Category c" +
+                                " where c.categoryNumber = :categoryNumber", Category.class)
+                .setParameter("categoryNumber", categoryNumber)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
     public Optional<Category> findWithChild(String categoryNumber) {
         return em.createQuery(
                         "select c from Category c" +
@@ -41,11 +56,43 @@ public class CategoryRepository {
                 .getResultList();
     }
 
+    //parent_id가 null인 최상위 카테고리는 유니크 제약으로 막히지 않으므로 조건을 나눠서 센다.
+    public boolean existsByParentAndName(Category parent, String name) {
+        if (parent == null) {
+            return !em.createQuery(
+                            "select c.id from Category c" +
+                                    " where c.parent is null" +
+                                    " and c.name = :name", Long.class)
+                    .setParameter("name", name)
+                    .setMaxResults(1)
+                    .getResultList()
+                    .isEmpty();
+        }
+
+        return !em.createQuery(
+                        "select c.id from Category c" +
+                                " where c.parent = :parent" +
+                                " and c.name = :name", Long.class)
+                .setParameter("parent", parent)
+                .setParameter("name", name)
+                .setMaxResults(1)
+                .getResultList()
+                .isEmpty();
+    }
+
     public List<Category> findAll() {
         return em.createQuery("select c from Category c", Category.class)
                 .getResultList();
     }
 
+    public List<CategoryNodeDto> findAllNodes() {
+        return em.createQuery(
+                        "select new lsk.commerce.dto.CategoryNodeDto(c.id, c.categoryNumber, c.name, p.id)" +
+                                " from Category c" +
+                                " left join c.parent p", CategoryNodeDto.class)
+                .getResultList();
+    }
+
     public void delete(Category category) {
         em.remove(category);
     }
@@ -0,0 +1,77 @@
+package lsk.commerce.repository;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lsk.commerce.dto.InitialBackfillRowDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Repository
+@RequiredArgsConstructor
+public class InitialBackfillJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private static final int BATCH_SIZE = 100;
+
+    //원본 컬럼과 초성 컬럼은 같은 순서로 둔다.
+    @Getter
+    @RequiredArgsConstructor
+    public enum Target {
+        PRODUCT("product", "product_id",
+                List.of("name", "artist", "studio", "author", "actor", "director"),
+                List.of("name_initial", "artist_initial", "studio_initial", "author_initial", "actor_initial", "director_initial")),
+        MEMBER("member", "member_id",
+                List.of("name"),
+                List.of("initial"));
+
+        private final String table;
+        private final String idColumn;
+        private final List<String> sourceColumns;
+        private final List<String> initialColumns;
+    }
+
+    //OFFSET 없이 마지막으로 읽은 id 다음부터 limit개씩 읽는다.
+    public List<InitialBackfillRowDto> findRows(Target target, long afterId, int limit) {
+        String sql = "SELECT " + target.getIdColumn() + ", " + String.join(", ", target.getSourceColumns()) + ", " + String.join(", ", target.getInitialColumns()) +
+                " FROM " + target.getTable() +
+                " WHERE " + target.getIdColumn() + " > ?" +
+                " ORDER BY " + target.getIdColumn() + " LIMIT ?";
+
+        int columnCount = target.getSourceColumns().size();
+        return jdbcTemplate.query(sql, (rs, rowNum) -> {
+            List<String> sources = new ArrayList<>(columnCount);
+            List<String> initials = new ArrayList<>(columnCount);
+            for (int i = 0; i < columnCount; i++) {
+                sources.add(rs.getString(2 + i));
+                initials.add(rs.getString(2 + columnCount + i));
+            }
+            return new InitialBackfillRowDto(rs.getLong(1), sources, initials);
+        }, afterId, limit);
+    }
+
+    public void updateInitials(Target target, List<InitialBackfillRowDto> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        String sql = "UPDATE " + target.getTable() +
+                " SET " + target.getInitialColumns().stream().map(column -> column + " = ?").collect(Collectors.joining(", ")) +
+                " WHERE " + target.getIdColumn() + " = ?";
+
+        int columnCount = target.getInitialColumns().size();
+        for (int i = 0; i < rows.size(); i += BATCH_SIZE) {
+            List<InitialBackfillRowDto> batchList = rows.subList(i, Math.min(i + BATCH_SIZE, rows.size()));
+
+            jdbcTemplate.batchUpdate(sql, batchList, batchList.size(), (ps, row) -> {
+                for (int column = 0; column < columnCount; column++) {
+                    ps.setString(column + 1, row.initials().get(column));
+                }
+                ps.setLong(columnCount + 1, row.id());
+            });
+        }
+    }
+}
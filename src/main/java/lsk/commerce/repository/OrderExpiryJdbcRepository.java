@@ -0,0 +1,58 @@
+package lsk.commerce.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class OrderExpiryJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    //Order.cancel과 같은 조건(주문 생성, 배송 대기, 결제 미완료)으로 cutoff 전에 생성된 주문을 afterId 다음부터 limit개 잠근다.
+    //결제 완료나 주문 취소가 잡고 있는 주문은 기다리지 않고 건너뛰고 다음 주기에 다시 본다.
+    public List<Long> findExpiredOrderIdsForUpdate(LocalDateTime cutoff, long afterId, int limit) {
+        String sql = "SELECT o.order_id FROM orders o" +
+                " JOIN delivery d ON d.delivery_id = o.delivery_id" +
+                " LEFT JOIN payment p ON p.payment_id = o.payment_id" +
+                " WHERE o.order_status = 'CREATED' AND o.order_id > ?" +
+                " AND o.deleted = false AND o.ordered_at < ?" +
+                " AND d.delivery_status = 'WAITING'" +
+                " AND (p.payment_id IS NULL OR p.payment_status <> 'COMPLETED')" +
+                " ORDER BY o.order_id LIMIT ?" +
+                " FOR UPDATE SKIP LOCKED";
+
+        return jdbcTemplate.queryForList(sql, Long.class, afterId, Timestamp.valueOf(cutoff), limit);
+    }
+
+    //잠가 둔 주문과 배송, 결제를 UPDATE 한 번으로 취소한다.
+    public int cancelOrders(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return 0;
+        }
+
+        String sql = "UPDATE orders o" +
+                " JOIN delivery d ON d.delivery_id = o.delivery_id" +
+                " LEFT JOIN payment p ON p.payment_id = o.payment_id" +
+                " SET o.order_status = 'CANCELED', d.delivery_status = 'CANCELED', p.payment_status = 'CANCELED'" +
+                " WHERE o.order_id IN (" + String.join(", ", Collections.nCopies(orderIds.size(), "?")) + ")";
+
+        return jdbcTemplate.update(sql, orderIds.toArray());
+    }
+
+    //아직 취소되지 않고 남아 있는 만료 주문 중 가장 오래된 주문 시각
+    public Optional<LocalDateTime> findOldestOrderedAt(LocalDateTime cutoff) {
+        String sql = "SELECT MIN(ordered_at) FROM orders" +
+                " WHERE order_status = 'CREATED' AND deleted = false AND ordered_at < ?";
+
+        Timestamp oldest = jdbcTemplate.queryForObject(sql, Timestamp.class, Timestamp.valueOf(cutoff));
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+}
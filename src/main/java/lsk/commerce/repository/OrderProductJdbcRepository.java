@@ -1,10 +1,11 @@
 package lsk.commerce.repository;
 
 import lombok.RequiredArgsConstructor;
-import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.dto.StockChangeDto;
 import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collections;
 import java.util.List;
 
 @Repository
@@ -12,33 +13,24 @@ import java.util.List;
 public class OrderProductJdbcRepository {
 
     private final JdbcTemplate jdbcTemplate;
-    private static final int BATCH_SIZE = 100;
 
-    public void saveAll(List<OrderProduct> orderProducts) {
-        if (orderProducts.isEmpty()) {
-            return;
+    //주문 상품 엔티티를 읽지 않고 주문들의 수량을 상품별로 합쳐서 product_id 순서로 반환한다.
+    public List<StockChangeDto> findStockChangesByOrderIds(List<Long> orderIds) {
+        if (orderIds.isEmpty()) {
+            return List.of();
         }
 
-        String sql = "INSERT INTO order_product (order_id, product_id, quantity, order_price, deleted)" +
-                " VALUES (?, ?, ?, ?, ?)";
-
-        for (int i = 0; i < orderProducts.size(); i += BATCH_SIZE) {
-            List<OrderProduct> batchList = orderProducts.subList(i, Math.min(i + BATCH_SIZE, orderProducts.size()));
-
-            jdbcTemplate.batchUpdate(sql, batchList, batchList.size(), (ps, orderProduct) -> {
-                ps.setLong(1, orderProduct.getOrder().getId());
-                ps.setLong(2, orderProduct.getProduct().getId());
-                ps.setInt(3, orderProduct.getQuantity());
-                ps.setInt(4, orderProduct.getOrderPrice());
-                ps.setBoolean(5, orderProduct.isDeleted());
-            });
-        }
-    }
-
-    public void deleteOrderProductsByOrderId(Long orderId) {
-        String sql = "DELETE FROM order_product WHERE order_id = ?";
-
-        jdbcTemplate.update(sql, orderId);
+        String sql = "SELECT op.product_id, p.product_number, SUM(op.quantity) AS quantity FROM order_product op" +
+                " JOIN product p ON p.product_id = op.product_id" +
+                " WHERE op.order_id IN (" + String.join(", ", Collections.nCopies(orderIds.size(), "?")) + ")" +
+                " AND op.deleted = false" +
+                " GROUP BY op.product_id, p.product_number" +
+                " ORDER BY op.product_id";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new StockChangeDto(
+                rs.getLong("product_id"),
+                rs.getString("product_number"),
+                rs.getInt("quantity")), orderIds.toArray());
     }
 
     public void softDeleteOrderProductsByOrderId(Long orderId) {
@@ -1,10 +1,12 @@
 package lsk.commerce.repository;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import lsk.commerce.domain.Order;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -48,6 +50,17 @@ public class OrderRepository {
                 .findFirst();
     }
 
+    //OutboxRelay가 가져간 batch의 주문을 쿼리 한 번으로 읽는다.
+    public List<Order> findAllWithDeliveryPayment(List<String> orderNumbers) {
+        return em.createQuery(
+                        "select o from Order o" +
+                                " join fetch o.delivery" +
+                                " left join fetch o.payment" +
+                                " where o.orderNumber in :orderNumbers", Order.class)
+                .setParameter("orderNumbers", orderNumbers)
+                .getResultList();
+    }
+
     public Optional<Order> findWithDeliveryPaymentMember(String orderNumber) {
         return em.createQuery(
                         "select o from Order o" +
@@ -61,6 +74,21 @@ public class OrderRepository {
                 .findFirst();
     }
 
+    //만료 주문 취소와 같은 주문을 동시에 취소해서 재고가 두 번 복구되지 않도록 잠근다.
+    public Optional<Order> findWithDeliveryPaymentMemberForUpdate(String orderNumber) {
+        return em.createQuery(
+                        "select o from Order o" +
+                                " join fetch o.delivery" +
+                                " left join fetch o.payment" +
+                                " join fetch o.member" +
+                                " where o.orderNumber = :orderNumber", Order.class)
+                .setParameter("orderNumber", orderNumber)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
     public Optional<Order> findWithAllExceptMember(String orderNumber) {
         return em.createQuery(
                         "select o from Order o" +
@@ -75,6 +103,23 @@ public class OrderRepository {
                 .findFirst();
     }
 
+    //결제 검증부터 완료까지 주문을 잠가서 만료 주문 취소가 중간에 끼어들지 못하게 한다.
+    //영속성 컨텍스트에 먼저 읽은 주문이 있으면 잠근 뒤에도 예전 상태가 보이므로, 검증에서 주문을 처음 읽을 때 사용한다.
+    public Optional<Order> findWithAllExceptMemberForUpdate(String orderNumber) {
+        return em.createQuery(
+                        "select o from Order o" +
+                                " join fetch o.delivery" +
+                                " left join fetch o.payment" +
+                                " join fetch o.orderProducts op" +
+                                " join fetch op.product" +
+                                " where o.orderNumber = :orderNumber", Order.class)
+                .setParameter("orderNumber", orderNumber)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
     public Optional<Order> findWithAll(String orderNumber) {
         return em.createQuery(
                         "select o from Order o" +
@@ -90,6 +135,23 @@ public class OrderRepository {
                 .findFirst();
     }
 
+    //주문 수정이 읽은 주문 상품과 상태를 flush할 때까지 만료 주문 취소, 결제 검증이 끼어들지 못하게 잠근다.
+    public Optional<Order> findWithAllForUpdate(String orderNumber) {
+        return em.createQuery(
+                        "select o from Order o" +
+                                " join fetch o.delivery" +
+                                " left join fetch o.payment" +
+                                " left join fetch o.orderProducts op" +
+                                " join fetch op.product" +
+                                " join fetch o.member" +
+                                " where o.orderNumber = :orderNumber", Order.class)
+                .setParameter("orderNumber", orderNumber)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
     public void delete(Order order) {
         em.remove(order);
     }
@@ -0,0 +1,94 @@
+package lsk.commerce.repository;
+
+import lombok.RequiredArgsConstructor;
+import lsk.commerce.domain.OutboxEventType;
+import lsk.commerce.dto.OutboxEventDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class OutboxJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    //호출한 쪽 트랜잭션에 함께 묶여서 상태 변경이 롤백되면 기록도 남지 않는다.
+    public void save(OutboxEventType eventType, String orderNumber, LocalDateTime availableAt) {
+        String sql = "INSERT INTO outbox_event (event_type, order_number, available_at, attempts, created_at) VALUES (?, ?, ?, 0, ?)";
+
+        jdbcTemplate.update(sql, eventType.name(), orderNumber, Timestamp.valueOf(availableAt), Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    //처리할 시각이 된 기록을 limit개 잠그고 leaseUntil까지 다른 서버가 가져가지 못하게 미룬다.
+    //다른 서버가 잠근 기록은 기다리지 않고 건너뛴다. 가져간 서버가 죽으면 leaseUntil 뒤에 다시 가져간다.
+    public List<OutboxEventDto> claim(LocalDateTime now, LocalDateTime leaseUntil, int maxAttempts, int limit) {
+        String selectSql = "SELECT outbox_event_id, event_type, order_number, attempts FROM outbox_event" +
+                " WHERE available_at <= ? AND attempts < ?" +
+                " ORDER BY available_at, outbox_event_id LIMIT ?" +
+                " FOR UPDATE SKIP LOCKED";
+
+        List<OutboxEventDto> events = jdbcTemplate.query(selectSql, (rs, rowNum) -> new OutboxEventDto(
+                rs.getLong("outbox_event_id"),
+                OutboxEventType.valueOf(rs.getString("event_type")),
+                rs.getString("order_number"),
+                rs.getInt("attempts") + 1), Timestamp.valueOf(now), maxAttempts, limit);
+        if (events.isEmpty()) {
+            return events;
+        }
+
+        List<Long> ids = events.stream().map(OutboxEventDto::id).toList();
+        String updateSql = "UPDATE outbox_event SET available_at = ?, attempts = attempts + 1" +
+                " WHERE outbox_event_id IN (" + placeholders(ids.size()) + ")";
+
+        jdbcTemplate.update(updateSql, parameters(Timestamp.valueOf(leaseUntil), ids));
+        return events;
+    }
+
+    public void deleteAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        String sql = "DELETE FROM outbox_event WHERE outbox_event_id IN (" + placeholders(ids.size()) + ")";
+
+        jdbcTemplate.update(sql, ids.toArray());
+    }
+
+    //실패한 기록은 availableAt까지 미뤄서 다시 처리한다.
+    public void reschedule(List<Long> ids, LocalDateTime availableAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        String sql = "UPDATE outbox_event SET available_at = ? WHERE outbox_event_id IN (" + placeholders(ids.size()) + ")";
+
+        jdbcTemplate.update(sql, parameters(Timestamp.valueOf(availableAt), ids));
+    }
+
+    //처리할 시각이 지났는데 아직 남아 있는 기록 중 가장 오래된 시각
+    public Optional<LocalDateTime> findOldestAvailableAt(LocalDateTime now, int maxAttempts) {
+        String sql = "SELECT MIN(available_at) FROM outbox_event WHERE available_at <= ? AND attempts < ?";
+
+        Timestamp oldest = jdbcTemplate.queryForObject(sql, Timestamp.class, Timestamp.valueOf(now), maxAttempts);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    private static String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+
+    private static Object[] parameters(Object first, List<Long> ids) {
+        Object[] parameters = new Object[ids.size() + 1];
+        parameters[0] = first;
+        for (int i = 0; i < ids.size(); i++) {
+            parameters[i + 1] = ids.get(i);
+        }
+        return parameters;
+    }
+}
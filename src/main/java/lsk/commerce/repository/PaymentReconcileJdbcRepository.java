@@ -0,0 +1,70 @@
+package lsk.commerce.repository;
+
+import lombok.RequiredArgsConstructor;
+import lsk.commerce.dto.PendingPaymentDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class PaymentReconcileJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    //cutoff 전에 주문하고 아직 PENDING인 결제를 afterId 다음부터 limit개 잠그고 leaseUntil까지 다른 서버가 가져가지 못하게 미룬다.
+    //결제 완료나 다른 서버가 잠근 결제는 기다리지 않고 건너뛴다. 가져간 서버가 죽으면 leaseUntil 뒤에 다시 가져간다.
+    public List<PendingPaymentDto> claimStalePending(LocalDateTime cutoff, LocalDateTime now, LocalDateTime leaseUntil, long afterId, int limit) {
+        String selectSql = "SELECT p.payment_id, p.payment_number FROM payment p" +
+                " JOIN orders o ON o.payment_id = p.payment_id" +
+                " WHERE p.payment_status = 'PENDING' AND p.payment_id > ? AND p.deleted = false" +
+                " AND o.ordered_at < ?" +
+                " AND (p.reconcile_at IS NULL OR p.reconcile_at <= ?)" +
+                " ORDER BY p.payment_id LIMIT ?" +
+                " FOR UPDATE OF p SKIP LOCKED";
+
+        List<PendingPaymentDto> payments = jdbcTemplate.query(selectSql, (rs, rowNum) -> new PendingPaymentDto(
+                rs.getLong("payment_id"),
+                rs.getString("payment_number")), afterId, Timestamp.valueOf(cutoff), Timestamp.valueOf(now), limit);
+        if (payments.isEmpty()) {
+            return payments;
+        }
+
+        List<Long> ids = payments.stream().map(PendingPaymentDto::id).toList();
+        String updateSql = "UPDATE payment SET reconcile_at = ?" +
+                " WHERE payment_id IN (" + String.join(", ", Collections.nCopies(ids.size(), "?")) + ")";
+
+        Object[] parameters = new Object[ids.size() + 1];
+        parameters[0] = Timestamp.valueOf(leaseUntil);
+        for (int i = 0; i < ids.size(); i++) {
+            parameters[i + 1] = ids.get(i);
+        }
+        jdbcTemplate.update(updateSql, parameters);
+        return payments;
+    }
+
+    //cutoff 전에 주문하고 아직 PENDING인 결제 수
+    public long countStalePending(LocalDateTime cutoff) {
+        String sql = "SELECT COUNT(*) FROM payment p" +
+                " JOIN orders o ON o.payment_id = p.payment_id" +
+                " WHERE p.payment_status = 'PENDING' AND p.deleted = false AND o.ordered_at < ?";
+
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, Timestamp.valueOf(cutoff));
+        return count == null ? 0 : count;
+    }
+
+    //cutoff 전에 주문하고 아직 PENDING인 결제 중 가장 오래된 주문 시각
+    public Optional<LocalDateTime> findOldestStalePendingOrderedAt(LocalDateTime cutoff) {
+        String sql = "SELECT MIN(o.ordered_at) FROM payment p" +
+                " JOIN orders o ON o.payment_id = p.payment_id" +
+                " WHERE p.payment_status = 'PENDING' AND p.deleted = false AND o.ordered_at < ?";
+
+        Timestamp oldest = jdbcTemplate.queryForObject(sql, Timestamp.class, Timestamp.valueOf(cutoff));
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+}
@@ -1,6 +1,7 @@
 package lsk.commerce.repository;
 
 import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
 import lombok.RequiredArgsConstructor;
 import lsk.commerce.domain.Payment;
 import org.springframework.stereotype.Repository;
@@ -39,4 +40,30 @@ public class PaymentRepository {
                 .stream()
                 .findFirst();
     }
+
+    public Optional<Payment> findWithOrderMember(String paymentId) {
+        return em.createQuery(
+                        "select p from Payment p" +
+                                " join fetch p.order o" +
+                                " join fetch o.member" +
+                                " where p.paymentId = :paymentId", Payment.class)
+                .setParameter("paymentId", paymentId)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
+
+    //결제 완료와 만료 주문 취소가 같은 주문을 동시에 바꾸지 않도록 결제, 주문, 배송 행을 잠근다.
+    public Optional<Payment> findWithOrderDeliveryForUpdate(String paymentId) {
+        return em.createQuery(
+                        "select p from Payment p" +
+                                " join fetch p.order o" +
+                                " join fetch o.delivery" +
+                                " where p.paymentId = :paymentId", Payment.class)
+                .setParameter("paymentId", paymentId)
+                .setLockMode(LockModeType.PESSIMISTIC_WRITE)
+                .getResultList()
+                .stream()
+                .findFirst();
+    }
 }
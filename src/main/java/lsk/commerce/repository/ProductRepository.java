@@ -7,6 +7,7 @@ import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Repository
 @RequiredArgsConstructor
@@ -54,6 +55,31 @@ public class ProductRepository {
                 .getResultList();
     }
 
+    public List<Product> findAllByProductNumbers(Set<String> productNumbers) {
+        if (productNumbers.isEmpty()) {
+            return List.of();
+        }
+
+        return em.createQuery(
+                        "select p from Product p" +
+                                " where p.productNumber in :productNumbers", Product.class)
+                .setParameter("productNumbers", productNumbers)
+                .getResultList();
+    }
+
+    //product_number 유니크 인덱스만 타고 세기 때문에 상품 수와 상관없이 주문 상품 수만큼만 읽는다.
+    public long countByProductNumbers(Set<String> productNumbers) {
+        if (productNumbers.isEmpty()) {
+            return 0;
+        }
+
+        return em.createQuery(
+                        "select count(p) from Product p" +
+                                " where p.productNumber in :productNumbers", Long.class)
+                .setParameter("productNumbers", productNumbers)
+                .getSingleResult();
+    }
+
     public void delete(Product product) {
         em.remove(product);
     }
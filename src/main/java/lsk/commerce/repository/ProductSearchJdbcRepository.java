@@ -0,0 +1,98 @@
+package lsk.commerce.repository;
+
+import lombok.RequiredArgsConstructor;
+import lsk.commerce.domain.ProductSearchChangeType;
+import lsk.commerce.dto.ProductSearchChangeDto;
+import lsk.commerce.dto.ProductSearchDocumentDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductSearchJdbcRepository {
+
+    private static final String DOCUMENT_COLUMNS = "SELECT product_id, name, name_initial, artist, artist_initial, studio, studio_initial," +
+            " author, author_initial, actor, actor_initial, director, director_initial FROM product";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    //상품 전체를 리스트로 모으지 않고 한 줄씩 넘긴다.
+    public void findAllDocuments(Consumer<ProductSearchDocumentDto> consumer) {
+        jdbcTemplate.query(DOCUMENT_COLUMNS, rs -> {
+            consumer.accept(toDocument(rs));
+        });
+    }
+
+    //다른 서버에서 등록한 상품만 PK로 읽는다. 그 사이에 삭제된 상품은 넘기지 않는다.
+    public void findDocuments(Collection<Long> productIds, Consumer<ProductSearchDocumentDto> consumer) {
+        if (productIds.isEmpty()) {
+            return;
+        }
+
+        String sql = DOCUMENT_COLUMNS + " WHERE product_id IN (" + String.join(", ", Collections.nCopies(productIds.size(), "?")) + ")";
+
+        jdbcTemplate.query(sql, rs -> {
+            consumer.accept(toDocument(rs));
+        }, productIds.toArray());
+    }
+
+    //호출한 쪽 트랜잭션에 함께 묶여서 등록, 삭제가 롤백되면 기록도 남지 않는다.
+    public void saveChange(ProductSearchChangeType changeType, Long productId, LocalDateTime createdAt) {
+        String sql = "INSERT INTO product_search_change (product_id, change_type, created_at) VALUES (?, ?, ?)";
+
+        jdbcTemplate.update(sql, productId, changeType.name(), Timestamp.valueOf(createdAt));
+    }
+
+    //afterId 다음 기록을 limit개 읽는다. 바뀐 상품이 없으면 PK 범위를 한 번 훑고 끝난다.
+    public List<ProductSearchChangeDto> findChangesAfter(long afterId, int limit) {
+        String sql = "SELECT change_id, product_id, change_type, created_at FROM product_search_change" +
+                " WHERE change_id > ? ORDER BY change_id LIMIT ?";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ProductSearchChangeDto(
+                rs.getLong("change_id"),
+                rs.getLong("product_id"),
+                ProductSearchChangeType.valueOf(rs.getString("change_type")),
+                rs.getTimestamp("created_at").toLocalDateTime()), afterId, limit);
+    }
+
+    //색인을 다시 만들기 전에 읽어서, 다시 만드는 동안 쌓인 기록부터 이어서 읽는다.
+    //아직 커밋되지 않은 앞 번호를 건너뛰지 않도록 createdBefore 전에 쌓인 기록까지만 본다.
+    public long findLastChangeIdBefore(LocalDateTime createdBefore) {
+        String sql = "SELECT COALESCE(MAX(change_id), 0) FROM product_search_change WHERE created_at < ?";
+
+        Long lastChangeId = jdbcTemplate.queryForObject(sql, Long.class, Timestamp.valueOf(createdBefore));
+        return lastChangeId == null ? 0 : lastChangeId;
+    }
+
+    public int deleteChangesBefore(LocalDateTime cutoff) {
+        String sql = "DELETE FROM product_search_change WHERE created_at < ?";
+
+        return jdbcTemplate.update(sql, Timestamp.valueOf(cutoff));
+    }
+
+    private static ProductSearchDocumentDto toDocument(ResultSet rs) throws SQLException {
+        return new ProductSearchDocumentDto(
+                rs.getLong("product_id"),
+                rs.getString("name"),
+                rs.getString("name_initial"),
+                rs.getString("artist"),
+                rs.getString("artist_initial"),
+                rs.getString("studio"),
+                rs.getString("studio_initial"),
+                rs.getString("author"),
+                rs.getString("author_initial"),
+                rs.getString("actor"),
+                rs.getString("actor_initial"),
+                rs.getString("director"),
+                rs.getString("director_initial"));
+    }
+}
@@ -0,0 +1,64 @@
+package lsk.commerce.repository;
+
+import lombok.RequiredArgsConstructor;
+import lsk.commerce.dto.ProductStockDeltaDto;
+import lsk.commerce.dto.StockChangeDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductStockDeltaJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private static final int BATCH_SIZE = 100;
+
+    //quantity를 그대로 delta로 저장한다. (차감은 음수)
+    public void saveAll(List<StockChangeDto> stockChanges) {
+        if (stockChanges.isEmpty()) {
+            return;
+        }
+
+        String sql = "INSERT INTO product_stock_delta (product_id, delta, created_at) VALUES (?, ?, ?)";
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 0; i < stockChanges.size(); i += BATCH_SIZE) {
+            List<StockChangeDto> batchList = stockChanges.subList(i, Math.min(i + BATCH_SIZE, stockChanges.size()));
+
+            jdbcTemplate.batchUpdate(sql, batchList, batchList.size(), (ps, stockChange) -> {
+                ps.setLong(1, stockChange.productId());
+                ps.setInt(2, stockChange.quantity());
+                ps.setTimestamp(3, now);
+            });
+        }
+    }
+
+    public List<ProductStockDeltaDto> findOldest(int limit) {
+        String sql = "SELECT product_stock_delta_id, product_id, delta FROM product_stock_delta" +
+                " ORDER BY product_stock_delta_id LIMIT ?";
+
+        return jdbcTemplate.query(sql, (rs, rowNum) -> new ProductStockDeltaDto(
+                rs.getLong("product_stock_delta_id"),
+                rs.getLong("product_id"),
+                rs.getInt("delta")), limit);
+    }
+
+    //읽은 기록만 지워야 그 사이에 커밋된 기록이 반영되지 않고 사라지는 일이 없다.
+    public void deleteAllByIds(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        String sql = "DELETE FROM product_stock_delta WHERE product_stock_delta_id = ?";
+
+        for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
+            List<Long> batchList = ids.subList(i, Math.min(i + BATCH_SIZE, ids.size()));
+
+            jdbcTemplate.batchUpdate(sql, batchList, batchList.size(), (ps, id) -> ps.setLong(1, id));
+        }
+    }
+}
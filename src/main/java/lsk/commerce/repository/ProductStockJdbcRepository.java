@@ -0,0 +1,107 @@
+package lsk.commerce.repository;
+
+import lombok.RequiredArgsConstructor;
+import lsk.commerce.dto.ProductStockDto;
+import lsk.commerce.dto.StockChangeDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class ProductStockJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+    private static final int BATCH_SIZE = 100;
+
+    private static final RowMapper<ProductStockDto> PRODUCT_STOCK_ROW_MAPPER = (rs, rowNum) -> new ProductStockDto(
+            rs.getLong("product_id"),
+            rs.getInt("stock_quantity"),
+            rs.getLong("version"));
+
+    //product_id 순서로 잠가야 주문끼리 교착 상태에 빠지지 않는다.
+    public List<ProductStockDto> findProductStocksForUpdate(List<Long> productIds) {
+        if (productIds.isEmpty()) {
+            return List.of();
+        }
+
+        String sql = "SELECT product_id, stock_quantity, version FROM product" +
+                " WHERE product_id IN (" + String.join(", ", Collections.nCopies(productIds.size(), "?")) + ")" +
+                " ORDER BY product_id FOR UPDATE";
+
+        return jdbcTemplate.query(sql, PRODUCT_STOCK_ROW_MAPPER, productIds.toArray());
+    }
+
+    public Optional<ProductStockDto> findProductStock(Long productId) {
+        String sql = "SELECT product_id, stock_quantity, version FROM product WHERE product_id = ?";
+
+        return jdbcTemplate.query(sql, PRODUCT_STOCK_ROW_MAPPER, productId).stream().findFirst();
+    }
+
+    public void updateStockQuantities(Map<Long, Integer> stockQuantities) {
+        if (stockQuantities.isEmpty()) {
+            return;
+        }
+
+        String sql = "UPDATE product SET stock_quantity = ?, version = version + 1 WHERE product_id = ?";
+
+        List<Map.Entry<Long, Integer>> entries = new ArrayList<>(stockQuantities.entrySet());
+        for (int i = 0; i < entries.size(); i += BATCH_SIZE) {
+            List<Map.Entry<Long, Integer>> batchList = entries.subList(i, Math.min(i + BATCH_SIZE, entries.size()));
+
+            jdbcTemplate.batchUpdate(sql, batchList, batchList.size(), (ps, entry) -> {
+                ps.setInt(1, entry.getValue());
+                ps.setLong(2, entry.getKey());
+            });
+        }
+    }
+
+    //재고가 충분할 때만 차감되고, 차감된 행 수를 반환한다.
+    public int decreaseStockQuantity(Long productId, int quantity) {
+        String sql = "UPDATE product SET stock_quantity = stock_quantity - ?, version = version + 1" +
+                " WHERE product_id = ? AND stock_quantity >= ?";
+
+        return jdbcTemplate.update(sql, quantity, productId, quantity);
+    }
+
+    //읽었을 때의 version과 같을 때만 변경되고, 변경된 행 수를 반환한다.
+    public int updateStockQuantityIfVersion(Long productId, int stockQuantity, long version) {
+        String sql = "UPDATE product SET stock_quantity = ?, version = version + 1" +
+                " WHERE product_id = ? AND version = ?";
+
+        return jdbcTemplate.update(sql, stockQuantity, productId, version);
+    }
+
+    //상품 BATCH_SIZE개마다 CASE 문 UPDATE 한 번으로 복구한다.
+    //상품별로 수량을 합친 목록이어야 하고, product_id 순서로 받아야 잠금 순서가 맞는다.
+    public void increaseStockQuantities(List<StockChangeDto> stockChanges) {
+        if (stockChanges.isEmpty()) {
+            return;
+        }
+
+        for (int i = 0; i < stockChanges.size(); i += BATCH_SIZE) {
+            List<StockChangeDto> batchList = stockChanges.subList(i, Math.min(i + BATCH_SIZE, stockChanges.size()));
+
+            StringBuilder sql = new StringBuilder("UPDATE product SET stock_quantity = stock_quantity + CASE product_id");
+            List<Object> args = new ArrayList<>();
+            for (StockChangeDto stockChange : batchList) {
+                sql.append(" WHEN ? THEN ?");
+                args.add(stockChange.productId());
+                args.add(stockChange.quantity());
+            }
+            sql.append(" END, version = version + 1")
+                    .append(" WHERE product_id IN (").append(String.join(", ", Collections.nCopies(batchList.size(), "?"))).append(")");
+            for (StockChangeDto stockChange : batchList) {
+                args.add(stockChange.productId());
+            }
+
+            jdbcTemplate.update(sql.toString(), args.toArray());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package lsk.commerce.repository;
+
+import lombok.RequiredArgsConstructor;
+import lsk.commerce.dto.WebhookInboxDto;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+@RequiredArgsConstructor
+public class WebhookInboxJdbcRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    //이미 받은 webhook-id면 쌓지 않고 false를 반환한다.
+    public boolean save(String webhookId, String paymentId, LocalDateTime receivedAt) {
+        String sql = "INSERT IGNORE INTO webhook_inbox (webhook_id, payment_id, available_at, attempts, received_at) VALUES (?, ?, ?, 0, ?)";
+
+        Timestamp now = Timestamp.valueOf(receivedAt);
+        return jdbcTemplate.update(sql, webhookId, paymentId, now, now) > 0;
+    }
+
+    //처리할 시각이 된 웹훅을 limit개 잠그고 leaseUntil까지 다른 서버가 가져가지 못하게 미룬다.
+    //다른 서버가 잠근 웹훅은 기다리지 않고 건너뛴다. 가져간 서버가 죽으면 leaseUntil 뒤에 다시 가져간다.
+    public List<WebhookInboxDto> claim(LocalDateTime now, LocalDateTime leaseUntil, int maxAttempts, int limit) {
+        String selectSql = "SELECT webhook_inbox_id, webhook_id, payment_id, attempts, received_at FROM webhook_inbox" +
+                " WHERE processed_at IS NULL AND available_at <= ? AND attempts < ?" +
+                " ORDER BY available_at, webhook_inbox_id LIMIT ?" +
+                " FOR UPDATE SKIP LOCKED";
+
+        List<WebhookInboxDto> webhooks = jdbcTemplate.query(selectSql, (rs, rowNum) -> new WebhookInboxDto(
+                rs.getLong("webhook_inbox_id"),
+                rs.getString("webhook_id"),
+                rs.getString("payment_id"),
+                rs.getInt("attempts") + 1,
+                rs.getTimestamp("received_at").toLocalDateTime()), Timestamp.valueOf(now), maxAttempts, limit);
+        if (webhooks.isEmpty()) {
+            return webhooks;
+        }
+
+        List<Long> ids = webhooks.stream().map(WebhookInboxDto::id).toList();
+        String updateSql = "UPDATE webhook_inbox SET available_at = ?, attempts = attempts + 1" +
+                " WHERE webhook_inbox_id IN (" + placeholders(ids.size()) + ")";
+
+        jdbcTemplate.update(updateSql, parameters(Timestamp.valueOf(leaseUntil), ids));
+        return webhooks;
+    }
+
+    //처리한 웹훅은 바로 지우지 않고 retention 동안 남겨서 같은 webhook-id를 다시 받아도 무시한다.
+    public void markProcessed(List<Long> ids, LocalDateTime processedAt) {
+        if (ids.isEmpty()) {
+            return;
+        }
+
+        String sql = "UPDATE webhook_inbox SET processed_at = ? WHERE webhook_inbox_id IN (" + placeholders(ids.size()) + ")";
+
+        jdbcTemplate.update(sql, parameters(Timestamp.valueOf(processedAt), ids));
+    }
+
+    //실패한 웹훅은 availableAt까지 미뤄서 다시 처리한다.
+    public void reschedule(Long id, LocalDateTime availableAt) {
+        String sql = "UPDATE webhook_inbox SET available_at = ? WHERE webhook_inbox_id = ?";
+
+        jdbcTemplate.update(sql, Timestamp.valueOf(availableAt), id);
+    }
+
+    public int deleteProcessedBefore(LocalDateTime cutoff, int limit) {
+        String sql = "DELETE FROM webhook_inbox WHERE processed_at < ? LIMIT ?";
+
+        return jdbcTemplate.update(sql, Timestamp.valueOf(cutoff), limit);
+    }
+
+    //아직 처리하지 못한 웹훅 수
+    public long countPending(int maxAttempts) {
+        String sql = "SELECT COUNT(*) FROM webhook_inbox WHERE processed_at IS NULL AND attempts < ?";
+
+        Long count = jdbcTemplate.queryForObject(sql, Long.class, maxAttempts);
+        return count == null ? 0 : count;
+    }
+
+    //아직 처리하지 못한 웹훅 중 가장 먼저 받은 시각
+    public Optional<LocalDateTime> findOldestPendingReceivedAt(int maxAttempts) {
+        String sql = "SELECT MIN(received_at) FROM webhook_inbox WHERE processed_at IS NULL AND attempts < ?";
+
+        Timestamp oldest = jdbcTemplate.queryForObject(sql, Timestamp.class, maxAttempts);
+        return Optional.ofNullable(oldest).map(Timestamp::toLocalDateTime);
+    }
+
+    private static String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "?"));
+    }
+
+    private static Object[] parameters(Object first, List<Long> ids) {
+        Object[] parameters = new Object[ids.size() + 1];
+        parameters[0] = first;
+        for (int i = 0; i < ids.size(); i++) {
+            parameters[i + 1] = ids.get(i);
+        }
+        return parameters;
+    }
+}
@@ -0,0 +1,43 @@
+package lsk.commerce.service;
+
+import lombok.RequiredArgsConstructor;
+import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.dto.StockChangeDto;
+import lsk.commerce.repository.ProductStockJdbcRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+//재고가 충분할 때만 차감하는 조건부 UPDATE 한 번으로 처리 (기본값)
+@Service
+@Qualifier("stockReservationStrategy")
+@Transactional
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.reservation.strategy", havingValue = "atomic", matchIfMissing = true)
+public class AtomicStockReservationService implements StockReservationService {
+
+    private final ProductStockJdbcRepository productStockJdbcRepository;
+
+    @Override
+    public void reserve(List<OrderProduct> orderProducts) {
+        for (StockChangeDto stockChange : StockChangeDto.from(orderProducts)) {
+            int updatedCount = productStockJdbcRepository.decreaseStockQuantity(stockChange.productId(), stockChange.quantity());
+            if (updatedCount == 0) {
+                throw new IllegalArgumentException("재고가 부족합니다. productNumber: " + stockChange.productNumber());
+            }
+        }
+    }
+
+    @Override
+    public void release(List<OrderProduct> orderProducts) {
+        releaseStockChanges(StockChangeDto.from(orderProducts));
+    }
+
+    @Override
+    public void releaseStockChanges(List<StockChangeDto> stockChanges) {
+        productStockJdbcRepository.increaseStockQuantities(stockChanges);
+    }
+}
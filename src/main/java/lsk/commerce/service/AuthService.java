@@ -1,12 +1,16 @@
 package lsk.commerce.service;
 
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import lsk.commerce.domain.Member;
+import lsk.commerce.exception.ServiceBusyException;
 import lsk.commerce.util.JwtProvider;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+@Slf4j
 @Service
 @Transactional(readOnly = true)
 @RequiredArgsConstructor
@@ -16,12 +20,24 @@ public class AuthService {
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
 
+    //비밀번호 해시를 계산하는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 밖에서 실행한다.
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public String login(String loginId, String password) {
         Member loginMember = memberService.findMemberForLogin(loginId);
         if (!passwordEncoder.matches(password, loginMember.getPassword())) {
             throw new IllegalArgumentException("아이디 또는 비밀번호가 틀렸습니다");
         }
 
+        //BCrypt cost를 올렸으면 로그인에 성공했을 때 새 cost로 다시 저장한다.
+        //해시 대기열이 가득 차서 거절되면 이미 확인한 로그인은 그대로 성공시키고 다음 로그인에서 다시 저장한다.
+        if (passwordEncoder.upgradeEncoding(loginMember.getPassword())) {
+            try {
+                memberService.upgradePassword(loginId, loginMember.getPassword(), passwordEncoder.encode(password));
+            } catch (ServiceBusyException e) {
+                log.info("비밀번호 해시 갱신 건너뜀. loginId: {}", loginId);
+            }
+        }
+
         return jwtProvider.createToken(loginMember);
     }
 }
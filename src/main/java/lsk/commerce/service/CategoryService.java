@@ -2,6 +2,8 @@ package lsk.commerce.service;
 
 import lombok.RequiredArgsConstructor;
 import lsk.commerce.domain.Category;
+import lsk.commerce.dto.CategoryNodeDto;
+import lsk.commerce.dto.CategoryTreeJsonDto;
 import lsk.commerce.dto.request.CategoryChangeParentRequest;
 import lsk.commerce.dto.request.CategoryCreateRequest;
 import lsk.commerce.dto.response.CategoryDisconnectResponse;
@@ -23,50 +25,59 @@ import java.util.Set;
 public class CategoryService {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryTreeCache categoryTreeCache;
+    private final CategoryTreeJsonCache categoryTreeJsonCache;
 
     @Transactional
     public String create(CategoryCreateRequest request) {
         Category parentCategory = validateCategory(request.name(), request.parentNumber());
         Category category = Category.createCategory(parentCategory, request.name());
         categoryRepository.save(category);
+
+        CategoryNodeDto node = CategoryNodeDto.from(category);
+        categoryTreeCache.updateAfterCommit(snapshot -> snapshot.withAdded(node));
         return category.getCategoryNumber();
     }
 
+    //다른 서버에서 만든 카테고리는 스냅샷을 다시 읽기 전까지 보이지 않으므로 DB에서 한 번 더 찾는다.
     public Category findCategoryByCategoryNumber(String categoryNumber) {
-        List<Category> categories = categoryRepository.findAll();
-
-        return categories.stream()
-                .filter(c -> c.getCategoryNumber().equals(categoryNumber))
-                .findFirst()
+        return categoryTreeCache.get().find(categoryNumber)
+                .flatMap(node -> categoryRepository.findById(node.id()))
+                .or(() -> categoryRepository.findByCategoryNumber(categoryNumber))
                 .orElseThrow(() -> new DataNotFoundException("존재하지 않는 카테고리입니다. categoryNumber: " + categoryNumber));
     }
 
-    public List<Category> findRootCategories() {
-        List<Category> categories = categoryRepository.findAll();
-
-        return categories.stream()
-                .filter(c -> c.getParent() == null)
-                .toList();
+    public CategoryTreeJsonDto findCategoryTreeJson() {
+        return categoryTreeJsonCache.get();
     }
 
     @Transactional
     public Category changeParentCategory(String categoryNumber, CategoryChangeParentRequest request) {
-        List<Category> categories = categoryRepository.findAll();
-        Category category = categories.stream()
-                .filter(c -> c.getCategoryNumber().equals(categoryNumber))
-                .findFirst()
+        CategoryTreeCache.Snapshot snapshot = categoryTreeCache.get();
+        CategoryNodeDto node = snapshot.find(categoryNumber)
                 .orElseThrow(() -> new DataNotFoundException("존재하지 않는 카테고리입니다. categoryNumber: " + categoryNumber));
 
         if (categoryNumber.equals("LVjBKQYeuJQP")) {
-            return category;
+            return findCategoryByCategoryNumber(categoryNumber);
         }
 
-        Category newParentCategory = categories.stream()
-                .filter(c -> c.getCategoryNumber().equals(request.parentNumber()))
-                .findFirst()
+        CategoryNodeDto parentNode = snapshot.find(request.parentNumber())
                 .orElseThrow(() -> new DataNotFoundException("부모 카테고리가 존재하지 않습니다. parentNumber: " + request.parentNumber()));
 
+        //중복, 순환 검사는 스냅샷에서 끝내고 바꿔야 할 때만 엔티티를 읽는다.
+        boolean changed = snapshot.validateParentChange(node, parentNode);
+
+        Category newParentCategory = categoryRepository.findById(parentNode.id())
+                .orElseThrow(() -> new DataNotFoundException("부모 카테고리가 존재하지 않습니다. parentNumber: " + request.parentNumber()));
+        if (!changed) {
+            return newParentCategory;
+        }
+
+        Category category = categoryRepository.findById(node.id())
+                .orElseThrow(() -> new DataNotFoundException("존재하지 않는 카테고리입니다. categoryNumber: " + categoryNumber));
         category.changeParentCategory(newParentCategory);
+
+        categoryTreeCache.updateAfterCommit(current -> current.withParentChanged(node.id(), parentNode.id()));
         return newParentCategory;
     }
 
@@ -94,6 +105,9 @@ public class CategoryService {
         }
 
         categoryRepository.delete(category);
+
+        Long categoryId = category.getId();
+        categoryTreeCache.updateAfterCommit(snapshot -> snapshot.withRemoved(categoryId));
     }
 
     public CategoryResponse getCategoryDto(Category category) {
@@ -104,33 +118,34 @@ public class CategoryService {
         return CategoryDisconnectResponse.from(category);
     }
 
+    //스냅샷으로 먼저 걸러내고, 다른 서버에서 바꾼 내용은 아직 스냅샷에 없을 수 있으므로 쓰기 트랜잭션 안에서 DB로 다시 확인한다.
     private Category validateCategory(String categoryName, String parentNumber) {
-        List<Category> categories = categoryRepository.findWithParent(categoryName, parentNumber);
+        CategoryTreeCache.Snapshot snapshot = categoryTreeCache.get();
+
+        Optional<CategoryNodeDto> parentNode = parentNumber == null ? Optional.empty() : snapshot.find(parentNumber);
+        if (parentNode.isPresent() && parentNode.get().name().equals(categoryName)) {
+            throw new DuplicateResourceException("부모 카테고리와 같은 이름입니다. name: " + categoryName);
+        }
+        if (parentNumber == null || parentNode.isPresent()) {
+            Long parentId = parentNode.map(CategoryNodeDto::id).orElse(null);
+            if (snapshot.exists(parentId, categoryName)) {
+                throw new DuplicateResourceException("이미 존재하는 카테고리입니다. name: " + categoryName);
+            }
+        }
 
         Category parentCategory = null;
         if (parentNumber != null) {
-            parentCategory = categories.stream()
-                    .filter(c -> c.getCategoryNumber().equals(parentNumber))
-                    .findFirst()
+            parentCategory = parentNode
+                    .flatMap(node -> categoryRepository.findById(node.id()))
+                    .or(() -> categoryRepository.findByCategoryNumber(parentNumber))
                     .orElseThrow(() -> new DataNotFoundException("부모 카테고리가 존재하지 않습니다. parentNumber: " + parentNumber));
-        }
-
-        Category parent = parentCategory;
-        boolean isDuplicate = categories.stream()
-                .filter(c -> c.getName().equals(categoryName))
-                .anyMatch(c -> {
-                    if (parentNumber == null) {
-                        return c.getParent() == null;
-                    }
 
-                    if (c == parent) {
-                        throw new DuplicateResourceException("부모 카테고리와 같은 이름입니다. name: " + categoryName);
-                    }
-
-                    return c.getParent() != null && c.getParent().equals(parent);
-                });
+            if (parentCategory.getName().equals(categoryName)) {
+                throw new DuplicateResourceException("부모 카테고리와 같은 이름입니다. name: " + categoryName);
+            }
+        }
 
-        if (isDuplicate) {
+        if (categoryRepository.existsByParentAndName(parentCategory, categoryName)) {
             throw new DuplicateResourceException("이미 존재하는 카테고리입니다. name: " + categoryName);
         }
 
@@ -0,0 +1,226 @@
+package lsk.commerce.service;
+
+import lsk.commerce.dto.CategoryNodeDto;
+import lsk.commerce.dto.response.CategoryResponse;
+import lsk.commerce.exception.DuplicateResourceException;
+import lsk.commerce.repository.CategoryRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.UnaryOperator;
+
+//카테고리 트리 전체를 바뀌지 않는 스냅샷으로 메모리에 들고 있는다.
+//변경은 커밋된 뒤에 새 스냅샷으로 통째로 바꾸고, 다른 서버에서 바꾼 내용은 주기적으로 다시 읽어서 맞춘다.
+@Component
+public class CategoryTreeCache {
+
+    private final CategoryRepository categoryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    //호출한 쪽 트랜잭션에서 아직 커밋되지 않은 카테고리를 읽어 오지 않도록 항상 새 트랜잭션에서 읽는다.
+    public CategoryTreeCache(CategoryRepository categoryRepository, PlatformTransactionManager transactionManager) {
+        this.categoryRepository = categoryRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.transactionTemplate.setReadOnly(true);
+    }
+
+    //같은 트랜잭션 안에서 바꾼 내용은 그 트랜잭션에서만 먼저 보이게 한다.
+    public Snapshot get() {
+        Snapshot pending = (Snapshot) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            current = snapshot.get();
+            if (current == null) {
+                current = new Snapshot(load(), 0);
+                snapshot.set(current);
+            }
+            return current;
+        }
+    }
+
+    //읽는 동안 다른 변경이 반영됐으면 새로 읽은 내용이 더 오래된 것일 수 있어서 버린다.
+    //내용이 같으면 버전을 올리지 않아서 만들어 둔 응답을 그대로 쓴다.
+    @Scheduled(fixedDelayString = "${category.cache.refresh-interval-ms:60000}", initialDelayString = "${category.cache.refresh-interval-ms:60000}")
+    public void refresh() {
+        Snapshot before = snapshot.get();
+        if (before == null) {
+            return;
+        }
+
+        List<CategoryNodeDto> nodes = load();
+        if (before.hasSameNodes(nodes)) {
+            return;
+        }
+
+        snapshot.compareAndSet(before, new Snapshot(nodes, before.getVersion() + 1));
+    }
+
+    public void updateAfterCommit(UnaryOperator<Snapshot> update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            apply(update);
+            return;
+        }
+
+        Snapshot pending = update.apply(get());
+        if (TransactionSynchronizationManager.unbindResourceIfPossible(this) == null) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CategoryTreeCache.this);
+                }
+            });
+        }
+        TransactionSynchronizationManager.bindResource(this, pending);
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                apply(update);
+            }
+        });
+    }
+
+    private List<CategoryNodeDto> load() {
+        return transactionTemplate.execute(status -> categoryRepository.findAllNodes());
+    }
+
+    //아직 한 번도 읽지 않았으면 다음 조회 때 DB에서 새로 읽으므로 건너뛴다.
+    private void apply(UnaryOperator<Snapshot> update) {
+        snapshot.updateAndGet(current -> current == null ? null : update.apply(current));
+    }
+
+    public static final class Snapshot {
+
+        private final long version;
+        private final Map<Long, CategoryNodeDto> byId;
+        private final Map<String, CategoryNodeDto> byNumber;
+        private final Map<ParentAndName, CategoryNodeDto> byParentAndName;
+        private final List<CategoryResponse> tree;
+
+        Snapshot(Collection<CategoryNodeDto> nodes, long version) {
+            Map<Long, CategoryNodeDto> byId = new HashMap<>();
+            Map<String, CategoryNodeDto> byNumber = new HashMap<>();
+            Map<ParentAndName, CategoryNodeDto> byParentAndName = new HashMap<>();
+            Map<Long, List<CategoryNodeDto>> childrenByParentId = new HashMap<>();
+
+            for (CategoryNodeDto node : nodes) {
+                byId.put(node.id(), node);
+                byNumber.put(node.categoryNumber(), node);
+                byParentAndName.put(new ParentAndName(node.parentId(), node.name()), node);
+                childrenByParentId.computeIfAbsent(node.parentId(), parentId -> new ArrayList<>()).add(node);
+            }
+
+            this.version = version;
+            this.byId = Collections.unmodifiableMap(byId);
+            this.byNumber = Collections.unmodifiableMap(byNumber);
+            this.byParentAndName = Collections.unmodifiableMap(byParentAndName);
+            this.tree = toResponses(childrenByParentId, null);
+        }
+
+        public long getVersion() {
+            return version;
+        }
+
+        public List<CategoryResponse> getTree() {
+            return tree;
+        }
+
+        public Optional<CategoryNodeDto> find(String categoryNumber) {
+            return Optional.ofNullable(byNumber.get(categoryNumber));
+        }
+
+        public boolean hasSameNodes(Collection<CategoryNodeDto> nodes) {
+            return byId.size() == nodes.size() && nodes.stream().allMatch(node -> node.equals(byId.get(node.id())));
+        }
+
+        public boolean exists(Long parentId, String name) {
+            return byParentAndName.containsKey(new ParentAndName(parentId, name));
+        }
+
+        //Category.changeParentCategory와 같은 규칙을 메모리에서 검사한다. 바꿀 필요가 없으면 false를 반환한다.
+        public boolean validateParentChange(CategoryNodeDto category, CategoryNodeDto newParent) {
+            if (category.id().equals(newParent.id()) || newParent.id().equals(category.parentId())) {
+                return false;
+            }
+
+            if (category.name().equals(newParent.name())) {
+                throw new DuplicateResourceException("자신과 같은 이름의 카테고리를 부모로 설정할 수 없습니다. name: " + category.name());
+            }
+
+            if (exists(newParent.id(), category.name())) {
+                throw new DuplicateResourceException("선택한 부모 카테고리에 이미 같은 이름의 카테고리가 있습니다. name: " + category.name());
+            }
+
+            CategoryNodeDto check = newParent;
+            while (check != null) {
+                if (category.id().equals(check.id())) {
+                    throw new IllegalArgumentException("자식을 부모로 설정할 수 없습니다");
+                }
+
+                check = check.parentId() == null ? null : byId.get(check.parentId());
+            }
+
+            return true;
+        }
+
+        public Snapshot withAdded(CategoryNodeDto node) {
+            Map<Long, CategoryNodeDto> nodes = new HashMap<>(byId);
+            nodes.put(node.id(), node);
+            return new Snapshot(nodes.values(), version + 1);
+        }
+
+        public Snapshot withParentChanged(Long id, Long parentId) {
+            CategoryNodeDto node = byId.get(id);
+            if (node == null) {
+                return this;
+            }
+
+            return withAdded(new CategoryNodeDto(node.id(), node.categoryNumber(), node.name(), parentId));
+        }
+
+        public Snapshot withRemoved(Long id) {
+            if (!byId.containsKey(id)) {
+                return this;
+            }
+
+            Map<Long, CategoryNodeDto> nodes = new HashMap<>(byId);
+            nodes.remove(id);
+            return new Snapshot(nodes.values(), version + 1);
+        }
+
+        private static List<CategoryResponse> toResponses(Map<Long, List<CategoryNodeDto>> childrenByParentId, Long parentId) {
+            return childrenByParentId.getOrDefault(parentId, List.of()).stream()
+                    .sorted(Comparator.comparing(CategoryNodeDto::id))
+                    .map(node -> new CategoryResponse(node.name(), node.categoryNumber(), toResponses(childrenByParentId, node.id())))
+                    .toList();
+        }
+
+        private record ParentAndName(Long parentId, String name) {
+        }
+    }
+}
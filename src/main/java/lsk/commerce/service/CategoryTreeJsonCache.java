@@ -0,0 +1,43 @@
+package lsk.commerce.service;
+
+import lombok.RequiredArgsConstructor;
+import lsk.commerce.dto.CategoryTreeJsonDto;
+import lsk.commerce.dto.response.CategoryResponse;
+import lsk.commerce.dto.response.Result;
+import org.springframework.stereotype.Component;
+import org.springframework.util.DigestUtils;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+//카테고리 트리 응답을 JSON으로 한 번만 만들어 두고, 스냅샷이 바뀔 때만 다시 만든다.
+//ETag는 내용에서 만들어서 서버가 여러 대여도 같은 트리면 같은 값이 나온다.
+@Component
+@RequiredArgsConstructor
+public class CategoryTreeJsonCache {
+
+    private final CategoryTreeCache categoryTreeCache;
+    private final ObjectMapper objectMapper;
+
+    private final AtomicReference<Rendered> rendered = new AtomicReference<>();
+
+    public CategoryTreeJsonDto get() {
+        CategoryTreeCache.Snapshot snapshot = categoryTreeCache.get();
+
+        Rendered current = rendered.get();
+        if (current != null && current.version() == snapshot.getVersion()) {
+            return current.json();
+        }
+
+        List<CategoryResponse> tree = snapshot.getTree();
+        byte[] body = objectMapper.writeValueAsBytes(new Result<>(tree, tree.size()));
+        CategoryTreeJsonDto json = new CategoryTreeJsonDto("\"" + DigestUtils.md5DigestAsHex(body) + "\"", body);
+
+        rendered.set(new Rendered(snapshot.getVersion(), json));
+        return json;
+    }
+
+    private record Rendered(long version, CategoryTreeJsonDto json) {
+    }
+}
@@ -7,6 +7,8 @@ import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
+
 import static org.springframework.transaction.annotation.Propagation.REQUIRES_NEW;
 
 @Service
@@ -28,4 +30,24 @@ public class DeliveryService {
         Order order = orderService.findOrderWithDeliveryPayment(orderNumber);
         order.getDelivery().completeDelivery();
     }
+
+    //OutboxRelay가 가져간 주문을 쿼리 한 번으로 읽고 트랜잭션 하나로 발송한다. 바뀐 배송은 flush 때 JDBC 배치로 UPDATE 된다.
+    //한 주문이라도 실패하면 전부 롤백되고, OutboxRelay가 주문마다 startDelivery로 다시 처리한다.
+    public void startDeliveries(List<String> orderNumbers) {
+        List<Order> orders = orderService.findOrdersWithDeliveryPayment(orderNumbers);
+        for (Order order : orders) {
+            order.getDelivery().startDelivery();
+        }
+
+        for (Order order : orders) {
+            eventPublisher.publishEvent(new DeliveryStartedEvent(order.getOrderNumber()));
+        }
+    }
+
+    public void completeDeliveries(List<String> orderNumbers) {
+        List<Order> orders = orderService.findOrdersWithDeliveryPayment(orderNumbers);
+        for (Order order : orders) {
+            order.getDelivery().completeDelivery();
+        }
+    }
 }
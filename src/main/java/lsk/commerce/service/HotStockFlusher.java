@@ -0,0 +1,74 @@
+package lsk.commerce.service;
+
+import lsk.commerce.dto.ProductStockDeltaDto;
+import lsk.commerce.dto.StockChangeDto;
+import lsk.commerce.repository.ProductStockDeltaJdbcRepository;
+import lsk.commerce.repository.ProductStockJdbcRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+//쌓인 인기 상품 재고 변경 기록을 상품별로 합쳐서 product.stock_quantity에 반영
+@Component
+@ConditionalOnProperty(name = "stock.hot.enabled", havingValue = "true")
+public class HotStockFlusher {
+
+    private static final int FLUSH_SIZE = 1000;
+
+    private final ProductStockDeltaJdbcRepository productStockDeltaJdbcRepository;
+    private final ProductStockJdbcRepository productStockJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public HotStockFlusher(ProductStockDeltaJdbcRepository productStockDeltaJdbcRepository,
+                           ProductStockJdbcRepository productStockJdbcRepository,
+                           PlatformTransactionManager transactionManager) {
+        this.productStockDeltaJdbcRepository = productStockDeltaJdbcRepository;
+        this.productStockJdbcRepository = productStockJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Scheduled(fixedDelayString = "${stock.hot.flush-interval-ms:1000}")
+    public void flushAll() {
+        int flushedCount;
+        do {
+            flushedCount = flush();
+        } while (flushedCount == FLUSH_SIZE);
+    }
+
+    //반영과 삭제를 한 트랜잭션에서 처리해서 같은 기록이 두 번 반영되지 않는다.
+    private int flush() {
+        Integer flushedCount = transactionTemplate.execute(status -> {
+            List<ProductStockDeltaDto> deltas = productStockDeltaJdbcRepository.findOldest(FLUSH_SIZE);
+            if (deltas.isEmpty()) {
+                return 0;
+            }
+
+            Map<Long, Integer> deltaByProductId = new TreeMap<>();
+            List<Long> ids = new ArrayList<>();
+            for (ProductStockDeltaDto delta : deltas) {
+                deltaByProductId.merge(delta.productId(), delta.delta(), Integer::sum);
+                ids.add(delta.id());
+            }
+
+            List<StockChangeDto> stockChanges = new ArrayList<>();
+            for (Map.Entry<Long, Integer> entry : deltaByProductId.entrySet()) {
+                if (entry.getValue() != 0) {
+                    stockChanges.add(new StockChangeDto(entry.getKey(), null, entry.getValue()));
+                }
+            }
+
+            productStockJdbcRepository.increaseStockQuantities(stockChanges);
+            productStockDeltaJdbcRepository.deleteAllByIds(ids);
+            return deltas.size();
+        });
+
+        return flushedCount == null ? 0 : flushedCount;
+    }
+}
@@ -0,0 +1,169 @@
+package lsk.commerce.service;
+
+import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.domain.Product;
+import lsk.commerce.dto.StockChangeDto;
+import lsk.commerce.repository.ProductStockDeltaJdbcRepository;
+import lsk.commerce.util.StripedStockCounter;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+
+//인기 상품은 DB 대신 메모리 카운터에서 재고를 차감하고, 변경 기록만 남겨서 HotStockFlusher가 나중에 반영한다.
+//나머지 상품은 stock.reservation.strategy로 고른 방식에 그대로 맡긴다.
+//카운터가 JVM 안에 있어서 서버 한 대로 운영할 때만 켜야 한다.
+@Service
+@Primary
+@Transactional
+@ConditionalOnProperty(name = "stock.hot.enabled", havingValue = "true")
+public class HotStockReservationService implements StockReservationService, SmartInitializingSingleton {
+
+    private final StockReservationService stockReservationService;
+    private final ProductStockDeltaJdbcRepository productStockDeltaJdbcRepository;
+    private final ProductService productService;
+    private final HotStockFlusher hotStockFlusher;
+    private final Set<String> hotProductNumbers;
+    private final int stripeCount;
+
+    private final Map<Long, StripedStockCounter> counters = new ConcurrentHashMap<>();
+
+    public HotStockReservationService(@Qualifier("stockReservationStrategy") StockReservationService stockReservationService,
+                                      ProductStockDeltaJdbcRepository productStockDeltaJdbcRepository,
+                                      ProductService productService,
+                                      HotStockFlusher hotStockFlusher,
+                                      @Value("${stock.hot.product-numbers:}") String[] hotProductNumbers,
+                                      @Value("${stock.hot.stripes:16}") int stripeCount) {
+        this.stockReservationService = stockReservationService;
+        this.productStockDeltaJdbcRepository = productStockDeltaJdbcRepository;
+        this.productService = productService;
+        this.hotStockFlusher = hotStockFlusher;
+        this.hotProductNumbers = Arrays.stream(hotProductNumbers)
+                .map(String::trim)
+                .filter(productNumber -> !productNumber.isEmpty())
+                .collect(Collectors.toSet());
+        this.stripeCount = stripeCount;
+    }
+
+    //요청을 받기 전에 남은 변경 기록을 모두 반영하고, 반영된 재고로 카운터를 채운다.
+    @Override
+    public void afterSingletonsInstantiated() {
+        hotStockFlusher.flushAll();
+
+        for (Product product : productService.findProductsByProductNumbers(hotProductNumbers)) {
+            counters.put(product.getId(), new StripedStockCounter(product.getStockQuantity(), stripeCount));
+        }
+    }
+
+    //인기 상품 재고는 카운터가 기준이라서 DB 재고를 직접 바꾸면 카운터와 어긋난다.
+    public boolean isHotProduct(Long productId) {
+        return counters.containsKey(productId);
+    }
+
+    @Override
+    public void reserve(List<OrderProduct> orderProducts) {
+        List<OrderProduct> otherOrderProducts = new ArrayList<>();
+        List<OrderProduct> hotOrderProducts = new ArrayList<>();
+        splitHotOrderProducts(orderProducts, hotOrderProducts, otherOrderProducts);
+
+        if (!hotOrderProducts.isEmpty()) {
+            List<StockChangeDto> reservedStockChanges = new ArrayList<>();
+
+            //롤백되면 차감한 카운터를 되돌린다.
+            registerAfterCompletion(status -> {
+                if (status == TransactionSynchronization.STATUS_ROLLED_BACK) {
+                    for (StockChangeDto stockChange : reservedStockChanges) {
+                        counters.get(stockChange.productId()).increase(stockChange.quantity());
+                    }
+                }
+            });
+
+            for (StockChangeDto stockChange : StockChangeDto.from(hotOrderProducts)) {
+                if (!counters.get(stockChange.productId()).tryDecrease(stockChange.quantity())) {
+                    throw new IllegalArgumentException("재고가 부족합니다. productNumber: " + stockChange.productNumber());
+                }
+                reservedStockChanges.add(stockChange);
+            }
+
+            productStockDeltaJdbcRepository.saveAll(negate(reservedStockChanges));
+        }
+
+        if (!otherOrderProducts.isEmpty()) {
+            stockReservationService.reserve(otherOrderProducts);
+        }
+    }
+
+    @Override
+    public void release(List<OrderProduct> orderProducts) {
+        releaseStockChanges(StockChangeDto.from(orderProducts));
+    }
+
+    @Override
+    public void releaseStockChanges(List<StockChangeDto> stockChanges) {
+        List<StockChangeDto> otherStockChanges = new ArrayList<>();
+        List<StockChangeDto> hotStockChanges = new ArrayList<>();
+        for (StockChangeDto stockChange : stockChanges) {
+            if (counters.containsKey(stockChange.productId())) {
+                hotStockChanges.add(stockChange);
+            } else {
+                otherStockChanges.add(stockChange);
+            }
+        }
+
+        if (!hotStockChanges.isEmpty()) {
+            productStockDeltaJdbcRepository.saveAll(hotStockChanges);
+
+            //커밋된 뒤에 복구해야 롤백됐을 때 이미 다른 주문이 가져간 재고를 되돌릴 일이 없다.
+            registerAfterCompletion(status -> {
+                if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                    for (StockChangeDto stockChange : hotStockChanges) {
+                        counters.get(stockChange.productId()).increase(stockChange.quantity());
+                    }
+                }
+            });
+        }
+
+        if (!otherStockChanges.isEmpty()) {
+            stockReservationService.releaseStockChanges(otherStockChanges);
+        }
+    }
+
+    private void splitHotOrderProducts(List<OrderProduct> orderProducts, List<OrderProduct> hotOrderProducts, List<OrderProduct> otherOrderProducts) {
+        for (OrderProduct orderProduct : orderProducts) {
+            if (counters.containsKey(orderProduct.getProduct().getId())) {
+                hotOrderProducts.add(orderProduct);
+            } else {
+                otherOrderProducts.add(orderProduct);
+            }
+        }
+    }
+
+    private static List<StockChangeDto> negate(List<StockChangeDto> stockChanges) {
+        return stockChanges.stream()
+                .map(stockChange -> new StockChangeDto(stockChange.productId(), stockChange.productNumber(), -stockChange.quantity()))
+                .toList();
+    }
+
+    private static void registerAfterCompletion(IntConsumer callback) {
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                callback.accept(status);
+            }
+        });
+    }
+}
@@ -0,0 +1,84 @@
+package lsk.commerce.service;
+
+import lombok.extern.slf4j.Slf4j;
+import lsk.commerce.dto.InitialBackfillRowDto;
+import lsk.commerce.repository.InitialBackfillJdbcRepository;
+import lsk.commerce.repository.InitialBackfillJdbcRepository.Target;
+import lsk.commerce.util.InitialExtractor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+//초성 추출 규칙이 바뀌었을 때 모든 *_initial 컬럼을 다시 계산한다.
+//--initial.backfill.enabled=true로 실행하면 시작할 때 한 번 돌고, 값이 바뀐 행만 수정한다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "initial.backfill.enabled", havingValue = "true")
+public class InitialBackfillJob implements ApplicationRunner {
+
+    private final InitialBackfillJdbcRepository initialBackfillJdbcRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+
+    public InitialBackfillJob(InitialBackfillJdbcRepository initialBackfillJdbcRepository,
+                              PlatformTransactionManager transactionManager,
+                              @Value("${initial.backfill.chunk-size:1000}") int chunkSize) {
+        this.initialBackfillJdbcRepository = initialBackfillJdbcRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        for (Target target : Target.values()) {
+            int updatedCount = backfill(target);
+            log.info("초성 컬럼 재계산 완료. table: {}, updated: {}", target.getTable(), updatedCount);
+        }
+    }
+
+    //chunk 하나를 한 트랜잭션으로 처리해서 테이블 전체를 한 번에 잠그거나 메모리에 올리지 않는다.
+    public int backfill(Target target) {
+        long lastId = 0;
+        int updatedCount = 0;
+        while (true) {
+            long afterId = lastId;
+            List<InitialBackfillRowDto> rows = initialBackfillJdbcRepository.findRows(target, afterId, chunkSize);
+            if (rows.isEmpty()) {
+                return updatedCount;
+            }
+
+            List<InitialBackfillRowDto> changedRows = recalculate(rows);
+            if (!changedRows.isEmpty()) {
+                transactionTemplate.executeWithoutResult(status -> initialBackfillJdbcRepository.updateInitials(target, changedRows));
+            }
+
+            updatedCount += changedRows.size();
+            lastId = rows.getLast().id();
+            if (rows.size() < chunkSize) {
+                return updatedCount;
+            }
+        }
+    }
+
+    private List<InitialBackfillRowDto> recalculate(List<InitialBackfillRowDto> rows) {
+        List<InitialBackfillRowDto> changedRows = new ArrayList<>();
+        for (InitialBackfillRowDto row : rows) {
+            List<String> initials = row.sources().stream()
+                    .map(InitialExtractor::extract)
+                    .toList();
+
+            if (!Objects.equals(initials, row.initials())) {
+                changedRows.add(new InitialBackfillRowDto(row.id(), row.sources(), initials));
+            }
+        }
+        return changedRows;
+    }
+}
@@ -51,6 +51,12 @@ public class MemberService {
         return member;
     }
 
+    @Transactional
+    public void upgradePassword(String loginId, String encodedPassword, String newEncodedPassword) {
+        Member member = findMemberByLoginId(loginId);
+        member.upgradePassword(encodedPassword, newEncodedPassword);
+    }
+
     @Transactional
     public Member changeAddress(String memberLoginId, MemberChangeAddressRequest request) {
         Member member = findMemberByLoginId(memberLoginId);
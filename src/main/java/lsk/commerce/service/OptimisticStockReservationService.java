@@ -0,0 +1,67 @@
+package lsk.commerce.service;
+
+import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.dto.ProductStockDto;
+import lsk.commerce.dto.StockChangeDto;
+import lsk.commerce.exception.DataNotFoundException;
+import lsk.commerce.repository.ProductStockJdbcRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+//version이 읽었을 때와 같을 때만 변경하고, 충돌하면 다시 읽어서 재시도
+//재시도할 때 최신 커밋 값을 읽어야 해서 READ COMMITTED 트랜잭션 안에서 호출해야 한다.
+@Service
+@Qualifier("stockReservationStrategy")
+@Transactional
+@ConditionalOnProperty(name = "stock.reservation.strategy", havingValue = "optimistic")
+public class OptimisticStockReservationService implements StockReservationService {
+
+    private final ProductStockJdbcRepository productStockJdbcRepository;
+    private final int maxRetries;
+
+    public OptimisticStockReservationService(ProductStockJdbcRepository productStockJdbcRepository,
+                                             @Value("${stock.reservation.optimistic-max-retries:10}") int maxRetries) {
+        this.productStockJdbcRepository = productStockJdbcRepository;
+        this.maxRetries = maxRetries;
+    }
+
+    @Override
+    public void reserve(List<OrderProduct> orderProducts) {
+        for (StockChangeDto stockChange : StockChangeDto.from(orderProducts)) {
+            reserve(stockChange);
+        }
+    }
+
+    @Override
+    public void release(List<OrderProduct> orderProducts) {
+        releaseStockChanges(StockChangeDto.from(orderProducts));
+    }
+
+    @Override
+    public void releaseStockChanges(List<StockChangeDto> stockChanges) {
+        productStockJdbcRepository.increaseStockQuantities(stockChanges);
+    }
+
+    private void reserve(StockChangeDto stockChange) {
+        for (int attempt = 0; attempt <= maxRetries; attempt++) {
+            ProductStockDto productStock = productStockJdbcRepository.findProductStock(stockChange.productId())
+                    .orElseThrow(() -> new DataNotFoundException("존재하지 않는 상품입니다. productNumber: " + stockChange.productNumber()));
+
+            int restStock = productStock.stockQuantity() - stockChange.quantity();
+            if (restStock < 0) {
+                throw new IllegalArgumentException("재고가 부족합니다. productNumber: " + stockChange.productNumber());
+            }
+
+            if (productStockJdbcRepository.updateStockQuantityIfVersion(stockChange.productId(), restStock, productStock.version()) == 1) {
+                return;
+            }
+        }
+
+        throw new IllegalStateException("주문이 몰려 재고를 차감하지 못했습니다. 잠시 후 다시 시도해 주세요. productNumber: " + stockChange.productNumber());
+    }
+}
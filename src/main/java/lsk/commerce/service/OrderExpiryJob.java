@@ -0,0 +1,117 @@
+package lsk.commerce.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lsk.commerce.dto.StockChangeDto;
+import lsk.commerce.repository.OrderExpiryJdbcRepository;
+import lsk.commerce.repository.OrderProductJdbcRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+//결제되지 않고 ttl이 지난 주문을 취소하고 잡아 두었던 재고를 돌려준다.
+//주문 엔티티를 읽지 않고 batch-size개씩 잠가서 취소, 재고 복구를 한 트랜잭션으로 처리한다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "order.expiry.enabled", havingValue = "true", matchIfMissing = true)
+public class OrderExpiryJob {
+
+    private final OrderExpiryJdbcRepository orderExpiryJdbcRepository;
+    private final OrderProductJdbcRepository orderProductJdbcRepository;
+    private final StockReservationService stockReservationService;
+    private final TransactionTemplate transactionTemplate;
+    private final Duration ttl;
+    private final int batchSize;
+
+    private final Counter expiredCounter;
+    private final Timer batchTimer;
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public OrderExpiryJob(OrderExpiryJdbcRepository orderExpiryJdbcRepository,
+                          OrderProductJdbcRepository orderProductJdbcRepository,
+                          StockReservationService stockReservationService,
+                          PlatformTransactionManager transactionManager,
+                          MeterRegistry meterRegistry,
+                          @Value("${order.expiry.ttl-minutes:30}") long ttlMinutes,
+                          @Value("${order.expiry.batch-size:500}") int batchSize) {
+        this.orderExpiryJdbcRepository = orderExpiryJdbcRepository;
+        this.orderProductJdbcRepository = orderProductJdbcRepository;
+        this.stockReservationService = stockReservationService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+        this.batchSize = batchSize;
+
+        this.expiredCounter = Counter.builder("order.expiry.expired")
+                .description("만료되어 취소된 주문 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("order.expiry.batch")
+                .description("만료 주문 batch 하나를 취소하는 시간")
+                .register(meterRegistry);
+        Gauge.builder("order.expiry.lag", lagSeconds, AtomicLong::get)
+                .description("취소되지 않고 남아 있는 가장 오래된 만료 주문이 만료된 지 지난 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${order.expiry.interval-ms:60000}", initialDelayString = "${order.expiry.interval-ms:60000}")
+    public void sweep() {
+        int expiredCount = expire(LocalDateTime.now());
+        if (expiredCount > 0) {
+            log.info("만료 주문 취소 완료. expired: {}", expiredCount);
+        }
+    }
+
+    //now - ttl 전에 생성된 미결제 주문을 order_id 순서로 batch-size개씩 취소하고, 취소한 주문 수를 반환한다.
+    public int expire(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(ttl);
+
+        long lastId = 0;
+        int expiredCount = 0;
+        while (true) {
+            long afterId = lastId;
+            List<Long> orderIds = batchTimer.record(() -> transactionTemplate.execute(status -> expireBatch(cutoff, afterId)));
+            if (orderIds == null || orderIds.isEmpty()) {
+                break;
+            }
+
+            expiredCounter.increment(orderIds.size());
+            expiredCount += orderIds.size();
+            lastId = orderIds.getLast();
+            if (orderIds.size() < batchSize) {
+                break;
+            }
+        }
+
+        //다른 트랜잭션이 잡고 있어서 건너뛴 주문이 남아 있으면 지연으로 보인다.
+        lagSeconds.set(orderExpiryJdbcRepository.findOldestOrderedAt(cutoff)
+                .map(oldest -> Duration.between(oldest, cutoff).toSeconds())
+                .orElse(0L));
+
+        return expiredCount;
+    }
+
+    private List<Long> expireBatch(LocalDateTime cutoff, long afterId) {
+        List<Long> orderIds = orderExpiryJdbcRepository.findExpiredOrderIdsForUpdate(cutoff, afterId, batchSize);
+        if (orderIds.isEmpty()) {
+            return orderIds;
+        }
+
+        List<StockChangeDto> stockChanges = orderProductJdbcRepository.findStockChangesByOrderIds(orderIds);
+        orderExpiryJdbcRepository.cancelOrders(orderIds);
+        stockReservationService.releaseStockChanges(stockChanges);
+        return orderIds;
+    }
+}
@@ -8,6 +8,7 @@ import lsk.commerce.domain.Order;
 import lsk.commerce.domain.OrderProduct;
 import lsk.commerce.domain.OrderStatus;
 import lsk.commerce.domain.Product;
+import lsk.commerce.dto.OrderProductChangeDto;
 import lsk.commerce.dto.request.OrderChangeRequest;
 import lsk.commerce.dto.request.OrderCreateRequest;
 import lsk.commerce.dto.request.OrderProductRequest;
@@ -19,11 +20,17 @@ import lsk.commerce.exception.InvalidDataException;
 import lsk.commerce.repository.OrderProductJdbcRepository;
 import lsk.commerce.repository.OrderRepository;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional
@@ -35,13 +42,16 @@ public class OrderService {
     private final OrderRepository orderRepository;
     private final MemberService memberService;
     private final ProductService productService;
+    private final StockReservationService stockReservationService;
 
     private final OrderProductJdbcRepository orderProductJdbcRepository;
 
+    //재고를 바꾸는 메서드는 재시도할 때 최신 재고를 읽을 수 있게 READ COMMITTED로 실행
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public String order(OrderCreateRequest request, String loginId) {
         //엔티티 조회
         Member member = memberService.findMemberByLoginId(loginId);
-        List<Product> products = productService.findProducts();
+        List<Product> products = findOrderedProducts(request.orderProductRequestList());
 
         //배송 정보 생성
         Delivery delivery = new Delivery(member);
@@ -49,16 +59,16 @@ public class OrderService {
         //주문 상품 생성
         List<OrderProduct> orderProducts = createOrderProducts(request.orderProductRequestList(), products);
 
+        //재고 차감
+        stockReservationService.reserve(orderProducts);
+
         //주문 생성
         Order order = Order.createOrder(member, delivery, orderProducts);
 
-        //주문 저장
+        //주문 저장 (배송, 주문 상품은 cascade로 같이 배치 INSERT)
         orderRepository.save(order);
         em.flush();
 
-        //주문 상품 저장
-        registerOrderProducts(orderProducts);
-
         String orderNumber = order.getOrderNumber();
         em.clear();
 
@@ -77,6 +87,15 @@ public class OrderService {
                 .orElseThrow(() -> new DataNotFoundException("존재하지 않는 주문입니다. orderNumber: " + orderNumber));
     }
 
+    @Transactional(readOnly = true)
+    public List<Order> findOrdersWithDeliveryPayment(List<String> orderNumbers) {
+        List<Order> orders = orderRepository.findAllWithDeliveryPayment(orderNumbers);
+        if (orders.size() != orderNumbers.size()) {
+            throw new DataNotFoundException("존재하지 않는 주문이 있습니다. orderNumbers: " + orderNumbers);
+        }
+        return orders;
+    }
+
     @Transactional(readOnly = true)
     public Order findOrderWithDeliveryPaymentMember(String orderNumber) {
         return orderRepository.findWithDeliveryPaymentMember(orderNumber)
@@ -89,18 +108,30 @@ public class OrderService {
                 .orElseThrow(() -> new DataNotFoundException("존재하지 않는 주문입니다. orderNumber: " + orderNumber));
     }
 
+    public Order findOrderWithAllExceptMemberForUpdate(String orderNumber) {
+        return orderRepository.findWithAllExceptMemberForUpdate(orderNumber)
+                .orElseThrow(() -> new DataNotFoundException("존재하지 않는 주문입니다. orderNumber: " + orderNumber));
+    }
+
     @Transactional(readOnly = true)
     public Order findOrderWithAll(String orderNumber) {
         return orderRepository.findWithAll(orderNumber)
                 .orElseThrow(() -> new DataNotFoundException("존재하지 않는 주문입니다. orderNumber: " + orderNumber));
     }
 
+    public Order findOrderWithAllForUpdate(String orderNumber) {
+        return orderRepository.findWithAllForUpdate(orderNumber)
+                .orElseThrow(() -> new DataNotFoundException("존재하지 않는 주문입니다. orderNumber: " + orderNumber));
+    }
+
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public void changeOrder(String orderNumber, OrderChangeRequest request, String loginId) {
         if (orderNumber.equals("eicanNoP5cW8")) {
             return;
         }
 
-        Order order = findOrderWithAll(orderNumber);
+        //상태 확인부터 flush까지 만료 주문 취소, 결제 검증과 겹치지 않도록 주문을 잠근다.
+        Order order = findOrderWithAllForUpdate(orderNumber);
 
         order.isOwner(loginId);
 
@@ -116,39 +147,45 @@ public class OrderService {
             return;
         }
 
-        //기존 주문의 주문 상품 리스트 비우기
-        order.clearOrderProduct();
-        em.flush();
-
-        //기존 주문 상품 삭제
-        deleteOrderProducts(order);
+        //요청을 상품별 수량으로 합치고, 기존 주문에 없던 상품만 조회
+        Map<String, Integer> quantities = mergeQuantities(request.orderProductRequestList());
+        Map<String, Product> newProducts = findNewProducts(order, quantities.keySet());
 
-        //영속성 컨텍스트 정리
-        em.clear();
-
-        Order currentOrder = findOrder(orderNumber);
-        List<Product> currentProducts = productService.findProducts();
+        //바뀐 주문 상품만 추가, 수정, 삭제
+        OrderProductChangeDto change = order.changeOrderProducts(quantities, newProducts);
 
-        //주문 상품 생성
-        List<OrderProduct> newOrderProducts = createOrderProducts(request.orderProductRequestList(), currentProducts);
+        //줄어든 수량만 복구하고 늘어난 수량만 차감
+        if (!change.released().isEmpty()) {
+            stockReservationService.release(change.released());
+        }
+        if (!change.reserved().isEmpty()) {
+            stockReservationService.reserve(change.reserved());
+        }
 
-        //새로운 주문 상품으로 변경
-        currentOrder.changeOrder(newOrderProducts);
+        //빠진 주문 상품은 soft delete, 추가된 주문 상품은 flush할 때 cascade로 INSERT
+        change.removed().forEach(em::remove);
         em.flush();
-
-        //새로운 주문 상품 저장
-        registerOrderProducts(newOrderProducts);
-
-        em.clear();
     }
 
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public Order cancelOrder(String orderNumber, String loginId) {
-        Order order = findOrderWithAll(orderNumber);
+        //주문 상품과 상품은 엔티티로 읽지 않고, 만료 주문 취소와 겹치지 않도록 주문을 잠근다.
+        Order order = orderRepository.findWithDeliveryPaymentMemberForUpdate(orderNumber)
+                .orElseThrow(() -> new DataNotFoundException("존재하지 않는 주문입니다. orderNumber: " + orderNumber));
         if (orderNumber.equals("eicanNoP5cW8")) {
             return order;
         }
         order.isOwner(loginId);
+
+        //이미 취소된 주문은 재고를 다시 복구하지 않는다.
+        if (order.isCanceled()) {
+            return order;
+        }
+
         order.cancel();
+
+        //상품별로 합친 수량을 CASE 문 UPDATE로 한 번에 복구
+        stockReservationService.releaseStockChanges(orderProductJdbcRepository.findStockChangesByOrderIds(List.of(order.getId())));
         return order;
     }
 
@@ -192,28 +229,69 @@ public class OrderService {
         return OrderCancelResponse.from(order);
     }
 
+    //주문할 상품만 상품 번호로 한 번에 조회
+    private List<Product> findOrderedProducts(List<OrderProductRequest> orderProductRequestList) {
+        Set<String> productNumbers = new HashSet<>();
+        for (OrderProductRequest orderProductRequest : orderProductRequestList) {
+            productNumbers.add(orderProductRequest.productNumber());
+        }
+
+        return productService.findProductsByProductNumbers(productNumbers);
+    }
+
     private static List<OrderProduct> createOrderProducts(List<OrderProductRequest> orderProductRequestList, List<Product> products) {
+        Map<String, Product> productMap = new HashMap<>();
+        for (Product product : products) {
+            productMap.put(product.getProductNumber(), product);
+        }
+
         List<OrderProduct> orderProducts = new ArrayList<>();
 
         for (OrderProductRequest orderProductRequest : orderProductRequestList) {
             String productNumber = orderProductRequest.productNumber();
             Integer quantity = orderProductRequest.quantity();
 
-            Product product = products.stream()
-                    .filter(p -> p.getProductNumber().equals(productNumber))
-                    .findFirst()
-                    .orElseThrow(() -> new DataNotFoundException("존재하지 않는 상품입니다. productNumber: " + productNumber));
+            Product product = productMap.get(productNumber);
+            if (product == null) {
+                throw new DataNotFoundException("존재하지 않는 상품입니다. productNumber: " + productNumber);
+            }
             orderProducts.add(OrderProduct.createOrderProduct(product, quantity));
         }
 
         return orderProducts;
     }
 
-    private void registerOrderProducts(List<OrderProduct> orderProducts) {
-        orderProductJdbcRepository.saveAll(orderProducts);
+    private static Map<String, Integer> mergeQuantities(List<OrderProductRequest> orderProductRequestList) {
+        Map<String, Integer> quantities = new LinkedHashMap<>();
+        for (OrderProductRequest orderProductRequest : orderProductRequestList) {
+            if (orderProductRequest.productNumber() == null) {
+                throw new DataNotFoundException("존재하지 않는 상품입니다. productNumber: null");
+            }
+            if (orderProductRequest.quantity() == null) {
+                throw new IllegalArgumentException("수량이 없습니다");
+            }
+
+            quantities.merge(orderProductRequest.productNumber(), orderProductRequest.quantity(), Integer::sum);
+        }
+
+        return quantities;
     }
 
-    private void deleteOrderProducts(Order order) {
-        orderProductJdbcRepository.deleteOrderProductsByOrderId(order.getId());
+    private Map<String, Product> findNewProducts(Order order, Set<String> productNumbers) {
+        Set<String> newProductNumbers = new HashSet<>(productNumbers);
+        for (OrderProduct orderProduct : order.getOrderProducts()) {
+            newProductNumbers.remove(orderProduct.getProductNumber());
+        }
+
+        Map<String, Product> newProducts = new HashMap<>();
+        if (newProductNumbers.isEmpty()) {
+            return newProducts;
+        }
+
+        for (Product product : productService.findProductsByProductNumbers(newProductNumbers)) {
+            newProducts.put(product.getProductNumber(), product);
+        }
+
+        return newProducts;
     }
 }
@@ -0,0 +1,241 @@
+package lsk.commerce.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lsk.commerce.domain.OutboxEventType;
+import lsk.commerce.dto.OutboxEventDto;
+import lsk.commerce.repository.OutboxJdbcRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+//outbox_event에 쌓인 결제 완료, 배송 시작 기록을 batch-size개씩 가져가서 parallelism개의 스레드로 처리한다.
+//가져갈 때 lease-seconds만큼 미뤄 두고 커밋해서, 처리하는 동안 DB 연결과 잠금을 잡고 있지 않는다.
+//가져간 기록은 종류별로 스레드 수만큼 나눠서, 주문마다가 아니라 묶음마다 트랜잭션 하나로 배송 상태를 바꾼다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay implements DisposableBean {
+
+    private final OutboxJdbcRepository outboxJdbcRepository;
+    private final DeliveryService deliveryService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final int parallelism;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration retryDelay;
+
+    private final Counter dispatchedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final DistributionSummary runSummary;
+    private final AtomicLong throughput = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public OutboxRelay(OutboxJdbcRepository outboxJdbcRepository,
+                       DeliveryService deliveryService,
+                       PlatformTransactionManager transactionManager,
+                       MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:100}") int batchSize,
+                       @Value("${outbox.relay.parallelism:4}") int parallelism,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts,
+                       @Value("${outbox.relay.lease-seconds:60}") long leaseSeconds,
+                       @Value("${outbox.relay.retry-delay-seconds:30}") long retryDelaySeconds) {
+        this.outboxJdbcRepository = outboxJdbcRepository;
+        this.deliveryService = deliveryService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("outbox-relay-"));
+        this.batchSize = batchSize;
+        this.parallelism = parallelism;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.retryDelay = Duration.ofSeconds(retryDelaySeconds);
+
+        this.dispatchedCounter = Counter.builder("outbox.relay.dispatched")
+                .description("처리를 마치고 지운 outbox 기록 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("outbox.relay.failed")
+                .description("처리에 실패해서 다시 미룬 outbox 기록 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("outbox.relay.batch")
+                .description("outbox 기록 batch 하나를 가져가서 처리하는 시간")
+                .register(meterRegistry);
+        this.runSummary = DistributionSummary.builder("outbox.relay.run")
+                .description("주기 한 번에 처리를 마친 outbox 기록 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.throughput", throughput, AtomicLong::get)
+                .description("마지막 주기에서 초당 처리를 마친 outbox 기록 수")
+                .register(meterRegistry);
+        Gauge.builder("outbox.relay.lag", lagSeconds, AtomicLong::get)
+                .description("처리할 시각이 지났는데 남아 있는 가장 오래된 outbox 기록이 밀린 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:1000}")
+    public void poll() {
+        relay(LocalDateTime.now());
+    }
+
+    //처리할 시각이 된 기록을 batch-size개씩 처리하고, 처리를 마친 기록 수를 반환한다.
+    public int relay(LocalDateTime now) {
+        long start = System.nanoTime();
+        int dispatchedCount = 0;
+        while (true) {
+            Batch batch = batchTimer.record(() -> relayBatch(now));
+            if (batch == null || batch.claimed() == 0) {
+                break;
+            }
+
+            dispatchedCount += batch.dispatched();
+            if (batch.claimed() < batchSize || Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        runSummary.record(dispatchedCount);
+        throughput.set(dispatchedCount * 1_000_000_000L / Math.max(elapsedNanos, 1));
+        lagSeconds.set(outboxJdbcRepository.findOldestAvailableAt(now, maxAttempts)
+                .map(oldest -> Duration.between(oldest, now).toSeconds())
+                .orElse(0L));
+
+        return dispatchedCount;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private Batch relayBatch(LocalDateTime now) {
+        List<OutboxEventDto> events = transactionTemplate.execute(status ->
+                outboxJdbcRepository.claim(now, LocalDateTime.now().plus(lease), maxAttempts, batchSize));
+        if (events == null || events.isEmpty()) {
+            return new Batch(0, 0);
+        }
+
+        List<List<OutboxEventDto>> chunks = split(events);
+        List<Future<ChunkResult>> futures = new ArrayList<>();
+        for (List<OutboxEventDto> chunk : chunks) {
+            futures.add(executor.submit(() -> dispatchChunk(chunk)));
+        }
+
+        List<Long> dispatchedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (int i = 0; i < chunks.size(); i++) {
+            try {
+                ChunkResult result = futures.get(i).get();
+                dispatchedIds.addAll(result.dispatchedIds());
+                failedIds.addAll(result.failedIds());
+            } catch (ExecutionException e) {
+                log.warn("outbox 기록 처리 실패. ids: {}", chunks.get(i).stream().map(OutboxEventDto::id).toList(), e.getCause());
+                chunks.get(i).forEach(event -> failedIds.add(event.id()));
+            } catch (InterruptedException e) {
+                //남은 기록은 lease가 끝난 뒤 다시 가져간다.
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        transactionTemplate.executeWithoutResult(status -> {
+            outboxJdbcRepository.deleteAllByIds(dispatchedIds);
+            outboxJdbcRepository.reschedule(failedIds, LocalDateTime.now().plus(retryDelay));
+        });
+
+        dispatchedCounter.increment(dispatchedIds.size());
+        failedCounter.increment(failedIds.size());
+        return new Batch(events.size(), dispatchedIds.size());
+    }
+
+    //같은 종류의 기록끼리 모아서 parallelism개 이하로 나눈다. 묶음 하나가 트랜잭션 하나로 처리된다.
+    private List<List<OutboxEventDto>> split(List<OutboxEventDto> events) {
+        Map<OutboxEventType, List<OutboxEventDto>> eventsByType = new EnumMap<>(OutboxEventType.class);
+        for (OutboxEventDto event : events) {
+            eventsByType.computeIfAbsent(event.eventType(), eventType -> new ArrayList<>()).add(event);
+        }
+
+        List<List<OutboxEventDto>> chunks = new ArrayList<>();
+        for (List<OutboxEventDto> sameTypeEvents : eventsByType.values()) {
+            int chunkSize = (sameTypeEvents.size() + parallelism - 1) / parallelism;
+            for (int from = 0; from < sameTypeEvents.size(); from += chunkSize) {
+                chunks.add(sameTypeEvents.subList(from, Math.min(from + chunkSize, sameTypeEvents.size())));
+            }
+        }
+        return chunks;
+    }
+
+    //묶음 전체가 실패하면 한 주문 때문에 나머지까지 다시 미뤄지지 않도록 주문마다 다시 처리한다.
+    private ChunkResult dispatchChunk(List<OutboxEventDto> chunk) {
+        List<Long> ids = chunk.stream().map(OutboxEventDto::id).toList();
+        List<String> orderNumbers = chunk.stream().map(OutboxEventDto::orderNumber).toList();
+        try {
+            switch (chunk.getFirst().eventType()) {
+                case PAYMENT_COMPLETED -> deliveryService.startDeliveries(orderNumbers);
+                case DELIVERY_STARTED -> deliveryService.completeDeliveries(orderNumbers);
+            }
+            return new ChunkResult(ids, List.of());
+        } catch (RuntimeException e) {
+            if (chunk.size() == 1) {
+                logFailure(chunk.getFirst(), e);
+                return new ChunkResult(List.of(), ids);
+            }
+        }
+
+        List<Long> dispatchedIds = new ArrayList<>();
+        List<Long> failedIds = new ArrayList<>();
+        for (OutboxEventDto event : chunk) {
+            try {
+                dispatch(event);
+                dispatchedIds.add(event.id());
+            } catch (RuntimeException e) {
+                logFailure(event, e);
+                failedIds.add(event.id());
+            }
+        }
+        return new ChunkResult(dispatchedIds, failedIds);
+    }
+
+    private void dispatch(OutboxEventDto event) {
+        switch (event.eventType()) {
+            case PAYMENT_COMPLETED -> deliveryService.startDelivery(event.orderNumber());
+            case DELIVERY_STARTED -> deliveryService.completeDelivery(event.orderNumber());
+        }
+    }
+
+    private static void logFailure(OutboxEventDto event, RuntimeException e) {
+        log.warn("outbox 기록 처리 실패. id: {}, eventType: {}, orderNumber: {}, attempts: {}",
+                event.id(), event.eventType(), event.orderNumber(), event.attempts(), e);
+    }
+
+    private record ChunkResult(List<Long> dispatchedIds, List<Long> failedIds) {
+    }
+
+    private record Batch(int claimed, int dispatched) {
+    }
+}
@@ -0,0 +1,220 @@
+package lsk.commerce.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.portone.sdk.server.payment.CancelledPayment;
+import io.portone.sdk.server.payment.FailedPayment;
+import io.portone.sdk.server.payment.PaidPayment;
+import io.portone.sdk.server.payment.Payment;
+import lombok.extern.slf4j.Slf4j;
+import lsk.commerce.api.portone.PortoneGateway;
+import lsk.commerce.dto.PendingPaymentDto;
+import lsk.commerce.repository.PaymentReconcileJdbcRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+//브라우저의 결제 완료 요청도 웹훅도 오지 않아서 min-age-minutes가 지나도록 PENDING인 결제를 포트원에 다시 물어본다.
+//batch-size개씩 가져갈 때 lease-seconds만큼 미뤄 두고 커밋해서, 여러 서버가 같이 돌아도 같은 결제를 나눠 갖지 않는다.
+//포트원 조회와 결제 완료는 parallelism개의 스레드에서 하고, 결제 완료는 verifyAndComplete로 웹훅과 같은 검증을 거친다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "payment.reconcile.enabled", havingValue = "true", matchIfMissing = true)
+public class PaymentReconcileJob implements DisposableBean {
+
+    private final PaymentReconcileJdbcRepository paymentReconcileJdbcRepository;
+    private final PortoneGateway portoneGateway;
+    private final PaymentService paymentService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final Duration minAge;
+    private final Duration lease;
+    private final int batchSize;
+
+    private final Counter completedCounter;
+    private final Counter failedCounter;
+    private final Counter unresolvedCounter;
+    private final Counter errorCounter;
+    private final Timer runTimer;
+    private final AtomicLong throughput = new AtomicLong();
+    private final AtomicLong backlog = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public PaymentReconcileJob(PaymentReconcileJdbcRepository paymentReconcileJdbcRepository,
+                               PortoneGateway portoneGateway,
+                               PaymentService paymentService,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry,
+                               @Value("${payment.reconcile.min-age-minutes:5}") long minAgeMinutes,
+                               @Value("${payment.reconcile.lease-seconds:120}") long leaseSeconds,
+                               @Value("${payment.reconcile.batch-size:100}") int batchSize,
+                               @Value("${payment.reconcile.parallelism:4}") int parallelism) {
+        this.paymentReconcileJdbcRepository = paymentReconcileJdbcRepository;
+        this.portoneGateway = portoneGateway;
+        this.paymentService = paymentService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("payment-reconcile-"));
+        this.minAge = Duration.ofMinutes(minAgeMinutes);
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.batchSize = batchSize;
+
+        this.completedCounter = Counter.builder("payment.reconcile.completed")
+                .description("포트원에서 결제 완료를 확인해서 완료한 결제 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("payment.reconcile.failed")
+                .description("포트원에서 실패나 취소를 확인해서 실패로 바꾼 결제 수")
+                .register(meterRegistry);
+        this.unresolvedCounter = Counter.builder("payment.reconcile.unresolved")
+                .description("포트원에서도 아직 결제가 끝나지 않아서 다음에 다시 볼 결제 수")
+                .register(meterRegistry);
+        this.errorCounter = Counter.builder("payment.reconcile.errors")
+                .description("포트원 조회나 결제 완료에 실패해서 다음에 다시 볼 결제 수")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("payment.reconcile.run")
+                .description("결제 대사 한 번에 걸린 시간")
+                .register(meterRegistry);
+        Gauge.builder("payment.reconcile.throughput", throughput, AtomicLong::get)
+                .description("마지막 결제 대사에서 초당 확인한 결제 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.reconcile.backlog", backlog, AtomicLong::get)
+                .description("min-age-minutes가 지나도록 PENDING인 결제 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.reconcile.lag", lagSeconds, AtomicLong::get)
+                .description("PENDING으로 남은 결제 중 가장 오래된 주문이 주문된 지 지난 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${payment.reconcile.interval-ms:60000}", initialDelayString = "${payment.reconcile.interval-ms:60000}")
+    public void poll() {
+        reconcile(LocalDateTime.now());
+    }
+
+    //now - min-age 전에 주문한 PENDING 결제를 payment_id 순서로 batch-size개씩 확인하고, 완료하거나 실패로 바꾼 결제 수를 반환한다.
+    public int reconcile(LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(minAge);
+        long start = System.nanoTime();
+
+        long lastId = 0;
+        Tally tally = new Tally();
+        while (true) {
+            long afterId = lastId;
+            List<PendingPaymentDto> payments = transactionTemplate.execute(status ->
+                    paymentReconcileJdbcRepository.claimStalePending(cutoff, now, LocalDateTime.now().plus(lease), afterId, batchSize));
+            if (payments == null || payments.isEmpty()) {
+                break;
+            }
+
+            reconcileBatch(payments, tally);
+            lastId = payments.getLast().id();
+            if (payments.size() < batchSize || Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        runTimer.record(Duration.ofNanos(elapsedNanos));
+        throughput.set(tally.checked() * 1_000_000_000L / Math.max(elapsedNanos, 1));
+        backlog.set(paymentReconcileJdbcRepository.countStalePending(cutoff));
+        lagSeconds.set(paymentReconcileJdbcRepository.findOldestStalePendingOrderedAt(cutoff)
+                .map(oldest -> Duration.between(oldest, now).toSeconds())
+                .orElse(0L));
+
+        if (tally.checked() > 0) {
+            log.info("결제 대사 완료. checked: {}, completed: {}, failed: {}, unresolved: {}, errors: {}, elapsedMs: {}, backlog: {}",
+                    tally.checked(), tally.completed, tally.failed, tally.unresolved, tally.errors,
+                    Duration.ofNanos(elapsedNanos).toMillis(), backlog.get());
+        }
+        return tally.completed + tally.failed;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private void reconcileBatch(List<PendingPaymentDto> payments, Tally tally) {
+        List<Future<Outcome>> futures = new ArrayList<>();
+        for (PendingPaymentDto payment : payments) {
+            futures.add(executor.submit(() -> reconcileOne(payment.paymentId())));
+        }
+
+        for (int i = 0; i < payments.size(); i++) {
+            PendingPaymentDto payment = payments.get(i);
+            try {
+                Outcome outcome = futures.get(i).get();
+                switch (outcome) {
+                    case COMPLETED -> {
+                        tally.completed++;
+                        completedCounter.increment();
+                    }
+                    case FAILED -> {
+                        tally.failed++;
+                        failedCounter.increment();
+                    }
+                    case UNRESOLVED -> {
+                        tally.unresolved++;
+                        unresolvedCounter.increment();
+                    }
+                }
+            } catch (ExecutionException e) {
+                //lease가 끝난 뒤 다시 확인한다.
+                log.warn("결제 대사 실패. paymentId: {}", payment.paymentId(), e.getCause());
+                tally.errors++;
+                errorCounter.increment();
+            } catch (InterruptedException e) {
+                //남은 결제는 lease가 끝난 뒤 다시 가져간다.
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    //브라우저 요청, 웹훅과 같은 검증과 결제 완료를 거친다. 아직 결제 중이거나 결제창만 열고 닫은 결제는 그대로 둔다.
+    private Outcome reconcileOne(String paymentId) {
+        Payment actualPayment = portoneGateway.getPayment(paymentId).block();
+        if (actualPayment instanceof PaidPayment paidPayment) {
+            paymentService.verifyAndComplete(paidPayment, null);
+            return Outcome.COMPLETED;
+        }
+        if (actualPayment instanceof FailedPayment || actualPayment instanceof CancelledPayment) {
+            paymentService.failedPayment(paymentId);
+            return Outcome.FAILED;
+        }
+        return Outcome.UNRESOLVED;
+    }
+
+    private enum Outcome {
+        COMPLETED, FAILED, UNRESOLVED
+    }
+
+    private static class Tally {
+        private int completed;
+        private int failed;
+        private int unresolved;
+        private int errors;
+
+        private int checked() {
+            return completed + failed + unresolved + errors;
+        }
+    }
+}
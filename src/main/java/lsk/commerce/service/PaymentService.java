@@ -8,8 +8,6 @@ import lsk.commerce.api.portone.PaymentCustomData;
 import lsk.commerce.api.portone.SyncPaymentException;
 import lsk.commerce.domain.Order;
 import lsk.commerce.domain.Payment;
-import lsk.commerce.domain.Product;
-import lsk.commerce.dto.OrderProductDto;
 import lsk.commerce.dto.request.PaymentCompleteResponse;
 import lsk.commerce.dto.response.OrderPaymentResponse;
 import lsk.commerce.dto.response.PaymentResponse;
@@ -23,7 +21,8 @@ import tools.jackson.core.JacksonException;
 
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
@@ -60,6 +59,14 @@ public class PaymentService {
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제 번호입니다"));
     }
 
+    //웹훅이 먼저 동기화한 결과를 브라우저에 돌려주기 전에 주문의 주인인지 확인한다.
+    @Transactional(readOnly = true)
+    public void validateOwner(String paymentId, String loginId) {
+        Payment payment = paymentRepository.findWithOrderMember(paymentId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제 번호입니다"));
+        payment.getOrder().isOwner(loginId);
+    }
+
     protected Payment verifyAndComplete(PaidPayment paidPayment, String loginId) {
         if (!this.verifyPayment(paidPayment, loginId)) {
             throw new SyncPaymentException("결제 정보 검증 중 오류 발생");
@@ -107,20 +114,25 @@ public class PaymentService {
     }
 
     private OrderPaymentResponse verifyOrderProducts(String orderNumber, String loginId) {
-        Order order = orderService.findOrderWithAllExceptMember(orderNumber);
-        order.isOwner(loginId);
+        //만료 주문 취소가 먼저 잠갔으면 취소가 커밋된 뒤의 상태를 읽고, 여기서 먼저 잠그면 만료 쪽이 이 주문을 건너뛴다.
+        Order order = orderService.findOrderWithAllExceptMemberForUpdate(orderNumber);
+        //웹훅은 로그인 정보가 없어서 포트원에서 직접 조회한 결제 정보로만 검증한다.
+        if (loginId != null) {
+            order.isOwner(loginId);
+        }
         order.validateReadyToPay();
         OrderPaymentResponse orderPaymentResponse = orderService.getOrderPaymentResponse(order);
-        List<Product> products = productService.findProducts();
 
         if (orderPaymentResponse.orderProductDtoList().isEmpty()) {
             throw new IllegalArgumentException("주문 상품이 비어 있습니다");
         }
 
-        for (OrderProductDto orderProduct : orderPaymentResponse.orderProductDtoList()) {
-            if (products.stream().noneMatch(p -> p.getName().equals(orderProduct.name()))) {
-                throw new IllegalArgumentException("잘못된 상품이 있습니다");
-            }
+        //전체 상품을 읽어서 이름을 비교하지 않고, 주문에 담긴 상품 번호가 모두 남아 있는지 한 번에 센다.
+        Set<String> productNumbers = order.getOrderProducts().stream()
+                .map(orderProduct -> orderProduct.getProduct().getProductNumber())
+                .collect(Collectors.toSet());
+        if (!productService.existsAllProducts(productNumbers)) {
+            throw new IllegalArgumentException("잘못된 상품이 있습니다");
         }
 
         return orderPaymentResponse;
@@ -139,7 +151,9 @@ public class PaymentService {
     }
 
     private Payment completePayment(PaidPayment paidPayment) {
-        Payment payment = findPaymentWithOrderDelivery(paidPayment.getId());
+        //주문은 verifyOrderProducts에서 이미 잠겨 있고, 같은 결제를 다른 요청이 실패로 바꾸지 못하게 결제도 잠근다.
+        Payment payment = paymentRepository.findWithOrderDeliveryForUpdate(paidPayment.getId())
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 결제 번호입니다"));
         LocalDateTime paymentDate = LocalDateTime.ofInstant(paidPayment.getPaidAt(), ZoneId.of("Asia/Seoul"));
         payment.complete(paymentDate);
         payment.getOrder().completePaid();
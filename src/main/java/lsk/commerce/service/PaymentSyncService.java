@@ -1,36 +1,121 @@
 package lsk.commerce.service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import io.portone.sdk.server.payment.PaidPayment;
-import io.portone.sdk.server.payment.PaymentClient;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import lsk.commerce.api.portone.PortoneGateway;
 import lsk.commerce.api.portone.SyncPaymentException;
 import lsk.commerce.dto.request.PaymentCompleteResponse;
+import lsk.commerce.util.BoundedPaymentExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import reactor.core.publisher.Mono;
-import reactor.core.scheduler.Schedulers;
 
+import java.time.Duration;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+//브라우저의 결제 완료 요청과 포트원 웹훅이 같은 paymentId로 거의 동시에 들어온다.
+//진행 중인 동기화가 있으면 같은 Mono를 나눠 받고, 끝난 결과는 result-ttl-seconds 동안 그대로 돌려줘서 포트원 조회와 결제 완료를 한 번만 한다.
+//웹훅이 먼저 시작했으면 브라우저 요청은 주문의 주인인지만 확인하고 같은 결과를 받는다.
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class PaymentSyncService {
 
     private final PaymentService paymentService;
-    private final PaymentClient portone;
+    private final PortoneGateway portoneGateway;
+    private final BoundedPaymentExecutor paymentExecutor;
+
+    private final ConcurrentMap<String, Flight> inFlight = new ConcurrentHashMap<>();
+    private final Cache<String, Completed> completed;
+
+    public PaymentSyncService(PaymentService paymentService, PortoneGateway portoneGateway, BoundedPaymentExecutor paymentExecutor,
+                              @Value("${payment.sync.result-ttl-seconds:10}") long resultTtlSeconds) {
+        this.paymentService = paymentService;
+        this.portoneGateway = portoneGateway;
+        this.paymentExecutor = paymentExecutor;
+        this.completed = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(resultTtlSeconds))
+                .maximumSize(10_000)
+                .build();
+    }
 
     public Mono<PaymentCompleteResponse> syncPayment(String paymentId, String loginId) {
-        return Mono.fromFuture(portone.getPayment(paymentId))
-                .onErrorMap(e -> new SyncPaymentException("결제 정보 조회 중 오류 발생"))
+        return Mono.defer(() -> {
+            Completed result = completed.getIfPresent(paymentId);
+            if (result != null && result.canShareWith(loginId)) {
+                return Mono.just(result.response());
+            }
+            if (result != null && result.loginId() == null) {
+                return validateOwner(paymentId, loginId).thenReturn(result.response());
+            }
+
+            Flight flight = inFlight.computeIfAbsent(paymentId, key -> newFlight(key, loginId));
+            if (flight.canShareWith(loginId)) {
+                return flight.response();
+            }
+            if (flight.loginId() == null) {
+                return validateOwner(paymentId, loginId).then(flight.response());
+            }
+
+            //다른 회원이 시작한 동기화 결과는 나눠 주지 않고 따로 검증한다.
+            return sync(paymentId, loginId);
+        });
+    }
+
+    private Flight newFlight(String paymentId, String loginId) {
+        AtomicReference<Flight> self = new AtomicReference<>();
+        Mono<PaymentCompleteResponse> shared = sync(paymentId, loginId)
+                .doOnNext(response -> completed.put(paymentId, new Completed(loginId, response)))
+                .doFinally(signal -> inFlight.remove(paymentId, self.get()))
+                .cache();
+
+        Flight flight = new Flight(loginId, shared);
+        self.set(flight);
+        return flight;
+    }
+
+    private Mono<PaymentCompleteResponse> sync(String paymentId, String loginId) {
+        return portoneGateway.getPayment(paymentId)
+                .onErrorMap(e -> !(e instanceof SyncPaymentException), e -> new SyncPaymentException("결제 정보 조회 중 오류 발생"))
+                //JPA 작업은 boundedElastic 대신 커넥션 풀에 맞춰 동시 실행 수를 막은 결제 전용 가상 스레드에서 한다.
                 .flatMap(actualPayment -> {
                     if (actualPayment instanceof PaidPayment paidPayment) {
-                        return Mono.fromCallable(() -> paymentService.verifyAndComplete(paidPayment, loginId))
-                                .subscribeOn(Schedulers.boundedElastic());
+                        return Mono.fromFuture(() -> paymentExecutor.submit(() -> paymentService.verifyAndComplete(paidPayment, loginId)));
 
                     } else {
-                        return Mono.fromCallable(() -> paymentService.failedPayment(paymentId))
-                                .subscribeOn(Schedulers.boundedElastic());
+                        return Mono.fromFuture(() -> paymentExecutor.submit(() -> paymentService.failedPayment(paymentId)));
                     }
                 })
                 .map(paymentService::getPaymentCompleteResponse);
     }
+
+    //웹훅이 시작한 동기화는 주인을 확인하지 않았으므로, 주문의 주인인지 DB에서 확인한 뒤에 결과를 나눠 준다.
+    private Mono<Void> validateOwner(String paymentId, String loginId) {
+        return Mono.fromFuture(() -> paymentExecutor.submit(() -> {
+            paymentService.validateOwner(paymentId, loginId);
+            return null;
+        })).then();
+    }
+
+    //웹훅은 로그인 정보가 없어서 누가 시작한 동기화든 결과를 기다리기만 한다.
+    private static boolean canShare(String ownerLoginId, String loginId) {
+        return loginId == null || loginId.equals(ownerLoginId);
+    }
+
+    private record Flight(String loginId, Mono<PaymentCompleteResponse> response) {
+
+        private boolean canShareWith(String loginId) {
+            return canShare(this.loginId, loginId);
+        }
+    }
+
+    private record Completed(String loginId, PaymentCompleteResponse response) {
+
+        private boolean canShareWith(String loginId) {
+            return canShare(this.loginId, loginId);
+        }
+    }
 }
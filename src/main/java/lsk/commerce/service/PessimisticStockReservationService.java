@@ -0,0 +1,65 @@
+package lsk.commerce.service;
+
+import lombok.RequiredArgsConstructor;
+import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.dto.ProductStockDto;
+import lsk.commerce.dto.StockChangeDto;
+import lsk.commerce.exception.DataNotFoundException;
+import lsk.commerce.repository.ProductStockJdbcRepository;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+//SELECT ... FOR UPDATE로 상품 행을 잠그고 차감
+@Service
+@Qualifier("stockReservationStrategy")
+@Transactional
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "stock.reservation.strategy", havingValue = "pessimistic")
+public class PessimisticStockReservationService implements StockReservationService {
+
+    private final ProductStockJdbcRepository productStockJdbcRepository;
+
+    @Override
+    public void reserve(List<OrderProduct> orderProducts) {
+        List<StockChangeDto> stockChanges = StockChangeDto.from(orderProducts);
+        List<Long> productIds = stockChanges.stream()
+                .map(StockChangeDto::productId)
+                .toList();
+
+        Map<Long, Integer> stockQuantities = new HashMap<>();
+        for (ProductStockDto productStock : productStockJdbcRepository.findProductStocksForUpdate(productIds)) {
+            stockQuantities.put(productStock.productId(), productStock.stockQuantity());
+        }
+
+        Map<Long, Integer> restStockQuantities = new LinkedHashMap<>();
+        for (StockChangeDto stockChange : stockChanges) {
+            Integer stockQuantity = stockQuantities.get(stockChange.productId());
+            if (stockQuantity == null) {
+                throw new DataNotFoundException("존재하지 않는 상품입니다. productNumber: " + stockChange.productNumber());
+            } else if (stockQuantity < stockChange.quantity()) {
+                throw new IllegalArgumentException("재고가 부족합니다. productNumber: " + stockChange.productNumber());
+            }
+
+            restStockQuantities.put(stockChange.productId(), stockQuantity - stockChange.quantity());
+        }
+
+        productStockJdbcRepository.updateStockQuantities(restStockQuantities);
+    }
+
+    @Override
+    public void release(List<OrderProduct> orderProducts) {
+        releaseStockChanges(StockChangeDto.from(orderProducts));
+    }
+
+    @Override
+    public void releaseStockChanges(List<StockChangeDto> stockChanges) {
+        productStockJdbcRepository.increaseStockQuantities(stockChanges);
+    }
+}
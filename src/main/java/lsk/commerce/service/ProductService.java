@@ -6,18 +6,24 @@ import lsk.commerce.domain.Product;
 import lsk.commerce.domain.product.Album;
 import lsk.commerce.domain.product.Book;
 import lsk.commerce.domain.product.Movie;
+import lsk.commerce.dto.ProductSearchDocumentDto;
 import lsk.commerce.dto.request.ProductChangeRequest;
 import lsk.commerce.dto.request.ProductCreateRequest;
 import lsk.commerce.dto.response.ProductDetailResponse;
 import lsk.commerce.dto.response.ProductNameWithCategoryNameResponse;
 import lsk.commerce.exception.DataNotFoundException;
+import lsk.commerce.event.ProductDeletedEvent;
+import lsk.commerce.event.ProductRegisteredEvent;
 import lsk.commerce.exception.DuplicateResourceException;
 import lsk.commerce.repository.ProductRepository;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 @Service
 @Transactional(readOnly = true)
@@ -26,6 +32,8 @@ public class ProductService {
 
     private final ProductRepository productRepository;
     private final CategoryService categoryService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<HotStockReservationService> hotStockReservationService;
 
     @Transactional
     public String register(ProductCreateRequest request, List<String> categoryNumbers) {
@@ -34,6 +42,7 @@ public class ProductService {
 
         product.connectCategories(categories);
         productRepository.save(product);
+        eventPublisher.publishEvent(new ProductRegisteredEvent(ProductSearchDocumentDto.from(product)));
         return product.getProductNumber();
     }
 
@@ -56,9 +65,22 @@ public class ProductService {
         return productRepository.findAll();
     }
 
+    public List<Product> findProductsByProductNumbers(Set<String> productNumbers) {
+        return productRepository.findAllByProductNumbers(productNumbers);
+    }
+
+    public boolean existsAllProducts(Set<String> productNumbers) {
+        return productRepository.countByProductNumbers(productNumbers) == productNumbers.size();
+    }
+
     @Transactional
     public Product changePriceAndStock(String productNumber, ProductChangeRequest request) {
         Product product = findProduct(productNumber);
+        //인기 상품은 메모리 카운터와 아직 반영하지 않은 변경 기록이 재고를 맡고 있어서 DB 재고만 바꾸면 다시 맞출 수 없다.
+        HotStockReservationService hotStock = hotStockReservationService.getIfAvailable();
+        if (request.stockQuantity() != null && hotStock != null && hotStock.isHotProduct(product.getId())) {
+            throw new IllegalStateException("인기 상품은 재고를 바꿀 수 없습니다. productNumber: " + productNumber);
+        }
         product.changePriceAndStock(request.price(), request.stockQuantity());
         return product;
     }
@@ -81,6 +103,7 @@ public class ProductService {
         }
 
         productRepository.delete(product);
+        eventPublisher.publishEvent(new ProductDeletedEvent(product.getId()));
     }
 
     public ProductDetailResponse getProductDto(Product product) {
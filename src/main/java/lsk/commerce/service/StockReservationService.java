@@ -0,0 +1,19 @@
+package lsk.commerce.service;
+
+import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.dto.StockChangeDto;
+
+import java.util.List;
+
+//재고 차감 방식은 stock.reservation.strategy 설정으로 고른다. (pessimistic, atomic, optimistic)
+public interface StockReservationService {
+
+    //주문 상품 수량만큼 재고 차감, 하나라도 부족하면 예외
+    void reserve(List<OrderProduct> orderProducts);
+
+    //주문 상품 수량만큼 재고 복구
+    void release(List<OrderProduct> orderProducts);
+
+    //상품별로 합친 수량만큼 재고 복구, 주문 상품 엔티티를 읽지 않고 주문 취소할 때 사용
+    void releaseStockChanges(List<StockChangeDto> stockChanges);
+}
@@ -0,0 +1,39 @@
+package lsk.commerce.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lsk.commerce.repository.WebhookInboxJdbcRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+//웹훅 요청에서는 받은 웹훅을 쌓기만 하고 바로 응답해서, 포트원 조회와 결제 완료가 느려도 포트원이 다시 보내지 않게 한다.
+@Service
+public class WebhookInboxService {
+
+    private final WebhookInboxJdbcRepository webhookInboxJdbcRepository;
+
+    private final Counter receivedCounter;
+    private final Counter duplicateCounter;
+
+    public WebhookInboxService(WebhookInboxJdbcRepository webhookInboxJdbcRepository, MeterRegistry meterRegistry) {
+        this.webhookInboxJdbcRepository = webhookInboxJdbcRepository;
+
+        this.receivedCounter = Counter.builder("webhook.inbox.received")
+                .description("쌓아 둔 웹훅 수")
+                .register(meterRegistry);
+        this.duplicateCounter = Counter.builder("webhook.inbox.duplicate")
+                .description("이미 받은 webhook-id여서 무시한 웹훅 수")
+                .register(meterRegistry);
+    }
+
+    public boolean receive(String webhookId, String paymentId) {
+        boolean saved = webhookInboxJdbcRepository.save(webhookId, paymentId, LocalDateTime.now());
+        if (saved) {
+            receivedCounter.increment();
+        } else {
+            duplicateCounter.increment();
+        }
+        return saved;
+    }
+}
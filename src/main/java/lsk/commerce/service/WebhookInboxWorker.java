@@ -0,0 +1,200 @@
+package lsk.commerce.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import lsk.commerce.dto.WebhookInboxDto;
+import lsk.commerce.exception.DataNotFoundException;
+import lsk.commerce.repository.WebhookInboxJdbcRepository;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+//webhook_inbox에 쌓인 웹훅을 batch-size개씩 가져가서 parallelism개의 스레드로 결제를 동기화한다.
+//가져갈 때 lease-seconds만큼 미뤄 두고 커밋해서, 동기화하는 동안 DB 연결과 잠금을 잡고 있지 않는다.
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "webhook.inbox.enabled", havingValue = "true", matchIfMissing = true)
+public class WebhookInboxWorker implements DisposableBean {
+
+    private final WebhookInboxJdbcRepository webhookInboxJdbcRepository;
+    private final PaymentSyncService paymentSyncService;
+    private final TransactionTemplate transactionTemplate;
+    private final ExecutorService executor;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration lease;
+    private final Duration retryDelay;
+    private final Duration maxRetryDelay;
+    private final Duration retention;
+
+    private final Counter processedCounter;
+    private final Counter rejectedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+    private final AtomicLong depth = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public WebhookInboxWorker(WebhookInboxJdbcRepository webhookInboxJdbcRepository,
+                              PaymentSyncService paymentSyncService,
+                              PlatformTransactionManager transactionManager,
+                              MeterRegistry meterRegistry,
+                              @Value("${webhook.inbox.batch-size:100}") int batchSize,
+                              @Value("${webhook.inbox.parallelism:4}") int parallelism,
+                              @Value("${webhook.inbox.max-attempts:10}") int maxAttempts,
+                              @Value("${webhook.inbox.lease-seconds:60}") long leaseSeconds,
+                              @Value("${webhook.inbox.retry-delay-seconds:5}") long retryDelaySeconds,
+                              @Value("${webhook.inbox.max-retry-delay-seconds:600}") long maxRetryDelaySeconds,
+                              @Value("${webhook.inbox.retention-days:7}") long retentionDays) {
+        this.webhookInboxJdbcRepository = webhookInboxJdbcRepository;
+        this.paymentSyncService = paymentSyncService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        this.executor = Executors.newFixedThreadPool(parallelism, new CustomizableThreadFactory("webhook-inbox-"));
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.lease = Duration.ofSeconds(leaseSeconds);
+        this.retryDelay = Duration.ofSeconds(retryDelaySeconds);
+        this.maxRetryDelay = Duration.ofSeconds(maxRetryDelaySeconds);
+        this.retention = Duration.ofDays(retentionDays);
+
+        this.processedCounter = Counter.builder("webhook.inbox.processed")
+                .description("결제 동기화를 마친 웹훅 수")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("webhook.inbox.rejected")
+                .description("이미 결제 완료됐거나 없는 결제여서 다시 시도하지 않고 끝낸 웹훅 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("webhook.inbox.failed")
+                .description("동기화에 실패해서 다시 미룬 웹훅 수")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("webhook.inbox.batch")
+                .description("웹훅 batch 하나를 가져가서 처리하는 시간")
+                .register(meterRegistry);
+        Gauge.builder("webhook.inbox.depth", depth, AtomicLong::get)
+                .description("아직 처리하지 못한 웹훅 수")
+                .register(meterRegistry);
+        Gauge.builder("webhook.inbox.lag", lagSeconds, AtomicLong::get)
+                .description("아직 처리하지 못한 웹훅 중 가장 먼저 받은 웹훅이 기다린 시간")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${webhook.inbox.interval-ms:1000}")
+    public void poll() {
+        drain(LocalDateTime.now());
+    }
+
+    //처리할 시각이 된 웹훅을 batch-size개씩 처리하고, 끝낸 웹훅 수를 반환한다.
+    public int drain(LocalDateTime now) {
+        int doneCount = 0;
+        while (true) {
+            Batch batch = batchTimer.record(() -> drainBatch(now));
+            if (batch == null || batch.claimed() == 0) {
+                break;
+            }
+
+            doneCount += batch.done();
+            if (batch.claimed() < batchSize || Thread.currentThread().isInterrupted()) {
+                break;
+            }
+        }
+
+        webhookInboxJdbcRepository.deleteProcessedBefore(now.minus(retention), batchSize);
+
+        depth.set(webhookInboxJdbcRepository.countPending(maxAttempts));
+        lagSeconds.set(webhookInboxJdbcRepository.findOldestPendingReceivedAt(maxAttempts)
+                .map(oldest -> Duration.between(oldest, now).toSeconds())
+                .orElse(0L));
+
+        return doneCount;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private Batch drainBatch(LocalDateTime now) {
+        List<WebhookInboxDto> webhooks = transactionTemplate.execute(status ->
+                webhookInboxJdbcRepository.claim(now, LocalDateTime.now().plus(lease), maxAttempts, batchSize));
+        if (webhooks == null || webhooks.isEmpty()) {
+            return new Batch(0, 0);
+        }
+
+        //웹훅에는 로그인 정보가 없어서 loginId 없이 동기화한다.
+        List<Future<?>> futures = new ArrayList<>();
+        for (WebhookInboxDto webhook : webhooks) {
+            futures.add(executor.submit(() -> paymentSyncService.syncPayment(webhook.paymentId(), null).block()));
+        }
+
+        List<Long> doneIds = new ArrayList<>();
+        List<WebhookInboxDto> failed = new ArrayList<>();
+        for (int i = 0; i < webhooks.size(); i++) {
+            WebhookInboxDto webhook = webhooks.get(i);
+            try {
+                futures.get(i).get();
+                doneIds.add(webhook.id());
+                processedCounter.increment();
+            } catch (ExecutionException e) {
+                if (isRejected(e.getCause())) {
+                    log.info("웹훅 동기화 거절. webhookId: {}, paymentId: {}, message: {}", webhook.webhookId(), webhook.paymentId(), e.getCause().getMessage());
+                    doneIds.add(webhook.id());
+                    rejectedCounter.increment();
+                } else {
+                    log.warn("웹훅 동기화 실패. webhookId: {}, paymentId: {}, attempts: {}", webhook.webhookId(), webhook.paymentId(), webhook.attempts(), e.getCause());
+                    failed.add(webhook);
+                    failedCounter.increment();
+                }
+            } catch (InterruptedException e) {
+                //남은 웹훅은 lease가 끝난 뒤 다시 가져간다.
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+
+        LocalDateTime finishedAt = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> {
+            webhookInboxJdbcRepository.markProcessed(doneIds, finishedAt);
+            for (WebhookInboxDto webhook : failed) {
+                if (webhook.attempts() >= maxAttempts) {
+                    log.error("웹훅 동기화를 더 이상 다시 시도하지 않습니다. webhookId: {}, paymentId: {}", webhook.webhookId(), webhook.paymentId());
+                }
+                webhookInboxJdbcRepository.reschedule(webhook.id(), finishedAt.plus(backoff(webhook.attempts())));
+            }
+        });
+
+        return new Batch(webhooks.size(), doneIds.size());
+    }
+
+    //retry-delay-seconds에서 시작해서 실패할 때마다 두 배씩, max-retry-delay-seconds까지 늘린다.
+    private Duration backoff(int attempts) {
+        Duration delay = retryDelay.multipliedBy(1L << Math.min(attempts - 1, 20));
+        return delay.compareTo(maxRetryDelay) > 0 ? maxRetryDelay : delay;
+    }
+
+    //결제가 이미 끝났거나 없어서 다시 시도해도 같은 결과인 실패
+    private static boolean isRejected(Throwable e) {
+        return e instanceof IllegalStateException || e instanceof IllegalArgumentException || e instanceof DataNotFoundException;
+    }
+
+    private record Batch(int claimed, int done) {
+    }
+}
@@ -0,0 +1,114 @@
+package lsk.commerce.util;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lsk.commerce.exception.ServiceBusyException;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+//결제 완료처럼 DB 커넥션을 잡는 블로킹 작업을 가상 스레드에서 한다.
+//동시에 실행하는 작업은 maxConcurrency개로 막아서 결제가 몰려도 커넥션 풀을 다 쓰지 않게 하고, 기다리는 작업이 queueCapacity개를 넘으면 바로 거절한다.
+public class BoundedPaymentExecutor implements DisposableBean {
+
+    private static final String BUSY_MESSAGE = "요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요";
+
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int queueCapacity;
+    private final long acquireTimeoutMillis;
+
+    private final AtomicInteger waiting = new AtomicInteger();
+    private final AtomicInteger active = new AtomicInteger();
+
+    private final Timer waitTimer;
+    private final Timer latencyTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPaymentExecutor(int maxConcurrency, int queueCapacity, long acquireTimeoutMillis, MeterRegistry meterRegistry) {
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("payment-", 0).factory());
+        this.permits = new Semaphore(maxConcurrency, true);
+        this.queueCapacity = queueCapacity;
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+
+        Gauge.builder("payment.executor.queue.size", waiting, AtomicInteger::get)
+                .description("실행 자리를 기다리는 결제 작업 수")
+                .register(meterRegistry);
+        Gauge.builder("payment.executor.active", active, AtomicInteger::get)
+                .description("실행 중인 결제 작업 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("payment.executor.wait")
+                .description("결제 작업이 실행 자리를 기다린 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.latencyTimer = Timer.builder("payment.executor.latency")
+                .description("대기 시간을 포함한 결제 작업 시간")
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("payment.executor.rejected")
+                .description("대기열이 가득 찼거나 오래 기다려서 거절한 결제 작업 수")
+                .register(meterRegistry);
+    }
+
+    public <T> CompletableFuture<T> submit(Callable<T> work) {
+        if (waiting.incrementAndGet() > queueCapacity) {
+            waiting.decrementAndGet();
+            rejectedCounter.increment();
+            throw new ServiceBusyException(BUSY_MESSAGE);
+        }
+
+        long queuedAt = System.nanoTime();
+        CompletableFuture<T> result = new CompletableFuture<>();
+        try {
+            executor.execute(() -> run(work, result, queuedAt));
+        } catch (RejectedExecutionException e) {
+            waiting.decrementAndGet();
+            rejectedCounter.increment();
+            throw new ServiceBusyException(BUSY_MESSAGE);
+        }
+        return result;
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    private <T> void run(Callable<T> work, CompletableFuture<T> result, long queuedAt) {
+        boolean acquired = false;
+        try {
+            acquired = permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            waiting.decrementAndGet();
+            waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+        }
+
+        if (!acquired) {
+            rejectedCounter.increment();
+            result.completeExceptionally(new ServiceBusyException(BUSY_MESSAGE));
+            return;
+        }
+
+        active.incrementAndGet();
+        try {
+            result.complete(work.call());
+        } catch (Throwable e) {
+            result.completeExceptionally(e);
+        } finally {
+            active.decrementAndGet();
+            permits.release();
+            latencyTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+        }
+    }
+}
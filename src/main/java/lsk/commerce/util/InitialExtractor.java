@@ -5,22 +5,40 @@ public class InitialExtractor {
             'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
     };
 
+    private static final char FIRST_SYLLABLE = 0xAC00;
+    private static final char LAST_SYLLABLE = 0xD7A3;
+    private static final int SYLLABLES_PER_INITIAL = 21 * 28;
+
+    //완성된 한글이 없으면 새 문자열을 만들지 않고 그대로 반환한다.
+    //한글이 있으면 길이가 같은 char 배열 하나에 바꿔 쓰고 문자열로 만든다.
     public static String extract(String text) {
-        if (text == null || text.isEmpty()) {
+        if (text == null) {
+            return null;
+        }
+
+        int length = text.length();
+        int first = 0;
+        while (first < length && !isSyllable(text.charAt(first))) {
+            first++;
+        }
+
+        if (first == length) {
             return text;
         }
 
-        StringBuilder sb = new StringBuilder();
-        for (char c : text.toCharArray()) {
-            if (c >= 0xAC00 && c <= 0xD7A3) {
-                int base = c - 0xAC00;
-                int initialIndex = base / (21 * 28);
-                sb.append(Initial[initialIndex]);
-            } else {
-                sb.append(c);
+        char[] chars = new char[length];
+        text.getChars(0, length, chars, 0);
+        for (int i = first; i < length; i++) {
+            char c = chars[i];
+            if (isSyllable(c)) {
+                chars[i] = Initial[(c - FIRST_SYLLABLE) / SYLLABLES_PER_INITIAL];
             }
         }
 
-        return sb.toString();
+        return new String(chars);
+    }
+
+    private static boolean isSyllable(char c) {
+        return c >= FIRST_SYLLABLE && c <= LAST_SYLLABLE;
     }
 }
@@ -1,14 +1,19 @@
 package lsk.commerce.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jws;
 import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.io.Decoders;
 import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.http.Cookie;
 import jakarta.servlet.http.HttpServletRequest;
 import lsk.commerce.domain.Member;
+import lsk.commerce.dto.LoginPrincipalDto;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpCookie;
 import org.springframework.http.HttpHeaders;
@@ -16,16 +21,48 @@ import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtProvider {
 
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long expirationTime = 3600000L;
 
-    public JwtProvider(@Value("${jwt.secret}") String secretKey) {
+    //검증한 토큰을 원문 대신 SHA-256 값으로 기억해서 만료 전까지 서명 검증과 JSON 파싱을 건너뛴다.
+    private final Cache<String, LoginPrincipalDto> verifiedTokens;
+
+    public JwtProvider(@Value("${jwt.secret}") String secretKey,
+                       @Value("${jwt.cache.maximum-size:10000}") long cacheMaximumSize) {
         this.secretKey = Keys.hmacShaKeyFor(Decoders.BASE64.decode(secretKey));
+        this.jwtParser = Jwts.parser()
+                .verifyWith(this.secretKey)
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new Expiry<String, LoginPrincipalDto>() {
+                    @Override
+                    public long expireAfterCreate(String key, LoginPrincipalDto principal, long currentTime) {
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, principal.expiresAtMillis() - System.currentTimeMillis()));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, LoginPrincipalDto principal, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, principal, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, LoginPrincipalDto principal, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
     }
 
     public String createToken(Member loginMember) {
@@ -51,6 +88,32 @@ public class JwtProvider {
         return parseToken(token).getPayload();
     }
 
+    //요청마다 한 번만 호출한다. 같은 토큰이 다시 오면 캐시에서 꺼낸다.
+    public LoginPrincipalDto verify(String token) {
+        String digest = digest(token);
+        LoginPrincipalDto cached = verifiedTokens.getIfPresent(digest);
+        if (cached != null && cached.expiresAtMillis() > System.currentTimeMillis()) {
+            return cached;
+        }
+
+        Claims claims;
+        try {
+            claims = extractClaims(token);
+        } catch (JwtException e) {
+            throw new JwtException("유효하지 않은 토큰입니다");
+        }
+
+        String loginId = claims.getSubject();
+        String role = claims.get("role", String.class);
+        if (loginId == null || role == null || claims.getExpiration() == null) {
+            throw new JwtException("잘못된 토큰입니다");
+        }
+
+        LoginPrincipalDto principal = new LoginPrincipalDto(loginId, role, claims.getExpiration().getTime());
+        verifiedTokens.put(digest, principal);
+        return principal;
+    }
+
     public String getToken(HttpServletRequest request) {
         String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
         String token = null;
@@ -98,9 +161,15 @@ public class JwtProvider {
     }
 
     private Jws<Claims> parseToken(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token);
+        return jwtParser.parseSignedClaims(token);
+    }
+
+    private static String digest(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(messageDigest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
     }
 }
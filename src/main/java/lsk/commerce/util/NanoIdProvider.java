@@ -16,7 +16,8 @@ public class NanoIdProvider {
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
     private static final char[] NUMBER_ALPHABET = "23456789ABCDEFGHJKLMNPQRSTUVWXYZabcdefghijkmnoqprstuvwxyz".toCharArray();
     private static final int DEFAULT_SIZE = 12;
-    private static final Pattern NANOID_PATTERN = Pattern.compile("^[" + String.valueOf(NUMBER_ALPHABET) + "]{" + DEFAULT_SIZE + "}$");
+    public static final String NANOID_REGEX = "[" + String.valueOf(NUMBER_ALPHABET) + "]{" + DEFAULT_SIZE + "}";
+    private static final Pattern NANOID_PATTERN = Pattern.compile("^" + NANOID_REGEX + "$");
 
     public static String createNanoId() {
         return NanoIdUtils.randomNanoId(SECURE_RANDOM, NUMBER_ALPHABET, DEFAULT_SIZE);
@@ -0,0 +1,83 @@
+package lsk.commerce.util;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+//재고를 여러 칸에 나눠 담고, 스레드마다 다른 칸부터 CAS로 차감해서 경합을 줄인다.
+public class StripedStockCounter {
+
+    //칸끼리 같은 캐시 라인을 쓰지 않도록 64바이트(int 16개)씩 띄운다.
+    private static final int PADDING = 16;
+
+    private final AtomicIntegerArray cells;
+    private final int stripeCount;
+
+    public StripedStockCounter(int stockQuantity, int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("칸 수는 1 이상이어야 합니다");
+        }
+
+        this.stripeCount = stripeCount;
+        this.cells = new AtomicIntegerArray(stripeCount * PADDING);
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            cells.set(stripe * PADDING, stockQuantity / stripeCount + (stripe < stockQuantity % stripeCount ? 1 : 0));
+        }
+    }
+
+    public boolean tryDecrease(int quantity) {
+        int start = startStripe();
+
+        //한 칸에서 모두 차감할 수 있으면 바로 끝낸다.
+        for (int i = 0; i < stripeCount; i++) {
+            int index = ((start + i) % stripeCount) * PADDING;
+            int current;
+            while ((current = cells.get(index)) >= quantity) {
+                if (cells.compareAndSet(index, current, current - quantity)) {
+                    return true;
+                }
+            }
+        }
+
+        //여러 칸에서 나눠 차감하고, 모자라면 가져온 만큼 되돌린다.
+        int[] taken = new int[stripeCount];
+        int rest = quantity;
+        for (int i = 0; i < stripeCount && rest > 0; i++) {
+            int stripe = (start + i) % stripeCount;
+            int current;
+            while ((current = cells.get(stripe * PADDING)) > 0) {
+                int take = Math.min(current, rest);
+                if (cells.compareAndSet(stripe * PADDING, current, current - take)) {
+                    taken[stripe] = take;
+                    rest -= take;
+                    break;
+                }
+            }
+        }
+
+        if (rest == 0) {
+            return true;
+        }
+
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            if (taken[stripe] > 0) {
+                cells.addAndGet(stripe * PADDING, taken[stripe]);
+            }
+        }
+        return false;
+    }
+
+    public void increase(int quantity) {
+        cells.addAndGet(startStripe() * PADDING, quantity);
+    }
+
+    public int sum() {
+        int sum = 0;
+        for (int stripe = 0; stripe < stripeCount; stripe++) {
+            sum += cells.get(stripe * PADDING);
+        }
+        return sum;
+    }
+
+    private int startStripe() {
+        return (int) (Thread.currentThread().threadId() % stripeCount);
+    }
+}
@@ -0,0 +1,219 @@
+package lsk.commerce.api.portone;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.portone.sdk.server.errors.PaymentNotFoundException;
+import io.portone.sdk.server.payment.PaidPayment;
+import io.portone.sdk.server.payment.PaymentClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class PortoneGatewayTest {
+
+    @Mock
+    PaymentClient paymentClient;
+
+    @Mock
+    PaidPayment paidPayment;
+
+    SimpleMeterRegistry meterRegistry;
+
+    PortoneGateway portoneGateway;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        portoneGateway = new PortoneGateway(paymentClient, meterRegistry, 100, 1000, 2, 10, 2, 30);
+    }
+
+    @Nested
+    class GetPayment {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                given(paymentClient.getPayment("payment_1")).willReturn(CompletableFuture.completedFuture(paidPayment));
+
+                //when & then
+                StepVerifier.create(portoneGateway.getPayment("payment_1"))
+                        .expectNext(paidPayment)
+                        .verifyComplete();
+
+                thenSoftly(softly -> {
+                    softly.then(meterRegistry.get("portone.gateway.latency").tag("outcome", "success").timer().count()).isEqualTo(1);
+                    softly.then(meterRegistry.get("portone.gateway.retries").counter().count()).isZero();
+                    softly.then(meterRegistry.get("portone.gateway.circuit.state").gauge().value()).isZero();
+                });
+            }
+
+            @Test
+            void slowResponse_ShouldRetry() {
+                //given
+                given(paymentClient.getPayment("payment_1"))
+                        .willReturn(new CompletableFuture<>())
+                        .willReturn(CompletableFuture.completedFuture(paidPayment));
+
+                //when & then
+                StepVerifier.create(portoneGateway.getPayment("payment_1"))
+                        .expectNext(paidPayment)
+                        .verifyComplete();
+
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(paymentClient).should(times(2)).getPayment("payment_1"));
+                    softly.then(meterRegistry.get("portone.gateway.retries").counter().count()).isEqualTo(1);
+                });
+            }
+
+            @Test
+            void connectionError_ShouldRetry() {
+                //given
+                given(paymentClient.getPayment("payment_1"))
+                        .willReturn(CompletableFuture.failedFuture(new IOException("Connection reset")))
+                        .willReturn(CompletableFuture.failedFuture(new RuntimeException(new IOException("Connection reset"))))
+                        .willReturn(CompletableFuture.completedFuture(paidPayment));
+
+                //when & then
+                StepVerifier.create(portoneGateway.getPayment("payment_1"))
+                        .expectNext(paidPayment)
+                        .verifyComplete();
+
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(paymentClient).should(times(3)).getPayment("payment_1"));
+                    softly.then(meterRegistry.get("portone.gateway.retries").counter().count()).isEqualTo(2);
+                });
+            }
+
+            @Test
+            void halfOpen_ShouldCloseAfterSuccessfulProbe() {
+                //given
+                meterRegistry = new SimpleMeterRegistry();
+                portoneGateway = new PortoneGateway(paymentClient, meterRegistry, 100, 1000, 0, 10, 1, 0);
+                given(paymentClient.getPayment("payment_1"))
+                        .willReturn(CompletableFuture.failedFuture(new IOException("Connection refused")))
+                        .willReturn(CompletableFuture.completedFuture(paidPayment));
+
+                StepVerifier.create(portoneGateway.getPayment("payment_1"))
+                        .verifyError(IOException.class);
+
+                //when & then
+                StepVerifier.create(portoneGateway.getPayment("payment_1"))
+                        .expectNext(paidPayment)
+                        .verifyComplete();
+
+                then(meterRegistry.get("portone.gateway.circuit.state").gauge().value()).isZero();
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void paymentNotFound_ShouldNotRetry() {
+                //given
+                given(paymentClient.getPayment("payment_1")).willReturn(CompletableFuture.failedFuture(mock(PaymentNotFoundException.class)));
+
+                //when & then
+                StepVerifier.create(portoneGateway.getPayment("payment_1"))
+                        .verifyError(PaymentNotFoundException.class);
+
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(paymentClient).should(times(1)).getPayment("payment_1"));
+                    softly.then(meterRegistry.get("portone.gateway.latency").tag("outcome", "failure").timer().count()).isEqualTo(1);
+                    softly.then(meterRegistry.get("portone.gateway.circuit.state").gauge().value()).isZero();
+                });
+            }
+
+            @Test
+            void unknownApiError_ShouldRetryAndOpenCircuit() {
+                //given SDK가 본문을 읽지 못한 5xx 응답
+                given(paymentClient.getPayment("payment_1")).willReturn(CompletableFuture.failedFuture(new IllegalStateException("Unknown API error: 500")));
+
+                StepVerifier.create(portoneGateway.getPayment("payment_1")).verifyError(IllegalStateException.class);
+                StepVerifier.create(portoneGateway.getPayment("payment_1")).verifyError(IllegalStateException.class);
+
+                //when & then
+                StepVerifier.create(portoneGateway.getPayment("payment_2"))
+                        .verifyError(SyncPaymentException.class);
+
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(paymentClient).should(times(6)).getPayment("payment_1"));
+                    softly.then(meterRegistry.get("portone.gateway.retries").counter().count()).isEqualTo(4);
+                    softly.then(meterRegistry.get("portone.gateway.circuit.state").gauge().value()).isEqualTo(1);
+                });
+            }
+
+            @Test
+            void retriesExhausted() {
+                //given
+                given(paymentClient.getPayment("payment_1")).willAnswer(invocation -> new CompletableFuture<>());
+
+                //when & then
+                StepVerifier.create(portoneGateway.getPayment("payment_1"))
+                        .verifyError(TimeoutException.class);
+
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(paymentClient).should(times(3)).getPayment("payment_1"));
+                    softly.then(meterRegistry.get("portone.gateway.retries").counter().count()).isEqualTo(2);
+                });
+            }
+
+            @Test
+            void consecutiveFailures_ShouldOpenCircuit() {
+                //given
+                given(paymentClient.getPayment("payment_1")).willReturn(CompletableFuture.failedFuture(new IOException("Connection refused")));
+
+                StepVerifier.create(portoneGateway.getPayment("payment_1")).verifyError(IOException.class);
+                StepVerifier.create(portoneGateway.getPayment("payment_1")).verifyError(IOException.class);
+
+                //when & then
+                StepVerifier.create(portoneGateway.getPayment("payment_2"))
+                        .verifyError(SyncPaymentException.class);
+
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(paymentClient).should(times(6)).getPayment("payment_1"));
+                    softly.check(() -> BDDMockito.then(paymentClient).should(times(0)).getPayment("payment_2"));
+                    softly.then(meterRegistry.get("portone.gateway.rejected").counter().count()).isEqualTo(1);
+                    softly.then(meterRegistry.get("portone.gateway.circuit.state").gauge().value()).isEqualTo(1);
+                });
+            }
+
+            @Test
+            void halfOpen_ShouldReopenAfterFailedProbe() {
+                //given
+                meterRegistry = new SimpleMeterRegistry();
+                portoneGateway = new PortoneGateway(paymentClient, meterRegistry, 100, 1000, 0, 10, 1, 0);
+                given(paymentClient.getPayment("payment_1")).willReturn(CompletableFuture.failedFuture(new IOException("Connection refused")));
+
+                StepVerifier.create(portoneGateway.getPayment("payment_1")).verifyError(IOException.class);
+
+                //when & then
+                StepVerifier.create(portoneGateway.getPayment("payment_1"))
+                        .verifyError(IOException.class);
+
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(paymentClient).should(times(2)).getPayment("payment_1"));
+                    softly.then(meterRegistry.get("portone.gateway.circuit.state").gauge().value()).isEqualTo(1);
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,333 @@
+package lsk.commerce.api.portone;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import tools.jackson.databind.ObjectMapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+//포트원의 결제 조회(GET /payments/{paymentId})와 웹훅 전송을 흉내 내는 로컬 서버
+//응답 지연과 실패를 넣을 수 있어서 포트원 없이 결제 흐름 전체를 부하 테스트할 수 있다.
+//결제는 pay(), fail() 또는 POST /stand-in/payments로 만들고, 지연과 실패는 setFaults() 또는 PUT /stand-in/faults로 바꾼다.
+public class PortoneStandInServer implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PortoneStandInServer.class);
+    private static final int WEBHOOK_MAX_ATTEMPTS = 5;
+
+    private final HttpServer server;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final HttpClient webhookClient = HttpClient.newBuilder()
+            .executor(executor)
+            .connectTimeout(Duration.ofSeconds(3))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ConcurrentMap<String, Map<String, Object>> payments = new ConcurrentHashMap<>();
+    private final String storeId;
+    private final byte[] webhookKey;
+
+    private volatile Faults faults = Faults.NONE;
+    private volatile String webhookUrl;
+
+    private final AtomicLong requestCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+    private final AtomicLong stalledCount = new AtomicLong();
+    private final AtomicLong errorCount = new AtomicLong();
+    private final AtomicLong webhookCount = new AtomicLong();
+
+    //dropRate는 응답 없이 연결을 끊고, stallRate는 stallMs 동안 응답하지 않고, errorRate는 500을 돌려준다.
+    public record Faults(long latencyMs, long jitterMs, double dropRate, double stallRate, long stallMs, double errorRate) {
+
+        public static final Faults NONE = new Faults(0, 0, 0, 0, 0, 0);
+    }
+
+    public PortoneStandInServer(int port, String storeId, String webhookSecret) throws IOException {
+        this.storeId = storeId;
+        this.webhookKey = webhookKey(webhookSecret);
+        this.server = HttpServer.create(new InetSocketAddress("127.0.0.1", port), 0);
+        this.server.setExecutor(executor);
+        this.server.createContext("/payments/", this::handleGetPayment);
+        this.server.createContext("/stand-in/payments", this::handleCreatePayment);
+        this.server.createContext("/stand-in/faults", this::handleFaults);
+    }
+
+    //./gradlew portoneStandIn -Dstand-in.port=9090 -Dstand-in.webhook-url=http://localhost:8080/api/payment/webhook -Dstand-in.latency-ms=100
+    public static void main(String[] args) throws IOException {
+        PortoneStandInServer standIn = new PortoneStandInServer(
+                Integer.getInteger("stand-in.port", 9090),
+                System.getProperty("stand-in.store-id", "store-stand-in"),
+                System.getProperty("stand-in.webhook-secret", System.getenv("WEBHOOK_CODE")));
+        standIn.setWebhookUrl(System.getProperty("stand-in.webhook-url"));
+        standIn.setFaults(new Faults(
+                Long.getLong("stand-in.latency-ms", 0),
+                Long.getLong("stand-in.jitter-ms", 0),
+                Double.parseDouble(System.getProperty("stand-in.drop-rate", "0")),
+                Double.parseDouble(System.getProperty("stand-in.stall-rate", "0")),
+                Long.getLong("stand-in.stall-ms", 30000),
+                Double.parseDouble(System.getProperty("stand-in.error-rate", "0"))));
+        standIn.start();
+        Runtime.getRuntime().addShutdownHook(Thread.ofPlatform().unstarted(standIn::close));
+    }
+
+    public void start() {
+        server.start();
+        log.info("포트원 stand-in 서버 시작. baseUrl: {}, faults: {}", baseUrl(), faults);
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+
+    public String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    public void setFaults(Faults faults) {
+        this.faults = faults;
+    }
+
+    public void setWebhookUrl(String webhookUrl) {
+        this.webhookUrl = webhookUrl;
+    }
+
+    //결제창에서 결제를 마친 것처럼 결제를 만들고, webhookUrl이 있으면 Transaction.Paid 웹훅을 보낸다.
+    public void pay(String paymentId, String orderName, long amount, String customData) {
+        Instant now = Instant.now();
+        Map<String, Object> payment = basePayment("PAID", paymentId, orderName, amount, customData, now);
+        payment.put("paidAt", now.toString());
+        payment.put("pgTxId", "pg-" + paymentId);
+        payments.put(paymentId, payment);
+        sendWebhook("Transaction.Paid", paymentId);
+    }
+
+    public void fail(String paymentId, String orderName, long amount, String customData) {
+        Instant now = Instant.now();
+        Map<String, Object> payment = basePayment("FAILED", paymentId, orderName, amount, customData, now);
+        payment.put("failedAt", now.toString());
+        payment.put("failure", Map.of("reason", "stand-in failure"));
+        payments.put(paymentId, payment);
+        sendWebhook("Transaction.Failed", paymentId);
+    }
+
+    public long requestCount() {
+        return requestCount.get();
+    }
+
+    public long droppedCount() {
+        return droppedCount.get();
+    }
+
+    public long stalledCount() {
+        return stalledCount.get();
+    }
+
+    public long errorCount() {
+        return errorCount.get();
+    }
+
+    public long webhookCount() {
+        return webhookCount.get();
+    }
+
+    private void handleGetPayment(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("GET")) {
+                respond(exchange, 405, Map.of("type", "INVALID_REQUEST", "message", "Method Not Allowed"));
+                return;
+            }
+            requestCount.incrementAndGet();
+
+            Faults current = faults;
+            sleep(current.latencyMs() + (current.jitterMs() > 0 ? ThreadLocalRandom.current().nextLong(current.jitterMs() + 1) : 0));
+
+            double roll = ThreadLocalRandom.current().nextDouble();
+            if (roll < current.dropRate()) {
+                //본문을 보내다 만 것처럼 연결을 끊어서 클라이언트에서 연결 오류가 나게 한다.
+                droppedCount.incrementAndGet();
+                exchange.sendResponseHeaders(200, 1024);
+                return;
+            }
+            if (roll < current.dropRate() + current.stallRate()) {
+                stalledCount.incrementAndGet();
+                sleep(current.stallMs());
+            } else if (roll < current.dropRate() + current.stallRate() + current.errorRate()) {
+                errorCount.incrementAndGet();
+                respond(exchange, 500, Map.of("type", "INTERNAL_SERVER_ERROR", "message", "stand-in error"));
+                return;
+            }
+
+            String paymentId = exchange.getRequestURI().getPath().substring("/payments/".length());
+            Map<String, Object> payment = payments.get(paymentId);
+            if (payment == null) {
+                respond(exchange, 404, Map.of("type", "PAYMENT_NOT_FOUND", "message", "결제 건이 존재하지 않습니다."));
+                return;
+            }
+            respond(exchange, 200, payment);
+        }
+    }
+
+    //{"paymentId": "...", "orderName": "...", "amount": 10000, "customData": "...", "status": "PAID"}
+    private void handleCreatePayment(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!exchange.getRequestMethod().equals("POST")) {
+                respond(exchange, 405, Map.of("message", "Method Not Allowed"));
+                return;
+            }
+
+            Map<?, ?> request = objectMapper.readValue(exchange.getRequestBody(), Map.class);
+            String paymentId = (String) request.get("paymentId");
+            String orderName = (String) request.get("orderName");
+            long amount = ((Number) request.get("amount")).longValue();
+            String customData = (String) request.get("customData");
+            if ("FAILED".equals(request.get("status"))) {
+                fail(paymentId, orderName, amount, customData);
+            } else {
+                pay(paymentId, orderName, amount, customData);
+            }
+            respond(exchange, 201, payments.get(paymentId));
+        }
+    }
+
+    private void handleFaults(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (exchange.getRequestMethod().equals("PUT")) {
+                setFaults(objectMapper.readValue(exchange.getRequestBody(), Faults.class));
+            }
+            respond(exchange, 200, faults);
+        }
+    }
+
+    private Map<String, Object> basePayment(String status, String paymentId, String orderName, long amount, String customData, Instant now) {
+        Map<String, Object> payment = new LinkedHashMap<>();
+        payment.put("status", status);
+        payment.put("id", paymentId);
+        payment.put("transactionId", "tx-" + paymentId);
+        payment.put("merchantId", "merchant-stand-in");
+        payment.put("storeId", storeId);
+        payment.put("channel", Map.of(
+                "type", "TEST",
+                "id", "channel-stand-in",
+                "key", "channel-key-stand-in",
+                "name", "stand-in",
+                "pgProvider", "TOSSPAYMENTS",
+                "pgMerchantId", "iamporttest_3"));
+        payment.put("version", "V2");
+        payment.put("requestedAt", now.toString());
+        payment.put("updatedAt", now.toString());
+        payment.put("statusChangedAt", now.toString());
+        payment.put("orderName", orderName);
+        payment.put("amount", Map.of(
+                "total", amount,
+                "taxFree", 0,
+                "discount", 0,
+                "paid", status.equals("PAID") ? amount : 0,
+                "cancelled", 0,
+                "cancelledTaxFree", 0));
+        payment.put("currency", "KRW");
+        payment.put("customer", Map.of());
+        payment.put("customData", customData);
+        return payment;
+    }
+
+    //Standard Webhooks 방식으로 "{webhook-id}.{webhook-timestamp}.{body}"를 HMAC-SHA256으로 서명한다.
+    //2xx를 받을 때까지 1초씩 늘려 가며 WEBHOOK_MAX_ATTEMPTS번까지 다시 보낸다.
+    private void sendWebhook(String type, String paymentId) {
+        String url = webhookUrl;
+        if (url == null) {
+            return;
+        }
+
+        executor.submit(() -> {
+            String webhookId = "msg_" + UUID.randomUUID();
+            String timestamp = String.valueOf(Instant.now().getEpochSecond());
+            String body = objectMapper.writeValueAsString(Map.of(
+                    "type", type,
+                    "timestamp", Instant.now().toString(),
+                    "data", Map.of("paymentId", paymentId, "storeId", storeId, "transactionId", "tx-" + paymentId)));
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofSeconds(10))
+                    .header("Content-Type", "application/json")
+                    .header("webhook-id", webhookId)
+                    .header("webhook-timestamp", timestamp)
+                    .header("webhook-signature", "v1," + sign(webhookId + "." + timestamp + "." + body))
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+
+            for (int attempt = 1; attempt <= WEBHOOK_MAX_ATTEMPTS; attempt++) {
+                try {
+                    HttpResponse<Void> response = webhookClient.send(request, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() / 100 == 2) {
+                        webhookCount.incrementAndGet();
+                        return null;
+                    }
+                    log.warn("웹훅 전송 실패. paymentId: {}, status: {}", paymentId, response.statusCode());
+                } catch (IOException e) {
+                    log.warn("웹훅 전송 실패. paymentId: {}, message: {}", paymentId, e.getMessage());
+                }
+                Thread.sleep(Duration.ofSeconds(attempt));
+            }
+            return null;
+        });
+    }
+
+    private void respond(HttpExchange exchange, int status, Object body) throws IOException {
+        byte[] bytes = objectMapper.writeValueAsBytes(body);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        exchange.getResponseBody().write(bytes);
+    }
+
+    private String sign(String content) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(webhookKey, "HmacSHA256"));
+            return Base64.getEncoder().encodeToString(mac.doFinal(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //포트원 웹훅 시크릿은 "whsec_" 뒤에 base64로 인코딩된 키가 붙어 있다.
+    private static byte[] webhookKey(String webhookSecret) {
+        if (webhookSecret == null) {
+            return new byte[0];
+        }
+        String encoded = webhookSecret.startsWith("whsec_") ? webhookSecret.substring("whsec_".length()) : webhookSecret;
+        return Base64.getDecoder().decode(encoded);
+    }
+
+    private static void sleep(long millis) {
+        if (millis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
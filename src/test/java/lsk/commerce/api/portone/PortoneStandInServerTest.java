@@ -0,0 +1,193 @@
+package lsk.commerce.api.portone;
+
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.portone.sdk.server.errors.PaymentNotFoundException;
+import io.portone.sdk.server.payment.FailedPayment;
+import io.portone.sdk.server.payment.PaidPayment;
+import io.portone.sdk.server.payment.Payment;
+import io.portone.sdk.server.payment.PaymentClient;
+import io.portone.sdk.server.webhook.Webhook;
+import io.portone.sdk.server.webhook.WebhookTransaction;
+import io.portone.sdk.server.webhook.WebhookVerifier;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import reactor.test.StepVerifier;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+//stand-in 서버가 돌려주는 결제 정보와 웹훅을 포트원 SDK가 그대로 읽을 수 있는지 확인한다.
+class PortoneStandInServerTest {
+
+    static final String WEBHOOK_SECRET = "whsec_" + Base64.getEncoder().encodeToString("stand-in-webhook-secret-0123456789".getBytes(StandardCharsets.UTF_8));
+    static final String CUSTOM_DATA = "{\"orderNumber\":\"eicanNoP5cW8\"}";
+
+    PortoneStandInServer standIn;
+    PaymentClient paymentClient;
+
+    @BeforeEach
+    void beforeEach() throws IOException {
+        standIn = new PortoneStandInServer(0, "store-stand-in", WEBHOOK_SECRET);
+        standIn.start();
+        paymentClient = new PaymentClient("stand-in-api-secret", standIn.baseUrl(), "store-stand-in");
+    }
+
+    @AfterEach
+    void afterEach() {
+        standIn.close();
+    }
+
+    @Nested
+    class GetPayment {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void paid() throws Exception {
+                //given
+                standIn.pay("payment_1", "BANG BANG 외 2건", 30000, CUSTOM_DATA);
+
+                //when
+                Payment payment = paymentClient.getPayment("payment_1").get(5, TimeUnit.SECONDS);
+
+                //then
+                then(payment).isInstanceOf(PaidPayment.class);
+                PaidPayment paidPayment = (PaidPayment) payment;
+                thenSoftly(softly -> {
+                    softly.then(paidPayment.getId()).isEqualTo("payment_1");
+                    softly.then(paidPayment.getOrderName()).isEqualTo("BANG BANG 외 2건");
+                    softly.then(paidPayment.getAmount().getTotal()).isEqualTo(30000);
+                    softly.then(paidPayment.getCustomData()).isEqualTo(CUSTOM_DATA);
+                    softly.then(standIn.requestCount()).isEqualTo(1);
+                });
+            }
+
+            @Test
+            void failed() throws Exception {
+                //given
+                standIn.fail("payment_1", "BANG BANG 외 2건", 30000, CUSTOM_DATA);
+
+                //when
+                Payment payment = paymentClient.getPayment("payment_1").get(5, TimeUnit.SECONDS);
+
+                //then
+                then(payment).isInstanceOf(FailedPayment.class);
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void stalled_ShouldTimeOutAndRetry() {
+                //given
+                standIn.setFaults(new PortoneStandInServer.Faults(0, 0, 0, 1, 2000, 0));
+                standIn.pay("payment_1", "BANG BANG 외 2건", 30000, CUSTOM_DATA);
+                SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+                PortoneGateway portoneGateway = new PortoneGateway(paymentClient, meterRegistry, 100, 5000, 2, 10, 5, 30);
+
+                //when & then
+                StepVerifier.create(portoneGateway.getPayment("payment_1"))
+                        .verifyError(TimeoutException.class);
+
+                thenSoftly(softly -> {
+                    softly.then(standIn.stalledCount()).isEqualTo(3);
+                    softly.then(meterRegistry.get("portone.gateway.retries").counter().count()).isEqualTo(2);
+                });
+            }
+
+            @Test
+            void serverError_ShouldRetryAndOpenCircuit() {
+                //given
+                standIn.setFaults(new PortoneStandInServer.Faults(0, 0, 0, 0, 0, 1));
+                standIn.pay("payment_1", "BANG BANG 외 2건", 30000, CUSTOM_DATA);
+                SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+                PortoneGateway portoneGateway = new PortoneGateway(paymentClient, meterRegistry, 1000, 5000, 2, 10, 2, 30);
+
+                StepVerifier.create(portoneGateway.getPayment("payment_1")).expectError().verify();
+                StepVerifier.create(portoneGateway.getPayment("payment_1")).expectError().verify();
+
+                //when & then
+                StepVerifier.create(portoneGateway.getPayment("payment_1"))
+                        .verifyError(SyncPaymentException.class);
+
+                thenSoftly(softly -> {
+                    softly.then(standIn.errorCount()).isEqualTo(6);
+                    softly.then(meterRegistry.get("portone.gateway.retries").counter().count()).isEqualTo(4);
+                    softly.then(meterRegistry.get("portone.gateway.rejected").counter().count()).isEqualTo(1);
+                    softly.then(meterRegistry.get("portone.gateway.circuit.state").gauge().value()).isEqualTo(1);
+                });
+            }
+
+            @Test
+            void paymentNotFound_ShouldNotOpenCircuit() {
+                //given
+                SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+                PortoneGateway portoneGateway = new PortoneGateway(paymentClient, meterRegistry, 1000, 5000, 2, 10, 1, 30);
+
+                StepVerifier.create(portoneGateway.getPayment("payment_1")).expectError().verify();
+
+                //when & then
+                StepVerifier.create(portoneGateway.getPayment("payment_1"))
+                        .verifyError(PaymentNotFoundException.class);
+
+                thenSoftly(softly -> {
+                    softly.then(standIn.requestCount()).isEqualTo(2);
+                    softly.then(meterRegistry.get("portone.gateway.retries").counter().count()).isZero();
+                    softly.then(meterRegistry.get("portone.gateway.circuit.state").gauge().value()).isZero();
+                });
+            }
+        }
+    }
+
+    @Nested
+    class SendWebhook {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void signedWebhook_ShouldBeVerified() throws Exception {
+                //given
+                CompletableFuture<String[]> received = new CompletableFuture<>();
+                HttpServer receiver = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+                receiver.createContext("/api/payment/webhook", exchange -> {
+                    try (exchange) {
+                        String body = new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8);
+                        received.complete(new String[]{
+                                body,
+                                exchange.getRequestHeaders().getFirst("webhook-id"),
+                                exchange.getRequestHeaders().getFirst("webhook-signature"),
+                                exchange.getRequestHeaders().getFirst("webhook-timestamp")});
+                        exchange.sendResponseHeaders(200, -1);
+                    }
+                });
+                receiver.start();
+                standIn.setWebhookUrl("http://127.0.0.1:" + receiver.getAddress().getPort() + "/api/payment/webhook");
+
+                //when
+                standIn.pay("payment_1", "BANG BANG 외 2건", 30000, CUSTOM_DATA);
+
+                //then
+                String[] webhook = received.get(5, TimeUnit.SECONDS);
+                receiver.stop(0);
+
+                Webhook verified = new WebhookVerifier(WEBHOOK_SECRET).verify(webhook[0], webhook[1], webhook[2], webhook[3]);
+                then(verified).isInstanceOf(WebhookTransaction.class);
+                then(((WebhookTransaction) verified).getData().getPaymentId()).isEqualTo("payment_1");
+            }
+        }
+    }
+}
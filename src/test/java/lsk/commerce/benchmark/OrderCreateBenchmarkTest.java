@@ -0,0 +1,172 @@
+package lsk.commerce.benchmark;
+
+import jakarta.persistence.EntityManager;
+import lsk.commerce.dto.request.MemberCreateRequest;
+import lsk.commerce.dto.request.OrderCreateRequest;
+import lsk.commerce.dto.request.OrderProductRequest;
+import lsk.commerce.service.MemberService;
+import lsk.commerce.service.OrderService;
+import lsk.commerce.util.NanoIdProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+//카탈로그 크기가 커져도 주문 생성 시간이 일정한지 측정한다.
+@Tag("benchmark")
+@SpringBootTest
+class OrderCreateBenchmarkTest {
+
+    private static final int[] CATALOG_SIZES = {1_000, 10_000, 100_000};
+    private static final int WARMUP_ORDERS = 50;
+    private static final int MEASURE_ORDERS = 200;
+    private static final int ORDER_LINES = 3;
+    private static final int[] LINE_COUNTS = {1, 10, 50};
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    OrderService orderService;
+
+    String memberLoginId;
+    List<String> productNumbers = new ArrayList<>();
+
+    @BeforeEach
+    void beforeEach() {
+        memberLoginId = memberService.join(MemberCreateRequest.builder()
+                .name("UserA")
+                .loginId("id_A")
+                .password("abAB12!@")
+                .zipcode("01234")
+                .baseAddress("서울시 강남구")
+                .detailAddress("101동 101호")
+                .build());
+    }
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
+        jdbcTemplate.execute("DELETE FROM member");
+        jdbcTemplate.execute("DELETE FROM product");
+        jdbcTemplate.execute("DELETE FROM delivery");
+        jdbcTemplate.execute("DELETE FROM orders");
+        jdbcTemplate.execute("DELETE FROM order_product");
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
+
+        em.clear();
+    }
+
+    @Test
+    void orderLatency_ShouldStayFlat_WhenCatalogGrows() {
+        Map<Integer, Double> averageMicrosByCatalogSize = new LinkedHashMap<>();
+
+        for (int catalogSize : CATALOG_SIZES) {
+            //given
+            insertProducts(catalogSize - productNumbers.size());
+
+            for (int i = 0; i < WARMUP_ORDERS; i++) {
+                orderService.order(createRequest(i), memberLoginId);
+            }
+
+            //when
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURE_ORDERS; i++) {
+                orderService.order(createRequest(i), memberLoginId);
+            }
+            double averageMicros = (System.nanoTime() - start) / 1_000.0 / MEASURE_ORDERS;
+
+            averageMicrosByCatalogSize.put(catalogSize, averageMicros);
+            System.out.printf("catalog=%d, order lines=%d, avg=%.1fus%n", catalogSize, ORDER_LINES, averageMicros);
+        }
+
+        //then
+        double smallest = averageMicrosByCatalogSize.get(CATALOG_SIZES[0]);
+        double largest = averageMicrosByCatalogSize.get(CATALOG_SIZES[CATALOG_SIZES.length - 1]);
+        then(largest).isLessThan(smallest * 3);
+    }
+
+    //주문 상품 INSERT가 배치로 묶이면 줄 수가 늘어도 주문 한 건의 시간은 줄 수만큼 늘지 않는다.
+    @Test
+    void orderInsertThroughput_ByOrderLines() {
+        insertProducts(CATALOG_SIZES[0]);
+        Map<Integer, Double> averageMicrosByLines = new LinkedHashMap<>();
+
+        for (int lines : LINE_COUNTS) {
+            //given
+            for (int i = 0; i < WARMUP_ORDERS; i++) {
+                orderService.order(createRequest(i, lines), memberLoginId);
+            }
+
+            //when
+            long start = System.nanoTime();
+            for (int i = 0; i < MEASURE_ORDERS; i++) {
+                orderService.order(createRequest(i, lines), memberLoginId);
+            }
+            long elapsed = System.nanoTime() - start;
+            double averageMicros = elapsed / 1_000.0 / MEASURE_ORDERS;
+
+            averageMicrosByLines.put(lines, averageMicros);
+            System.out.printf("order lines=%d, avg=%.1fus, lines/s=%.0f%n", lines, averageMicros, MEASURE_ORDERS * lines / (elapsed / 1_000_000_000.0));
+        }
+
+        //then
+        int fewest = LINE_COUNTS[0];
+        int most = LINE_COUNTS[LINE_COUNTS.length - 1];
+        then(averageMicrosByLines.get(most)).isLessThan(averageMicrosByLines.get(fewest) * most / fewest / 2);
+    }
+
+    private OrderCreateRequest createRequest(int seed) {
+        return createRequest(seed, ORDER_LINES);
+    }
+
+    private OrderCreateRequest createRequest(int seed, int lines) {
+        List<OrderProductRequest> orderProductRequestList = new ArrayList<>();
+        for (int line = 0; line < lines; line++) {
+            String productNumber = productNumbers.get((seed * lines + line) % productNumbers.size());
+            orderProductRequestList.add(new OrderProductRequest(productNumber, 1));
+        }
+
+        return new OrderCreateRequest(orderProductRequestList);
+    }
+
+    //id는 id_sequence에서 발급하지 않으므로 productNumbers의 순서대로 직접 넣는다.
+    private void insertProducts(int count) {
+        String sql = "INSERT INTO product (product_id, dtype, product_number, name, name_initial, price, stock_quantity, version, created_at, artist, artist_initial, studio, studio_initial)" +
+                " VALUES (?, 'A', ?, ?, ?, 10000, 1000000, 0, NOW(6), 'IVE', 'IVE', 'STARSHIP', 'STARSHIP')";
+
+        List<Integer> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            productNumbers.add(NanoIdProvider.createNanoId());
+            batch.add(productNumbers.size() - 1);
+
+            if (batch.size() == BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate(sql, batch, batch.size(), (ps, index) -> {
+                    String productNumber = productNumbers.get(index);
+                    ps.setLong(1, index + 1L);
+                    ps.setString(2, productNumber);
+                    ps.setString(3, "ALBUM " + productNumber);
+                    ps.setString(4, "ALBUM " + productNumber);
+                });
+                batch = new ArrayList<>();
+            }
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package lsk.commerce.benchmark;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lsk.commerce.util.BoundedPaymentExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+//결제 완료 1,000건이 한꺼번에 들어올 때 boundedElastic과 결제 전용 가상 스레드 실행기를 비교한다.
+//결제 완료 대신 커넥션을 잡고 5ms 걸리는 트랜잭션을 실행하고, 그동안 다른 요청이 커넥션을 얼마나 기다리는지 함께 잰다.
+@Tag("benchmark")
+@SpringBootTest(properties = {
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "payment.executor.queue-capacity=2000",
+        "payment.executor.acquire-timeout-ms=30000"
+})
+class PaymentExecutorBenchmarkTest {
+
+    private static final int COMPLETIONS = 1_000;
+    private static final int PROBES = 20;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    BoundedPaymentExecutor paymentExecutor;
+
+    TransactionTemplate transactionTemplate;
+    HikariPoolMXBean pool;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+        pool = dataSource.unwrap(HikariDataSource.class).getHikariPoolMXBean();
+    }
+
+    @Test
+    void burstCompletions_BoundedElasticVsPaymentExecutor() throws Exception {
+        //given
+        Callable<Integer> completion = () -> transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT SLEEP(0.005)", Integer.class));
+
+        run("warmup", work -> Mono.fromCallable(work).subscribeOn(Schedulers.boundedElastic()), completion);
+        run("warmup", work -> Mono.fromFuture(() -> paymentExecutor.submit(work)), completion);
+
+        //when
+        Result elastic = run("boundedElastic", work -> Mono.fromCallable(work).subscribeOn(Schedulers.boundedElastic()), completion);
+        Result executor = run("paymentExecutor", work -> Mono.fromFuture(() -> paymentExecutor.submit(work)), completion);
+
+        //then
+        thenSoftly(softly -> {
+            softly.then(elastic.completed()).isEqualTo(COMPLETIONS);
+            softly.then(executor.completed()).isEqualTo(COMPLETIONS);
+            softly.then(executor.peakAwaitingConnection()).isLessThan(elastic.peakAwaitingConnection());
+            softly.then(executor.probeP99Micros()).isLessThan(elastic.probeP99Micros());
+        });
+    }
+
+    private Result run(String lane, Function<Callable<Integer>, Mono<Integer>> submit, Callable<Integer> completion) throws Exception {
+        List<Long> latencies = Collections.synchronizedList(new ArrayList<>());
+        List<Long> probeLatencies = Collections.synchronizedList(new ArrayList<>());
+        AtomicInteger peakAwaiting = new AtomicInteger();
+        AtomicBoolean running = new AtomicBoolean(true);
+
+        Thread sampler = Thread.ofVirtual().start(() -> {
+            while (running.get()) {
+                peakAwaiting.accumulateAndGet(pool.getThreadsAwaitingConnection(), Math::max);
+                LockSupport.parkNanos(100_000);
+            }
+        });
+
+        //결제 완료가 몰린 동안 다른 요청이 커넥션을 얻는 시간
+        Thread prober = Thread.ofVirtual().start(() -> {
+            for (int i = 0; i < PROBES && running.get(); i++) {
+                long probeStart = System.nanoTime();
+                jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+                probeLatencies.add(System.nanoTime() - probeStart);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    return;
+                }
+            }
+        });
+
+        long start = System.nanoTime();
+        Long completed = Flux.range(0, COMPLETIONS)
+                .flatMap(i -> {
+                    long submittedAt = System.nanoTime();
+                    return submit.apply(completion)
+                            .doOnNext(result -> latencies.add(System.nanoTime() - submittedAt));
+                }, COMPLETIONS)
+                .count()
+                .block();
+        long elapsed = System.nanoTime() - start;
+
+        running.set(false);
+        sampler.join();
+        prober.join();
+
+        Result result = new Result(completed == null ? 0 : completed.intValue(), peakAwaiting.get(), percentileMicros(probeLatencies, 0.99));
+        System.out.printf("lane=%s, completions=%d, throughput=%.0f/s, p50=%.1fms, p99=%.1fms, peak awaiting connection=%d, other request p99=%.1fus%n",
+                lane, result.completed(), COMPLETIONS / (elapsed / 1_000_000_000.0),
+                percentileMicros(latencies, 0.50) / 1_000.0, percentileMicros(latencies, 0.99) / 1_000.0,
+                result.peakAwaitingConnection(), result.probeP99Micros());
+        return result;
+    }
+
+    private static double percentileMicros(List<Long> nanos, double percentile) {
+        if (nanos.isEmpty()) {
+            return 0;
+        }
+
+        List<Long> sorted = new ArrayList<>(nanos);
+        Collections.sort(sorted);
+        int index = Math.min(sorted.size() - 1, (int) Math.ceil(percentile * sorted.size()) - 1);
+        return sorted.get(Math.max(0, index)) / 1_000.0;
+    }
+
+    private record Result(int completed, int peakAwaitingConnection, double probeP99Micros) {
+    }
+}
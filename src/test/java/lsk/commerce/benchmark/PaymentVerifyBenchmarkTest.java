@@ -0,0 +1,205 @@
+package lsk.commerce.benchmark;
+
+import io.portone.sdk.server.common.Currency;
+import io.portone.sdk.server.common.Customer;
+import io.portone.sdk.server.common.PgProvider;
+import io.portone.sdk.server.common.PortOneVersion;
+import io.portone.sdk.server.common.SelectedChannel;
+import io.portone.sdk.server.common.SelectedChannelType;
+import io.portone.sdk.server.payment.PaidPayment;
+import io.portone.sdk.server.payment.PaymentAmount;
+import io.portone.sdk.server.payment.PaymentClient;
+import jakarta.persistence.EntityManager;
+import lsk.commerce.domain.Order;
+import lsk.commerce.dto.request.MemberCreateRequest;
+import lsk.commerce.dto.request.OrderCreateRequest;
+import lsk.commerce.dto.request.OrderProductRequest;
+import lsk.commerce.service.MemberService;
+import lsk.commerce.service.OrderService;
+import lsk.commerce.service.PaymentService;
+import lsk.commerce.service.PaymentSyncService;
+import lsk.commerce.util.NanoIdProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.mockito.BDDMockito.anyString;
+import static org.mockito.BDDMockito.given;
+
+//카탈로그 크기가 커져도 결제 완료 검증 시간이 일정한지 측정한다.
+@Tag("benchmark")
+@SpringBootTest
+class PaymentVerifyBenchmarkTest {
+
+    private static final int[] CATALOG_SIZES = {1_000, 10_000, 100_000};
+    private static final int WARMUP_PAYMENTS = 20;
+    private static final int MEASURE_PAYMENTS = 100;
+    private static final int ORDER_LINES = 3;
+    private static final int PRICE = 10000;
+    private static final int BATCH_SIZE = 1_000;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    PaymentService paymentService;
+
+    @Autowired
+    PaymentSyncService paymentSyncService;
+
+    @MockitoBean
+    PaymentClient portone;
+
+    String memberLoginId;
+    List<String> productNumbers = new ArrayList<>();
+    Map<String, PaidPayment> paidPayments = new ConcurrentHashMap<>();
+
+    @BeforeEach
+    void beforeEach() {
+        memberLoginId = memberService.join(MemberCreateRequest.builder()
+                .name("UserA")
+                .loginId("id_A")
+                .password("abAB12!@")
+                .zipcode("01234")
+                .baseAddress("서울시 강남구")
+                .detailAddress("101동 101호")
+                .build());
+
+        given(portone.getPayment(anyString()))
+                .willAnswer(invocation -> CompletableFuture.completedFuture(paidPayments.get(invocation.<String>getArgument(0))));
+    }
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
+        jdbcTemplate.execute("DELETE FROM member");
+        jdbcTemplate.execute("DELETE FROM product");
+        jdbcTemplate.execute("DELETE FROM delivery");
+        jdbcTemplate.execute("DELETE FROM orders");
+        jdbcTemplate.execute("DELETE FROM order_product");
+        jdbcTemplate.execute("DELETE FROM payment");
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
+
+        em.clear();
+    }
+
+    @Test
+    void verifyLatency_ShouldStayFlat_WhenCatalogGrows() {
+        Map<Integer, Double> averageMicrosByCatalogSize = new LinkedHashMap<>();
+
+        for (int catalogSize : CATALOG_SIZES) {
+            //given
+            insertProducts(catalogSize - productNumbers.size());
+
+            List<String> warmupPaymentIds = requestPayments(WARMUP_PAYMENTS);
+            List<String> measurePaymentIds = requestPayments(MEASURE_PAYMENTS);
+
+            for (String paymentId : warmupPaymentIds) {
+                paymentSyncService.syncPayment(paymentId, memberLoginId).block();
+            }
+
+            //when
+            long start = System.nanoTime();
+            for (String paymentId : measurePaymentIds) {
+                paymentSyncService.syncPayment(paymentId, memberLoginId).block();
+            }
+            double averageMicros = (System.nanoTime() - start) / 1_000.0 / MEASURE_PAYMENTS;
+
+            averageMicrosByCatalogSize.put(catalogSize, averageMicros);
+            System.out.printf("catalog=%d, order lines=%d, avg=%.1fus%n", catalogSize, ORDER_LINES, averageMicros);
+        }
+
+        //then
+        Integer paidCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payment WHERE payment_status = 'COMPLETED'", Integer.class);
+        then(paidCount).isEqualTo((WARMUP_PAYMENTS + MEASURE_PAYMENTS) * CATALOG_SIZES.length);
+
+        double smallest = averageMicrosByCatalogSize.get(CATALOG_SIZES[0]);
+        double largest = averageMicrosByCatalogSize.get(CATALOG_SIZES[CATALOG_SIZES.length - 1]);
+        then(largest).isLessThan(smallest * 3);
+    }
+
+    //주문하고 결제를 요청한 뒤, 포트원이 돌려줄 결제 정보를 미리 만들어 둔다.
+    private List<String> requestPayments(int count) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<String> paymentIds = new ArrayList<>();
+
+        for (int i = 0; i < count; i++) {
+            String orderNumber = orderService.order(createRequest(paidPayments.size()), memberLoginId);
+            String paymentId = paymentService.request(orderNumber, memberLoginId).getPaymentId();
+            String orderName = transactionTemplate.execute(status -> {
+                Order order = orderService.findOrderWithAllExceptMember(orderNumber);
+                return order.getOrderProducts().getFirst().getProduct().getName() + " 외 " + (ORDER_LINES - 1) + "건";
+            });
+
+            paidPayments.put(paymentId, createPaidPayment(paymentId, orderNumber, orderName));
+            paymentIds.add(paymentId);
+        }
+        return paymentIds;
+    }
+
+    private PaidPayment createPaidPayment(String paymentId, String orderNumber, String orderName) {
+        long amount = (long) PRICE * ORDER_LINES;
+        return new PaidPayment(paymentId, "transactionId", "merchantId", "storeId", null, new SelectedChannel(SelectedChannelType.Test.INSTANCE, null, null, null, PgProvider.Tosspayments.INSTANCE, "iamporttest_3"), null, PortOneVersion.V2.INSTANCE, null, null, null, Instant.now(), Instant.now(), Instant.now(), orderName, new PaymentAmount(amount, 0L, null, null, 0L, amount, 0L, 0L), Currency.Krw.INSTANCE, new Customer(null, null, null, null, null, null, null, null), null, null, null, null, null, "{\"orderNumber\":\"" + orderNumber + "\"}", null, Instant.now(), null, null, null, null);
+    }
+
+    private OrderCreateRequest createRequest(int seed) {
+        List<OrderProductRequest> orderProductRequestList = new ArrayList<>();
+        for (int line = 0; line < ORDER_LINES; line++) {
+            String productNumber = productNumbers.get((seed * ORDER_LINES + line) % productNumbers.size());
+            orderProductRequestList.add(new OrderProductRequest(productNumber, 1));
+        }
+
+        return new OrderCreateRequest(orderProductRequestList);
+    }
+
+    //id는 id_sequence에서 발급하지 않으므로 productNumbers의 순서대로 직접 넣는다.
+    private void insertProducts(int count) {
+        String sql = "INSERT INTO product (product_id, dtype, product_number, name, name_initial, price, stock_quantity, version, created_at, artist, artist_initial, studio, studio_initial)" +
+                " VALUES (?, 'A', ?, ?, ?, " + PRICE + ", 1000000, 0, NOW(6), 'IVE', 'IVE', 'STARSHIP', 'STARSHIP')";
+
+        List<Integer> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            productNumbers.add(NanoIdProvider.createNanoId());
+            batch.add(productNumbers.size() - 1);
+
+            if (batch.size() == BATCH_SIZE || i == count - 1) {
+                jdbcTemplate.batchUpdate(sql, batch, batch.size(), (ps, index) -> {
+                    String productNumber = productNumbers.get(index);
+                    ps.setLong(1, index + 1L);
+                    ps.setString(2, productNumber);
+                    ps.setString(3, "ALBUM " + productNumber);
+                    ps.setString(4, "ALBUM " + productNumber);
+                });
+                batch = new ArrayList<>();
+            }
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package lsk.commerce.benchmark;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lsk.commerce.api.portone.PortoneStandInServer;
+import lsk.commerce.domain.Order;
+import lsk.commerce.dto.request.MemberCreateRequest;
+import lsk.commerce.dto.request.OrderCreateRequest;
+import lsk.commerce.dto.request.OrderProductRequest;
+import lsk.commerce.service.MemberService;
+import lsk.commerce.service.OrderService;
+import lsk.commerce.service.PaymentService;
+import lsk.commerce.service.PaymentSyncService;
+import lsk.commerce.util.NanoIdProvider;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+//포트원 대신 stand-in 서버를 띄워서 결제 완료 요청과 웹훅이 함께 들어오는 결제 흐름 전체를 부하 테스트한다.
+//포트원 응답에 지연, 연결 끊김, 무응답을 넣어도 웹훅으로 모든 결제가 완료되는지 확인한다.
+@Tag("benchmark")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "portone.gateway.timeout-ms=500",
+        "portone.gateway.deadline-ms=3000",
+        "webhook.inbox.interval-ms=200"
+})
+class PortoneStandInLoadBenchmarkTest {
+
+    private static final String WEBHOOK_SECRET = "whsec_" + Base64.getEncoder().encodeToString("stand-in-webhook-secret-0123456789".getBytes(StandardCharsets.UTF_8));
+    private static final int PAYMENTS = 500;
+    private static final int PRODUCTS = 100;
+    private static final int ORDER_LINES = 3;
+    private static final int PRICE = 10000;
+
+    static PortoneStandInServer standIn;
+
+    @LocalServerPort
+    int port;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    PaymentService paymentService;
+
+    @Autowired
+    PaymentSyncService paymentSyncService;
+
+    @Autowired
+    MeterRegistry meterRegistry;
+
+    String memberLoginId;
+    List<String> productNumbers = new ArrayList<>();
+
+    @DynamicPropertySource
+    static void portoneProperties(DynamicPropertyRegistry registry) throws IOException {
+        standIn = new PortoneStandInServer(0, "store-stand-in", WEBHOOK_SECRET);
+        standIn.start();
+
+        registry.add("portone.api.base-url", standIn::baseUrl);
+        registry.add("portone.api.store-id", () -> "store-stand-in");
+        registry.add("portone.secret.webhook", () -> WEBHOOK_SECRET);
+    }
+
+    @AfterAll
+    static void afterAll() {
+        standIn.close();
+    }
+
+    @BeforeEach
+    void beforeEach() {
+        memberLoginId = memberService.join(MemberCreateRequest.builder()
+                .name("UserA")
+                .loginId("id_A")
+                .password("abAB12!@")
+                .zipcode("01234")
+                .baseAddress("서울시 강남구")
+                .detailAddress("101동 101호")
+                .build());
+
+        standIn.setWebhookUrl("http://127.0.0.1:" + port + "/api/payment/webhook");
+    }
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
+        jdbcTemplate.execute("DELETE FROM member");
+        jdbcTemplate.execute("DELETE FROM product");
+        jdbcTemplate.execute("DELETE FROM delivery");
+        jdbcTemplate.execute("DELETE FROM orders");
+        jdbcTemplate.execute("DELETE FROM order_product");
+        jdbcTemplate.execute("DELETE FROM payment");
+        jdbcTemplate.execute("DELETE FROM webhook_inbox");
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
+
+        em.clear();
+    }
+
+    @Test
+    void payFlow_WithSlowAndFlakyPortone() throws Exception {
+        //given
+        insertProducts();
+        List<RequestedPayment> requestedPayments = requestPayments();
+
+        //50~100ms 지연, 5%는 연결 끊김, 2%는 2초 동안 무응답
+        standIn.setFaults(new PortoneStandInServer.Faults(50, 50, 0.05, 0.02, 2000, 0));
+
+        //when
+        //결제창에서 결제를 마치면 포트원은 웹훅을 보내고, 브라우저는 결제 완료를 요청한다.
+        AtomicInteger browserFailures = new AtomicInteger();
+        long start = System.nanoTime();
+        try (ExecutorService browsers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (RequestedPayment requestedPayment : requestedPayments) {
+                browsers.submit(() -> {
+                    standIn.pay(requestedPayment.paymentId(), requestedPayment.orderName(), (long) PRICE * ORDER_LINES,
+                            "{\"orderNumber\":\"" + requestedPayment.orderNumber() + "\"}");
+                    try {
+                        paymentSyncService.syncPayment(requestedPayment.paymentId(), memberLoginId).block();
+                    } catch (RuntimeException e) {
+                        browserFailures.incrementAndGet();
+                    }
+                });
+            }
+        }
+        long browserMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        //브라우저 요청이 실패한 결제는 웹훅으로 완료될 때까지 기다린다.
+        int completed = awaitCompleted();
+        long totalMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        Timer success = meterRegistry.get("portone.gateway.latency").tag("outcome", "success").timer();
+        System.out.printf("payments=%d, browser=%dms (failed %d), all completed=%dms%n", PAYMENTS, browserMillis, browserFailures.get(), totalMillis);
+        System.out.printf("portone requests=%d, dropped=%d, stalled=%d, webhooks=%d%n",
+                standIn.requestCount(), standIn.droppedCount(), standIn.stalledCount(), standIn.webhookCount());
+        System.out.printf("gateway success=%d, mean=%.1fms, max=%.1fms, retries=%.0f, rejected=%.0f%n",
+                success.count(), success.mean(TimeUnit.MILLISECONDS), success.max(TimeUnit.MILLISECONDS),
+                meterRegistry.get("portone.gateway.retries").counter().count(),
+                meterRegistry.get("portone.gateway.rejected").counter().count());
+
+        //then
+        thenSoftly(softly -> {
+            softly.then(completed).isEqualTo(PAYMENTS);
+            softly.then(standIn.webhookCount()).isEqualTo(PAYMENTS);
+            softly.then(meterRegistry.get("portone.gateway.retries").counter().count()).isPositive();
+        });
+    }
+
+    private int awaitCompleted() throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(120);
+        Integer completed = 0;
+        while (System.nanoTime() < deadline) {
+            completed = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM payment WHERE payment_status = 'COMPLETED'", Integer.class);
+            if (completed != null && completed == PAYMENTS) {
+                break;
+            }
+            Thread.sleep(200);
+        }
+        return completed == null ? 0 : completed;
+    }
+
+    //주문하고 결제를 요청해서, 포트원 결제창에 넘길 결제 정보를 만든다.
+    private List<RequestedPayment> requestPayments() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<RequestedPayment> requestedPayments = new ArrayList<>();
+
+        for (int i = 0; i < PAYMENTS; i++) {
+            String orderNumber = orderService.order(createRequest(i), memberLoginId);
+            String paymentId = paymentService.request(orderNumber, memberLoginId).getPaymentId();
+            String orderName = transactionTemplate.execute(status -> {
+                Order order = orderService.findOrderWithAllExceptMember(orderNumber);
+                return order.getOrderProducts().getFirst().getProduct().getName() + " 외 " + (ORDER_LINES - 1) + "건";
+            });
+
+            requestedPayments.add(new RequestedPayment(paymentId, orderNumber, orderName));
+        }
+        return requestedPayments;
+    }
+
+    private OrderCreateRequest createRequest(int seed) {
+        List<OrderProductRequest> orderProductRequestList = new ArrayList<>();
+        for (int line = 0; line < ORDER_LINES; line++) {
+            String productNumber = productNumbers.get((seed * ORDER_LINES + line) % productNumbers.size());
+            orderProductRequestList.add(new OrderProductRequest(productNumber, 1));
+        }
+
+        return new OrderCreateRequest(orderProductRequestList);
+    }
+
+    //id는 id_sequence에서 발급하지 않으므로 productNumbers의 순서대로 직접 넣는다.
+    private void insertProducts() {
+        String sql = "INSERT INTO product (product_id, dtype, product_number, name, name_initial, price, stock_quantity, version, created_at, artist, artist_initial, studio, studio_initial)" +
+                " VALUES (?, 'A', ?, ?, ?, " + PRICE + ", 1000000, 0, NOW(6), 'IVE', 'IVE', 'STARSHIP', 'STARSHIP')";
+
+        for (int i = 0; i < PRODUCTS; i++) {
+            productNumbers.add(NanoIdProvider.createNanoId());
+        }
+        jdbcTemplate.batchUpdate(sql, productNumbers, productNumbers.size(), (ps, productNumber) -> {
+            ps.setLong(1, productNumbers.indexOf(productNumber) + 1L);
+            ps.setString(2, productNumber);
+            ps.setString(3, "ALBUM " + productNumber);
+            ps.setString(4, "ALBUM " + productNumber);
+        });
+    }
+
+    private record RequestedPayment(String paymentId, String orderNumber, String orderName) {
+    }
+}
@@ -0,0 +1,138 @@
+package lsk.commerce.benchmark;
+
+import lsk.commerce.query.ProductQueryService;
+import lsk.commerce.query.dto.ProductCursor;
+import lsk.commerce.query.dto.ProductPageCond;
+import lsk.commerce.query.dto.ProductSearchCond;
+import lsk.commerce.query.dto.ProductSearchPage;
+import lsk.commerce.query.dto.ProductSort;
+import lsk.commerce.util.NanoIdProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.then;
+
+//깊은 페이지로 갈수록 OFFSET 방식은 느려지고 커서 방식은 일정한지 측정한다.
+@Tag("benchmark")
+@SpringBootTest
+class ProductSearchPageBenchmarkTest {
+
+    private static final int CATALOG_SIZE = 200_000;
+    private static final int[] DEPTHS = {0, 10_000, 100_000, 190_000};
+    private static final int PAGE_SIZE = 20;
+    private static final int WARMUP_PAGES = 20;
+    private static final int MEASURE_PAGES = 100;
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final String OFFSET_SQL = "SELECT name, product_number, price, stock_quantity FROM product" +
+            " ORDER BY price, product_id LIMIT ? OFFSET ?";
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    ProductQueryService productQueryService;
+
+    @BeforeEach
+    void beforeEach() {
+        insertProducts();
+    }
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
+        jdbcTemplate.execute("DELETE FROM product");
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
+    }
+
+    @Test
+    void keysetLatency_ShouldStayFlat_WhenPageGoesDeeper() {
+        Map<Integer, Double> keysetMicrosByDepth = new LinkedHashMap<>();
+        Map<Integer, Double> offsetMicrosByDepth = new LinkedHashMap<>();
+
+        for (int depth : DEPTHS) {
+            //given
+            ProductPageCond pageCond = ProductPageCond.builder()
+                    .cursor(cursorAt(depth))
+                    .size(PAGE_SIZE)
+                    .sort(ProductSort.PRICE_ASC)
+                    .build();
+
+            //when
+            double keysetMicros = measure(() -> {
+                ProductSearchPage page = productQueryService.searchProducts(ProductSearchCond.builder().build(), pageCond);
+                then(page.products()).hasSize(PAGE_SIZE);
+            });
+            double offsetMicros = measure(() -> {
+                List<Map<String, Object>> rows = jdbcTemplate.queryForList(OFFSET_SQL, PAGE_SIZE, depth);
+                then(rows).hasSize(PAGE_SIZE);
+            });
+
+            keysetMicrosByDepth.put(depth, keysetMicros);
+            offsetMicrosByDepth.put(depth, offsetMicros);
+            System.out.printf("depth=%d, keyset avg=%.1fus, offset avg=%.1fus%n", depth, keysetMicros, offsetMicros);
+        }
+
+        //then
+        int deepest = DEPTHS[DEPTHS.length - 1];
+        then(keysetMicrosByDepth.get(deepest)).isLessThan(keysetMicrosByDepth.get(DEPTHS[0]) * 3);
+        then(keysetMicrosByDepth.get(deepest)).isLessThan(offsetMicrosByDepth.get(deepest));
+    }
+
+    private double measure(Runnable pageQuery) {
+        for (int i = 0; i < WARMUP_PAGES; i++) {
+            pageQuery.run();
+        }
+
+        long start = System.nanoTime();
+        for (int i = 0; i < MEASURE_PAGES; i++) {
+            pageQuery.run();
+        }
+        return (System.nanoTime() - start) / 1_000.0 / MEASURE_PAGES;
+    }
+
+    //depth번째 상품 바로 앞에서 끝난 페이지의 커서를 만든다.
+    private String cursorAt(int depth) {
+        if (depth == 0) {
+            return null;
+        }
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT product_id, price FROM product ORDER BY price, product_id LIMIT 1 OFFSET ?", depth - 1);
+        return ProductCursor.of(ProductSort.PRICE_ASC, ((Number) row.get("product_id")).longValue(), null, ((Number) row.get("price")).intValue(), null)
+                .encode();
+    }
+
+    private void insertProducts() {
+        //id는 id_sequence에서 발급하지 않으므로 직접 넣는다.
+        String sql = "INSERT INTO product (product_id, dtype, product_number, name, name_initial, price, stock_quantity, version, created_at, artist, artist_initial, studio, studio_initial)" +
+                " VALUES (?, 'A', ?, ?, ?, ?, 100, 0, NOW(6), 'IVE', 'IVE', 'STARSHIP', 'STARSHIP')";
+
+        List<Integer> batch = new ArrayList<>();
+        for (int i = 0; i < CATALOG_SIZE; i++) {
+            batch.add(i);
+
+            if (batch.size() == BATCH_SIZE || i == CATALOG_SIZE - 1) {
+                jdbcTemplate.batchUpdate(sql, batch, batch.size(), (ps, seq) -> {
+                    String productNumber = NanoIdProvider.createNanoId();
+                    ps.setLong(1, seq + 1);
+                    ps.setString(2, productNumber);
+                    ps.setString(3, "ALBUM " + productNumber);
+                    ps.setString(4, "ALBUM " + productNumber);
+                    ps.setInt(5, 100 + seq % 10_000);
+                });
+                batch = new ArrayList<>();
+            }
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package lsk.commerce.benchmark;
+
+import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.domain.Product;
+import lsk.commerce.dto.StockChangeDto;
+import lsk.commerce.repository.ProductRepository;
+import lsk.commerce.repository.ProductStockJdbcRepository;
+import lsk.commerce.service.AtomicStockReservationService;
+import lsk.commerce.service.OptimisticStockReservationService;
+import lsk.commerce.service.PessimisticStockReservationService;
+import lsk.commerce.service.StockReservationService;
+import lsk.commerce.util.NanoIdProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+//한 상품에 주문이 몰릴 때 재고 차감 방식별 처리량과 초과 판매 수를 비교한다.
+@Tag("benchmark")
+@SpringBootTest(properties = "spring.datasource.hikari.maximum-pool-size=20")
+class StockContentionBenchmarkTest {
+
+    private static final int THREADS = 16;
+    private static final int INITIAL_STOCK = 1_000;
+    private static final int ATTEMPTS_PER_THREAD = INITIAL_STOCK * 2 / THREADS;
+    //id_sequence가 발급하는 범위와 겹치지 않는 큰 값
+    private static final long HOT_PRODUCT_ID = 1_000_000_000L;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    ProductRepository productRepository;
+
+    @Autowired
+    ProductStockJdbcRepository productStockJdbcRepository;
+
+    TransactionTemplate transactionTemplate;
+    String productNumber;
+    Product product;
+
+    @BeforeEach
+    void beforeEach() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_READ_COMMITTED);
+
+        productNumber = NanoIdProvider.createNanoId();
+        //id는 id_sequence에서 발급하지 않으므로 직접 넣는다.
+        jdbcTemplate.update("INSERT INTO product (product_id, dtype, product_number, name, name_initial, price, stock_quantity, version, created_at, artist, artist_initial, studio, studio_initial)" +
+                " VALUES (?, 'A', ?, 'HOT ALBUM', 'HOT ALBUM', 10000, ?, 0, NOW(6), 'IVE', 'IVE', 'STARSHIP', 'STARSHIP')", HOT_PRODUCT_ID, productNumber, INITIAL_STOCK);
+
+        product = transactionTemplate.execute(status -> productRepository.findByNumber(productNumber).orElseThrow());
+    }
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.update("DELETE FROM product WHERE product_number = ?", productNumber);
+    }
+
+    @Test
+    void compareStrategies() throws InterruptedException {
+        Map<String, StockReservationService> strategies = new LinkedHashMap<>();
+        strategies.put("naive", new NaiveStockReservationService());
+        strategies.put("pessimistic", new PessimisticStockReservationService(productStockJdbcRepository));
+        strategies.put("atomic", new AtomicStockReservationService(productStockJdbcRepository));
+        strategies.put("optimistic", new OptimisticStockReservationService(productStockJdbcRepository, 10));
+
+        Map<String, Integer> oversoldByStrategy = new LinkedHashMap<>();
+        for (Map.Entry<String, StockReservationService> strategy : strategies.entrySet()) {
+            //given
+            jdbcTemplate.update("UPDATE product SET stock_quantity = ?, version = 0 WHERE product_number = ?", INITIAL_STOCK, productNumber);
+
+            //when
+            AtomicInteger successCount = new AtomicInteger();
+            AtomicInteger rejectedCount = new AtomicInteger();
+            long elapsedNanos = runConcurrently(strategy.getValue(), successCount, rejectedCount);
+
+            //then
+            Integer finalStock = jdbcTemplate.queryForObject("SELECT stock_quantity FROM product WHERE product_number = ?", Integer.class, productNumber);
+            int oversold = successCount.get() - (INITIAL_STOCK - finalStock);
+            double throughput = (successCount.get() + rejectedCount.get()) / (elapsedNanos / 1_000_000_000.0);
+
+            oversoldByStrategy.put(strategy.getKey(), oversold);
+            System.out.printf("strategy=%s, success=%d, rejected=%d, finalStock=%d, oversold=%d, throughput=%.1f/s%n",
+                    strategy.getKey(), successCount.get(), rejectedCount.get(), finalStock, oversold, throughput);
+        }
+
+        thenSoftly(softly -> {
+            softly.then(oversoldByStrategy.get("pessimistic")).isZero();
+            softly.then(oversoldByStrategy.get("atomic")).isZero();
+            softly.then(oversoldByStrategy.get("optimistic")).isZero();
+        });
+    }
+
+    private long runConcurrently(StockReservationService stockReservationService, AtomicInteger successCount, AtomicInteger rejectedCount) throws InterruptedException {
+        ExecutorService executorService = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startLatch = new CountDownLatch(1);
+        CountDownLatch doneLatch = new CountDownLatch(THREADS);
+
+        for (int i = 0; i < THREADS; i++) {
+            executorService.submit(() -> {
+                try {
+                    startLatch.await();
+                    for (int attempt = 0; attempt < ATTEMPTS_PER_THREAD; attempt++) {
+                        try {
+                            List<OrderProduct> orderProducts = List.of(OrderProduct.createOrderProduct(product, 1));
+                            transactionTemplate.executeWithoutResult(status -> stockReservationService.reserve(orderProducts));
+                            successCount.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            rejectedCount.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    doneLatch.countDown();
+                }
+            });
+        }
+
+        long start = System.nanoTime();
+        startLatch.countDown();
+        doneLatch.await();
+        long elapsedNanos = System.nanoTime() - start;
+
+        executorService.shutdown();
+        then(executorService.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        return elapsedNanos;
+    }
+
+    //잠금 없이 읽고 덮어쓰는 기존 방식, 초과 판매가 생기는지 비교하기 위한 기준
+    private class NaiveStockReservationService implements StockReservationService {
+
+        @Override
+        public void reserve(List<OrderProduct> orderProducts) {
+            for (OrderProduct orderProduct : orderProducts) {
+                Long productId = orderProduct.getProduct().getId();
+                Integer stockQuantity = jdbcTemplate.queryForObject("SELECT stock_quantity FROM product WHERE product_id = ?", Integer.class, productId);
+                if (stockQuantity < orderProduct.getQuantity()) {
+                    throw new IllegalArgumentException("재고가 부족합니다. productNumber: " + orderProduct.getProductNumber());
+                }
+
+                jdbcTemplate.update("UPDATE product SET stock_quantity = ? WHERE product_id = ?", stockQuantity - orderProduct.getQuantity(), productId);
+            }
+        }
+
+        @Override
+        public void release(List<OrderProduct> orderProducts) {
+        }
+
+        @Override
+        public void releaseStockChanges(List<StockChangeDto> stockChanges) {
+        }
+    }
+}
@@ -4,11 +4,13 @@ import tools.jackson.databind.ObjectMapper;
 import lsk.commerce.config.WebConfig;
 import lsk.commerce.domain.Category;
 import lsk.commerce.domain.product.Album;
+import lsk.commerce.dto.CategoryTreeJsonDto;
 import lsk.commerce.dto.request.CategoryChangeParentRequest;
 import lsk.commerce.dto.request.CategoryCreateRequest;
 import lsk.commerce.dto.response.CategoryDisconnectResponse;
 import lsk.commerce.dto.response.CategoryResponse;
 import lsk.commerce.dto.response.ProductDetailResponse;
+import lsk.commerce.dto.response.Result;
 import lsk.commerce.exception.DataNotFoundException;
 import lsk.commerce.query.CategoryQueryService;
 import lsk.commerce.query.dto.CategoryProductQueryDto;
@@ -27,11 +29,13 @@ import org.springframework.boot.security.autoconfigure.SecurityAutoConfiguration
 import org.springframework.boot.webmvc.test.autoconfigure.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
@@ -49,6 +53,8 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -169,32 +175,66 @@ class CategoryControllerTest {
             @Test
             void basic() throws Exception {
                 //given
-                Category parentCategory = Category.createCategory(null, "가요");
-                Category childCategory = Category.createCategory(parentCategory, "댄스");
+                CategoryResponse childCategoryResponse = new CategoryResponse("댄스", "childNumber1", List.of());
+                CategoryResponse parentCategoryResponse = new CategoryResponse("가요", "parentNumber", List.of(childCategoryResponse));
+                CategoryResponse otherCategoryResponse = new CategoryResponse("영화", "otherNumber1", List.of());
+                List<CategoryResponse> categoryTree = List.of(parentCategoryResponse, otherCategoryResponse);
 
-                given(categoryService.findRootCategories()).willReturn(List.of(parentCategory, childCategory));
-                given(categoryService.getCategoryDto(any(Category.class))).willAnswer(invocation -> {
-                    Category category = invocation.getArgument(0, Category.class);
-                    return CategoryResponse.from(category);
-                });
+                byte[] body = objectMapper.writeValueAsBytes(new Result<>(categoryTree, categoryTree.size()));
+                given(categoryService.findCategoryTreeJson()).willReturn(new CategoryTreeJsonDto("\"tree-v1\"", body));
 
                 //when & then
                 mvc.perform(get("/categories"))
                         .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, "\"tree-v1\""))
                         .andExpect(jsonPath("$.data[0].name").value("가요"))
                         .andExpect(jsonPath("$.data[0].children[0].name").value("댄스"))
                         .andExpect(jsonPath("$.data[0].children[0].children").isEmpty())
-                        .andExpect(jsonPath("$.data[1].name").value("댄스"))
+                        .andExpect(jsonPath("$.data[1].name").value("영화"))
                         .andExpect(jsonPath("$.data[1].children").isEmpty())
                         .andExpect(jsonPath("$.count").value(2))
                         .andDo(print());
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(categoryService).should().findRootCategories());
-                    softly.check(() -> BDDMockito.then(categoryService).should(times(2)).getCategoryDto(any(Category.class)));
+                    softly.check(() -> BDDMockito.then(categoryService).should().findCategoryTreeJson());
+                    softly.check(() -> BDDMockito.then(categoryService).should(never()).getCategoryDto(any()));
                 });
             }
+
+            @Test
+            void notModified() throws Exception {
+                //given
+                given(categoryService.findCategoryTreeJson()).willReturn(new CategoryTreeJsonDto("\"tree-v1\"", new byte[]{'{', '}'}));
+
+                //when & then
+                mvc.perform(get("/categories")
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"tree-v1\""))
+                        .andExpect(status().isNotModified())
+                        .andExpect(header().string(HttpHeaders.ETAG, "\"tree-v1\""))
+                        .andExpect(content().string(""))
+                        .andDo(print());
+
+                //then
+                BDDMockito.then(categoryService).should().findCategoryTreeJson();
+            }
+
+            @Test
+            void modified_WhenETagIsDifferent() throws Exception {
+                //given
+                given(categoryService.findCategoryTreeJson()).willReturn(new CategoryTreeJsonDto("\"tree-v2\"", "{\"data\":[],\"count\":0}".getBytes(StandardCharsets.UTF_8)));
+
+                //when & then
+                mvc.perform(get("/categories")
+                                .header(HttpHeaders.IF_NONE_MATCH, "\"tree-v1\""))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, "\"tree-v2\""))
+                        .andExpect(jsonPath("$.count").value(0))
+                        .andDo(print());
+
+                //then
+                BDDMockito.then(categoryService).should().findCategoryTreeJson();
+            }
         }
     }
 
@@ -1,6 +1,7 @@
 package lsk.commerce.controller;
 
 import tools.jackson.databind.ObjectMapper;
+import io.portone.sdk.server.webhook.WebhookTransactionPaid;
 import io.portone.sdk.server.webhook.WebhookVerifier;
 import lsk.commerce.api.portone.CompletePaymentRequest;
 import lsk.commerce.api.portone.SyncPaymentException;
@@ -23,6 +24,7 @@ import lsk.commerce.exception.GlobalExceptionHandler;
 import lsk.commerce.service.OrderService;
 import lsk.commerce.service.PaymentService;
 import lsk.commerce.service.PaymentSyncService;
+import lsk.commerce.service.WebhookInboxService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -44,9 +46,11 @@ import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.RETURNS_DEEP_STUBS;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.times;
 import static org.mockito.Mockito.mock;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
@@ -82,6 +86,9 @@ class PaymentControllerTest {
     @MockitoBean
     PaymentSyncService paymentSyncService;
 
+    @MockitoBean
+    WebhookInboxService webhookInboxService;
+
     private abstract class SetUp {
 
         @BeforeEach
@@ -90,7 +97,7 @@ class PaymentControllerTest {
             given(resolver.supportsParameter(any())).willReturn(true);
             given(resolver.resolveArgument(any(), any(), any(), any())).willReturn("id_A");
 
-            mvc = MockMvcBuilders.standaloneSetup(new PaymentController(portoneWebhook, orderService, paymentService, paymentSyncService))
+            mvc = MockMvcBuilders.standaloneSetup(new PaymentController(portoneWebhook, orderService, paymentService, paymentSyncService, webhookInboxService))
                     .setControllerAdvice(new GlobalExceptionHandler(), new SyncPaymentExceptionHandler())
                     .setCustomArgumentResolvers(resolver)
                     .build();
@@ -210,6 +217,79 @@ class PaymentControllerTest {
         }
     }
 
+    @Nested
+    class HandleWebhook extends SetUp {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void notTransactionWebhook_ShouldAcknowledgeWithoutInbox() throws Exception {
+                //given
+                given(portoneWebhook.verify(anyString(), anyString(), anyString(), anyString())).willReturn(null);
+
+                //when & then
+                mvc.perform(post("/api/payment/webhook")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header("webhook-id", "msg_1")
+                                .header("webhook-timestamp", "1700000000")
+                                .header("webhook-signature", "v1,signature")
+                                .content("{}"))
+                        .andExpect(status().isOk())
+                        .andDo(print());
+
+                //then
+                BDDMockito.then(webhookInboxService).should(never()).receive(anyString(), anyString());
+            }
+
+            @Test
+            void transactionWebhook_ShouldBeSavedToInbox() throws Exception {
+                //given
+                String paymentId = "vndu867sbci3";
+                WebhookTransactionPaid webhook = mock(WebhookTransactionPaid.class, RETURNS_DEEP_STUBS);
+                given(webhook.getData().getPaymentId()).willReturn(paymentId);
+                given(portoneWebhook.verify(anyString(), anyString(), anyString(), anyString())).willReturn(webhook);
+
+                //when & then
+                mvc.perform(post("/api/payment/webhook")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header("webhook-id", "msg_1")
+                                .header("webhook-timestamp", "1700000000")
+                                .header("webhook-signature", "v1,signature")
+                                .content("{}"))
+                        .andExpect(status().isOk())
+                        .andDo(print());
+
+                //then
+                BDDMockito.then(webhookInboxService).should().receive("msg_1", paymentId);
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void invalidSignature() throws Exception {
+                //given
+                given(portoneWebhook.verify(anyString(), anyString(), anyString(), anyString())).willThrow(new IllegalArgumentException("invalid signature"));
+
+                //when & then
+                mvc.perform(post("/api/payment/webhook")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .header("webhook-id", "msg_1")
+                                .header("webhook-timestamp", "1700000000")
+                                .header("webhook-signature", "v1,wrong")
+                                .content("{}"))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.code").value("PORTONE_ERROR"))
+                        .andDo(print());
+
+                //then
+                BDDMockito.then(webhookInboxService).should(never()).receive(anyString(), anyString());
+            }
+        }
+    }
+
     @Nested
     class GetOrder extends SetUp {
 
@@ -14,7 +14,10 @@ import lsk.commerce.dto.response.ProductResponse;
 import lsk.commerce.exception.DataNotFoundException;
 import lsk.commerce.exception.DuplicateResourceException;
 import lsk.commerce.query.ProductQueryService;
+import lsk.commerce.query.dto.ProductPageCond;
 import lsk.commerce.query.dto.ProductSearchCond;
+import lsk.commerce.query.dto.ProductSearchPage;
+import lsk.commerce.query.dto.ProductSort;
 import lsk.commerce.service.CategoryProductService;
 import lsk.commerce.service.ProductService;
 import org.junit.jupiter.api.Nested;
@@ -44,6 +47,7 @@ import static org.junit.jupiter.params.provider.Arguments.argumentSet;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.anyList;
 import static org.mockito.BDDMockito.anyString;
+import static org.mockito.BDDMockito.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.times;
@@ -314,7 +318,11 @@ class ProductControllerTest {
                 cond.add("productName", "b");
                 cond.add("artist", "i");
 
-                given(productQueryService.searchProducts(any(ProductSearchCond.class))).willReturn(List.of(productResponse1, productResponse2));
+                cond.add("size", "2");
+                cond.add("sort", "PRICE_ASC");
+
+                given(productQueryService.searchProducts(any(ProductSearchCond.class), any(ProductPageCond.class)))
+                        .willReturn(new ProductSearchPage(List.of(productResponse1, productResponse2), "nextCursor1", true));
 
                 //when & then
                 mvc.perform(get("/products")
@@ -323,10 +331,13 @@ class ProductControllerTest {
                         .andExpect(jsonPath("$.data[0].name").value("BANG BANG"))
                         .andExpect(jsonPath("$.data[1].name").value("BLACKHOLE"))
                         .andExpect(jsonPath("$.count").value(2))
+                        .andExpect(jsonPath("$.nextCursor").value("nextCursor1"))
+                        .andExpect(jsonPath("$.hasNext").value(true))
                         .andDo(print());
 
                 //then
-                BDDMockito.then(productQueryService).should().searchProducts(any(ProductSearchCond.class));
+                BDDMockito.then(productQueryService).should().searchProducts(any(ProductSearchCond.class),
+                        argThat(pageCond -> pageCond.pageSize() == 2 && pageCond.sortOrDefault() == ProductSort.PRICE_ASC && pageCond.cursor() == null));
             }
 
             @Test
@@ -336,7 +347,8 @@ class ProductControllerTest {
                 cond.add("productName", "b");
                 cond.add("artist", "ㄱ");
 
-                given(productQueryService.searchProducts(any(ProductSearchCond.class))).willReturn(Collections.emptyList());
+                given(productQueryService.searchProducts(any(ProductSearchCond.class), any(ProductPageCond.class)))
+                        .willReturn(new ProductSearchPage(Collections.emptyList(), null, false));
 
                 //when & then
                 mvc.perform(get("/products")
@@ -344,10 +356,31 @@ class ProductControllerTest {
                         .andExpect(status().isOk())
                         .andExpect(jsonPath("$.data").isEmpty())
                         .andExpect(jsonPath("$.count").value(0))
+                        .andExpect(jsonPath("$.nextCursor").doesNotExist())
+                        .andExpect(jsonPath("$.hasNext").value(false))
+                        .andDo(print());
+
+                //then
+                BDDMockito.then(productQueryService).should().searchProducts(any(ProductSearchCond.class), any(ProductPageCond.class));
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void sizeOutOfRange() throws Exception {
+                //when & then
+                mvc.perform(get("/products")
+                                .param("size", "101"))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(jsonPath("$.code").value("NOT_VALID"))
+                        .andExpect(jsonPath("$.errors[0].field").value("size"))
+                        .andExpect(jsonPath("$.errors[0].message").value("페이지 크기는 100 이하여야 합니다"))
                         .andDo(print());
 
                 //then
-                BDDMockito.then(productQueryService).should().searchProducts(any(ProductSearchCond.class));
+                BDDMockito.then(productQueryService).should(never()).searchProducts(any(), any());
             }
         }
     }
@@ -99,6 +99,38 @@ class MemberTest {
         }
     }
 
+    @Nested
+    class UpgradePassword {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                Member member = Member.builder().password("$2a$04$old").build();
+
+                //when
+                member.upgradePassword("$2a$04$old", "$2a$12$new");
+
+                //then
+                then(member.getPassword()).isEqualTo("$2a$12$new");
+            }
+
+            @Test
+            void shouldIgnore_WhenPasswordChangedInBetween() {
+                //given
+                Member member = Member.builder().password("$2a$10$changed").build();
+
+                //when
+                member.upgradePassword("$2a$04$old", "$2a$12$new");
+
+                //then
+                then(member.getPassword()).isEqualTo("$2a$10$changed");
+            }
+        }
+    }
+
     @Nested
     class ChangeAddress {
 
@@ -52,23 +52,6 @@ class OrderProductTest {
                         .isInstanceOf(IllegalArgumentException.class)
                         .hasMessage("수량이 없습니다");
             }
-
-            @Test
-            void exceed() {
-                //given
-                Album album = Album.builder()
-                        .price(15000)
-                        .stockQuantity(10)
-                        .build();
-
-                //when & then
-                thenThrownBy(() -> OrderProduct.createOrderProduct(album, 11))
-                        .isInstanceOf(IllegalArgumentException.class)
-                        .hasMessage("재고가 부족합니다. productNumber: " + album.getProductNumber());
-
-                //then
-                then(album.getStockQuantity()).isEqualTo(10);
-            }
         }
     }
 
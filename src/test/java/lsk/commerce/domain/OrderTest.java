@@ -3,7 +3,9 @@ package lsk.commerce.domain;
 import lsk.commerce.domain.product.Album;
 import lsk.commerce.domain.product.Book;
 import lsk.commerce.domain.product.Movie;
+import lsk.commerce.dto.OrderProductChangeDto;
 import lsk.commerce.dto.request.OrderProductRequest;
+import lsk.commerce.exception.DataNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -12,7 +14,9 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.BDDAssertions.then;
@@ -82,8 +86,8 @@ class OrderTest {
                     softly.then(createdOrder.getTotalAmount()).isEqualTo(120000);
                 });
                 thenSoftly(softly -> {
-                    softly.then(album.getStockQuantity()).isEqualTo(5);
-                    softly.then(book.getStockQuantity()).isEqualTo(4);
+                    softly.then(album.getStockQuantity()).isEqualTo(10);
+                    softly.then(book.getStockQuantity()).isEqualTo(7);
                 });
             }
         }
@@ -120,53 +124,102 @@ class OrderTest {
     }
 
     @Nested
-    class Clear extends Setup {
+    class IsSameOrderProducts extends Setup {
 
         @Nested
         class SuccessCase {
 
             @Test
             void basic() {
+                //given
+                OrderProductRequest orderProductRequest1 = new OrderProductRequest(album.getProductNumber(), 5);
+                OrderProductRequest orderProductRequest2 = new OrderProductRequest(book.getProductNumber(), 3);
+                List<OrderProductRequest> orderProductRequestList = List.of(orderProductRequest1, orderProductRequest2);
+
                 //when
-                order.clearOrderProduct();
+                boolean result = order.isSameOrderProducts(orderProductRequestList);
 
                 //then
-                thenSoftly(softly -> {
-                    softly.then(order.getOrderProducts()).isEmpty();
-                    softly.then(order.getTotalAmount()).isEqualTo(0);
-                });
-                thenSoftly(softly -> {
-                    softly.then(album.getStockQuantity()).isEqualTo(10);
-                    softly.then(book.getStockQuantity()).isEqualTo(7);
-                });
+                then(result).isTrue();
             }
+        }
+    }
+
+    @Nested
+    class ChangeOrderProducts extends Setup {
+
+        @Nested
+        class SuccessCase {
 
             @Test
-            void idempotency() {
-                //when 첫 번째 호출
-                order.clearOrderProduct();
+            void basic() {
+                //given
+                Map<String, Integer> quantities = new LinkedHashMap<>();
+                quantities.put(album.getProductNumber(), 2);
+                quantities.put(movie.getProductNumber(), 2);
+
+                //when
+                OrderProductChangeDto change = order.changeOrderProducts(quantities, Map.of(movie.getProductNumber(), movie));
 
                 //then
                 thenSoftly(softly -> {
-                    softly.then(order.getOrderProducts()).isEmpty();
-                    softly.then(order.getTotalAmount()).isEqualTo(0);
+                    softly.then(order.getOrderProducts())
+                            .extracting("product", "orderPrice", "quantity")
+                            .containsExactly(tuple(album, 30000, 2), tuple(movie, 30000, 2));
+                    softly.then(order.getOrderProducts().getFirst()).isSameAs(orderProduct1);
+                    softly.then(order.getTotalAmount()).isEqualTo(60000);
+                });
+                thenSoftly(softly -> {
+                    softly.then(change.reserved())
+                            .extracting("product", "quantity")
+                            .containsExactly(tuple(movie, 2));
+                    softly.then(change.released())
+                            .extracting("product", "quantity")
+                            .containsExactlyInAnyOrder(tuple(album, 3), tuple(book, 3));
+                    softly.then(change.removed()).containsExactly(orderProduct2);
                 });
                 thenSoftly(softly -> {
                     softly.then(album.getStockQuantity()).isEqualTo(10);
-                    softly.then(book.getStockQuantity()).isEqualTo(7);
+                    softly.then(movie.getStockQuantity()).isEqualTo(5);
                 });
+            }
 
-                //when & then 두 번째 호출
-                thenNoException().isThrownBy(() -> order.clearOrderProduct());
+            @Test
+            void increaseQuantity() {
+                //given
+                Map<String, Integer> quantities = Map.of(album.getProductNumber(), 7, book.getProductNumber(), 3);
+
+                //when
+                OrderProductChangeDto change = order.changeOrderProducts(quantities, Map.of());
 
                 //then
                 thenSoftly(softly -> {
-                    softly.then(order.getOrderProducts()).isEmpty();
-                    softly.then(order.getTotalAmount()).isEqualTo(0);
+                    softly.then(change.reserved())
+                            .extracting("product", "quantity")
+                            .containsExactly(tuple(album, 2));
+                    softly.then(change.released()).isEmpty();
+                    softly.then(change.removed()).isEmpty();
+                    softly.then(orderProduct1.getOrderPrice()).isEqualTo(105000);
+                    softly.then(order.getTotalAmount()).isEqualTo(150000);
                 });
+            }
+
+            @Test
+            void removeDuplicateOrderProduct() {
+                //given
+                OrderProduct duplicateOrderProduct = OrderProduct.createOrderProduct(album, 1);
+                Order duplicateOrder = Order.createOrder(member, new Delivery(member), List.of(orderProduct1, duplicateOrderProduct));
+
+                //when
+                OrderProductChangeDto change = duplicateOrder.changeOrderProducts(Map.of(album.getProductNumber(), 5), Map.of());
+
+                //then
                 thenSoftly(softly -> {
-                    softly.then(album.getStockQuantity()).isEqualTo(10);
-                    softly.then(book.getStockQuantity()).isEqualTo(7);
+                    softly.then(duplicateOrder.getOrderProducts()).containsExactly(orderProduct1);
+                    softly.then(change.removed()).containsExactly(duplicateOrderProduct);
+                    softly.then(change.released()).containsExactly(duplicateOrderProduct);
+                    softly.then(change.reserved()).isEmpty();
+                    softly.then(duplicateOrder.getTotalAmount()).isEqualTo(75000);
                 });
             }
         }
@@ -174,6 +227,17 @@ class OrderTest {
         @Nested
         class FailureCase {
 
+            @Test
+            void productNotFound() {
+                //given
+                Map<String, Integer> quantities = Map.of(movie.getProductNumber(), 2);
+
+                //when & then
+                thenThrownBy(() -> order.changeOrderProducts(quantities, Map.of()))
+                        .isInstanceOf(DataNotFoundException.class)
+                        .hasMessage("존재하지 않는 상품입니다. productNumber: " + movie.getProductNumber());
+            }
+
             @ParameterizedTest
             @MethodSource("orderStatusProvider")
             void orderStatusIsNotCreated(OrderStatus orderStatus) {
@@ -181,9 +245,9 @@ class OrderTest {
                 ReflectionTestUtils.setField(order, "orderStatus", orderStatus);
 
                 //when & then
-                thenThrownBy(() -> order.clearOrderProduct())
+                thenThrownBy(() -> order.changeOrderProducts(Map.of(), Map.of()))
                         .isInstanceOf(IllegalStateException.class)
-                        .hasMessage("주문 생성 상태가 아니어서 주문 상품을 비울 수 없습니다. OrderStatus: " + orderStatus);
+                        .hasMessage("주문 생성 상태가 아니어서 주문 상품을 수정할 수 없습니다. OrderStatus: " + orderStatus);
             }
 
             @ParameterizedTest
@@ -195,9 +259,9 @@ class OrderTest {
                 ReflectionTestUtils.setField(order.getPayment(), "paymentStatus", paymentStatus);
 
                 //when & then
-                thenThrownBy(() -> order.clearOrderProduct())
+                thenThrownBy(() -> order.changeOrderProducts(Map.of(), Map.of()))
                         .isInstanceOf(IllegalStateException.class)
-                        .hasMessage("결제 대기 상태가 아니어서 주문 상품을 비울 수 없습니다. PaymentStatus: " + paymentStatus);
+                        .hasMessage("결제 대기 상태가 아니어서 주문 상품을 수정할 수 없습니다. PaymentStatus: " + paymentStatus);
             }
 
             @ParameterizedTest
@@ -207,9 +271,9 @@ class OrderTest {
                 ReflectionTestUtils.setField(delivery, "deliveryStatus", deliveryStatus);
 
                 //when & then
-                thenThrownBy(() -> order.clearOrderProduct())
+                thenThrownBy(() -> order.changeOrderProducts(Map.of(), Map.of()))
                         .isInstanceOf(IllegalStateException.class)
-                        .hasMessage("배송 대기 상태가 아니어서 주문 상품을 비울 수 없습니다. DeliveryStatus: " + deliveryStatus);
+                        .hasMessage("배송 대기 상태가 아니어서 주문 상품을 수정할 수 없습니다. DeliveryStatus: " + deliveryStatus);
             }
 
             static Stream<Arguments> orderStatusProvider() {
@@ -239,61 +303,6 @@ class OrderTest {
         }
     }
 
-    @Nested
-    class IsSameOrderProducts extends Setup {
-
-        @Nested
-        class SuccessCase {
-
-            @Test
-            void basic() {
-                //given
-                OrderProductRequest orderProductRequest1 = new OrderProductRequest(album.getProductNumber(), 5);
-                OrderProductRequest orderProductRequest2 = new OrderProductRequest(book.getProductNumber(), 3);
-                List<OrderProductRequest> orderProductRequestList = List.of(orderProductRequest1, orderProductRequest2);
-
-                //when
-                boolean result = order.isSameOrderProducts(orderProductRequestList);
-
-                //then
-                then(result).isTrue();
-            }
-        }
-    }
-
-    @Nested
-    class Change extends Setup {
-
-        @Nested
-        class SuccessCase {
-
-            @Test
-            void basic() {
-                //given
-                order.clearOrderProduct();
-
-                OrderProduct orderProduct3 = OrderProduct.createOrderProduct(movie, 2);
-                OrderProduct orderProduct4 = OrderProduct.createOrderProduct(album, 2);
-
-                //when
-                order.changeOrder(List.of(orderProduct3, orderProduct4));
-
-                //then
-                thenSoftly(softly -> {
-                    softly.then(order.getOrderProducts())
-                            .isNotEmpty()
-                            .extracting("product", "orderPrice", "quantity")
-                            .containsExactlyInAnyOrder(tuple(movie, 30000, 2), tuple(album, 30000, 2));
-                    softly.then(order.getTotalAmount()).isEqualTo(60000);
-                });
-                thenSoftly(softly -> {
-                    softly.then(album.getStockQuantity()).isEqualTo(8);
-                    softly.then(movie.getStockQuantity()).isEqualTo(3);
-                });
-            }
-        }
-    }
-
     @Nested
     class Cancel extends Setup {
 
@@ -19,6 +19,7 @@ import lsk.commerce.dto.response.Result;
 import lsk.commerce.repository.MemberRepository;
 import lsk.commerce.repository.OrderRepository;
 import lsk.commerce.service.CategoryService;
+import lsk.commerce.service.CategoryTreeCache;
 import lsk.commerce.service.MemberService;
 import lsk.commerce.service.ProductService;
 import lsk.commerce.util.JwtProvider;
@@ -86,6 +87,9 @@ public class IntegrationTest {
     @Autowired
     ProductService productService;
 
+    @Autowired
+    CategoryTreeCache categoryTreeCache;
+
     String memberLoginId;
     String token;
 
@@ -116,6 +120,8 @@ public class IntegrationTest {
         jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
 
         em.clear();
+        //JDBC로 지운 카테고리가 캐시에 남지 않게 다시 읽는다.
+        categoryTreeCache.refresh();
     }
 
     @Nested
@@ -0,0 +1,158 @@
+package lsk.commerce.interceptor;
+
+import lsk.commerce.controller.MemberController;
+import lsk.commerce.controller.ProductController;
+import lsk.commerce.dto.LoginPrincipalDto;
+import lsk.commerce.exception.NotAdminException;
+import lsk.commerce.exception.NotResourceOwnerException;
+import lsk.commerce.util.JwtProvider;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.mvc.ParameterizableViewController;
+import org.springframework.web.servlet.mvc.method.annotation.RequestMappingHandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import java.lang.reflect.Method;
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class LoginCheckInterceptorTest {
+
+    @Mock
+    JwtProvider jwtProvider;
+
+    @Mock
+    ObjectProvider<RequestMappingHandlerMapping> handlerMappings;
+
+    LoginCheckInterceptor loginCheckInterceptor;
+
+    MockHttpServletRequest request = new MockHttpServletRequest();
+    MockHttpServletResponse response = new MockHttpServletResponse();
+
+    @BeforeEach
+    void beforeEach() {
+        loginCheckInterceptor = new LoginCheckInterceptor(jwtProvider, new RoutePolicyTable(handlerMappings));
+    }
+
+    @Nested
+    class PreHandle {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void publicApi() throws Exception {
+                //given
+                request.setMethod("POST");
+
+                //when
+                boolean result = loginCheckInterceptor.preHandle(request, response, handler(MemberController.class, "create"));
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(result).isTrue();
+                    softly.check(() -> BDDMockito.then(jwtProvider).should(never()).verify(any()));
+                });
+            }
+
+            @Test
+            void owner() throws Exception {
+                //given
+                loginAs("id_A", "USER");
+                request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("memberLoginId", "id_A"));
+
+                //when
+                boolean result = loginCheckInterceptor.preHandle(request, response, handler(MemberController.class, "findMember"));
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(result).isTrue();
+                    softly.then(request.getAttribute(LoginPrincipalDto.REQUEST_ATTRIBUTE)).isEqualTo(new LoginPrincipalDto("id_A", "USER", Long.MAX_VALUE));
+                });
+            }
+
+            @Test
+            void admin() throws Exception {
+                //given
+                loginAs("admin", "ADMIN");
+
+                //when & then
+                then(loginCheckInterceptor.preHandle(request, response, handler(ProductController.class, "delete"))).isTrue();
+            }
+
+            @Test
+            void paymentPage() throws Exception {
+                //when & then
+                then(loginCheckInterceptor.preHandle(request, response, new ParameterizableViewController())).isTrue();
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void notOwner() {
+                //given
+                loginAs("id_B", "USER");
+                request.setAttribute(HandlerMapping.URI_TEMPLATE_VARIABLES_ATTRIBUTE, Map.of("memberLoginId", "id_A"));
+
+                //when & then
+                thenThrownBy(() -> loginCheckInterceptor.preHandle(request, response, handler(MemberController.class, "findMember")))
+                        .isInstanceOf(NotResourceOwnerException.class)
+                        .hasMessage("아이디의 주인이 아닙니다");
+            }
+
+            @Test
+            void notAdmin() {
+                //given
+                loginAs("id_A", "USER");
+
+                //when & then
+                thenThrownBy(() -> loginCheckInterceptor.preHandle(request, response, handler(MemberController.class, "memberList")))
+                        .isInstanceOf(NotAdminException.class)
+                        .hasMessage("관리자만 접근할 수 있습니다");
+            }
+
+            @Test
+            void unregisteredPath() throws Exception {
+                //given
+                request.setRequestURI("/payments/invalid");
+
+                //when & then
+                then(loginCheckInterceptor.preHandle(request, response, new ResourceHttpRequestHandler())).isFalse();
+            }
+        }
+    }
+
+    private void loginAs(String loginId, String role) {
+        given(jwtProvider.getToken(request)).willReturn("token");
+        given(jwtProvider.verify("token")).willReturn(new LoginPrincipalDto(loginId, role, Long.MAX_VALUE));
+    }
+
+    private HandlerMethod handler(Class<?> controllerType, String methodName) {
+        for (Method method : controllerType.getDeclaredMethods()) {
+            if (method.getName().equals(methodName)) {
+                return new HandlerMethod(mock(controllerType), method);
+            }
+        }
+        throw new IllegalArgumentException(methodName);
+    }
+}
@@ -6,7 +6,10 @@ import lsk.commerce.domain.product.Album;
 import lsk.commerce.domain.product.Book;
 import lsk.commerce.domain.product.Movie;
 import lsk.commerce.dto.response.ProductResponse;
+import lsk.commerce.query.dto.ProductPageCond;
 import lsk.commerce.query.dto.ProductSearchCond;
+import lsk.commerce.query.dto.ProductSearchPage;
+import lsk.commerce.query.dto.ProductSort;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,12 +21,18 @@ import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabas
 import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
 import static org.junit.jupiter.params.provider.Arguments.argumentSet;
 
 @DataJpaTest(showSql = false)
@@ -37,9 +46,14 @@ class ProductQueryRepositoryTest {
     @Autowired
     TestEntityManager em;
 
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
     @Autowired
     ProductQueryRepository productQueryRepository;
 
+    ProductPageCond allPage = ProductPageCond.builder().size(100).build();
+
     @BeforeEach
     void beforeEach() {
         initCreateProductsAndCategories();
@@ -61,7 +75,7 @@ class ProductQueryRepositoryTest {
                 System.out.println("================= WHEN START =================");
 
                 //when
-                List<ProductResponse> productResponseList = productQueryRepository.search(cond);
+                List<ProductResponse> productResponseList = productQueryRepository.search(cond, allPage).products();
 
                 System.out.println("================= WHEN END ===================");
 
@@ -112,7 +126,7 @@ class ProductQueryRepositoryTest {
                 System.out.println("================= WHEN START =================");
 
                 //when
-                List<ProductResponse> productResponseList = productQueryRepository.search(cond);
+                List<ProductResponse> productResponseList = productQueryRepository.search(cond, allPage).products();
 
                 System.out.println("================= WHEN END ===================");
 
@@ -136,6 +150,7 @@ class ProductQueryRepositoryTest {
                         argumentSet("상품 이름을 BANG BANG으로 검색", ProductSearchCond.builder().productName("BANG BANG").build(), List.of("BANG BANG")),
                         argumentSet("상품 이름을 b로 검색", ProductSearchCond.builder().productName("b").build(), List.of("BANG BANG", "Blue Valentine")),
                         argumentSet("상품 이름을 ㅂ으로 검색", ProductSearchCond.builder().productName("ㅂ").build(), List.of("자바 ORM 표준 JPA 프로그래밍", "범죄도시", "범죄도시2", "범죄도시3", "범죄도시4")),
+                        argumentSet("상품 이름을 ㅂ죄로 검색", ProductSearchCond.builder().productName("ㅂ죄").build(), List.of("범죄도시", "범죄도시2", "범죄도시3", "범죄도시4")),
                         argumentSet("상품 이름을 ㄱㄴㄷ으로 검색", ProductSearchCond.builder().productName("ㄱㄴㄷ").build(), Collections.emptyList())
                 );
             }
@@ -182,7 +197,7 @@ class ProductQueryRepositoryTest {
                 System.out.println("================= WHEN START =================");
 
                 //when
-                List<ProductResponse> productResponseList = productQueryRepository.search(cond);
+                List<ProductResponse> productResponseList = productQueryRepository.search(cond, allPage).products();
 
                 System.out.println("================= WHEN END ===================");
 
@@ -194,6 +209,148 @@ class ProductQueryRepositoryTest {
         }
     }
 
+    @Nested
+    class SearchPage {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void priceAsc() {
+                //when
+                List<String> productNames = readAllPages(ProductSearchCond.builder().build(), ProductSort.PRICE_ASC, 5);
+
+                //then
+                then(productNames).containsExactly(
+                        "Do it! 점프 투 파이썬", "천상연", "타임 캡슐", "404", "BANG BANG", "범죄도시2", "Blue Valentine",
+                        "범죄도시", "면접을 위한 CS 전공지식 노트", "범죄도시3", "너의 모든 순간", "범죄도시4", "자바 ORM 표준 JPA 프로그래밍"
+                );
+            }
+
+            @Test
+            void priceDesc() {
+                //when
+                List<String> productNames = readAllPages(ProductSearchCond.builder().build(), ProductSort.PRICE_DESC, 4);
+
+                //then
+                then(productNames).containsExactly(
+                        "자바 ORM 표준 JPA 프로그래밍", "범죄도시4", "너의 모든 순간", "범죄도시3", "면접을 위한 CS 전공지식 노트", "범죄도시",
+                        "Blue Valentine", "범죄도시2", "BANG BANG", "404", "타임 캡슐", "천상연", "Do it! 점프 투 파이썬"
+                );
+            }
+
+            @Test
+            void latest() {
+                //when
+                List<String> productNames = readAllPages(ProductSearchCond.builder().build(), null, 6);
+
+                //then
+                then(productNames).containsExactly(
+                        "범죄도시4", "범죄도시3", "범죄도시2", "범죄도시", "Do it! 점프 투 파이썬", "면접을 위한 CS 전공지식 노트",
+                        "자바 ORM 표준 JPA 프로그래밍", "천상연", "너의 모든 순간", "타임 캡슐", "404", "Blue Valentine", "BANG BANG"
+                );
+            }
+
+            @Test
+            void latest_ShouldFollowCreatedAt_WhenIdIsNotInCreationOrder() {
+                //given 다른 서버가 앞선 id 블록에서 나중에 등록한 상품
+                jdbcTemplate.update("UPDATE product SET created_at = ? WHERE name = ?",
+                        Timestamp.valueOf(LocalDateTime.now().plusDays(1)), "BANG BANG");
+
+                //when
+                List<String> productNames = readAllPages(ProductSearchCond.builder().build(), ProductSort.LATEST, 5);
+
+                //then
+                then(productNames).containsExactly(
+                        "BANG BANG", "범죄도시4", "범죄도시3", "범죄도시2", "범죄도시", "Do it! 점프 투 파이썬", "면접을 위한 CS 전공지식 노트",
+                        "자바 ORM 표준 JPA 프로그래밍", "천상연", "너의 모든 순간", "타임 캡슐", "404", "Blue Valentine"
+                );
+            }
+
+            @Test
+            void nameAsc_ShouldReadEveryProductOnce() {
+                //when
+                List<String> productNames = readAllPages(ProductSearchCond.builder().build(), ProductSort.NAME_ASC, 2);
+
+                //then
+                then(productNames)
+                        .hasSize(13)
+                        .doesNotHaveDuplicates();
+            }
+
+            @Test
+            void withCond() {
+                //given
+                ProductSearchCond cond = ProductSearchCond.builder().maxPrice(7000).build();
+                ProductPageCond pageCond = ProductPageCond.builder().size(3).sort(ProductSort.PRICE_DESC).build();
+
+                System.out.println("================= WHEN START =================");
+
+                //when
+                ProductSearchPage firstPage = productQueryRepository.search(cond, pageCond);
+                ProductSearchPage secondPage = productQueryRepository.search(cond, ProductPageCond.builder().size(3).sort(ProductSort.PRICE_DESC).cursor(firstPage.nextCursor()).build());
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(firstPage.hasNext()).isTrue();
+                    softly.then(firstPage.products())
+                            .extracting("name")
+                            .containsExactly("범죄도시2", "BANG BANG", "404");
+                    softly.then(secondPage.hasNext()).isFalse();
+                    softly.then(secondPage.nextCursor()).isNull();
+                    softly.then(secondPage.products())
+                            .extracting("name")
+                            .containsExactly("타임 캡슐", "천상연", "Do it! 점프 투 파이썬");
+                });
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void invalidCursor() {
+                //given
+                ProductPageCond pageCond = ProductPageCond.builder().cursor("abc").build();
+
+                //when & then
+                thenThrownBy(() -> productQueryRepository.search(ProductSearchCond.builder().build(), pageCond))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("잘못된 커서입니다. cursor: " + "abc");
+            }
+
+            @Test
+            void sortMismatch() {
+                //given
+                ProductSearchPage firstPage = productQueryRepository.search(ProductSearchCond.builder().build(), ProductPageCond.builder().size(2).sort(ProductSort.PRICE_ASC).build());
+                ProductPageCond pageCond = ProductPageCond.builder().size(2).sort(ProductSort.NAME_ASC).cursor(firstPage.nextCursor()).build();
+
+                //when & then
+                thenThrownBy(() -> productQueryRepository.search(ProductSearchCond.builder().build(), pageCond))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("커서와 정렬 조건이 다릅니다. sort: " + "NAME_ASC");
+            }
+        }
+
+        private List<String> readAllPages(ProductSearchCond cond, ProductSort sort, int size) {
+            List<String> productNames = new ArrayList<>();
+            String cursor = null;
+            boolean hasNext = true;
+            while (hasNext) {
+                ProductSearchPage page = productQueryRepository.search(cond, ProductPageCond.builder().cursor(cursor).size(size).sort(sort).build());
+                then(page.products().size()).isLessThanOrEqualTo(size);
+
+                page.products().forEach(productResponse -> productNames.add(productResponse.name()));
+                cursor = page.nextCursor();
+                hasNext = page.hasNext();
+            }
+
+            return productNames;
+        }
+    }
+
     private void initCreateProductsAndCategories() {
         Category category1 = createCategory("가요");
         Category category2 = createCategory("컴퓨터/IT");
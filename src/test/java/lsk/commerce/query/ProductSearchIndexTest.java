@@ -0,0 +1,229 @@
+package lsk.commerce.query;
+
+import lsk.commerce.domain.ProductSearchChangeType;
+import lsk.commerce.dto.ProductSearchChangeDto;
+import lsk.commerce.dto.ProductSearchDocumentDto;
+import lsk.commerce.event.ProductDeletedEvent;
+import lsk.commerce.event.ProductRegisteredEvent;
+import lsk.commerce.query.dto.ProductSearchField;
+import lsk.commerce.repository.ProductSearchJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+    @Mock
+    ProductSearchJdbcRepository productSearchJdbcRepository;
+
+    ProductSearchIndex productSearchIndex;
+
+    ProductSearchDocumentDto bangBang;
+    ProductSearchDocumentDto jpaBook;
+    ProductSearchDocumentDto crimeCity;
+
+    @BeforeEach
+    void beforeEach() {
+        bangBang = album(1L, "BANG BANG", "BANG BANG", "IVE", "IVE", "STARSHIP", "STARSHIP");
+        jpaBook = new ProductSearchDocumentDto(2L, "자바 ORM 표준 JPA 프로그래밍", "ㅈㅂ ORM ㅍㅈ JPA ㅍㄹㄱㄹㅁ",
+                null, null, null, null, "김영한", "ㄱㅇㅎ", null, null, null, null);
+        crimeCity = new ProductSearchDocumentDto(3L, "범죄도시", "ㅂㅈㄷㅅ",
+                null, null, null, null, null, null, "마동석", "ㅁㄷㅅ", "강윤성", "ㄱㅇㅅ");
+
+        productSearchIndex = new ProductSearchIndex(productSearchJdbcRepository, 2, 100, 10, 24);
+    }
+
+    @Nested
+    class Find {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                loadDocuments(bangBang, jpaBook, crimeCity);
+
+                //when & then
+                thenSoftly(softly -> {
+                    softly.then(productSearchIndex.find(ProductSearchField.NAME, "bang")).contains(Set.of(1L));
+                    softly.then(productSearchIndex.find(ProductSearchField.NAME, "JPA")).contains(Set.of(2L));
+                    softly.then(productSearchIndex.find(ProductSearchField.NAME_INITIAL, "ㅂㅈ")).contains(Set.of(3L));
+                    softly.then(productSearchIndex.find(ProductSearchField.AUTHOR_INITIAL, "ㄱㅇ")).contains(Set.of(2L));
+                    softly.then(productSearchIndex.find(ProductSearchField.DIRECTOR, "윤")).contains(Set.of(3L));
+                    softly.then(productSearchIndex.find(ProductSearchField.ARTIST, "ive")).contains(Set.of(1L));
+                });
+            }
+
+            @Test
+            void shouldBeEmpty_WhenGramsAreNotAdjacent() {
+                //given
+                loadDocuments(bangBang);
+
+                //when & then
+                thenSoftly(softly -> {
+                    softly.then(productSearchIndex.find(ProductSearchField.NAME, "BANG X")).hasValue(Set.of());
+                    softly.then(productSearchIndex.find(ProductSearchField.NAME, "BANGBANG")).hasValue(Set.of());
+                });
+            }
+
+            @Test
+            void shouldFallBack_WhenNotBuilt() {
+                //when & then
+                then(productSearchIndex.find(ProductSearchField.NAME, "BANG")).isEmpty();
+            }
+
+            @Test
+            void shouldFallBack_WhenTooManyCandidates() {
+                //given
+                loadDocuments(bangBang, jpaBook, crimeCity,
+                        album(4L, "LOVE DIVE", "LOVE DIVE", "IVE", "IVE", "STARSHIP", "STARSHIP"),
+                        album(5L, "I AM", "I AM", "IVE", "IVE", "STARSHIP", "STARSHIP"));
+
+                //when & then
+                then(productSearchIndex.find(ProductSearchField.ARTIST, "IVE")).isEmpty();
+            }
+        }
+    }
+
+    @Nested
+    class Change {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void addAndRemove() {
+                //given
+                loadDocuments(bangBang);
+
+                //when
+                productSearchIndex.add(new ProductRegisteredEvent(crimeCity));
+                productSearchIndex.remove(new ProductDeletedEvent(1L));
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(productSearchIndex.find(ProductSearchField.ACTOR_INITIAL, "ㅁㄷ")).contains(Set.of(3L));
+                    softly.then(productSearchIndex.find(ProductSearchField.NAME, "BANG")).hasValue(Set.of());
+                });
+            }
+
+            @Test
+            void shouldApplyOnlyChangedProducts_WhenChangedOnOtherServer() {
+                //given
+                loadDocuments(bangBang, crimeCity);
+                //다른 서버에서 더 작은 id로 상품을 등록하고, 다른 상품을 삭제했다.
+                ProductSearchDocumentDto loveDive = album(2L, "LOVE DIVE", "LOVE DIVE", "IVE", "IVE", "STARSHIP", "STARSHIP");
+                LocalDateTime settledAt = LocalDateTime.now().minusMinutes(1);
+                given(productSearchJdbcRepository.findChangesAfter(0L, 100)).willReturn(List.of(
+                        new ProductSearchChangeDto(1L, 2L, ProductSearchChangeType.REGISTERED, settledAt),
+                        new ProductSearchChangeDto(2L, 1L, ProductSearchChangeType.DELETED, settledAt)));
+                givenChangedDocuments(loveDive);
+
+                //when
+                productSearchIndex.applyChanges();
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(productSearchJdbcRepository).should(times(1)).findAllDocuments(any()));
+                    softly.check(() -> BDDMockito.then(productSearchJdbcRepository).should().findDocuments(eq(Set.of(2L)), any()));
+                    softly.then(productSearchIndex.find(ProductSearchField.NAME, "LOVE")).contains(Set.of(2L));
+                    softly.then(productSearchIndex.find(ProductSearchField.NAME, "BANG")).hasValue(Set.of());
+                    softly.then(productSearchIndex.find(ProductSearchField.NAME, "범죄")).contains(Set.of(3L));
+                });
+            }
+
+            @Test
+            void shouldReadAgain_WhenChangeIsNotSettled() {
+                //given
+                loadDocuments(bangBang);
+                ProductSearchDocumentDto loveDive = album(2L, "LOVE DIVE", "LOVE DIVE", "IVE", "IVE", "STARSHIP", "STARSHIP");
+                //2번 기록은 방금 쌓여서 그 앞 번호가 아직 커밋되지 않았을 수 있다.
+                given(productSearchJdbcRepository.findChangesAfter(0L, 100)).willReturn(List.of(
+                        new ProductSearchChangeDto(1L, 1L, ProductSearchChangeType.DELETED, LocalDateTime.now().minusMinutes(1)),
+                        new ProductSearchChangeDto(2L, 2L, ProductSearchChangeType.REGISTERED, LocalDateTime.now())));
+                given(productSearchJdbcRepository.findChangesAfter(1L, 100)).willReturn(List.of(
+                        new ProductSearchChangeDto(2L, 2L, ProductSearchChangeType.REGISTERED, LocalDateTime.now())));
+                givenChangedDocuments(loveDive);
+
+                //when
+                productSearchIndex.applyChanges();
+                productSearchIndex.applyChanges();
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(productSearchJdbcRepository).should().findChangesAfter(0L, 100));
+                    softly.check(() -> BDDMockito.then(productSearchJdbcRepository).should().findChangesAfter(1L, 100));
+                    softly.then(productSearchIndex.find(ProductSearchField.NAME, "LOVE")).contains(Set.of(2L));
+                    softly.then(productSearchIndex.find(ProductSearchField.NAME, "BANG")).hasValue(Set.of());
+                });
+            }
+
+            @Test
+            void shouldKeepChange_WhenCommittedDuringRebuild() {
+                //given
+                willAnswer(invocation -> {
+                    Consumer<ProductSearchDocumentDto> consumer = invocation.getArgument(0);
+                    consumer.accept(bangBang);
+                    //다시 읽는 동안 다른 요청이 커밋된 상황
+                    productSearchIndex.add(new ProductRegisteredEvent(crimeCity));
+                    productSearchIndex.remove(new ProductDeletedEvent(1L));
+                    return null;
+                }).given(productSearchJdbcRepository).findAllDocuments(any());
+
+                //when
+                productSearchIndex.rebuild();
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(productSearchIndex.find(ProductSearchField.NAME, "범죄")).contains(Set.of(3L));
+                    softly.then(productSearchIndex.find(ProductSearchField.NAME, "BANG")).hasValue(Set.of());
+                });
+            }
+        }
+    }
+
+    private void loadDocuments(ProductSearchDocumentDto... documents) {
+        givenDocuments(documents);
+        productSearchIndex.rebuild();
+    }
+
+    private void givenDocuments(ProductSearchDocumentDto... documents) {
+        willAnswer(invocation -> {
+            Consumer<ProductSearchDocumentDto> consumer = invocation.getArgument(0);
+            List.of(documents).forEach(consumer);
+            return null;
+        }).given(productSearchJdbcRepository).findAllDocuments(any());
+    }
+
+    private void givenChangedDocuments(ProductSearchDocumentDto... documents) {
+        willAnswer(invocation -> {
+            Consumer<ProductSearchDocumentDto> consumer = invocation.getArgument(1);
+            List.of(documents).forEach(consumer);
+            return null;
+        }).given(productSearchJdbcRepository).findDocuments(any(), any());
+    }
+
+    private ProductSearchDocumentDto album(Long id, String name, String nameInitial, String artist, String artistInitial, String studio, String studioInitial) {
+        return new ProductSearchDocumentDto(id, name, nameInitial, artist, artistInitial, studio, studioInitial,
+                null, null, null, null, null, null);
+    }
+}
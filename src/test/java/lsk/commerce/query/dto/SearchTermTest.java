@@ -0,0 +1,40 @@
+package lsk.commerce.query.dto;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+class SearchTermTest {
+
+    @ParameterizedTest
+    @CsvSource({
+            "BANG BANG, PLAIN, BANG BANG",
+            "범죄도시, PLAIN, 범죄도시",
+            "ㅂㅈㄷㅅ, INITIAL_ONLY, ㅂㅈㄷㅅ",
+            "JPA ㅍㄹ, INITIAL_ONLY, JPA ㅍㄹ",
+            "ㅂ죄, MIXED, ㅂㅈ",
+            "범죄ㄷ2, MIXED, ㅂㅈㄷ2"
+    })
+    void classify(String value, SearchTermType expectedType, String expectedInitialValue) {
+        //when
+        SearchTerm term = SearchTerm.of(value);
+
+        //then
+        thenSoftly(softly -> {
+            softly.then(term.type()).isEqualTo(expectedType);
+            softly.then(term.usesInitial()).isEqualTo(expectedType != SearchTermType.PLAIN);
+            softly.then(term.initialValue()).isEqualTo(expectedInitialValue);
+        });
+    }
+
+    @Test
+    void shouldBeNull_WhenBlank() {
+        //when & then
+        thenSoftly(softly -> {
+            softly.then(SearchTerm.of(null)).isNull();
+            softly.then(SearchTerm.of(" ")).isNull();
+        });
+    }
+}
@@ -4,6 +4,7 @@ import jakarta.validation.ConstraintViolationException;
 import lsk.commerce.domain.Category;
 import lsk.commerce.domain.CategoryProduct;
 import lsk.commerce.domain.product.Album;
+import lsk.commerce.dto.CategoryNodeDto;
 import org.hibernate.Hibernate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
@@ -25,6 +26,7 @@ import java.util.stream.Stream;
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenNoException;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDAssertions.tuple;
 import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
 import static org.junit.jupiter.params.provider.Arguments.argumentSet;
 
@@ -266,6 +268,76 @@ class CategoryRepositoryTest {
                 });
             }
 
+            @Test
+            void allNodes() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<CategoryNodeDto> nodes = categoryRepository.findAllNodes();
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(nodes)
+                        .extracting("name", "parentId")
+                        .containsExactlyInAnyOrder(
+                                tuple("가요", null),
+                                tuple("댄스", categoryId1),
+                                tuple("발라드", categoryId1)
+                        );
+            }
+
+            @Test
+            void byId() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                Optional<Category> findCategory = categoryRepository.findById(categoryId3);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(findCategory)
+                        .get()
+                        .extracting("name")
+                        .isEqualTo("발라드");
+            }
+
+            @Test
+            void byCategoryNumber() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                Optional<Category> findCategory = categoryRepository.findByCategoryNumber(categoryNumber2);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(findCategory)
+                        .get()
+                        .extracting("name")
+                        .isEqualTo("댄스");
+            }
+
+            @Test
+            void existsByParentAndName() {
+                //given
+                Category parentCategory = em.find(Category.class, categoryId1);
+                Category childCategory = em.find(Category.class, categoryId3);
+
+                System.out.println("================= WHEN START =================");
+
+                //when & then
+                thenSoftly(softly -> {
+                    softly.then(categoryRepository.existsByParentAndName(null, "가요")).isTrue();
+                    softly.then(categoryRepository.existsByParentAndName(null, "댄스")).isFalse();
+                    softly.then(categoryRepository.existsByParentAndName(parentCategory, "댄스")).isTrue();
+                    softly.then(categoryRepository.existsByParentAndName(childCategory, "댄스")).isFalse();
+                });
+
+                System.out.println("================= WHEN END ===================");
+            }
+
             @Test
             void byNumberSet() {
                 //given
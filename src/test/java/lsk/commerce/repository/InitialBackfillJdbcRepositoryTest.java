@@ -0,0 +1,115 @@
+package lsk.commerce.repository;
+
+import lsk.commerce.domain.product.Album;
+import lsk.commerce.domain.product.Book;
+import lsk.commerce.dto.InitialBackfillRowDto;
+import lsk.commerce.repository.InitialBackfillJdbcRepository.Target;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(InitialBackfillJdbcRepository.class)
+class InitialBackfillJdbcRepositoryTest {
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    InitialBackfillJdbcRepository initialBackfillJdbcRepository;
+
+    Long albumId;
+    Long bookId;
+
+    @BeforeEach
+    void beforeEach() {
+        albumId = em.persistAndGetId(Album.builder().name("타임 캡슐").price(15000).stockQuantity(5).artist("다비치").studio("씨에이엠위더스").build(), Long.class);
+        bookId = em.persistAndGetId(Book.builder().name("자바 ORM 표준 JPA 프로그래밍").price(15000).stockQuantity(5).author("김영한").isbn("9788960777330").build(), Long.class);
+
+        em.flush();
+        em.clear();
+    }
+
+    @Nested
+    class Find {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<InitialBackfillRowDto> rows = initialBackfillJdbcRepository.findRows(Target.PRODUCT, 0, 10);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(rows)
+                            .extracting("id")
+                            .containsExactly(albumId, bookId);
+                    softly.then(rows.getFirst().sources()).containsExactly("타임 캡슐", "다비치", "씨에이엠위더스", null, null, null);
+                    softly.then(rows.getFirst().initials()).containsExactly("ㅌㅇ ㅋㅅ", "ㄷㅂㅊ", "ㅆㅇㅇㅇㅇㄷㅅ", null, null, null);
+                });
+            }
+
+            @Test
+            void afterId() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<InitialBackfillRowDto> rows = initialBackfillJdbcRepository.findRows(Target.PRODUCT, albumId, 10);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(rows)
+                        .extracting("id")
+                        .containsExactly(bookId);
+            }
+        }
+    }
+
+    @Nested
+    class Update {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                List<String> sources = Arrays.asList("자바 ORM 표준 JPA 프로그래밍", null, null, "김영한", null, null);
+                List<String> initials = Arrays.asList("ㅈㅂ", null, null, "ㄱ", null, null);
+
+                System.out.println("================= WHEN START =================");
+
+                //when
+                initialBackfillJdbcRepository.updateInitials(Target.PRODUCT, List.of(new InitialBackfillRowDto(bookId, sources, initials)));
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                Book findBook = em.find(Book.class, bookId);
+                thenSoftly(softly -> {
+                    softly.then(findBook.getNameInitial()).isEqualTo("ㅈㅂ");
+                    softly.then(findBook.getAuthorInitial()).isEqualTo("ㄱ");
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,223 @@
+package lsk.commerce.repository;
+
+import lsk.commerce.domain.Category;
+import lsk.commerce.domain.Delivery;
+import lsk.commerce.domain.DeliveryStatus;
+import lsk.commerce.domain.Member;
+import lsk.commerce.domain.Order;
+import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.domain.OrderStatus;
+import lsk.commerce.domain.Payment;
+import lsk.commerce.domain.PaymentStatus;
+import lsk.commerce.domain.product.Album;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(OrderExpiryJdbcRepository.class)
+class OrderExpiryJdbcRepositoryTest {
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    OrderExpiryJdbcRepository orderExpiryJdbcRepository;
+
+    Member member;
+    Album album;
+    LocalDateTime now;
+    Long expiredOrderId1;
+    Long expiredOrderId2;
+    Long freshOrderId;
+
+    @BeforeEach
+    void beforeEach() {
+        member = Member.builder()
+                .name("유저A")
+                .loginId("id_A")
+                .password("abAB12!@")
+                .zipcode("01234")
+                .baseAddress("서울시 강남구")
+                .detailAddress("101동 101호")
+                .build();
+        em.persist(member);
+
+        Category category1 = Category.createCategory(null, "가요");
+        Category category2 = Category.createCategory(category1, "댄스");
+        em.persist(category1);
+        em.persist(category2);
+
+        album = Album.builder().name("BANG BANG").price(15000).stockQuantity(10).artist("IVE").studio("STARSHIP").build();
+        em.persist(album);
+        album.connectCategory(category2);
+
+        now = LocalDateTime.now();
+        expiredOrderId1 = createOrder(now.minusMinutes(90));
+        expiredOrderId2 = createOrder(now.minusMinutes(60));
+        freshOrderId = createOrder(now.minusMinutes(10));
+
+        em.flush();
+        em.clear();
+    }
+
+    @Nested
+    class FindExpired {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<Long> orderIds = orderExpiryJdbcRepository.findExpiredOrderIdsForUpdate(now.minusMinutes(30), 0L, 10);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(orderIds).containsExactly(expiredOrderId1, expiredOrderId2);
+            }
+
+            @Test
+            void keyset() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<Long> firstPage = orderExpiryJdbcRepository.findExpiredOrderIdsForUpdate(now.minusMinutes(30), 0L, 1);
+                List<Long> secondPage = orderExpiryJdbcRepository.findExpiredOrderIdsForUpdate(now.minusMinutes(30), firstPage.getLast(), 1);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(firstPage).containsExactly(expiredOrderId1);
+                    softly.then(secondPage).containsExactly(expiredOrderId2);
+                });
+            }
+
+            @Test
+            void shouldSkip_WhenPaymentCompleted() {
+                //given
+                Order order = em.find(Order.class, expiredOrderId1);
+                Payment.requestPayment(order);
+                em.persist(order.getPayment());
+                order.getPayment().complete(now.minusMinutes(80));
+                em.flush();
+
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<Long> orderIds = orderExpiryJdbcRepository.findExpiredOrderIdsForUpdate(now.minusMinutes(30), 0L, 10);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(orderIds).containsExactly(expiredOrderId2);
+            }
+        }
+    }
+
+    @Nested
+    class Cancel {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                Order order = em.find(Order.class, expiredOrderId1);
+                Payment.requestPayment(order);
+                em.persist(order.getPayment());
+                em.flush();
+                em.clear();
+
+                System.out.println("================= WHEN START =================");
+
+                //when
+                int canceled = orderExpiryJdbcRepository.cancelOrders(List.of(expiredOrderId1, expiredOrderId2));
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                Order canceledOrder1 = em.find(Order.class, expiredOrderId1);
+                Order canceledOrder2 = em.find(Order.class, expiredOrderId2);
+                Order freshOrder = em.find(Order.class, freshOrderId);
+                thenSoftly(softly -> {
+                    softly.then(canceled).isGreaterThanOrEqualTo(2);
+                    softly.then(canceledOrder1)
+                            .extracting("orderStatus", "delivery.deliveryStatus", "payment.paymentStatus")
+                            .containsExactly(OrderStatus.CANCELED, DeliveryStatus.CANCELED, PaymentStatus.CANCELED);
+                    softly.then(canceledOrder2)
+                            .extracting("orderStatus", "delivery.deliveryStatus")
+                            .containsExactly(OrderStatus.CANCELED, DeliveryStatus.CANCELED);
+                    softly.then(freshOrder.getOrderStatus()).isEqualTo(OrderStatus.CREATED);
+                });
+            }
+
+            @Test
+            void empty() {
+                //when & then
+                then(orderExpiryJdbcRepository.cancelOrders(List.of())).isZero();
+            }
+        }
+    }
+
+    @Nested
+    class FindOldest {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                Optional<LocalDateTime> oldest = orderExpiryJdbcRepository.findOldestOrderedAt(now.minusMinutes(30));
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(oldest).hasValueSatisfying(orderedAt ->
+                        then(orderedAt).isBefore(now.minusMinutes(89)).isAfter(now.minusMinutes(91)));
+            }
+
+            @Test
+            void shouldBeEmpty_WhenNothingExpired() {
+                //when & then
+                then(orderExpiryJdbcRepository.findOldestOrderedAt(now.minusMinutes(120))).isEmpty();
+            }
+        }
+    }
+
+    //ordered_at은 생성 시각으로 채워지므로 만료된 주문은 DB에서 직접 앞당긴다.
+    private Long createOrder(LocalDateTime orderedAt) {
+        Order order = Order.createOrder(member, new Delivery(member), List.of(OrderProduct.createOrderProduct(album, 1)));
+        Long orderId = em.persistAndGetId(order, Long.class);
+        em.flush();
+
+        jdbcTemplate.update("UPDATE orders SET ordered_at = ? WHERE order_id = ?", Timestamp.valueOf(orderedAt), orderId);
+        return orderId;
+    }
+}
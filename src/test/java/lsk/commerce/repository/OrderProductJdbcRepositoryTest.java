@@ -6,6 +6,7 @@ import lsk.commerce.domain.Member;
 import lsk.commerce.domain.Order;
 import lsk.commerce.domain.OrderProduct;
 import lsk.commerce.domain.product.Album;
+import lsk.commerce.dto.StockChangeDto;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -18,7 +19,6 @@ import org.springframework.context.annotation.Import;
 import java.util.List;
 
 import static org.assertj.core.api.BDDAssertions.then;
-import static org.assertj.core.api.BDDAssertions.tuple;
 
 @DataJpaTest(showSql = false)
 @AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
@@ -79,50 +79,57 @@ class OrderProductJdbcRepositoryTest {
     }
 
     @Nested
-    class Save {
+    class FindStockChanges {
 
         @Nested
         class SuccessCase {
 
             @Test
             void basic() {
+                //given
+                Album album1 = (Album) orderProduct1.getProduct();
+                Album album2 = (Album) orderProduct2.getProduct();
+
+                Order otherOrder = Order.createOrder(member, new Delivery(member), List.of(OrderProduct.createOrderProduct(album1, 2)));
+                Long otherOrderId = em.persistAndGetId(otherOrder, Long.class);
+                em.flush();
+
                 System.out.println("================= WHEN START =================");
 
                 //when
-                orderProductJdbcRepository.saveAll(orderProducts);
-                em.clear();
+                List<StockChangeDto> stockChanges = orderProductJdbcRepository.findStockChangesByOrderIds(List.of(orderId, otherOrderId));
 
                 System.out.println("================= WHEN END ===================");
 
                 //then
-                Order findOrder = em.find(Order.class, orderId);
-                then(findOrder.getOrderProducts())
-                        .extracting("product.name", "orderPrice", "quantity")
-                        .containsExactlyInAnyOrder(tuple("BANG BANG", 75000, 5), tuple("타임 캡슐", 60000, 4));
+                then(stockChanges).containsExactly(
+                        new StockChangeDto(album1.getId(), album1.getProductNumber(), 7),
+                        new StockChangeDto(album2.getId(), album2.getProductNumber(), 4));
             }
-        }
-    }
-
-    @Nested
-    class Delete {
-
-        @Nested
-        class SuccessCase {
 
             @Test
-            void basic() {
+            void shouldExcludeDeletedOrderProducts() {
+                //given
+                orderProductJdbcRepository.softDeleteOrderProductsByOrderId(orderId);
+
                 System.out.println("================= WHEN START =================");
 
                 //when
-                orderProductJdbcRepository.deleteOrderProductsByOrderId(orderId);
-                em.clear();
+                List<StockChangeDto> stockChanges = orderProductJdbcRepository.findStockChangesByOrderIds(List.of(orderId));
 
                 System.out.println("================= WHEN END ===================");
 
                 //then
-                Order findOrder = em.find(Order.class, orderId);
-                then(findOrder.getOrderProducts()).isEmpty();
+                then(stockChanges).isEmpty();
             }
+        }
+    }
+
+    @Nested
+    class Delete {
+
+        @Nested
+        class SuccessCase {
 
             @Test
             void softDelete() {
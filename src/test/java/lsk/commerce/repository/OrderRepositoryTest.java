@@ -1,5 +1,6 @@
 package lsk.commerce.repository;
 
+import jakarta.persistence.LockModeType;
 import lsk.commerce.domain.Category;
 import lsk.commerce.domain.Delivery;
 import lsk.commerce.domain.DeliveryStatus;
@@ -100,9 +101,6 @@ class OrderRepositoryTest {
 
                 System.out.println("================= WHEN END ===================");
 
-                em.persist(orderProduct1);
-                em.persist(orderProduct2);
-                em.flush();
                 em.clear();
 
                 //then
@@ -128,8 +126,6 @@ class OrderRepositoryTest {
         void beforeEach() {
             Order order = Order.createOrder(member, delivery, orderProducts);
             em.persist(order);
-            em.persist(orderProduct1);
-            em.persist(orderProduct2);
             Payment.requestPayment(order);
 
             orderId = order.getId();
@@ -203,6 +199,24 @@ class OrderRepositoryTest {
                 });
             }
 
+            @Test
+            void allWithDeliveryPayment() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<Order> findOrders = orderRepository.findAllWithDeliveryPayment(List.of(orderNumber, "ll1lI1IlOO00"));
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(findOrders).extracting("orderNumber").containsExactly(orderNumber);
+                    softly.then(Hibernate.isInitialized(findOrders.getFirst().getDelivery())).isTrue();
+                    softly.then(Hibernate.isInitialized(findOrders.getFirst().getPayment())).isTrue();
+                    softly.then(Hibernate.isInitialized(findOrders.getFirst().getOrderProducts())).isFalse();
+                });
+            }
+
             @Test
             void withAllExceptMember() {
                 System.out.println("================= WHEN START =================");
@@ -240,6 +254,26 @@ class OrderRepositoryTest {
                     softly.then(Hibernate.isInitialized(findOrder.get().getOrderProducts())).isTrue();
                 });
             }
+
+            @Test
+            void withAllForUpdate() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                Optional<Order> findOrder = orderRepository.findWithAllForUpdate(orderNumber);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(findOrder).isPresent();
+                    softly.then(em.getEntityManager().getLockMode(findOrder.get())).isEqualTo(LockModeType.PESSIMISTIC_WRITE);
+                    softly.then(Hibernate.isInitialized(findOrder.get().getMember())).isTrue();
+                    softly.then(Hibernate.isInitialized(findOrder.get().getDelivery())).isTrue();
+                    softly.then(Hibernate.isInitialized(findOrder.get().getPayment())).isTrue();
+                    softly.then(Hibernate.isInitialized(findOrder.get().getOrderProducts())).isTrue();
+                });
+            }
         }
     }
 
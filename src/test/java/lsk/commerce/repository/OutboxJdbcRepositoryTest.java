@@ -0,0 +1,146 @@
+package lsk.commerce.repository;
+
+import lsk.commerce.domain.OutboxEventType;
+import lsk.commerce.dto.OutboxEventDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.tuple;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(OutboxJdbcRepository.class)
+class OutboxJdbcRepositoryTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    OutboxJdbcRepository outboxJdbcRepository;
+
+    LocalDateTime now;
+
+    @BeforeEach
+    void beforeEach() {
+        now = LocalDateTime.now().withNano(0);
+
+        outboxJdbcRepository.save(OutboxEventType.PAYMENT_COMPLETED, "orderNumber1", now.minusSeconds(20));
+        outboxJdbcRepository.save(OutboxEventType.DELIVERY_STARTED, "orderNumber2", now.minusSeconds(10));
+        outboxJdbcRepository.save(OutboxEventType.PAYMENT_COMPLETED, "orderNumber3", now.plusSeconds(30));
+    }
+
+    @Nested
+    class Claim {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<OutboxEventDto> events = outboxJdbcRepository.claim(now, now.plusSeconds(60), 10, 10);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(events)
+                            .extracting("eventType", "orderNumber", "attempts")
+                            .containsExactly(
+                                    tuple(OutboxEventType.PAYMENT_COMPLETED, "orderNumber1", 1),
+                                    tuple(OutboxEventType.DELIVERY_STARTED, "orderNumber2", 1));
+                    softly.then(outboxJdbcRepository.claim(now, now.plusSeconds(60), 10, 10)).isEmpty();
+                });
+            }
+
+            @Test
+            void shouldSkip_WhenAttemptsExhausted() {
+                //given
+                jdbcTemplate.update("UPDATE outbox_event SET attempts = 3 WHERE order_number = 'orderNumber1'");
+
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<OutboxEventDto> events = outboxJdbcRepository.claim(now, now.plusSeconds(60), 3, 10);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(events)
+                        .extracting("orderNumber")
+                        .containsExactly("orderNumber2");
+            }
+        }
+    }
+
+    @Nested
+    class Complete {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void deleteAndReschedule() {
+                //given
+                List<OutboxEventDto> events = outboxJdbcRepository.claim(now, now.plusSeconds(60), 10, 10);
+
+                System.out.println("================= WHEN START =================");
+
+                //when
+                outboxJdbcRepository.deleteAllByIds(List.of(events.get(1).id()));
+                outboxJdbcRepository.reschedule(List.of(events.get(0).id()), now.minusSeconds(5));
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(outboxJdbcRepository.claim(now, now.plusSeconds(60), 10, 10))
+                            .extracting("orderNumber", "attempts")
+                            .containsExactly(tuple("orderNumber1", 2));
+                    softly.then(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM outbox_event", Long.class)).isEqualTo(2);
+                });
+            }
+        }
+    }
+
+    @Nested
+    class FindOldest {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                Optional<LocalDateTime> oldest = outboxJdbcRepository.findOldestAvailableAt(now, 10);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(oldest).contains(now.minusSeconds(20));
+            }
+
+            @Test
+            void shouldBeEmpty_WhenNothingDue() {
+                //when & then
+                then(outboxJdbcRepository.findOldestAvailableAt(now.minusSeconds(30), 10)).isEmpty();
+            }
+        }
+    }
+}
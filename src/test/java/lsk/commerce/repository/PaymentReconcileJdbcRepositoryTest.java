@@ -0,0 +1,197 @@
+package lsk.commerce.repository;
+
+import lsk.commerce.domain.Category;
+import lsk.commerce.domain.Delivery;
+import lsk.commerce.domain.Member;
+import lsk.commerce.domain.Order;
+import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.domain.Payment;
+import lsk.commerce.domain.product.Album;
+import lsk.commerce.dto.PendingPaymentDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.tuple;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(PaymentReconcileJdbcRepository.class)
+class PaymentReconcileJdbcRepositoryTest {
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    PaymentReconcileJdbcRepository paymentReconcileJdbcRepository;
+
+    Member member;
+    Album album;
+    LocalDateTime now;
+    LocalDateTime cutoff;
+    Payment stalePayment1;
+    Payment stalePayment2;
+    Payment freshPayment;
+
+    @BeforeEach
+    void beforeEach() {
+        member = Member.builder()
+                .name("유저A")
+                .loginId("id_A")
+                .password("abAB12!@")
+                .zipcode("01234")
+                .baseAddress("서울시 강남구")
+                .detailAddress("101동 101호")
+                .build();
+        em.persist(member);
+
+        Category category1 = Category.createCategory(null, "가요");
+        Category category2 = Category.createCategory(category1, "댄스");
+        em.persist(category1);
+        em.persist(category2);
+
+        album = Album.builder().name("BANG BANG").price(15000).stockQuantity(10).artist("IVE").studio("STARSHIP").build();
+        em.persist(album);
+        album.connectCategory(category2);
+
+        now = LocalDateTime.now().withNano(0);
+        cutoff = now.minusMinutes(5);
+        stalePayment1 = requestPayment(now.minusMinutes(20));
+        stalePayment2 = requestPayment(now.minusMinutes(10));
+        freshPayment = requestPayment(now.minusMinutes(1));
+
+        em.flush();
+        em.clear();
+    }
+
+    @Nested
+    class Claim {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<PendingPaymentDto> payments = paymentReconcileJdbcRepository.claimStalePending(cutoff, now, now.plusSeconds(120), 0L, 10);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(payments)
+                            .extracting("id", "paymentId")
+                            .containsExactly(
+                                    tuple(stalePayment1.getId(), stalePayment1.getPaymentId()),
+                                    tuple(stalePayment2.getId(), stalePayment2.getPaymentId()));
+                    //lease가 끝나기 전에는 다시 가져가지 않는다.
+                    softly.then(paymentReconcileJdbcRepository.claimStalePending(cutoff, now.plusSeconds(60), now.plusSeconds(180), 0L, 10)).isEmpty();
+                    softly.then(paymentReconcileJdbcRepository.claimStalePending(cutoff, now.plusSeconds(120), now.plusSeconds(240), 0L, 10))
+                            .extracting("id")
+                            .containsExactly(stalePayment1.getId(), stalePayment2.getId());
+                });
+            }
+
+            @Test
+            void keyset() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<PendingPaymentDto> firstPage = paymentReconcileJdbcRepository.claimStalePending(cutoff, now, now, 0L, 1);
+                List<PendingPaymentDto> secondPage = paymentReconcileJdbcRepository.claimStalePending(cutoff, now, now, firstPage.getLast().id(), 1);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(firstPage).extracting("id").containsExactly(stalePayment1.getId());
+                    softly.then(secondPage).extracting("id").containsExactly(stalePayment2.getId());
+                });
+            }
+
+            @Test
+            void shouldSkip_WhenNotPending() {
+                //given
+                jdbcTemplate.update("UPDATE payment SET payment_status = 'COMPLETED' WHERE payment_id = ?", stalePayment1.getId());
+                jdbcTemplate.update("UPDATE payment SET payment_status = 'CANCELED' WHERE payment_id = ?", stalePayment2.getId());
+
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<PendingPaymentDto> payments = paymentReconcileJdbcRepository.claimStalePending(cutoff, now, now.plusSeconds(120), 0L, 10);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(payments).isEmpty();
+            }
+        }
+    }
+
+    @Nested
+    class Backlog {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void countStalePending() {
+                //given
+                paymentReconcileJdbcRepository.claimStalePending(cutoff, now, now.plusSeconds(120), 0L, 10);
+
+                //when & then
+                //가져간 결제도 PENDING이면 남은 결제로 센다.
+                then(paymentReconcileJdbcRepository.countStalePending(cutoff)).isEqualTo(2);
+            }
+
+            @Test
+            void findOldestStalePendingOrderedAt() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                Optional<LocalDateTime> oldest = paymentReconcileJdbcRepository.findOldestStalePendingOrderedAt(cutoff);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(oldest).contains(now.minusMinutes(20));
+            }
+
+            @Test
+            void shouldBeEmpty_WhenNothingStale() {
+                //when & then
+                then(paymentReconcileJdbcRepository.findOldestStalePendingOrderedAt(now.minusMinutes(30))).isEmpty();
+            }
+        }
+    }
+
+    //ordered_at은 생성 시각으로 채워지므로 오래된 주문은 DB에서 직접 앞당긴다.
+    private Payment requestPayment(LocalDateTime orderedAt) {
+        Order order = Order.createOrder(member, new Delivery(member), List.of(OrderProduct.createOrderProduct(album, 1)));
+        Long orderId = em.persistAndGetId(order, Long.class);
+        Payment.requestPayment(order);
+        em.persist(order.getPayment());
+        em.flush();
+
+        jdbcTemplate.update("UPDATE orders SET ordered_at = ? WHERE order_id = ?", Timestamp.valueOf(orderedAt), orderId);
+        return order.getPayment();
+    }
+}
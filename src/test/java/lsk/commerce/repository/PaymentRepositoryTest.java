@@ -175,6 +175,23 @@ class PaymentRepositoryTest {
                     softly.then(Hibernate.isInitialized(findPayment.get().getOrder().getDelivery())).isTrue();
                 });
             }
+
+            @Test
+            void withOrderMember() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                Optional<Payment> findPayment = paymentRepository.findWithOrderMember(paymentId);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(findPayment).isPresent();
+                    softly.then(Hibernate.isInitialized(findPayment.get().getOrder())).isTrue();
+                    softly.then(Hibernate.isInitialized(findPayment.get().getOrder().getMember())).isTrue();
+                });
+            }
         }
     }
 }
\ No newline at end of file
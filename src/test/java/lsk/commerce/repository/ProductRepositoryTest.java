@@ -21,11 +21,14 @@ import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
 import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
 import org.springframework.context.annotation.Import;
 
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Stream;
 
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDAssertions.tuple;
 import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
 import static org.junit.jupiter.params.provider.Arguments.argumentSet;
 
@@ -406,6 +409,55 @@ class ProductRepositoryTest {
                 });
             }
 
+            @Test
+            void byProductNumbers() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<Product> products = productRepository.findAllByProductNumbers(Set.of(productNumber1, productNumber2, "lllIIIll00OO"));
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(products)
+                        .extracting("productNumber", "name")
+                        .containsExactlyInAnyOrder(
+                                tuple(productNumber1, "BANG BANG"),
+                                tuple(productNumber2, "자바 ORM 표준 JPA 프로그래밍"));
+            }
+
+            @Test
+            void byProductNumbers_ShouldReturnEmpty_WhenProductNumbersIsEmpty() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<Product> products = productRepository.findAllByProductNumbers(Set.of());
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(products).isEmpty();
+            }
+
+            @Test
+            void countByProductNumbers() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                long count = productRepository.countByProductNumbers(Set.of(productNumber1, productNumber2, "lllIIIll00OO"));
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(count).isEqualTo(2);
+            }
+
+            @Test
+            void countByProductNumbers_ShouldReturnZero_WhenProductNumbersIsEmpty() {
+                //when & then
+                then(productRepository.countByProductNumbers(Set.of())).isZero();
+            }
+
             @Test
             void withCategoryProduct_ShouldReturnProduct_WhenCategoryProductsIsEmpty() {
                 System.out.println("================= WHEN START =================");
@@ -0,0 +1,210 @@
+package lsk.commerce.repository;
+
+import lsk.commerce.domain.Product;
+import lsk.commerce.domain.product.Album;
+import lsk.commerce.dto.ProductStockDto;
+import lsk.commerce.dto.StockChangeDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.tuple;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProductStockJdbcRepository.class)
+class ProductStockJdbcRepositoryTest {
+
+    @Autowired
+    TestEntityManager em;
+
+    @Autowired
+    ProductStockJdbcRepository productStockJdbcRepository;
+
+    Album album1;
+    Album album2;
+    Long albumId1;
+    Long albumId2;
+
+    @BeforeEach
+    void beforeEach() {
+        album1 = Album.builder().name("BANG BANG").price(15000).stockQuantity(10).artist("IVE").studio("STARSHIP").build();
+        album2 = Album.builder().name("타임 캡슐").price(15000).stockQuantity(5).artist("다비치").studio("씨에이엠위더스").build();
+        albumId1 = em.persistAndGetId(album1, Long.class);
+        albumId2 = em.persistAndGetId(album2, Long.class);
+
+        em.flush();
+        em.clear();
+    }
+
+    @Nested
+    class Find {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void forUpdate() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<ProductStockDto> productStocks = productStockJdbcRepository.findProductStocksForUpdate(List.of(albumId2, albumId1));
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(productStocks)
+                        .extracting("productId", "stockQuantity", "version")
+                        .containsExactly(tuple(albumId1, 10, 0L), tuple(albumId2, 5, 0L));
+            }
+
+            @Test
+            void forUpdate_ShouldReturnEmpty_WhenProductIdsIsEmpty() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<ProductStockDto> productStocks = productStockJdbcRepository.findProductStocksForUpdate(List.of());
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(productStocks).isEmpty();
+            }
+
+            @Test
+            void basic() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                ProductStockDto productStock = productStockJdbcRepository.findProductStock(albumId1).orElseThrow();
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(productStock).isEqualTo(new ProductStockDto(albumId1, 10, 0L));
+            }
+        }
+    }
+
+    @Nested
+    class Decrease {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                int updatedCount = productStockJdbcRepository.decreaseStockQuantity(albumId1, 10);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                Product findProduct = em.find(Product.class, albumId1);
+                thenSoftly(softly -> {
+                    softly.then(updatedCount).isEqualTo(1);
+                    softly.then(findProduct.getStockQuantity()).isEqualTo(0);
+                    softly.then(findProduct.getVersion()).isEqualTo(1L);
+                });
+            }
+
+            @Test
+            void shouldNotDecrease_WhenStockIsNotEnough() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                int updatedCount = productStockJdbcRepository.decreaseStockQuantity(albumId2, 6);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                Product findProduct = em.find(Product.class, albumId2);
+                thenSoftly(softly -> {
+                    softly.then(updatedCount).isEqualTo(0);
+                    softly.then(findProduct.getStockQuantity()).isEqualTo(5);
+                    softly.then(findProduct.getVersion()).isEqualTo(0L);
+                });
+            }
+        }
+    }
+
+    @Nested
+    class Update {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                productStockJdbcRepository.updateStockQuantities(Map.of(albumId1, 3, albumId2, 1));
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(List.of(em.find(Product.class, albumId1), em.find(Product.class, albumId2)))
+                        .extracting("stockQuantity", "version")
+                        .containsExactly(tuple(3, 1L), tuple(1, 1L));
+            }
+
+            @Test
+            void ifVersion() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                int updatedCount = productStockJdbcRepository.updateStockQuantityIfVersion(albumId1, 7, 0L);
+                int conflictCount = productStockJdbcRepository.updateStockQuantityIfVersion(albumId1, 4, 0L);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                Product findProduct = em.find(Product.class, albumId1);
+                thenSoftly(softly -> {
+                    softly.then(updatedCount).isEqualTo(1);
+                    softly.then(conflictCount).isEqualTo(0);
+                    softly.then(findProduct.getStockQuantity()).isEqualTo(7);
+                    softly.then(findProduct.getVersion()).isEqualTo(1L);
+                });
+            }
+        }
+    }
+
+    @Nested
+    class Increase {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                productStockJdbcRepository.increaseStockQuantities(List.of(
+                        new StockChangeDto(albumId1, album1.getProductNumber(), 2),
+                        new StockChangeDto(albumId2, album2.getProductNumber(), 3)));
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                then(List.of(em.find(Product.class, albumId1), em.find(Product.class, albumId2)))
+                        .extracting("stockQuantity", "version")
+                        .containsExactly(tuple(12, 1L), tuple(8, 1L));
+            }
+        }
+    }
+}
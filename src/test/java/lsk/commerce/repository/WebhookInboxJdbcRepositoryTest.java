@@ -0,0 +1,170 @@
+package lsk.commerce.repository;
+
+import lsk.commerce.dto.WebhookInboxDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jdbc.test.autoconfigure.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.tuple;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+@DataJpaTest(showSql = false)
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(WebhookInboxJdbcRepository.class)
+class WebhookInboxJdbcRepositoryTest {
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    WebhookInboxJdbcRepository webhookInboxJdbcRepository;
+
+    LocalDateTime now;
+
+    @BeforeEach
+    void beforeEach() {
+        now = LocalDateTime.now().withNano(0);
+        webhookInboxJdbcRepository.save("msg_1", "payment_1", now.minusSeconds(20));
+        webhookInboxJdbcRepository.save("msg_2", "payment_2", now.minusSeconds(10));
+    }
+
+    @Nested
+    class Save {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                boolean saved = webhookInboxJdbcRepository.save("msg_3", "payment_3", now);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(saved).isTrue();
+                    softly.then(webhookInboxJdbcRepository.countPending(10)).isEqualTo(3);
+                });
+            }
+
+            @Test
+            void duplicateWebhookId_ShouldBeIgnored() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                boolean saved = webhookInboxJdbcRepository.save("msg_1", "payment_1", now);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(saved).isFalse();
+                    softly.then(webhookInboxJdbcRepository.countPending(10)).isEqualTo(2);
+                });
+            }
+        }
+    }
+
+    @Nested
+    class Claim {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<WebhookInboxDto> webhooks = webhookInboxJdbcRepository.claim(now, now.plusSeconds(60), 10, 10);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(webhooks)
+                            .extracting("webhookId", "paymentId", "attempts")
+                            .containsExactly(tuple("msg_1", "payment_1", 1), tuple("msg_2", "payment_2", 1));
+                    //lease가 끝나기 전에는 다시 가져가지 않는다.
+                    softly.then(webhookInboxJdbcRepository.claim(now.plusSeconds(30), now.plusSeconds(90), 10, 10)).isEmpty();
+                    softly.then(webhookInboxJdbcRepository.claim(now.plusSeconds(60), now.plusSeconds(120), 10, 10))
+                            .extracting("attempts")
+                            .containsExactly(2, 2);
+                });
+            }
+
+            @Test
+            void shouldSkip_WhenProcessedOrAttemptsExhausted() {
+                //given
+                List<WebhookInboxDto> webhooks = webhookInboxJdbcRepository.claim(now, now, 1, 10);
+                webhookInboxJdbcRepository.markProcessed(List.of(webhooks.getFirst().id()), now);
+                webhookInboxJdbcRepository.reschedule(webhooks.getLast().id(), now);
+
+                System.out.println("================= WHEN START =================");
+
+                //when
+                List<WebhookInboxDto> reclaimed = webhookInboxJdbcRepository.claim(now, now, 1, 10);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(reclaimed).isEmpty();
+                    softly.then(webhookInboxJdbcRepository.countPending(1)).isZero();
+                    softly.then(webhookInboxJdbcRepository.countPending(10)).isEqualTo(1);
+                });
+            }
+        }
+    }
+
+    @Nested
+    class Cleanup {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void deleteProcessedBefore() {
+                //given
+                List<WebhookInboxDto> webhooks = webhookInboxJdbcRepository.claim(now, now, 10, 10);
+                webhookInboxJdbcRepository.markProcessed(List.of(webhooks.getFirst().id()), now.minusDays(8));
+
+                System.out.println("================= WHEN START =================");
+
+                //when
+                int deleted = webhookInboxJdbcRepository.deleteProcessedBefore(now.minusDays(7), 10);
+
+                System.out.println("================= WHEN END ===================");
+
+                //then
+                Integer remaining = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM webhook_inbox", Integer.class);
+                thenSoftly(softly -> {
+                    softly.then(deleted).isEqualTo(1);
+                    softly.then(remaining).isEqualTo(1);
+                });
+            }
+
+            @Test
+            void findOldestPendingReceivedAt() {
+                //given
+                jdbcTemplate.update("UPDATE webhook_inbox SET processed_at = ? WHERE webhook_id = 'msg_1'", Timestamp.valueOf(now));
+
+                //when & then
+                then(webhookInboxJdbcRepository.findOldestPendingReceivedAt(10)).contains(now.minusSeconds(10));
+            }
+        }
+    }
+}
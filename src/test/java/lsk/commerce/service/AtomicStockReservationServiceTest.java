@@ -0,0 +1,141 @@
+package lsk.commerce.service;
+
+import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.domain.product.Album;
+import lsk.commerce.domain.product.Book;
+import lsk.commerce.dto.StockChangeDto;
+import lsk.commerce.repository.ProductStockJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.anyInt;
+import static org.mockito.BDDMockito.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.inOrder;
+import static org.mockito.BDDMockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class AtomicStockReservationServiceTest {
+
+    @Mock
+    ProductStockJdbcRepository productStockJdbcRepository;
+
+    @InjectMocks
+    AtomicStockReservationService atomicStockReservationService;
+
+    Album album;
+    Book book;
+    List<OrderProduct> orderProducts;
+
+    @BeforeEach
+    void beforeEach() {
+        album = Album.builder()
+                .name("BANG BANG")
+                .price(15000)
+                .stockQuantity(10)
+                .build();
+        book = Book.builder()
+                .name("자바 ORM 표준 JPA 프로그래밍")
+                .price(15000)
+                .stockQuantity(7)
+                .build();
+
+        ReflectionTestUtils.setField(album, "id", 1L);
+        ReflectionTestUtils.setField(book, "id", 2L);
+
+        orderProducts = List.of(
+                OrderProduct.createOrderProduct(book, 2),
+                OrderProduct.createOrderProduct(album, 3),
+                OrderProduct.createOrderProduct(album, 1));
+    }
+
+    @Nested
+    class Reserve {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                given(productStockJdbcRepository.decreaseStockQuantity(eq(1L), anyInt())).willReturn(1);
+                given(productStockJdbcRepository.decreaseStockQuantity(eq(2L), anyInt())).willReturn(1);
+
+                InOrder inOrder = inOrder(productStockJdbcRepository);
+
+                //when
+                atomicStockReservationService.reserve(orderProducts);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(productStockJdbcRepository).should(inOrder).decreaseStockQuantity(1L, 4));
+                    softly.check(() -> BDDMockito.then(productStockJdbcRepository).should(inOrder).decreaseStockQuantity(2L, 2));
+                });
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void exceed() {
+                //given
+                given(productStockJdbcRepository.decreaseStockQuantity(eq(1L), anyInt())).willReturn(0);
+
+                //when & then
+                thenThrownBy(() -> atomicStockReservationService.reserve(orderProducts))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("재고가 부족합니다. productNumber: " + album.getProductNumber());
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(productStockJdbcRepository).should().decreaseStockQuantity(1L, 4));
+                    softly.check(() -> BDDMockito.then(productStockJdbcRepository).should(never()).decreaseStockQuantity(eq(2L), anyInt()));
+                });
+            }
+        }
+    }
+
+    @Nested
+    class Release {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //when
+                atomicStockReservationService.release(orderProducts);
+
+                //then
+                BDDMockito.then(productStockJdbcRepository).should().increaseStockQuantities(List.of(
+                        new StockChangeDto(1L, album.getProductNumber(), 4),
+                        new StockChangeDto(2L, book.getProductNumber(), 2)));
+            }
+
+            @Test
+            void stockChanges() {
+                //given
+                List<StockChangeDto> stockChanges = List.of(new StockChangeDto(1L, album.getProductNumber(), 4));
+
+                //when
+                atomicStockReservationService.releaseStockChanges(stockChanges);
+
+                //then
+                BDDMockito.then(productStockJdbcRepository).should().increaseStockQuantities(stockChanges);
+            }
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package lsk.commerce.service;
 
 import lsk.commerce.domain.Member;
+import lsk.commerce.exception.ServiceBusyException;
 import lsk.commerce.util.JwtProvider;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -64,6 +65,53 @@ class AuthServiceTest {
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(memberService).should().findMemberForLogin(any()));
                     softly.check(() -> BDDMockito.then(passwordEncoder).should().matches(anyString(), anyString()));
+                    softly.check(() -> BDDMockito.then(memberService).should(never()).upgradePassword(any(), any(), any()));
+                    softly.check(() -> BDDMockito.then(jwtProvider).should().createToken(eq(member)));
+                    softly.then(jjwt).isEqualTo(token);
+                });
+            }
+
+            @Test
+            void upgradePassword_WhenStrengthIsRaised() {
+                //given
+                Member member = Member.builder()
+                        .loginId(loginId)
+                        .password(encodedPassword)
+                        .build();
+
+                given(memberService.findMemberForLogin(any())).willReturn(member);
+                given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+                given(passwordEncoder.upgradeEncoding(encodedPassword)).willReturn(true);
+                given(passwordEncoder.encode(rawPassword)).willReturn("$2a$12$upgraded");
+                given(jwtProvider.createToken(any())).willReturn(token);
+
+                //when
+                authService.login(loginId, rawPassword);
+
+                //then
+                BDDMockito.then(memberService).should().upgradePassword(loginId, encodedPassword, "$2a$12$upgraded");
+            }
+
+            @Test
+            void shouldLogin_WhenUpgradeIsRejected() {
+                //given
+                Member member = Member.builder()
+                        .loginId(loginId)
+                        .password(encodedPassword)
+                        .build();
+
+                given(memberService.findMemberForLogin(any())).willReturn(member);
+                given(passwordEncoder.matches(anyString(), anyString())).willReturn(true);
+                given(passwordEncoder.upgradeEncoding(encodedPassword)).willReturn(true);
+                given(passwordEncoder.encode(rawPassword)).willThrow(new ServiceBusyException("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요"));
+                given(jwtProvider.createToken(any())).willReturn(token);
+
+                //when
+                String jjwt = authService.login(loginId, rawPassword);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(memberService).should(never()).upgradePassword(any(), any(), any()));
                     softly.check(() -> BDDMockito.then(jwtProvider).should().createToken(eq(member)));
                     softly.then(jjwt).isEqualTo(token);
                 });
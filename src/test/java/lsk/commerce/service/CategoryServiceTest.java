@@ -2,6 +2,8 @@ package lsk.commerce.service;
 
 import lsk.commerce.domain.Category;
 import lsk.commerce.domain.product.Book;
+import lsk.commerce.dto.CategoryNodeDto;
+import lsk.commerce.dto.CategoryTreeJsonDto;
 import lsk.commerce.dto.request.CategoryChangeParentRequest;
 import lsk.commerce.dto.request.CategoryCreateRequest;
 import lsk.commerce.dto.response.CategoryDisconnectResponse;
@@ -22,7 +24,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
@@ -46,6 +48,12 @@ class CategoryServiceTest {
     @Mock
     CategoryRepository categoryRepository;
 
+    @Mock
+    CategoryTreeCache categoryTreeCache;
+
+    @Mock
+    CategoryTreeJsonCache categoryTreeJsonCache;
+
     @InjectMocks
     CategoryService categoryService;
 
@@ -84,16 +92,17 @@ class CategoryServiceTest {
                 //given
                 CategoryCreateRequest request = new CategoryCreateRequest("컴퓨터/IT", null);
 
-                given(categoryRepository.findWithParent(anyString(), any())).willReturn(Collections.emptyList());
+                given(categoryTreeCache.get()).willReturn(snapshotOf());
 
                 //when
                 categoryService.create(request);
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(categoryRepository).should().findWithParent(anyString(), any()));
+                    softly.check(() -> BDDMockito.then(categoryRepository).should(never()).findById(any()));
                     softly.check(() -> BDDMockito.then(categoryRepository).should().save(argThat(c ->
                             c.getName().equals("컴퓨터/IT") && c.getParent() == null)));
+                    softly.check(() -> BDDMockito.then(categoryTreeCache).should().updateAfterCommit(any()));
                 });
             }
 
@@ -102,14 +111,36 @@ class CategoryServiceTest {
                 //given
                 CategoryCreateRequest request = new CategoryCreateRequest("프로그래밍 언어", category1.getCategoryNumber());
 
-                given(categoryRepository.findWithParent(anyString(), anyString())).willReturn(categories1);
+                given(categoryTreeCache.get()).willReturn(snapshotOf(category1));
+                given(categoryRepository.findById(1L)).willReturn(Optional.of(category1));
 
                 //when
                 categoryService.create(request);
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(categoryRepository).should().findWithParent(anyString(), anyString()));
+                    softly.check(() -> BDDMockito.then(categoryRepository).should().findById(1L));
+                    softly.check(() -> BDDMockito.then(categoryRepository).should().save(argThat(c ->
+                            c.getName().equals("프로그래밍 언어") && c.getParent().getName().equals("컴퓨터/IT"))));
+                    softly.check(() -> BDDMockito.then(categoryTreeCache).should().updateAfterCommit(any()));
+                });
+            }
+
+            @Test
+            void childCategory_ParentNotInSnapshot() {
+                //given
+                CategoryCreateRequest request = new CategoryCreateRequest("프로그래밍 언어", category1.getCategoryNumber());
+
+                //다른 서버에서 만든 부모 카테고리는 아직 스냅샷에 없다.
+                given(categoryTreeCache.get()).willReturn(snapshotOf());
+                given(categoryRepository.findByCategoryNumber(category1.getCategoryNumber())).willReturn(Optional.of(category1));
+
+                //when
+                categoryService.create(request);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(categoryRepository).should().existsByParentAndName(category1, "프로그래밍 언어"));
                     softly.check(() -> BDDMockito.then(categoryRepository).should().save(argThat(c ->
                             c.getName().equals("프로그래밍 언어") && c.getParent().getName().equals("컴퓨터/IT"))));
                 });
@@ -120,14 +151,15 @@ class CategoryServiceTest {
                 //given
                 CategoryCreateRequest request = new CategoryCreateRequest("Java", category1.getCategoryNumber());
 
-                given(categoryRepository.findWithParent(anyString(), any())).willReturn(categories1);
+                given(categoryTreeCache.get()).willReturn(snapshotOf(category1, category2, category3, category4));
+                given(categoryRepository.findById(1L)).willReturn(Optional.of(category1));
 
                 //when & then
                 categoryService.create(request);
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(categoryRepository).should().findWithParent(anyString(), anyString()));
+                    softly.check(() -> BDDMockito.then(categoryRepository).should().findById(1L));
                     softly.check(() -> BDDMockito.then(categoryRepository).should().save(argThat(c ->
                             c.getName().equals("Java") && c.getParent().getName().equals("컴퓨터/IT"))));
                 });
@@ -142,7 +174,7 @@ class CategoryServiceTest {
                 //given
                 CategoryCreateRequest request = new CategoryCreateRequest("프로그래밍 언어", "llII11OO00OO");
 
-                given(categoryRepository.findWithParent(anyString(), anyString())).willReturn(Collections.emptyList());
+                given(categoryTreeCache.get()).willReturn(snapshotOf());
 
                 //when & then
                 thenThrownBy(() -> categoryService.create(request))
@@ -151,8 +183,8 @@ class CategoryServiceTest {
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(categoryRepository).should().findWithParent(anyString(), anyString()));
                     softly.check(() -> BDDMockito.then(categoryRepository).should(never()).save(any()));
+                    softly.check(() -> BDDMockito.then(categoryTreeCache).should(never()).updateAfterCommit(any()));
                 });
             }
 
@@ -161,7 +193,7 @@ class CategoryServiceTest {
                 //given
                 CategoryCreateRequest request = new CategoryCreateRequest("컴퓨터/IT", null);
 
-                given(categoryRepository.findWithParent(anyString(), any())).willReturn(categories1);
+                given(categoryTreeCache.get()).willReturn(snapshotOf(category1));
 
                 //when & then
                 thenThrownBy(() -> categoryService.create(request))
@@ -170,8 +202,29 @@ class CategoryServiceTest {
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(categoryRepository).should().findWithParent(anyString(), any()));
                     softly.check(() -> BDDMockito.then(categoryRepository).should(never()).save(any()));
+                    softly.check(() -> BDDMockito.then(categoryTreeCache).should(never()).updateAfterCommit(any()));
+                });
+            }
+
+            @Test
+            void existsName_NotInSnapshot() {
+                //given
+                CategoryCreateRequest request = new CategoryCreateRequest("컴퓨터/IT", null);
+
+                //다른 서버에서 같은 이름으로 먼저 만들었다.
+                given(categoryTreeCache.get()).willReturn(snapshotOf());
+                given(categoryRepository.existsByParentAndName(null, "컴퓨터/IT")).willReturn(true);
+
+                //when & then
+                thenThrownBy(() -> categoryService.create(request))
+                        .isInstanceOf(DuplicateResourceException.class)
+                        .hasMessage("이미 존재하는 카테고리입니다. name: " + "컴퓨터/IT");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(categoryRepository).should(never()).save(any()));
+                    softly.check(() -> BDDMockito.then(categoryTreeCache).should(never()).updateAfterCommit(any()));
                 });
             }
 
@@ -180,7 +233,7 @@ class CategoryServiceTest {
                 //given
                 CategoryCreateRequest request = new CategoryCreateRequest("컴퓨터/IT", category1.getCategoryNumber());
 
-                given(categoryRepository.findWithParent(anyString(), anyString())).willReturn(categories1);
+                given(categoryTreeCache.get()).willReturn(snapshotOf(category1));
 
                 //when & then
                 thenThrownBy(() -> categoryService.create(request))
@@ -189,8 +242,8 @@ class CategoryServiceTest {
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(categoryRepository).should().findWithParent(anyString(), anyString()));
                     softly.check(() -> BDDMockito.then(categoryRepository).should(never()).save(any()));
+                    softly.check(() -> BDDMockito.then(categoryTreeCache).should(never()).updateAfterCommit(any()));
                 });
             }
 
@@ -199,7 +252,7 @@ class CategoryServiceTest {
                 //given
                 CategoryCreateRequest request = new CategoryCreateRequest("프로그래밍 언어", category1.getCategoryNumber());
 
-                given(categoryRepository.findWithParent(anyString(), any())).willReturn(List.of(category1, category2));
+                given(categoryTreeCache.get()).willReturn(snapshotOf(category1, category2));
 
                 //when & then
                 thenThrownBy(() -> categoryService.create(request))
@@ -208,8 +261,8 @@ class CategoryServiceTest {
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(categoryRepository).should().findWithParent(anyString(), any()));
                     softly.check(() -> BDDMockito.then(categoryRepository).should(never()).save(any()));
+                    softly.check(() -> BDDMockito.then(categoryTreeCache).should(never()).updateAfterCommit(any()));
                 });
             }
         }
@@ -224,29 +277,49 @@ class CategoryServiceTest {
             @Test
             void byName() {
                 //given
-                given(categoryRepository.findAll()).willReturn(categories1);
+                given(categoryTreeCache.get()).willReturn(snapshotOf(category1));
+                given(categoryRepository.findById(1L)).willReturn(Optional.of(category1));
 
                 //when
-                categoryService.findCategoryByCategoryNumber(category1.getCategoryNumber());
+                Category category = categoryService.findCategoryByCategoryNumber(category1.getCategoryNumber());
 
                 //then
-                BDDMockito.then(categoryRepository).should().findAll();
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(categoryRepository).should().findById(1L));
+                    softly.then(category).isEqualTo(category1);
+                });
             }
 
             @Test
-            void all() {
+            void byName_NotInSnapshot() {
                 //given
-                given(categoryRepository.findAll()).willReturn(categories2);
+                given(categoryTreeCache.get()).willReturn(snapshotOf(category1));
+                given(categoryRepository.findByCategoryNumber(category2.getCategoryNumber())).willReturn(Optional.of(category2));
 
                 //when
-                List<Category> categories = categoryService.findRootCategories();
+                Category category = categoryService.findCategoryByCategoryNumber(category2.getCategoryNumber());
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(categoryRepository).should().findAll());
-                    softly.then(categories)
-                            .extracting("name")
-                            .containsExactlyInAnyOrder("컴퓨터/IT");
+                    softly.check(() -> BDDMockito.then(categoryRepository).should(never()).findById(any()));
+                    softly.then(category).isEqualTo(category2);
+                });
+            }
+
+            @Test
+            void treeJson() {
+                //given
+                CategoryTreeJsonDto categoryTreeJson = new CategoryTreeJsonDto("\"tree-v1\"", new byte[]{'{', '}'});
+
+                given(categoryTreeJsonCache.get()).willReturn(categoryTreeJson);
+
+                //when
+                CategoryTreeJsonDto findCategoryTreeJson = categoryService.findCategoryTreeJson();
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(categoryRepository).shouldHaveNoInteractions());
+                    softly.then(findCategoryTreeJson).isSameAs(categoryTreeJson);
                 });
             }
         }
@@ -257,7 +330,7 @@ class CategoryServiceTest {
             @Test
             void byName_CategoryNotFound() {
                 //given
-                given(categoryRepository.findAll()).willReturn(categories1);
+                given(categoryTreeCache.get()).willReturn(snapshotOf(category1));
 
                 //when & then
                 thenThrownBy(() -> categoryService.findCategoryByCategoryNumber(category2.getCategoryNumber()))
@@ -265,7 +338,10 @@ class CategoryServiceTest {
                         .hasMessage("존재하지 않는 카테고리입니다. categoryNumber: " + category2.getCategoryNumber());
 
                 //then
-                BDDMockito.then(categoryRepository).should().findAll();
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(categoryRepository).should(never()).findById(any()));
+                    softly.check(() -> BDDMockito.then(categoryRepository).should().findByCategoryNumber(category2.getCategoryNumber()));
+                });
             }
         }
     }
@@ -281,14 +357,15 @@ class CategoryServiceTest {
                 //given
                 CategoryChangeParentRequest request = new CategoryChangeParentRequest(category2.getCategoryNumber());
 
-                given(categoryRepository.findAll()).willReturn(categories2);
+                given(categoryTreeCache.get()).willReturn(snapshotOf(category1, category2, category3, category4));
+                given(categoryRepository.findById(2L)).willReturn(Optional.of(category2));
 
                 //when
                 categoryService.changeParentCategory(category3.getCategoryNumber(), request);
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(categoryRepository).should().findAll());
+                    softly.check(() -> BDDMockito.then(categoryTreeCache).should(never()).updateAfterCommit(any()));
                     softly.then(category2.getChildren().getFirst()).isEqualTo(category3);
                     softly.then(category3.getParent()).isEqualTo(category2);
                 });
@@ -299,14 +376,16 @@ class CategoryServiceTest {
                 //given
                 CategoryChangeParentRequest request = new CategoryChangeParentRequest(category4.getCategoryNumber());
 
-                given(categoryRepository.findAll()).willReturn(categories2);
+                given(categoryTreeCache.get()).willReturn(snapshotOf(category1, category2, category3, category4));
+                given(categoryRepository.findById(4L)).willReturn(Optional.of(category4));
+                given(categoryRepository.findById(2L)).willReturn(Optional.of(category2));
 
                 //when
                 categoryService.changeParentCategory(category2.getCategoryNumber(), request);
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(categoryRepository).should().findAll());
+                    softly.check(() -> BDDMockito.then(categoryTreeCache).should().updateAfterCommit(any()));
                     softly.then(category2.getParent()).isEqualTo(category4);
                     softly.then(category2.getParent().getParent()).isEqualTo(category1);
                     softly.then(category2.getChildren())
@@ -326,7 +405,7 @@ class CategoryServiceTest {
                 CategoryChangeParentRequest request1 = new CategoryChangeParentRequest(category2.getCategoryNumber());
                 CategoryChangeParentRequest request2 = new CategoryChangeParentRequest(categoryNumber);
 
-                given(categoryRepository.findAll()).willReturn(List.of(category2, category3));
+                given(categoryTreeCache.get()).willReturn(snapshotOf(category2, category3));
 
                 //when & then
                 thenSoftly(softly -> {
@@ -339,7 +418,10 @@ class CategoryServiceTest {
                 });
 
                 //then
-                BDDMockito.then(categoryRepository).should(times(2)).findAll();
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(categoryTreeCache).should(times(2)).get());
+                    softly.check(() -> BDDMockito.then(categoryRepository).should(never()).findById(any()));
+                });
             }
 
             static Stream<Arguments> numberProvider() {
@@ -350,6 +432,47 @@ class CategoryServiceTest {
                         argumentSet("존재하지 않는 카테고리 번호", "llII11OO00OO")
                 );
             }
+
+            @Test
+            void childAsParent() {
+                //given
+                CategoryChangeParentRequest request = new CategoryChangeParentRequest(category3.getCategoryNumber());
+
+                given(categoryTreeCache.get()).willReturn(snapshotOf(category1, category2, category3, category4));
+
+                //when & then
+                thenThrownBy(() -> categoryService.changeParentCategory(category1.getCategoryNumber(), request))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("자식을 부모로 설정할 수 없습니다");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(categoryRepository).should(never()).findById(any()));
+                    softly.check(() -> BDDMockito.then(categoryTreeCache).should(never()).updateAfterCommit(any()));
+                });
+            }
+
+            @Test
+            void existsNameInNewParent() {
+                //given
+                Category category5 = Category.createCategory(category4, "Java");
+                ReflectionTestUtils.setField(category5, "id", 5L);
+
+                CategoryChangeParentRequest request = new CategoryChangeParentRequest(category4.getCategoryNumber());
+
+                given(categoryTreeCache.get()).willReturn(snapshotOf(category1, category2, category3, category4, category5));
+
+                //when & then
+                thenThrownBy(() -> categoryService.changeParentCategory(category3.getCategoryNumber(), request))
+                        .isInstanceOf(DuplicateResourceException.class)
+                        .hasMessage("선택한 부모 카테고리에 이미 같은 이름의 카테고리가 있습니다. name: " + "Java");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(categoryRepository).should(never()).findById(any()));
+                    softly.check(() -> BDDMockito.then(categoryTreeCache).should(never()).updateAfterCommit(any()));
+                });
+            }
         }
     }
 
@@ -371,6 +494,7 @@ class CategoryServiceTest {
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(categoryRepository).should().findWithChild(anyString()));
                     softly.check(() -> BDDMockito.then(categoryRepository).should().delete(category4));
+                    softly.check(() -> BDDMockito.then(categoryTreeCache).should().updateAfterCommit(any()));
                 });
             }
 
@@ -386,6 +510,7 @@ class CategoryServiceTest {
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(categoryRepository).should().findWithChild(anyString()));
                     softly.check(() -> BDDMockito.then(categoryRepository).should(never()).delete(any()));
+                    softly.check(() -> BDDMockito.then(categoryTreeCache).should(never()).updateAfterCommit(any()));
                 });
             }
 
@@ -566,4 +691,8 @@ class CategoryServiceTest {
             }
         }
     }
+
+    private CategoryTreeCache.Snapshot snapshotOf(Category... categories) {
+        return new CategoryTreeCache.Snapshot(Arrays.stream(categories).map(CategoryNodeDto::from).toList(), 0);
+    }
 }
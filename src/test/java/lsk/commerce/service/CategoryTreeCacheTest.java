@@ -0,0 +1,269 @@
+package lsk.commerce.service;
+
+import lsk.commerce.dto.CategoryNodeDto;
+import lsk.commerce.exception.DuplicateResourceException;
+import lsk.commerce.repository.CategoryRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeCacheTest {
+
+    @Mock
+    CategoryRepository categoryRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    CategoryTreeCache categoryTreeCache;
+
+    CategoryNodeDto computer;
+    CategoryNodeDto language;
+    CategoryNodeDto java;
+    CategoryNodeDto python;
+
+    @BeforeEach
+    void beforeEach() {
+        computer = new CategoryNodeDto(1L, "computerNum1", "컴퓨터/IT", null);
+        language = new CategoryNodeDto(2L, "languageNum1", "프로그래밍 언어", 1L);
+        java = new CategoryNodeDto(3L, "javaNumber01", "Java", 2L);
+        python = new CategoryNodeDto(4L, "pythonNumber", "Python", 1L);
+
+        categoryTreeCache = new CategoryTreeCache(categoryRepository, transactionManager);
+    }
+
+    @AfterEach
+    void afterEach() {
+        TransactionSynchronizationManager.unbindResourceIfPossible(categoryTreeCache);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Nested
+    class Get {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void loadOnce() {
+                //given
+                given(categoryRepository.findAllNodes()).willReturn(List.of(python, java, language, computer));
+
+                //when
+                CategoryTreeCache.Snapshot snapshot1 = categoryTreeCache.get();
+                CategoryTreeCache.Snapshot snapshot2 = categoryTreeCache.get();
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(categoryRepository).should(times(1)).findAllNodes());
+                    softly.then(snapshot1).isSameAs(snapshot2);
+                    softly.then(snapshot1.find("javaNumber01")).contains(java);
+                    softly.then(snapshot1.exists(1L, "Python")).isTrue();
+                    softly.then(snapshot1.exists(null, "Python")).isFalse();
+                    softly.then(snapshot1.getTree())
+                            .extracting("name")
+                            .containsExactly("컴퓨터/IT");
+                    softly.then(snapshot1.getTree().getFirst().children())
+                            .extracting("name")
+                            .containsExactly("프로그래밍 언어", "Python");
+                });
+            }
+
+            @Test
+            void refresh_ShouldKeepNewerSnapshot() {
+                //given
+                given(categoryRepository.findAllNodes())
+                        .willReturn(List.of(computer))
+                        .willAnswer(invocation -> {
+                            //다시 읽는 동안 다른 요청이 커밋된 상황
+                            categoryTreeCache.updateAfterCommit(snapshot -> snapshot.withAdded(python));
+                            return List.of(computer);
+                        });
+                categoryTreeCache.get();
+
+                //when
+                categoryTreeCache.refresh();
+
+                //then
+                then(categoryTreeCache.get().find("pythonNumber")).contains(python);
+            }
+
+            @Test
+            void refresh_ShouldKeepVersion_WhenNothingChanged() {
+                //given
+                given(categoryRepository.findAllNodes())
+                        .willReturn(List.of(computer, python))
+                        .willReturn(List.of(python, computer));
+                CategoryTreeCache.Snapshot before = categoryTreeCache.get();
+
+                //when
+                categoryTreeCache.refresh();
+
+                //then
+                then(categoryTreeCache.get()).isSameAs(before);
+            }
+        }
+    }
+
+    @Nested
+    class UpdateAfterCommit {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void visibleInTransaction_AndSwappedAfterCommit() {
+                //given
+                given(categoryRepository.findAllNodes()).willReturn(List.of(computer));
+                CategoryTreeCache.Snapshot before = categoryTreeCache.get();
+
+                TransactionSynchronizationManager.initSynchronization();
+
+                //when
+                categoryTreeCache.updateAfterCommit(snapshot -> snapshot.withAdded(python));
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(categoryTreeCache.get().find("pythonNumber")).contains(python);
+                    softly.then(before.find("pythonNumber")).isEmpty();
+                });
+
+                completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+                thenSoftly(softly -> {
+                    softly.then(categoryTreeCache.get().find("pythonNumber")).contains(python);
+                    softly.then(categoryTreeCache.get().getVersion()).isEqualTo(before.getVersion() + 1);
+                });
+            }
+
+            @Test
+            void discardedAfterRollback() {
+                //given
+                given(categoryRepository.findAllNodes()).willReturn(List.of(computer, python));
+                categoryTreeCache.get();
+
+                TransactionSynchronizationManager.initSynchronization();
+
+                //when
+                categoryTreeCache.updateAfterCommit(snapshot -> snapshot.withRemoved(4L));
+                completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+                //then
+                then(categoryTreeCache.get().find("pythonNumber")).contains(python);
+            }
+
+            @Test
+            void changeParent() {
+                //given
+                given(categoryRepository.findAllNodes()).willReturn(List.of(computer, language, java, python));
+                categoryTreeCache.get();
+
+                //when
+                categoryTreeCache.updateAfterCommit(snapshot -> snapshot.withParentChanged(2L, 4L));
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(categoryTreeCache.get().getTree().getFirst().children())
+                            .extracting("name")
+                            .containsExactly("Python");
+                    softly.then(categoryTreeCache.get().getTree().getFirst().children().getFirst().children())
+                            .extracting("name")
+                            .containsExactly("프로그래밍 언어");
+                });
+            }
+        }
+    }
+
+    @Nested
+    class ValidateParentChange {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                CategoryTreeCache.Snapshot snapshot = new CategoryTreeCache.Snapshot(List.of(computer, language, java, python), 0);
+
+                //when & then
+                thenSoftly(softly -> {
+                    softly.then(snapshot.validateParentChange(language, python)).isTrue();
+                    softly.then(snapshot.validateParentChange(java, language)).isFalse();
+                    softly.then(snapshot.validateParentChange(java, java)).isFalse();
+                });
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void childAsParent() {
+                //given
+                CategoryTreeCache.Snapshot snapshot = new CategoryTreeCache.Snapshot(List.of(computer, language, java, python), 0);
+
+                //when & then
+                thenThrownBy(() -> snapshot.validateParentChange(computer, java))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("자식을 부모로 설정할 수 없습니다");
+            }
+
+            @Test
+            void sameNameAsParent() {
+                //given
+                CategoryNodeDto otherJava = new CategoryNodeDto(5L, "otherJava001", "Java", null);
+                CategoryTreeCache.Snapshot snapshot = new CategoryTreeCache.Snapshot(List.of(computer, language, java, python, otherJava), 0);
+
+                //when & then
+                thenThrownBy(() -> snapshot.validateParentChange(java, otherJava))
+                        .isInstanceOf(DuplicateResourceException.class)
+                        .hasMessage("자신과 같은 이름의 카테고리를 부모로 설정할 수 없습니다. name: " + "Java");
+            }
+
+            @Test
+            void existsNameInNewParent() {
+                //given
+                CategoryNodeDto pythonJava = new CategoryNodeDto(5L, "pythonJava01", "Java", 4L);
+                CategoryTreeCache.Snapshot snapshot = new CategoryTreeCache.Snapshot(List.of(computer, language, java, python, pythonJava), 0);
+
+                //when & then
+                thenThrownBy(() -> snapshot.validateParentChange(java, python))
+                        .isInstanceOf(DuplicateResourceException.class)
+                        .hasMessage("선택한 부모 카테고리에 이미 같은 이름의 카테고리가 있습니다. name: " + "Java");
+            }
+        }
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.afterCommit();
+            }
+        }
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.afterCompletion(status);
+        }
+    }
+}
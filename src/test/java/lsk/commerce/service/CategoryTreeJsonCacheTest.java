@@ -0,0 +1,94 @@
+package lsk.commerce.service;
+
+import lsk.commerce.dto.CategoryNodeDto;
+import lsk.commerce.dto.CategoryTreeJsonDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CategoryTreeJsonCacheTest {
+
+    @Mock
+    CategoryTreeCache categoryTreeCache;
+
+    ObjectMapper objectMapper = new ObjectMapper();
+
+    CategoryTreeJsonCache categoryTreeJsonCache;
+
+    CategoryTreeCache.Snapshot snapshot;
+
+    @BeforeEach
+    void beforeEach() {
+        categoryTreeJsonCache = new CategoryTreeJsonCache(categoryTreeCache, objectMapper);
+
+        snapshot = new CategoryTreeCache.Snapshot(List.of(
+                new CategoryNodeDto(1L, "parentNumber", "가요", null),
+                new CategoryNodeDto(2L, "childNumber1", "댄스", 1L)
+        ), 0);
+    }
+
+    @Nested
+    class Get {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void renderOnce_WhenSnapshotIsSame() {
+                //given
+                given(categoryTreeCache.get()).willReturn(snapshot);
+
+                //when
+                CategoryTreeJsonDto json1 = categoryTreeJsonCache.get();
+                CategoryTreeJsonDto json2 = categoryTreeJsonCache.get();
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(json2).isSameAs(json1);
+                    softly.then(json1.eTag()).startsWith("\"").endsWith("\"");
+                    softly.then(new String(json1.body(), StandardCharsets.UTF_8))
+                            .isEqualTo("{\"data\":[{\"name\":\"가요\",\"categoryNumber\":\"parentNumber\",\"children\":[{\"name\":\"댄스\",\"categoryNumber\":\"childNumber1\",\"children\":[]}]}],\"count\":1}");
+                });
+            }
+
+            @Test
+            void renderAgain_WhenSnapshotChanged() {
+                //given
+                CategoryTreeCache.Snapshot changedSnapshot = snapshot.withRemoved(2L);
+
+                given(categoryTreeCache.get())
+                        .willReturn(snapshot)
+                        .willReturn(changedSnapshot)
+                        .willReturn(new CategoryTreeCache.Snapshot(List.of(
+                                new CategoryNodeDto(1L, "parentNumber", "가요", null),
+                                new CategoryNodeDto(2L, "childNumber1", "댄스", 1L)
+                        ), 2));
+
+                //when
+                CategoryTreeJsonDto json1 = categoryTreeJsonCache.get();
+                CategoryTreeJsonDto json2 = categoryTreeJsonCache.get();
+                CategoryTreeJsonDto json3 = categoryTreeJsonCache.get();
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(json2.eTag()).isNotEqualTo(json1.eTag());
+                    softly.then(new String(json2.body(), StandardCharsets.UTF_8)).doesNotContain("댄스");
+                    //버전이 달라도 내용이 같으면 ETag가 같다.
+                    softly.then(json3).isNotSameAs(json1);
+                    softly.then(json3.eTag()).isEqualTo(json1.eTag());
+                });
+            }
+        }
+    }
+}
@@ -256,4 +256,103 @@ class DeliveryServiceTest {
             }
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    class StartDeliveries {
+
+        Order otherOrder;
+
+        @BeforeEach
+        void beforeEach() {
+            otherOrder = Order.createOrder(member, new Delivery(member), List.of(orderProduct1));
+            Payment.requestPayment(otherOrder);
+
+            otherOrder.getPayment().complete(LocalDateTime.now());
+            otherOrder.completePaid();
+        }
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                List<String> orderNumbers = List.of(order.getOrderNumber(), otherOrder.getOrderNumber());
+                given(orderService.findOrdersWithDeliveryPayment(orderNumbers)).willReturn(List.of(order, otherOrder));
+
+                //when
+                deliveryService.startDeliveries(orderNumbers);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(orderService).should().findOrdersWithDeliveryPayment(orderNumbers));
+                    softly.check(() -> BDDMockito.then(orderService).should(never()).findOrderWithDeliveryPayment(anyString()));
+                    softly.check(() -> BDDMockito.then(eventPublisher).should(times(2)).publishEvent(any(DeliveryStartedEvent.class)));
+                    softly.then(order.getDelivery().getDeliveryStatus()).isEqualTo(DeliveryStatus.SHIPPED);
+                    softly.then(otherOrder.getDelivery().getDeliveryStatus()).isEqualTo(DeliveryStatus.SHIPPED);
+                });
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void alreadyShipped() {
+                //given
+                otherOrder.getDelivery().startDelivery();
+                List<String> orderNumbers = List.of(order.getOrderNumber(), otherOrder.getOrderNumber());
+                given(orderService.findOrdersWithDeliveryPayment(orderNumbers)).willReturn(List.of(order, otherOrder));
+
+                //when & then
+                thenThrownBy(() -> deliveryService.startDeliveries(orderNumbers))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("이미 발송된 주문입니다. DeliveryStatus: " + DeliveryStatus.SHIPPED);
+
+                //then
+                BDDMockito.then(eventPublisher).should(never()).publishEvent(any());
+            }
+        }
+    }
+
+    @Nested
+    class CompleteDeliveries {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                ReflectionTestUtils.setField(delivery, "deliveryStatus", DeliveryStatus.SHIPPED);
+
+                given(orderService.findOrdersWithDeliveryPayment(List.of(order.getOrderNumber()))).willReturn(List.of(order));
+
+                //when
+                deliveryService.completeDeliveries(List.of(order.getOrderNumber()));
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(order.getOrderStatus()).isEqualTo(OrderStatus.DELIVERED);
+                    softly.then(order.getDelivery().getDeliveryStatus()).isEqualTo(DeliveryStatus.DELIVERED);
+                });
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void orderNotFound() {
+                //given
+                given(orderService.findOrdersWithDeliveryPayment(List.of(wrongOrderNumber)))
+                        .willThrow(new DataNotFoundException("존재하지 않는 주문이 있습니다. orderNumbers: " + List.of(wrongOrderNumber)));
+
+                //when & then
+                thenThrownBy(() -> deliveryService.completeDeliveries(List.of(wrongOrderNumber)))
+                        .isInstanceOf(DataNotFoundException.class)
+                        .hasMessage("존재하지 않는 주문이 있습니다. orderNumbers: " + List.of(wrongOrderNumber));
+            }
+        }
+    }
+}
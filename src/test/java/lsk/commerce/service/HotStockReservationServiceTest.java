@@ -0,0 +1,195 @@
+package lsk.commerce.service;
+
+import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.domain.product.Album;
+import lsk.commerce.domain.product.Book;
+import lsk.commerce.dto.StockChangeDto;
+import lsk.commerce.repository.ProductStockDeltaJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.BDDAssertions.thenNoException;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class HotStockReservationServiceTest {
+
+    @Mock
+    StockReservationService stockReservationService;
+
+    @Mock
+    ProductStockDeltaJdbcRepository productStockDeltaJdbcRepository;
+
+    @Mock
+    ProductService productService;
+
+    @Mock
+    HotStockFlusher hotStockFlusher;
+
+    HotStockReservationService hotStockReservationService;
+
+    Album album;
+    Book book;
+
+    @BeforeEach
+    void beforeEach() {
+        album = Album.builder()
+                .name("BANG BANG")
+                .price(15000)
+                .stockQuantity(10)
+                .build();
+        book = Book.builder()
+                .name("자바 ORM 표준 JPA 프로그래밍")
+                .price(15000)
+                .stockQuantity(7)
+                .build();
+
+        ReflectionTestUtils.setField(album, "id", 1L);
+        ReflectionTestUtils.setField(book, "id", 2L);
+
+        hotStockReservationService = new HotStockReservationService(stockReservationService, productStockDeltaJdbcRepository,
+                productService, hotStockFlusher, new String[]{album.getProductNumber()}, 4);
+
+        given(productService.findProductsByProductNumbers(Set.of(album.getProductNumber()))).willReturn(List.of(album));
+        hotStockReservationService.afterSingletonsInstantiated();
+
+        TransactionSynchronizationManager.initSynchronization();
+    }
+
+    @AfterEach
+    void afterEach() {
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    @Nested
+    class Recover {
+
+        @Test
+        void basic() {
+            //then
+            thenSoftly(softly -> {
+                softly.check(() -> BDDMockito.then(hotStockFlusher).should().flushAll());
+                softly.check(() -> BDDMockito.then(productService).should().findProductsByProductNumbers(Set.of(album.getProductNumber())));
+                softly.then(hotStockReservationService.isHotProduct(album.getId())).isTrue();
+                softly.then(hotStockReservationService.isHotProduct(book.getId())).isFalse();
+            });
+        }
+    }
+
+    @Nested
+    class Reserve {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                OrderProduct orderProduct1 = OrderProduct.createOrderProduct(album, 3);
+                OrderProduct orderProduct2 = OrderProduct.createOrderProduct(book, 2);
+
+                //when
+                hotStockReservationService.reserve(List.of(orderProduct1, orderProduct2));
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(productStockDeltaJdbcRepository).should().saveAll(List.of(new StockChangeDto(1L, album.getProductNumber(), -3))));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should().reserve(List.of(orderProduct2)));
+                });
+            }
+
+            @Test
+            void shouldRestoreCounter_WhenRolledBack() {
+                //given
+                hotStockReservationService.reserve(List.of(OrderProduct.createOrderProduct(album, 10)));
+
+                //when
+                completeTransaction(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+                //then
+                thenNoException().isThrownBy(() -> hotStockReservationService.reserve(List.of(OrderProduct.createOrderProduct(album, 10))));
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void exceed() {
+                //given
+                List<OrderProduct> orderProducts = List.of(OrderProduct.createOrderProduct(album, 11));
+
+                //when & then
+                thenThrownBy(() -> hotStockReservationService.reserve(orderProducts))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("재고가 부족합니다. productNumber: " + album.getProductNumber());
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(productStockDeltaJdbcRepository).should(never()).saveAll(anyList()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should(never()).reserve(anyList()));
+                });
+            }
+        }
+    }
+
+    @Nested
+    class Release {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                hotStockReservationService.reserve(List.of(OrderProduct.createOrderProduct(album, 10)));
+                completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+
+                OrderProduct orderProduct1 = OrderProduct.createOrderProduct(album, 4);
+                OrderProduct orderProduct2 = OrderProduct.createOrderProduct(book, 2);
+
+                //when
+                hotStockReservationService.release(List.of(orderProduct1, orderProduct2));
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(productStockDeltaJdbcRepository).should().saveAll(List.of(new StockChangeDto(1L, album.getProductNumber(), 4))));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should().releaseStockChanges(List.of(new StockChangeDto(2L, book.getProductNumber(), 2))));
+                });
+
+                //커밋 전에는 복구한 재고를 쓸 수 없다.
+                thenThrownBy(() -> hotStockReservationService.reserve(List.of(OrderProduct.createOrderProduct(album, 4))))
+                        .isInstanceOf(IllegalArgumentException.class);
+
+                completeTransaction(TransactionSynchronization.STATUS_COMMITTED);
+                thenNoException().isThrownBy(() -> hotStockReservationService.reserve(List.of(OrderProduct.createOrderProduct(album, 4))));
+            }
+        }
+    }
+
+    private void completeTransaction(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        TransactionSynchronizationManager.initSynchronization();
+
+        for (TransactionSynchronization synchronization : synchronizations) {
+            synchronization.afterCompletion(status);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package lsk.commerce.service;
+
+import lsk.commerce.dto.InitialBackfillRowDto;
+import lsk.commerce.repository.InitialBackfillJdbcRepository;
+import lsk.commerce.repository.InitialBackfillJdbcRepository.Target;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+
+import static org.assertj.core.api.BDDAssertions.tuple;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.anyLong;
+import static org.mockito.BDDMockito.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class InitialBackfillJobTest {
+
+    @Mock
+    InitialBackfillJdbcRepository initialBackfillJdbcRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Captor
+    ArgumentCaptor<List<InitialBackfillRowDto>> rowsCaptor;
+
+    InitialBackfillJob initialBackfillJob;
+
+    @BeforeEach
+    void beforeEach() {
+        initialBackfillJob = new InitialBackfillJob(initialBackfillJdbcRepository, transactionManager, 2);
+    }
+
+    @Nested
+    class Backfill {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void shouldUpdateOnlyChangedRows() {
+                //given
+                given(initialBackfillJdbcRepository.findRows(Target.MEMBER, 0, 2)).willReturn(List.of(
+                        new InitialBackfillRowDto(1L, List.of("유저"), List.of("ㅇㅈ")),
+                        new InitialBackfillRowDto(2L, List.of("회원"), List.of("회원"))));
+                given(initialBackfillJdbcRepository.findRows(Target.MEMBER, 2, 2)).willReturn(List.of(
+                        new InitialBackfillRowDto(5L, List.of("UserA"), List.of("UserA"))));
+
+                //when
+                int updatedCount = initialBackfillJob.backfill(Target.MEMBER);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(updatedCount).isEqualTo(1);
+                    softly.check(() -> BDDMockito.then(initialBackfillJdbcRepository).should(times(1)).updateInitials(eq(Target.MEMBER), rowsCaptor.capture()));
+                    softly.then(rowsCaptor.getValue())
+                            .extracting("id", "initials")
+                            .containsExactly(tuple(2L, List.of("ㅎㅇ")));
+                    softly.check(() -> BDDMockito.then(initialBackfillJdbcRepository).should(times(2)).findRows(eq(Target.MEMBER), anyLong(), eq(2)));
+                });
+            }
+        }
+    }
+}
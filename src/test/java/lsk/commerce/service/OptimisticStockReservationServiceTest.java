@@ -0,0 +1,128 @@
+package lsk.commerce.service;
+
+import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.domain.product.Album;
+import lsk.commerce.dto.ProductStockDto;
+import lsk.commerce.repository.ProductStockJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.anyInt;
+import static org.mockito.BDDMockito.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.times;
+
+@ExtendWith(MockitoExtension.class)
+class OptimisticStockReservationServiceTest {
+
+    @Mock
+    ProductStockJdbcRepository productStockJdbcRepository;
+
+    OptimisticStockReservationService optimisticStockReservationService;
+
+    Album album;
+    List<OrderProduct> orderProducts;
+
+    @BeforeEach
+    void beforeEach() {
+        optimisticStockReservationService = new OptimisticStockReservationService(productStockJdbcRepository, 2);
+
+        album = Album.builder()
+                .name("BANG BANG")
+                .price(15000)
+                .stockQuantity(10)
+                .build();
+
+        ReflectionTestUtils.setField(album, "id", 1L);
+
+        orderProducts = List.of(OrderProduct.createOrderProduct(album, 3));
+    }
+
+    @Nested
+    class Reserve {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                given(productStockJdbcRepository.findProductStock(1L)).willReturn(Optional.of(new ProductStockDto(1L, 10, 0L)));
+                given(productStockJdbcRepository.updateStockQuantityIfVersion(1L, 7, 0L)).willReturn(1);
+
+                //when
+                optimisticStockReservationService.reserve(orderProducts);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(productStockJdbcRepository).should().findProductStock(1L));
+                    softly.check(() -> BDDMockito.then(productStockJdbcRepository).should().updateStockQuantityIfVersion(1L, 7, 0L));
+                });
+            }
+
+            @Test
+            void shouldRetry_WhenVersionConflicts() {
+                //given
+                given(productStockJdbcRepository.findProductStock(1L))
+                        .willReturn(Optional.of(new ProductStockDto(1L, 10, 0L)))
+                        .willReturn(Optional.of(new ProductStockDto(1L, 8, 1L)));
+                given(productStockJdbcRepository.updateStockQuantityIfVersion(1L, 7, 0L)).willReturn(0);
+                given(productStockJdbcRepository.updateStockQuantityIfVersion(1L, 5, 1L)).willReturn(1);
+
+                //when
+                optimisticStockReservationService.reserve(orderProducts);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(productStockJdbcRepository).should(times(2)).findProductStock(1L));
+                    softly.check(() -> BDDMockito.then(productStockJdbcRepository).should().updateStockQuantityIfVersion(1L, 5, 1L));
+                });
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void exceed() {
+                //given
+                given(productStockJdbcRepository.findProductStock(1L)).willReturn(Optional.of(new ProductStockDto(1L, 2, 0L)));
+
+                //when & then
+                thenThrownBy(() -> optimisticStockReservationService.reserve(orderProducts))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("재고가 부족합니다. productNumber: " + album.getProductNumber());
+
+                //then
+                BDDMockito.then(productStockJdbcRepository).should(never()).updateStockQuantityIfVersion(anyLong(), anyInt(), anyLong());
+            }
+
+            @Test
+            void retryExhausted() {
+                //given
+                given(productStockJdbcRepository.findProductStock(1L)).willReturn(Optional.of(new ProductStockDto(1L, 10, 0L)));
+                given(productStockJdbcRepository.updateStockQuantityIfVersion(1L, 7, 0L)).willReturn(0);
+
+                //when & then
+                thenThrownBy(() -> optimisticStockReservationService.reserve(orderProducts))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("주문이 몰려 재고를 차감하지 못했습니다. 잠시 후 다시 시도해 주세요. productNumber: " + album.getProductNumber());
+
+                //then
+                BDDMockito.then(productStockJdbcRepository).should(times(3)).updateStockQuantityIfVersion(1L, 7, 0L);
+            }
+        }
+    }
+}
@@ -0,0 +1,146 @@
+package lsk.commerce.service;
+
+import jakarta.persistence.EntityManager;
+import lsk.commerce.dto.request.MemberCreateRequest;
+import lsk.commerce.dto.request.OrderChangeRequest;
+import lsk.commerce.dto.request.OrderCreateRequest;
+import lsk.commerce.dto.request.OrderProductRequest;
+import lsk.commerce.util.NanoIdProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.anySet;
+import static org.mockito.BDDMockito.willAnswer;
+
+//주문 수정 도중에 만료 주문 취소가 돌아도 취소된 주문을 되살리거나 새로 잡은 재고를 남기지 않는지 실제 DB로 확인한다.
+@SpringBootTest(properties = "spring.datasource.hikari.maximum-pool-size=4")
+class OrderChangeExpiryRaceTest {
+
+    private static final long PRODUCT_ID1 = 1_000_000_000L;
+    private static final long PRODUCT_ID2 = 1_000_000_001L;
+    private static final int STOCK = 10;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    OrderExpiryJob orderExpiryJob;
+
+    @MockitoSpyBean
+    ProductService productService;
+
+    String memberLoginId;
+    String productNumber1;
+    String productNumber2;
+    String orderNumber;
+
+    @BeforeEach
+    void beforeEach() {
+        memberLoginId = memberService.join(MemberCreateRequest.builder()
+                .name("UserA")
+                .loginId("id_A")
+                .password("abAB12!@")
+                .zipcode("01234")
+                .baseAddress("서울시 강남구")
+                .detailAddress("101동 101호")
+                .build());
+
+        productNumber1 = NanoIdProvider.createNanoId();
+        productNumber2 = NanoIdProvider.createNanoId();
+        //id는 id_sequence에서 발급하지 않으므로 직접 넣는다.
+        String sql = "INSERT INTO product (product_id, dtype, product_number, name, name_initial, price, stock_quantity, version, created_at, artist, artist_initial, studio, studio_initial)" +
+                " VALUES (?, 'A', ?, ?, ?, 10000, ?, 0, NOW(6), 'IVE', 'IVE', 'STARSHIP', 'STARSHIP')";
+        jdbcTemplate.update(sql, PRODUCT_ID1, productNumber1, "BANG BANG", "BANG BANG", STOCK);
+        jdbcTemplate.update(sql, PRODUCT_ID2, productNumber2, "I AM", "I AM", STOCK);
+
+        orderNumber = orderService.order(new OrderCreateRequest(List.of(new OrderProductRequest(productNumber1, 2))), memberLoginId);
+
+        //ttl이 지난 주문으로 만든다.
+        jdbcTemplate.update("UPDATE orders SET ordered_at = ? WHERE order_number = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusHours(1)), orderNumber);
+    }
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
+        jdbcTemplate.execute("DELETE FROM member");
+        jdbcTemplate.execute("DELETE FROM product");
+        jdbcTemplate.execute("DELETE FROM delivery");
+        jdbcTemplate.execute("DELETE FROM orders");
+        jdbcTemplate.execute("DELETE FROM order_product");
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
+
+        em.clear();
+    }
+
+    @Nested
+    class ChangeOrder {
+
+        @Test
+        void expiredDuringChange_ShouldSkipLockedOrder() {
+            //given 새로 추가한 상품을 조회할 때 다른 스레드에서 만료 주문 취소를 실행한다.
+            AtomicInteger expiredCount = new AtomicInteger(-1);
+            willAnswer(invocation -> {
+                expiredCount.set(CompletableFuture.supplyAsync(() -> orderExpiryJob.expire(LocalDateTime.now())).get(10, TimeUnit.SECONDS));
+                return invocation.callRealMethod();
+            }).given(productService).findProductsByProductNumbers(anySet());
+
+            OrderChangeRequest request = new OrderChangeRequest(List.of(
+                    new OrderProductRequest(productNumber1, 1),
+                    new OrderProductRequest(productNumber2, 3)));
+
+            //when
+            orderService.changeOrder(orderNumber, request, memberLoginId);
+
+            //then
+            thenSoftly(softly -> {
+                softly.then(expiredCount.get()).isZero();
+                softly.then(orderStatus()).isEqualTo("CREATED");
+                softly.then(stockQuantity(productNumber1)).isEqualTo(STOCK - 1);
+                softly.then(stockQuantity(productNumber2)).isEqualTo(STOCK - 3);
+            });
+
+            //when 수정이 끝난 뒤의 만료 주문 취소
+            int expiredAfterChange = orderExpiryJob.expire(LocalDateTime.now());
+
+            //then 수정된 주문 상품 기준으로 재고를 모두 돌려놓는다.
+            thenSoftly(softly -> {
+                softly.then(expiredAfterChange).isEqualTo(1);
+                softly.then(orderStatus()).isEqualTo("CANCELED");
+                softly.then(stockQuantity(productNumber1)).isEqualTo(STOCK);
+                softly.then(stockQuantity(productNumber2)).isEqualTo(STOCK);
+            });
+        }
+    }
+
+    private String orderStatus() {
+        return jdbcTemplate.queryForObject("SELECT order_status FROM orders WHERE order_number = ?", String.class, orderNumber);
+    }
+
+    private Integer stockQuantity(String productNumber) {
+        return jdbcTemplate.queryForObject("SELECT stock_quantity FROM product WHERE product_number = ?", Integer.class, productNumber);
+    }
+}
@@ -0,0 +1,139 @@
+package lsk.commerce.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lsk.commerce.dto.StockChangeDto;
+import lsk.commerce.repository.OrderExpiryJdbcRepository;
+import lsk.commerce.repository.OrderProductJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.inOrder;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+class OrderExpiryJobTest {
+
+    @Mock
+    OrderExpiryJdbcRepository orderExpiryJdbcRepository;
+
+    @Mock
+    OrderProductJdbcRepository orderProductJdbcRepository;
+
+    @Mock
+    StockReservationService stockReservationService;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry;
+
+    OrderExpiryJob orderExpiryJob;
+
+    LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+    LocalDateTime cutoff = now.minusMinutes(30);
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        orderExpiryJob = new OrderExpiryJob(orderExpiryJdbcRepository, orderProductJdbcRepository, stockReservationService,
+                transactionManager, meterRegistry, 30, 2);
+    }
+
+    @Nested
+    class Expire {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                List<StockChangeDto> firstStockChanges = List.of(new StockChangeDto(1L, "albumNumber1", 3));
+                List<StockChangeDto> secondStockChanges = List.of(new StockChangeDto(2L, "bookNumber01", 1));
+
+                given(orderExpiryJdbcRepository.findExpiredOrderIdsForUpdate(cutoff, 0, 2)).willReturn(List.of(3L, 7L));
+                given(orderExpiryJdbcRepository.findExpiredOrderIdsForUpdate(cutoff, 7L, 2)).willReturn(List.of(9L));
+                given(orderProductJdbcRepository.findStockChangesByOrderIds(List.of(3L, 7L))).willReturn(firstStockChanges);
+                given(orderProductJdbcRepository.findStockChangesByOrderIds(List.of(9L))).willReturn(secondStockChanges);
+                given(orderExpiryJdbcRepository.findOldestOrderedAt(cutoff)).willReturn(Optional.empty());
+
+                InOrder inOrder = inOrder(orderExpiryJdbcRepository, stockReservationService);
+
+                //when
+                int expiredCount = orderExpiryJob.expire(now);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(expiredCount).isEqualTo(3);
+                    softly.check(() -> BDDMockito.then(orderExpiryJdbcRepository).should(inOrder).cancelOrders(List.of(3L, 7L)));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should(inOrder).releaseStockChanges(firstStockChanges));
+                    softly.check(() -> BDDMockito.then(orderExpiryJdbcRepository).should(inOrder).cancelOrders(List.of(9L)));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should(inOrder).releaseStockChanges(secondStockChanges));
+                    softly.then(meterRegistry.get("order.expiry.expired").counter().count()).isEqualTo(3.0);
+                    softly.then(meterRegistry.get("order.expiry.batch").timer().count()).isEqualTo(2L);
+                    softly.then(meterRegistry.get("order.expiry.lag").gauge().value()).isEqualTo(0.0);
+                });
+            }
+
+            @Test
+            void nothingExpired_ShouldReportLag_WhenOrdersWereSkipped() {
+                //given
+                given(orderExpiryJdbcRepository.findExpiredOrderIdsForUpdate(cutoff, 0, 2)).willReturn(List.of());
+                //결제 완료 중이어서 잠겨 있던 주문
+                given(orderExpiryJdbcRepository.findOldestOrderedAt(cutoff)).willReturn(Optional.of(cutoff.minusSeconds(90)));
+
+                //when
+                int expiredCount = orderExpiryJob.expire(now);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(expiredCount).isEqualTo(0);
+                    softly.check(() -> BDDMockito.then(orderExpiryJdbcRepository).should(never()).cancelOrders(anyList()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).shouldHaveNoInteractions());
+                    softly.then(meterRegistry.get("order.expiry.expired").counter().count()).isEqualTo(0.0);
+                    softly.then(meterRegistry.get("order.expiry.lag").gauge().value()).isEqualTo(90.0);
+                });
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void failedRelease() {
+                //given
+                given(orderExpiryJdbcRepository.findExpiredOrderIdsForUpdate(cutoff, 0, 2)).willReturn(List.of(3L));
+                given(orderProductJdbcRepository.findStockChangesByOrderIds(List.of(3L))).willReturn(List.of());
+                willThrow(new RuntimeException("JDBC UPDATE Failed")).given(stockReservationService).releaseStockChanges(anyList());
+
+                //when & then
+                thenThrownBy(() -> orderExpiryJob.expire(now))
+                        .isInstanceOf(RuntimeException.class)
+                        .hasMessage("JDBC UPDATE Failed");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(transactionManager).should().rollback(any()));
+                    softly.then(meterRegistry.get("order.expiry.expired").counter().count()).isEqualTo(0.0);
+                });
+            }
+        }
+    }
+}
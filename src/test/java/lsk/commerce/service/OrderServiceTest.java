@@ -12,6 +12,7 @@ import lsk.commerce.domain.PaymentStatus;
 import lsk.commerce.domain.product.Album;
 import lsk.commerce.domain.product.Book;
 import lsk.commerce.domain.product.Movie;
+import lsk.commerce.dto.StockChangeDto;
 import lsk.commerce.dto.request.OrderChangeRequest;
 import lsk.commerce.dto.request.OrderCreateRequest;
 import lsk.commerce.dto.request.OrderProductRequest;
@@ -38,6 +39,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenNoException;
@@ -47,6 +49,7 @@ import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.anyList;
 import static org.mockito.BDDMockito.anyLong;
+import static org.mockito.BDDMockito.anySet;
 import static org.mockito.BDDMockito.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
@@ -72,6 +75,9 @@ class OrderServiceTest {
     @Mock
     ProductService productService;
 
+    @Mock
+    StockReservationService stockReservationService;
+
     @InjectMocks
     OrderService orderService;
 
@@ -81,6 +87,9 @@ class OrderServiceTest {
     @Captor
     ArgumentCaptor<List<OrderProduct>> orderProductCaptor;
 
+    @Captor
+    ArgumentCaptor<List<OrderProduct>> releasedCaptor;
+
     Member member;
     Delivery delivery;
     Album album;
@@ -143,9 +152,9 @@ class OrderServiceTest {
                 OrderCreateRequest request = new OrderCreateRequest(List.of(orderProductRequest1, orderProductRequest2, orderProductRequest3));
 
                 given(memberService.findMemberByLoginId(anyString())).willReturn(member);
-                given(productService.findProducts()).willReturn(List.of(album, book, movie));
+                given(productService.findProductsByProductNumbers(anySet())).willReturn(List.of(album, book, movie));
 
-                InOrder inOrder = inOrder(em, orderRepository, orderProductJdbcRepository);
+                InOrder inOrder = inOrder(stockReservationService, em, orderRepository);
 
                 //when
                 orderService.order(request, "id_A");
@@ -153,13 +162,13 @@ class OrderServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(memberService).should().findMemberByLoginId(anyString()));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
+                    softly.check(() -> BDDMockito.then(productService).should().findProductsByProductNumbers(anySet()));
                 });
 
                 thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(stockReservationService).should(inOrder).reserve(orderProductCaptor.capture()));
                     softly.check(() -> BDDMockito.then(orderRepository).should(inOrder).save(orderCaptor.capture()));
                     softly.check(() -> BDDMockito.then(em).should(inOrder).flush());
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(inOrder).saveAll(orderProductCaptor.capture()));
                     softly.check(() -> BDDMockito.then(em).should(inOrder).clear());
                 });
 
@@ -181,11 +190,7 @@ class OrderServiceTest {
                     softly.then(order.getDelivery().getDeliveryStatus()).isEqualTo(DeliveryStatus.WAITING);
                     softly.then(order.getPayment()).isNull();
                 });
-                thenSoftly(softly -> {
-                    softly.then(album.getStockQuantity()).isEqualTo(7);
-                    softly.then(book.getStockQuantity()).isEqualTo(5);
-                    softly.then(movie.getStockQuantity()).isEqualTo(1);
-                });
+                BDDMockito.then(stockReservationService).should().reserve(orderProducts);
             }
         }
 
@@ -210,9 +215,8 @@ class OrderServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(memberService).should().findMemberByLoginId(anyString()));
-                    softly.check(() -> BDDMockito.then(productService).should(never()).findProducts());
+                    softly.check(() -> BDDMockito.then(productService).should(never()).findProductsByProductNumbers(anySet()));
                     softly.check(() -> BDDMockito.then(orderRepository).should(never()).save(any()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).saveAll(any()));
                 });
             }
 
@@ -223,7 +227,7 @@ class OrderServiceTest {
                 OrderCreateRequest request = new OrderCreateRequest(List.of(nullProductNumberOrderProductRequest));
 
                 given(memberService.findMemberByLoginId(anyString())).willReturn(member);
-                given(productService.findProducts()).willReturn(List.of(album, book, movie));
+                given(productService.findProductsByProductNumbers(anySet())).willReturn(List.of(album, book, movie));
 
                 //when & then
                 thenThrownBy(() -> orderService.order(request, "id_A"))
@@ -233,9 +237,8 @@ class OrderServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(memberService).should().findMemberByLoginId(anyString()));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
+                    softly.check(() -> BDDMockito.then(productService).should().findProductsByProductNumbers(anySet()));
                     softly.check(() -> BDDMockito.then(orderRepository).should(never()).save(any()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).saveAll(any()));
                 });
             }
 
@@ -245,7 +248,8 @@ class OrderServiceTest {
                 OrderCreateRequest request = new OrderCreateRequest(List.of(exceedOrderProductRequest));
 
                 given(memberService.findMemberByLoginId(anyString())).willReturn(member);
-                given(productService.findProducts()).willReturn(List.of(album, book, movie));
+                given(productService.findProductsByProductNumbers(anySet())).willReturn(List.of(album, book, movie));
+                willThrow(new IllegalArgumentException("재고가 부족합니다. productNumber: " + productNumber1)).given(stockReservationService).reserve(anyList());
 
                 //when & then
                 thenThrownBy(() -> orderService.order(request, "id_A"))
@@ -255,9 +259,9 @@ class OrderServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(memberService).should().findMemberByLoginId(anyString()));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
+                    softly.check(() -> BDDMockito.then(productService).should().findProductsByProductNumbers(anySet()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should().reserve(anyList()));
                     softly.check(() -> BDDMockito.then(orderRepository).should(never()).save(any()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).saveAll(any()));
                 });
             }
 
@@ -269,7 +273,7 @@ class OrderServiceTest {
                 OrderCreateRequest request = new OrderCreateRequest(List.of(nullQuantityOrderProductRequest));
 
                 given(memberService.findMemberByLoginId(anyString())).willReturn(member);
-                given(productService.findProducts()).willReturn(List.of(album, book, movie));
+                given(productService.findProductsByProductNumbers(anySet())).willReturn(List.of(album, book, movie));
 
                 //when & then
                 thenThrownBy(() -> orderService.order(request, "id_A"))
@@ -279,9 +283,8 @@ class OrderServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(memberService).should().findMemberByLoginId(anyString()));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
+                    softly.check(() -> BDDMockito.then(productService).should().findProductsByProductNumbers(anySet()));
                     softly.check(() -> BDDMockito.then(orderRepository).should(never()).save(any()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).saveAll(any()));
                 });
             }
 
@@ -292,7 +295,7 @@ class OrderServiceTest {
                 OrderCreateRequest request = new OrderCreateRequest(List.of(notExistsProductNumberOrderProductRequest));
 
                 given(memberService.findMemberByLoginId(anyString())).willReturn(member);
-                given(productService.findProducts()).willReturn(List.of(album, book, movie));
+                given(productService.findProductsByProductNumbers(anySet())).willReturn(List.of(album, book, movie));
 
                 //when & then
                 thenThrownBy(() -> orderService.order(request, "id_A"))
@@ -302,14 +305,13 @@ class OrderServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(memberService).should().findMemberByLoginId(anyString()));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
+                    softly.check(() -> BDDMockito.then(productService).should().findProductsByProductNumbers(anySet()));
                     softly.check(() -> BDDMockito.then(orderRepository).should(never()).save(any()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).saveAll(any()));
                 });
             }
 
             @Test
-            void failedSaveAll() {
+            void failedFlush() {
                 //given
                 OrderProductRequest orderProductRequest1 = new OrderProductRequest(productNumber1, 3);
                 OrderProductRequest orderProductRequest2 = new OrderProductRequest(productNumber2, 2);
@@ -317,8 +319,8 @@ class OrderServiceTest {
                 OrderCreateRequest request = new OrderCreateRequest(List.of(orderProductRequest1, orderProductRequest2, orderProductRequest3));
 
                 given(memberService.findMemberByLoginId(anyString())).willReturn(member);
-                given(productService.findProducts()).willReturn(List.of(album, book, movie));
-                willThrow(new RuntimeException("JDBC Batch INSERT Failed")).given(orderProductJdbcRepository).saveAll(anyList());
+                given(productService.findProductsByProductNumbers(anySet())).willReturn(List.of(album, book, movie));
+                willThrow(new RuntimeException("JDBC Batch INSERT Failed")).given(em).flush();
 
                 //when & then
                 thenThrownBy(() -> orderService.order(request, "id_A"))
@@ -328,9 +330,10 @@ class OrderServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(memberService).should().findMemberByLoginId(anyString()));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
+                    softly.check(() -> BDDMockito.then(productService).should().findProductsByProductNumbers(anySet()));
                     softly.check(() -> BDDMockito.then(orderRepository).should().save(any()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should().saveAll(anyList()));
+                    softly.check(() -> BDDMockito.then(em).should().flush());
+                    softly.check(() -> BDDMockito.then(em).should(never()).clear());
                 });
             }
         }
@@ -393,6 +396,18 @@ class OrderServiceTest {
                 //then
                 BDDMockito.then(orderRepository).should().findByOrderNumber(anyString());
             }
+
+            @Test
+            void someOrdersNotFound() {
+                //given
+                List<String> orderNumbers = List.of(order.getOrderNumber(), wrongOrderNumber);
+                given(orderRepository.findAllWithDeliveryPayment(orderNumbers)).willReturn(List.of(order));
+
+                //when & then
+                thenThrownBy(() -> orderService.findOrdersWithDeliveryPayment(orderNumbers))
+                        .isInstanceOf(DataNotFoundException.class)
+                        .hasMessage("존재하지 않는 주문이 있습니다. orderNumbers: " + orderNumbers);
+            }
         }
     }
 
@@ -409,45 +424,113 @@ class OrderServiceTest {
                 OrderProductRequest orderProductRequest2 = new OrderProductRequest(productNumber2, 5);
                 OrderChangeRequest request = new OrderChangeRequest(List.of(orderProductRequest1, orderProductRequest2));
 
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.of(order));
-                given(orderRepository.findByOrderNumber(anyString())).willReturn(Optional.of(order));
-                given(productService.findProducts()).willReturn(List.of(album, book, movie));
+                given(orderRepository.findWithAllForUpdate(anyString())).willReturn(Optional.of(order));
 
-                InOrder inOrder = inOrder(em, orderRepository, orderProductJdbcRepository);
+                InOrder inOrder = inOrder(stockReservationService, em);
 
                 //when
                 orderService.changeOrder(order.getOrderNumber(), request, "id_A");
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(orderRepository).should(inOrder).findWithAll(anyString()));
+                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAllForUpdate(anyString()));
+                    softly.check(() -> BDDMockito.then(productService).should(never()).findProductsByProductNumbers(anySet()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should(inOrder).release(releasedCaptor.capture()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should(inOrder).reserve(orderProductCaptor.capture()));
+                    softly.check(() -> BDDMockito.then(em).should(inOrder).remove(orderProduct3));
                     softly.check(() -> BDDMockito.then(em).should(inOrder).flush());
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(inOrder).deleteOrderProductsByOrderId(order.getId()));
-                    softly.check(() -> BDDMockito.then(em).should(inOrder).clear());
-                    softly.check(() -> BDDMockito.then(orderRepository).should(inOrder).findByOrderNumber(anyString()));
+                    softly.check(() -> BDDMockito.then(em).should(never()).clear());
                 });
 
-                BDDMockito.then(productService).should().findProducts();
+                thenSoftly(softly -> {
+                    softly.then(releasedCaptor.getValue())
+                            .extracting("product.name", "quantity")
+                            .containsExactlyInAnyOrder(
+                                    tuple("BANG BANG", 1),
+                                    tuple("범죄도시", 4));
+                    softly.then(orderProductCaptor.getValue())
+                            .extracting("product.name", "quantity")
+                            .containsExactly(tuple("자바 ORM 표준 JPA 프로그래밍", 3));
+                    softly.then(order.getOrderProducts())
+                            .containsExactly(orderProduct1, orderProduct2)
+                            .extracting("product.name", "quantity", "orderPrice")
+                            .containsExactly(
+                                    tuple("BANG BANG", 2, 30000),
+                                    tuple("자바 ORM 표준 JPA 프로그래밍", 5, 75000));
+                    softly.then(order.getTotalAmount()).isEqualTo(105000);
+                });
+            }
+
+            @Test
+            void loadOnlyNewProducts_AndKeepUnchangedOrderProduct() {
+                //given
+                Order order = Order.createOrder(member, new Delivery(member),
+                        List.of(OrderProduct.createOrderProduct(album, 3), OrderProduct.createOrderProduct(book, 2)));
+                ReflectionTestUtils.setField(order, "id", 2L);
+                OrderProduct albumOrderProduct = order.getOrderProducts().getFirst();
 
+                //주문한 뒤에 가격이 오른 상품
+                ReflectionTestUtils.setField(album, "price", 20000);
+
+                OrderProductRequest orderProductRequest1 = new OrderProductRequest(productNumber1, 3);
+                OrderProductRequest orderProductRequest2 = new OrderProductRequest(productNumber2, 1);
+                OrderProductRequest orderProductRequest3 = new OrderProductRequest(productNumber3, 2);
+                OrderChangeRequest request = new OrderChangeRequest(List.of(orderProductRequest1, orderProductRequest2, orderProductRequest3));
+
+                given(orderRepository.findWithAllForUpdate(anyString())).willReturn(Optional.of(order));
+                given(productService.findProductsByProductNumbers(anySet())).willReturn(List.of(movie));
+
+                //when
+                orderService.changeOrder(order.getOrderNumber(), request, "id_A");
+
+                //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(em).should(inOrder).flush());
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(inOrder).saveAll(orderProductCaptor.capture()));
-                    softly.check(() -> BDDMockito.then(em).should(inOrder).clear());
+                    softly.check(() -> BDDMockito.then(productService).should().findProductsByProductNumbers(Set.of(productNumber3)));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should().release(releasedCaptor.capture()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should().reserve(orderProductCaptor.capture()));
+                    softly.check(() -> BDDMockito.then(em).should(never()).remove(any()));
                 });
 
-                List<OrderProduct> orderProducts = orderProductCaptor.getValue();
                 thenSoftly(softly -> {
-                    softly.then(orderProducts)
+                    softly.then(releasedCaptor.getValue())
+                            .extracting("product.name", "quantity")
+                            .containsExactly(tuple("자바 ORM 표준 JPA 프로그래밍", 1));
+                    softly.then(orderProductCaptor.getValue())
+                            .extracting("product.name", "quantity")
+                            .containsExactly(tuple("범죄도시", 2));
+                    softly.then(albumOrderProduct.getOrderPrice()).isEqualTo(45000);
+                    softly.then(order.getOrderProducts())
                             .extracting("product.name", "quantity", "orderPrice")
-                            .containsExactlyInAnyOrder(
-                                    tuple("BANG BANG", 2, 30000),
-                                    tuple("자바 ORM 표준 JPA 프로그래밍", 5, 75000));
-                    softly.then(orderProducts.getFirst().getOrder().getTotalAmount()).isEqualTo(105000);
+                            .containsExactly(
+                                    tuple("BANG BANG", 3, 45000),
+                                    tuple("자바 ORM 표준 JPA 프로그래밍", 1, 15000),
+                                    tuple("범죄도시", 2, 30000));
+                    softly.then(order.getTotalAmount()).isEqualTo(90000);
                 });
+            }
+
+            @Test
+            void mergeDuplicateProducts() {
+                //given
+                OrderProductRequest orderProductRequest1 = new OrderProductRequest(productNumber1, 1);
+                OrderProductRequest orderProductRequest2 = new OrderProductRequest(productNumber1, 2);
+                OrderProductRequest orderProductRequest3 = new OrderProductRequest(productNumber2, 2);
+                OrderProductRequest orderProductRequest4 = new OrderProductRequest(productNumber3, 4);
+                OrderChangeRequest request = new OrderChangeRequest(List.of(orderProductRequest1, orderProductRequest2, orderProductRequest3, orderProductRequest4));
+
+                given(orderRepository.findWithAllForUpdate(anyString())).willReturn(Optional.of(order));
+
+                //when
+                orderService.changeOrder(order.getOrderNumber(), request, "id_A");
+
+                //then
                 thenSoftly(softly -> {
-                    softly.then(album.getStockQuantity()).isEqualTo(8);
-                    softly.then(book.getStockQuantity()).isEqualTo(2);
-                    softly.then(movie.getStockQuantity()).isEqualTo(5);
+                    softly.check(() -> BDDMockito.then(productService).should(never()).findProductsByProductNumbers(anySet()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should(never()).release(anyList()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should(never()).reserve(anyList()));
+                    softly.check(() -> BDDMockito.then(em).should(never()).remove(any()));
+                    softly.then(order.getOrderProducts()).containsExactly(orderProduct1, orderProduct2, orderProduct3);
+                    softly.then(order.getTotalAmount()).isEqualTo(135000);
                 });
             }
 
@@ -458,35 +541,18 @@ class OrderServiceTest {
                 OrderProductRequest orderProductRequest2 = new OrderProductRequest(productNumber2, 5);
                 OrderChangeRequest request = new OrderChangeRequest(List.of(orderProductRequest1, orderProductRequest2));
 
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.of(order));
-                given(orderRepository.findByOrderNumber(anyString())).willReturn(Optional.of(order));
-                given(productService.findProducts()).willReturn(List.of(album, book, movie));
+                given(orderRepository.findWithAllForUpdate(anyString())).willReturn(Optional.of(order));
 
                 //when 첫 번째 호출
                 orderService.changeOrder(order.getOrderNumber(), request, "id_A");
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAll(anyString()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should().deleteOrderProductsByOrderId(order.getId()));
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findByOrderNumber(anyString()));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should().saveAll(orderProductCaptor.capture()));
-                });
-
-                List<OrderProduct> orderProducts = orderProductCaptor.getValue();
-                thenSoftly(softly -> {
-                    softly.then(orderProducts)
-                            .extracting("product.name", "quantity", "orderPrice")
-                            .containsExactlyInAnyOrder(
-                                    tuple("BANG BANG", 2, 30000),
-                                    tuple("자바 ORM 표준 JPA 프로그래밍", 5, 75000));
-                    softly.then(orderProducts.getFirst().getOrder().getTotalAmount()).isEqualTo(105000);
-                });
-                thenSoftly(softly -> {
-                    softly.then(album.getStockQuantity()).isEqualTo(8);
-                    softly.then(book.getStockQuantity()).isEqualTo(2);
-                    softly.then(movie.getStockQuantity()).isEqualTo(5);
+                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAllForUpdate(anyString()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should().release(anyList()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should().reserve(anyList()));
+                    softly.check(() -> BDDMockito.then(em).should().remove(orderProduct3));
+                    softly.then(order.getTotalAmount()).isEqualTo(105000);
                 });
 
                 //when & then 두 번째 호출
@@ -494,17 +560,11 @@ class OrderServiceTest {
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(orderRepository).should(times(2)).findWithAll(anyString()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(times(1)).deleteOrderProductsByOrderId(any()));
-                    softly.check(() -> BDDMockito.then(orderRepository).should(times(1)).findByOrderNumber(any()));
-                    softly.check(() -> BDDMockito.then(productService).should(times(1)).findProducts());
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(times(1)).saveAll(any()));
-                });
-
-                thenSoftly(softly -> {
-                    softly.then(album.getStockQuantity()).isEqualTo(8);
-                    softly.then(book.getStockQuantity()).isEqualTo(2);
-                    softly.then(movie.getStockQuantity()).isEqualTo(5);
+                    softly.check(() -> BDDMockito.then(orderRepository).should(times(2)).findWithAllForUpdate(anyString()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should(times(1)).release(anyList()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should(times(1)).reserve(anyList()));
+                    softly.check(() -> BDDMockito.then(em).should(times(1)).remove(any()));
+                    softly.check(() -> BDDMockito.then(em).should(times(1)).flush());
                 });
             }
         }
@@ -519,7 +579,7 @@ class OrderServiceTest {
                 OrderProductRequest orderProductRequest2 = new OrderProductRequest(productNumber2, 5);
                 OrderChangeRequest request = new OrderChangeRequest(List.of(orderProductRequest1, orderProductRequest2));
 
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.empty());
+                given(orderRepository.findWithAllForUpdate(anyString())).willReturn(Optional.empty());
 
                 //when & then
                 thenThrownBy(() -> orderService.changeOrder(wrongOrderNumber, request, "id_A"))
@@ -528,11 +588,9 @@ class OrderServiceTest {
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAll(anyString()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).deleteOrderProductsByOrderId(any()));
-                    softly.check(() -> BDDMockito.then(orderRepository).should(never()).findByOrderNumber(any()));
-                    softly.check(() -> BDDMockito.then(productService).should(never()).findProducts());
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).saveAll(any()));
+                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAllForUpdate(anyString()));
+                    softly.check(() -> BDDMockito.then(productService).should(never()).findProductsByProductNumbers(anySet()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).shouldHaveNoInteractions());
                 });
             }
 
@@ -543,7 +601,7 @@ class OrderServiceTest {
                 OrderProductRequest orderProductRequest2 = new OrderProductRequest(productNumber2, 5);
                 OrderChangeRequest request = new OrderChangeRequest(List.of(orderProductRequest1, orderProductRequest2));
 
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.of(order));
+                given(orderRepository.findWithAllForUpdate(anyString())).willReturn(Optional.of(order));
 
                 //when & then
                 thenThrownBy(() -> orderService.changeOrder(order.getOrderNumber(), request, "id_D"))
@@ -552,11 +610,9 @@ class OrderServiceTest {
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAll(anyString()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).deleteOrderProductsByOrderId(any()));
-                    softly.check(() -> BDDMockito.then(orderRepository).should(never()).findByOrderNumber(any()));
-                    softly.check(() -> BDDMockito.then(productService).should(never()).findProducts());
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).saveAll(any()));
+                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAllForUpdate(anyString()));
+                    softly.check(() -> BDDMockito.then(productService).should(never()).findProductsByProductNumbers(anySet()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).shouldHaveNoInteractions());
                 });
             }
 
@@ -571,7 +627,7 @@ class OrderServiceTest {
                 OrderProductRequest orderProductRequest = new OrderProductRequest(productNumber1, 2);
                 OrderChangeRequest request = new OrderChangeRequest(List.of(orderProductRequest));
 
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.of(notCreatedOrder));
+                given(orderRepository.findWithAllForUpdate(anyString())).willReturn(Optional.of(notCreatedOrder));
 
                 //when & then
                 thenThrownBy(() -> orderService.changeOrder(notCreatedOrder.getOrderNumber(), request, "id_A"))
@@ -580,11 +636,9 @@ class OrderServiceTest {
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAll(anyString()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).deleteOrderProductsByOrderId(any()));
-                    softly.check(() -> BDDMockito.then(orderRepository).should(never()).findByOrderNumber(any()));
-                    softly.check(() -> BDDMockito.then(productService).should(never()).findProducts());
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).saveAll(any()));
+                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAllForUpdate(anyString()));
+                    softly.check(() -> BDDMockito.then(productService).should(never()).findProductsByProductNumbers(anySet()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).shouldHaveNoInteractions());
                 });
             }
 
@@ -596,7 +650,7 @@ class OrderServiceTest {
                 OrderProductRequest orderProductRequest2 = new OrderProductRequest(productNumber2, 5);
                 OrderChangeRequest request = new OrderChangeRequest(List.of(orderProductRequest1, orderProductRequest2));
 
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.of(order));
+                given(orderRepository.findWithAllForUpdate(anyString())).willReturn(Optional.of(order));
 
                 //when & then
                 thenThrownBy(() -> orderService.changeOrder(order.getOrderNumber(), request, "id_A"))
@@ -605,36 +659,9 @@ class OrderServiceTest {
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAll(anyString()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).deleteOrderProductsByOrderId(any()));
-                    softly.check(() -> BDDMockito.then(orderRepository).should(never()).findByOrderNumber(any()));
-                    softly.check(() -> BDDMockito.then(productService).should(never()).findProducts());
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).saveAll(any()));
-                });
-            }
-
-            @Test
-            void failedDeleteOrderProducts() {
-                //given
-                OrderProductRequest orderProductRequest1 = new OrderProductRequest(productNumber1, 2);
-                OrderProductRequest orderProductRequest2 = new OrderProductRequest(productNumber2, 5);
-                OrderChangeRequest request = new OrderChangeRequest(List.of(orderProductRequest1, orderProductRequest2));
-
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.of(order));
-                willThrow(new RuntimeException("JDBC DELETE Failed")).given(orderProductJdbcRepository).deleteOrderProductsByOrderId(anyLong());
-
-                //when & then
-                thenThrownBy(() -> orderService.changeOrder(order.getOrderNumber(), request, "id_A"))
-                        .isInstanceOf(RuntimeException.class)
-                        .hasMessage("JDBC DELETE Failed");
-
-                //then
-                thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAll(anyString()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should().deleteOrderProductsByOrderId(anyLong()));
-                    softly.check(() -> BDDMockito.then(orderRepository).should(never()).findByOrderNumber(any()));
-                    softly.check(() -> BDDMockito.then(productService).should(never()).findProducts());
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).saveAll(any()));
+                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAllForUpdate(anyString()));
+                    softly.check(() -> BDDMockito.then(productService).should(never()).findProductsByProductNumbers(anySet()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).shouldHaveNoInteractions());
                 });
             }
 
@@ -644,9 +671,7 @@ class OrderServiceTest {
                 OrderProductRequest nullProductNumberOrderProductRequest = new OrderProductRequest(null, 3);
                 OrderChangeRequest request = new OrderChangeRequest(List.of(nullProductNumberOrderProductRequest));
 
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.of(order));
-                given(orderRepository.findByOrderNumber(anyString())).willReturn(Optional.of(order));
-                given(productService.findProducts()).willReturn(List.of(album, book, movie));
+                given(orderRepository.findWithAllForUpdate(anyString())).willReturn(Optional.of(order));
 
                 //when & then
                 thenThrownBy(() -> orderService.changeOrder(order.getOrderNumber(), request, "id_A"))
@@ -655,11 +680,9 @@ class OrderServiceTest {
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAll(anyString()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should().deleteOrderProductsByOrderId(anyLong()));
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findByOrderNumber(anyString()));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).saveAll(any()));
+                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAllForUpdate(anyString()));
+                    softly.check(() -> BDDMockito.then(productService).should(never()).findProductsByProductNumbers(anySet()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).shouldHaveNoInteractions());
                 });
             }
 
@@ -669,9 +692,7 @@ class OrderServiceTest {
                 OrderProductRequest nullQuantityOrderProductRequest = new OrderProductRequest(productNumber1, null);
                 OrderChangeRequest request = new OrderChangeRequest(List.of(nullQuantityOrderProductRequest));
 
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.of(order));
-                given(orderRepository.findByOrderNumber(anyString())).willReturn(Optional.of(order));
-                given(productService.findProducts()).willReturn(List.of(album, book, movie));
+                given(orderRepository.findWithAllForUpdate(anyString())).willReturn(Optional.of(order));
 
                 //when & then
                 thenThrownBy(() -> orderService.changeOrder(order.getOrderNumber(), request, "id_A"))
@@ -680,11 +701,9 @@ class OrderServiceTest {
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAll(anyString()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should().deleteOrderProductsByOrderId(anyLong()));
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findByOrderNumber(anyString()));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).saveAll(any()));
+                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAllForUpdate(anyString()));
+                    softly.check(() -> BDDMockito.then(productService).should(never()).findProductsByProductNumbers(anySet()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).shouldHaveNoInteractions());
                 });
             }
 
@@ -694,9 +713,8 @@ class OrderServiceTest {
                 OrderProductRequest notExistsProductNumberOrderProductRequest = new OrderProductRequest("lllIIIll00OO", 3);
                 OrderChangeRequest request = new OrderChangeRequest(List.of(notExistsProductNumberOrderProductRequest));
 
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.of(order));
-                given(orderRepository.findByOrderNumber(anyString())).willReturn(Optional.of(order));
-                given(productService.findProducts()).willReturn(List.of(album, book, movie));
+                given(orderRepository.findWithAllForUpdate(anyString())).willReturn(Optional.of(order));
+                given(productService.findProductsByProductNumbers(anySet())).willReturn(List.of());
 
                 //when & then
                 thenThrownBy(() -> orderService.changeOrder(order.getOrderNumber(), request, "id_A"))
@@ -705,38 +723,33 @@ class OrderServiceTest {
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAll(anyString()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should().deleteOrderProductsByOrderId(anyLong()));
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findByOrderNumber(anyString()));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(never()).saveAll(any()));
+                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAllForUpdate(anyString()));
+                    softly.check(() -> BDDMockito.then(productService).should().findProductsByProductNumbers(Set.of("lllIIIll00OO")));
+                    softly.check(() -> BDDMockito.then(stockReservationService).shouldHaveNoInteractions());
                 });
             }
 
             @Test
-            void failedSaveAll() {
+            void failedFlush() {
                 //given
                 OrderProductRequest orderProductRequest1 = new OrderProductRequest(productNumber1, 2);
                 OrderProductRequest orderProductRequest2 = new OrderProductRequest(productNumber2, 5);
                 OrderChangeRequest request = new OrderChangeRequest(List.of(orderProductRequest1, orderProductRequest2));
 
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.of(order));
-                given(orderRepository.findByOrderNumber(anyString())).willReturn(Optional.of(order));
-                given(productService.findProducts()).willReturn(List.of(album, book, movie));
-                willThrow(new RuntimeException("JDBC Batch INSERT Failed")).given(orderProductJdbcRepository).saveAll(anyList());
+                given(orderRepository.findWithAllForUpdate(anyString())).willReturn(Optional.of(order));
+                willThrow(new RuntimeException("JDBC Batch UPDATE Failed")).given(em).flush();
 
                 //when & then
                 thenThrownBy(() -> orderService.changeOrder(order.getOrderNumber(), request, "id_A"))
                         .isInstanceOf(RuntimeException.class)
-                        .hasMessage("JDBC Batch INSERT Failed");
+                        .hasMessage("JDBC Batch UPDATE Failed");
 
                 //then
                 thenSoftly(softly -> {
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAll(anyString()));
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should().deleteOrderProductsByOrderId(anyLong()));
-                    softly.check(() -> BDDMockito.then(orderRepository).should().findByOrderNumber(anyString()));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
-                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should().saveAll(anyList()));
+                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithAllForUpdate(anyString()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should().release(anyList()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should().reserve(anyList()));
+                    softly.check(() -> BDDMockito.then(em).should().flush());
                 });
             }
 
@@ -770,16 +783,22 @@ class OrderServiceTest {
         @Nested
         class SuccessCase {
 
+            List<StockChangeDto> stockChanges = List.of(
+                    new StockChangeDto(1L, "albumNumber1", 3),
+                    new StockChangeDto(2L, "bookNumber01", 2),
+                    new StockChangeDto(3L, "movieNumber1", 4));
+
             @Test
             void withoutPayment() {
                 //given
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.of(order));
+                given(orderRepository.findWithDeliveryPaymentMemberForUpdate(anyString())).willReturn(Optional.of(order));
+                given(orderProductJdbcRepository.findStockChangesByOrderIds(List.of(1L))).willReturn(stockChanges);
 
                 //when
                 orderService.cancelOrder(order.getOrderNumber(), "id_A");
 
                 //then
-                BDDMockito.then(orderRepository).should().findWithAll(anyString());
+                BDDMockito.then(orderRepository).should().findWithDeliveryPaymentMemberForUpdate(anyString());
                 thenSoftly(softly -> {
                     softly.then(order.getOrderProducts())
                             .extracting("product.name", "quantity", "orderPrice")
@@ -794,11 +813,7 @@ class OrderServiceTest {
                     softly.then(order.getDelivery().getDeliveryStatus()).isEqualTo(DeliveryStatus.CANCELED);
                     softly.then(order.getPayment()).isNull();
                 });
-                thenSoftly(softly -> {
-                    softly.then(album.getStockQuantity()).isEqualTo(10);
-                    softly.then(book.getStockQuantity()).isEqualTo(7);
-                    softly.then(movie.getStockQuantity()).isEqualTo(5);
-                });
+                BDDMockito.then(stockReservationService).should().releaseStockChanges(stockChanges);
             }
 
             @Test
@@ -806,13 +821,14 @@ class OrderServiceTest {
                 //given
                 Payment.requestPayment(order);
 
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.of(order));
+                given(orderRepository.findWithDeliveryPaymentMemberForUpdate(anyString())).willReturn(Optional.of(order));
+                given(orderProductJdbcRepository.findStockChangesByOrderIds(List.of(1L))).willReturn(stockChanges);
 
                 //when
                 orderService.cancelOrder(order.getOrderNumber(), "id_A");
 
                 //then
-                BDDMockito.then(orderRepository).should().findWithAll(anyString());
+                BDDMockito.then(orderRepository).should().findWithDeliveryPaymentMemberForUpdate(anyString());
                 thenSoftly(softly -> {
                     softly.then(order.getOrderProducts())
                             .extracting("product.name", "quantity", "orderPrice")
@@ -827,11 +843,7 @@ class OrderServiceTest {
                     softly.then(order.getDelivery().getDeliveryStatus()).isEqualTo(DeliveryStatus.CANCELED);
                     softly.then(order.getPayment().getPaymentStatus()).isEqualTo(PaymentStatus.CANCELED);
                 });
-                thenSoftly(softly -> {
-                    softly.then(album.getStockQuantity()).isEqualTo(10);
-                    softly.then(book.getStockQuantity()).isEqualTo(7);
-                    softly.then(movie.getStockQuantity()).isEqualTo(5);
-                });
+                BDDMockito.then(stockReservationService).should().releaseStockChanges(stockChanges);
             }
 
             @Test
@@ -839,29 +851,26 @@ class OrderServiceTest {
                 //given
                 Payment.requestPayment(order);
 
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.of(order));
+                given(orderRepository.findWithDeliveryPaymentMemberForUpdate(anyString())).willReturn(Optional.of(order));
+                given(orderProductJdbcRepository.findStockChangesByOrderIds(List.of(1L))).willReturn(stockChanges);
 
                 //when 첫 번째 호출
                 orderService.cancelOrder(order.getOrderNumber(), "id_A");
 
                 //then
-                BDDMockito.then(orderRepository).should().findWithAll(anyString());
+                BDDMockito.then(orderRepository).should().findWithDeliveryPaymentMemberForUpdate(anyString());
                 thenSoftly(softly -> {
                     softly.then(order.getOrderStatus()).isEqualTo(OrderStatus.CANCELED);
                     softly.then(order.getDelivery().getDeliveryStatus()).isEqualTo(DeliveryStatus.CANCELED);
                     softly.then(order.getPayment().getPaymentStatus()).isEqualTo(PaymentStatus.CANCELED);
                 });
-                thenSoftly(softly -> {
-                    softly.then(album.getStockQuantity()).isEqualTo(10);
-                    softly.then(book.getStockQuantity()).isEqualTo(7);
-                    softly.then(movie.getStockQuantity()).isEqualTo(5);
-                });
+                BDDMockito.then(stockReservationService).should().releaseStockChanges(stockChanges);
 
                 //when & then 두 번째 호출
                 thenNoException().isThrownBy(() -> orderService.cancelOrder(order.getOrderNumber(), "id_A"));
 
                 //then
-                BDDMockito.then(orderRepository).should(times(2)).findWithAll(anyString());
+                BDDMockito.then(orderRepository).should(times(2)).findWithDeliveryPaymentMemberForUpdate(anyString());
                 thenSoftly(softly -> {
                     softly.then(order.getOrderProducts())
                             .extracting("product.name", "quantity", "orderPrice")
@@ -877,9 +886,8 @@ class OrderServiceTest {
                     softly.then(order.getPayment().getPaymentStatus()).isEqualTo(PaymentStatus.CANCELED);
                 });
                 thenSoftly(softly -> {
-                    softly.then(album.getStockQuantity()).isEqualTo(10);
-                    softly.then(book.getStockQuantity()).isEqualTo(7);
-                    softly.then(movie.getStockQuantity()).isEqualTo(5);
+                    softly.check(() -> BDDMockito.then(orderProductJdbcRepository).should(times(1)).findStockChangesByOrderIds(anyList()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).should(times(1)).releaseStockChanges(anyList()));
                 });
             }
         }
@@ -890,7 +898,7 @@ class OrderServiceTest {
             @Test
             void orderNotFound() {
                 //given
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.empty());
+                given(orderRepository.findWithDeliveryPaymentMemberForUpdate(anyString())).willReturn(Optional.empty());
 
                 //when & then
                 thenThrownBy(() -> orderService.cancelOrder(wrongOrderNumber, "id_A"))
@@ -898,13 +906,13 @@ class OrderServiceTest {
                         .hasMessage("존재하지 않는 주문입니다. orderNumber: " + wrongOrderNumber);
 
                 //then
-                BDDMockito.then(orderRepository).should().findWithAll(anyString());
+                BDDMockito.then(orderRepository).should().findWithDeliveryPaymentMemberForUpdate(anyString());
             }
 
             @Test
             void notOwner() {
                 //given
-                given(orderRepository.findWithAll(anyString())).willReturn(Optional.of(order));
+                given(orderRepository.findWithDeliveryPaymentMemberForUpdate(anyString())).willReturn(Optional.of(order));
 
                 //when & then
                 thenThrownBy(() -> orderService.cancelOrder(wrongOrderNumber, "id_D"))
@@ -912,7 +920,10 @@ class OrderServiceTest {
                         .hasMessage("주문의 주인이 아닙니다");
 
                 //then
-                BDDMockito.then(orderRepository).should().findWithAll(anyString());
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(orderRepository).should().findWithDeliveryPaymentMemberForUpdate(anyString()));
+                    softly.check(() -> BDDMockito.then(stockReservationService).shouldHaveNoInteractions());
+                });
             }
         }
     }
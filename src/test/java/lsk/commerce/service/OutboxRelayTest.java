@@ -0,0 +1,187 @@
+package lsk.commerce.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lsk.commerce.domain.OutboxEventType;
+import lsk.commerce.dto.OutboxEventDto;
+import lsk.commerce.repository.OutboxJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyString;
+import static org.mockito.BDDMockito.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.willThrow;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxRelayTest {
+
+    @Mock
+    OutboxJdbcRepository outboxJdbcRepository;
+
+    @Mock
+    DeliveryService deliveryService;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry;
+
+    OutboxRelay outboxRelay;
+
+    LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+    OutboxEventDto paymentCompleted = new OutboxEventDto(1L, OutboxEventType.PAYMENT_COMPLETED, "orderNumber1", 1);
+    OutboxEventDto deliveryStarted = new OutboxEventDto(2L, OutboxEventType.DELIVERY_STARTED, "orderNumber2", 1);
+    OutboxEventDto otherPaymentCompleted = new OutboxEventDto(3L, OutboxEventType.PAYMENT_COMPLETED, "orderNumber3", 2);
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(outboxJdbcRepository, deliveryService, transactionManager, meterRegistry, 2, 2, 10, 60, 30);
+    }
+
+    @AfterEach
+    void afterEach() {
+        outboxRelay.destroy();
+    }
+
+    @Nested
+    class Relay {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                given(outboxJdbcRepository.claim(eq(now), any(), eq(10), eq(2)))
+                        .willReturn(List.of(paymentCompleted, deliveryStarted))
+                        .willReturn(List.of(otherPaymentCompleted));
+                given(outboxJdbcRepository.findOldestAvailableAt(now, 10)).willReturn(Optional.empty());
+
+                //when
+                int dispatchedCount = outboxRelay.relay(now);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(dispatchedCount).isEqualTo(3);
+                    softly.check(() -> BDDMockito.then(deliveryService).should().startDeliveries(List.of("orderNumber1")));
+                    softly.check(() -> BDDMockito.then(deliveryService).should().completeDeliveries(List.of("orderNumber2")));
+                    softly.check(() -> BDDMockito.then(deliveryService).should().startDeliveries(List.of("orderNumber3")));
+                    softly.check(() -> BDDMockito.then(outboxJdbcRepository).should().deleteAllByIds(List.of(1L, 2L)));
+                    softly.check(() -> BDDMockito.then(outboxJdbcRepository).should().deleteAllByIds(List.of(3L)));
+                    softly.then(meterRegistry.get("outbox.relay.dispatched").counter().count()).isEqualTo(3);
+                    softly.then(meterRegistry.get("outbox.relay.batch").timer().count()).isEqualTo(2);
+                    softly.then(meterRegistry.get("outbox.relay.run").summary().totalAmount()).isEqualTo(3);
+                    softly.then(meterRegistry.get("outbox.relay.throughput").gauge().value()).isPositive();
+                    softly.then(meterRegistry.get("outbox.relay.lag").gauge().value()).isZero();
+                });
+            }
+
+            @Test
+            void sameType_ShouldBeDispatchedTogether() {
+                //given
+                OutboxRelay singleThreadRelay = new OutboxRelay(outboxJdbcRepository, deliveryService, transactionManager, new SimpleMeterRegistry(), 2, 1, 10, 60, 30);
+                given(outboxJdbcRepository.claim(eq(now), any(), eq(10), eq(2)))
+                        .willReturn(List.of(paymentCompleted, otherPaymentCompleted))
+                        .willReturn(List.of());
+                given(outboxJdbcRepository.findOldestAvailableAt(now, 10)).willReturn(Optional.empty());
+
+                //when
+                int dispatchedCount = singleThreadRelay.relay(now);
+                singleThreadRelay.destroy();
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(dispatchedCount).isEqualTo(2);
+                    softly.check(() -> BDDMockito.then(deliveryService).should().startDeliveries(List.of("orderNumber1", "orderNumber3")));
+                    softly.check(() -> BDDMockito.then(deliveryService).should(never()).startDelivery(anyString()));
+                    softly.check(() -> BDDMockito.then(outboxJdbcRepository).should().deleteAllByIds(List.of(1L, 3L)));
+                });
+            }
+
+            @Test
+            void nothingToRelay_ShouldReportLag_WhenEventsWereSkipped() {
+                //given
+                given(outboxJdbcRepository.claim(eq(now), any(), eq(10), eq(2))).willReturn(List.of());
+                given(outboxJdbcRepository.findOldestAvailableAt(now, 10)).willReturn(Optional.of(now.minusSeconds(45)));
+
+                //when
+                int dispatchedCount = outboxRelay.relay(now);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(dispatchedCount).isZero();
+                    softly.check(() -> BDDMockito.then(deliveryService).shouldHaveNoInteractions());
+                    softly.then(meterRegistry.get("outbox.relay.lag").gauge().value()).isEqualTo(45);
+                });
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void failedDispatch_ShouldReschedule() {
+                //given
+                given(outboxJdbcRepository.claim(eq(now), any(), eq(10), eq(2)))
+                        .willReturn(List.of(paymentCompleted, deliveryStarted))
+                        .willReturn(List.of());
+                given(outboxJdbcRepository.findOldestAvailableAt(now, 10)).willReturn(Optional.empty());
+                willThrow(new IllegalStateException("이미 발송된 주문입니다. DeliveryStatus: SHIPPED"))
+                        .given(deliveryService).startDeliveries(List.of("orderNumber1"));
+
+                //when
+                int dispatchedCount = outboxRelay.relay(now);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(dispatchedCount).isEqualTo(1);
+                    softly.check(() -> BDDMockito.then(outboxJdbcRepository).should().deleteAllByIds(List.of(2L)));
+                    softly.check(() -> BDDMockito.then(outboxJdbcRepository).should().reschedule(eq(List.of(1L)), any()));
+                    softly.then(meterRegistry.get("outbox.relay.dispatched").counter().count()).isEqualTo(1);
+                    softly.then(meterRegistry.get("outbox.relay.failed").counter().count()).isEqualTo(1);
+                });
+            }
+
+            @Test
+            void failedChunk_ShouldRetryEachOrder() {
+                //given
+                OutboxRelay singleThreadRelay = new OutboxRelay(outboxJdbcRepository, deliveryService, transactionManager, new SimpleMeterRegistry(), 2, 1, 10, 60, 30);
+                given(outboxJdbcRepository.claim(eq(now), any(), eq(10), eq(2)))
+                        .willReturn(List.of(paymentCompleted, otherPaymentCompleted))
+                        .willReturn(List.of());
+                given(outboxJdbcRepository.findOldestAvailableAt(now, 10)).willReturn(Optional.empty());
+                willThrow(new IllegalStateException("이미 발송된 주문입니다. DeliveryStatus: SHIPPED"))
+                        .given(deliveryService).startDeliveries(List.of("orderNumber1", "orderNumber3"));
+                willThrow(new IllegalStateException("이미 발송된 주문입니다. DeliveryStatus: SHIPPED"))
+                        .given(deliveryService).startDelivery("orderNumber1");
+
+                //when
+                int dispatchedCount = singleThreadRelay.relay(now);
+                singleThreadRelay.destroy();
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(dispatchedCount).isEqualTo(1);
+                    softly.check(() -> BDDMockito.then(deliveryService).should().startDelivery("orderNumber3"));
+                    softly.check(() -> BDDMockito.then(outboxJdbcRepository).should().deleteAllByIds(List.of(3L)));
+                    softly.check(() -> BDDMockito.then(outboxJdbcRepository).should().reschedule(eq(List.of(1L)), any()));
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package lsk.commerce.service;
+
+import io.portone.sdk.server.common.Currency;
+import io.portone.sdk.server.common.Customer;
+import io.portone.sdk.server.common.PgProvider;
+import io.portone.sdk.server.common.PortOneVersion;
+import io.portone.sdk.server.common.SelectedChannel;
+import io.portone.sdk.server.common.SelectedChannelType;
+import io.portone.sdk.server.payment.PaidPayment;
+import io.portone.sdk.server.payment.PaymentAmount;
+import jakarta.persistence.EntityManager;
+import lsk.commerce.dto.request.MemberCreateRequest;
+import lsk.commerce.dto.request.OrderCreateRequest;
+import lsk.commerce.dto.request.OrderProductRequest;
+import lsk.commerce.util.NanoIdProvider;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.anySet;
+import static org.mockito.BDDMockito.willAnswer;
+
+//결제 검증과 완료 사이에 만료 주문 취소가 돌아도 취소된 주문을 결제 완료하거나 재고를 두 번 돌려놓지 않는지 실제 DB로 확인한다.
+@SpringBootTest(properties = "spring.datasource.hikari.maximum-pool-size=4")
+class PaymentExpiryRaceTest {
+
+    private static final long PRODUCT_ID = 1_000_000_000L;
+    private static final int PRICE = 10000;
+    private static final int STOCK = 10;
+    private static final int QUANTITY = 2;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    MemberService memberService;
+
+    @Autowired
+    OrderService orderService;
+
+    @Autowired
+    PaymentService paymentService;
+
+    @Autowired
+    OrderExpiryJob orderExpiryJob;
+
+    @MockitoSpyBean
+    ProductService productService;
+
+    String memberLoginId;
+    String productNumber;
+    String orderNumber;
+    String paymentId;
+    PaidPayment paidPayment;
+
+    @BeforeEach
+    void beforeEach() {
+        memberLoginId = memberService.join(MemberCreateRequest.builder()
+                .name("UserA")
+                .loginId("id_A")
+                .password("abAB12!@")
+                .zipcode("01234")
+                .baseAddress("서울시 강남구")
+                .detailAddress("101동 101호")
+                .build());
+
+        productNumber = NanoIdProvider.createNanoId();
+        //id는 id_sequence에서 발급하지 않으므로 직접 넣는다.
+        jdbcTemplate.update("INSERT INTO product (product_id, dtype, product_number, name, name_initial, price, stock_quantity, version, created_at, artist, artist_initial, studio, studio_initial)" +
+                " VALUES (?, 'A', ?, 'BANG BANG', 'BANG BANG', ?, ?, 0, NOW(6), 'IVE', 'IVE', 'STARSHIP', 'STARSHIP')", PRODUCT_ID, productNumber, PRICE, STOCK);
+
+        orderNumber = orderService.order(new OrderCreateRequest(List.of(new OrderProductRequest(productNumber, QUANTITY))), memberLoginId);
+        paymentId = paymentService.request(orderNumber, memberLoginId).getPaymentId();
+        paidPayment = createPaidPayment();
+
+        //ttl이 지난 주문으로 만든다.
+        jdbcTemplate.update("UPDATE orders SET ordered_at = ? WHERE order_number = ?",
+                Timestamp.valueOf(LocalDateTime.now().minusHours(1)), orderNumber);
+    }
+
+    @AfterEach
+    void afterEach() {
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 0");
+        jdbcTemplate.execute("DELETE FROM member");
+        jdbcTemplate.execute("DELETE FROM product");
+        jdbcTemplate.execute("DELETE FROM delivery");
+        jdbcTemplate.execute("DELETE FROM orders");
+        jdbcTemplate.execute("DELETE FROM order_product");
+        jdbcTemplate.execute("DELETE FROM payment");
+        jdbcTemplate.execute("DELETE FROM outbox_event");
+        jdbcTemplate.execute("SET FOREIGN_KEY_CHECKS = 1");
+
+        em.clear();
+    }
+
+    @Nested
+    class VerifyAndComplete {
+
+        @Test
+        void expiredDuringVerification_ShouldSkipLockedOrder() {
+            //given 검증 도중에 다른 스레드에서 만료 주문 취소를 실행한다.
+            AtomicInteger expiredCount = new AtomicInteger(-1);
+            willAnswer(invocation -> {
+                expiredCount.set(CompletableFuture.supplyAsync(() -> orderExpiryJob.expire(LocalDateTime.now())).get(10, TimeUnit.SECONDS));
+                return invocation.callRealMethod();
+            }).given(productService).existsAllProducts(anySet());
+
+            //when
+            paymentService.verifyAndComplete(paidPayment, memberLoginId);
+
+            //then
+            thenSoftly(softly -> {
+                softly.then(expiredCount.get()).isZero();
+                softly.then(orderStatus()).isEqualTo("PAID");
+                softly.then(paymentStatus()).isEqualTo("COMPLETED");
+                softly.then(stockQuantity()).isEqualTo(STOCK - QUANTITY);
+            });
+        }
+
+        @Test
+        void expiredBeforeVerification_ShouldRejectPayment() {
+            //given
+            int expiredCount = orderExpiryJob.expire(LocalDateTime.now());
+
+            //when & then
+            thenThrownBy(() -> paymentService.verifyAndComplete(paidPayment, memberLoginId))
+                    .isInstanceOf(IllegalStateException.class)
+                    .hasMessage("취소된 주문이어서 결제할 수 없습니다");
+
+            //then
+            thenSoftly(softly -> {
+                softly.then(expiredCount).isEqualTo(1);
+                softly.then(orderStatus()).isEqualTo("CANCELED");
+                softly.then(paymentStatus()).isEqualTo("CANCELED");
+                softly.then(stockQuantity()).isEqualTo(STOCK);
+            });
+        }
+    }
+
+    private String orderStatus() {
+        return jdbcTemplate.queryForObject("SELECT order_status FROM orders WHERE order_number = ?", String.class, orderNumber);
+    }
+
+    private String paymentStatus() {
+        return jdbcTemplate.queryForObject("SELECT payment_status FROM payment WHERE payment_number = ?", String.class, paymentId);
+    }
+
+    private Integer stockQuantity() {
+        return jdbcTemplate.queryForObject("SELECT stock_quantity FROM product WHERE product_number = ?", Integer.class, productNumber);
+    }
+
+    private PaidPayment createPaidPayment() {
+        long amount = (long) PRICE * QUANTITY;
+        return new PaidPayment(paymentId, "transactionId", "merchantId", "storeId", null, new SelectedChannel(SelectedChannelType.Test.INSTANCE, null, null, null, PgProvider.Tosspayments.INSTANCE, "iamporttest_3"), null, PortOneVersion.V2.INSTANCE, null, null, null, Instant.now(), Instant.now(), Instant.now(), "BANG BANG", new PaymentAmount(amount, 0L, null, null, 0L, amount, 0L, 0L), Currency.Krw.INSTANCE, new Customer(null, null, null, null, null, null, null, null), null, null, null, null, null, "{\"orderNumber\":\"" + orderNumber + "\"}", null, Instant.now(), null, null, null, null);
+    }
+}
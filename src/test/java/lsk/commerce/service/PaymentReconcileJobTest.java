@@ -0,0 +1,173 @@
+package lsk.commerce.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.portone.sdk.server.payment.FailedPayment;
+import io.portone.sdk.server.payment.PaidPayment;
+import io.portone.sdk.server.payment.ReadyPayment;
+import lsk.commerce.api.portone.PortoneGateway;
+import lsk.commerce.api.portone.SyncPaymentException;
+import lsk.commerce.dto.PendingPaymentDto;
+import lsk.commerce.repository.PaymentReconcileJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyString;
+import static org.mockito.BDDMockito.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.isNull;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentReconcileJobTest {
+
+    @Mock
+    PaymentReconcileJdbcRepository paymentReconcileJdbcRepository;
+
+    @Mock
+    PortoneGateway portoneGateway;
+
+    @Mock
+    PaymentService paymentService;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    PaidPayment paidPayment;
+
+    SimpleMeterRegistry meterRegistry;
+
+    PaymentReconcileJob paymentReconcileJob;
+
+    LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+    LocalDateTime cutoff = now.minusMinutes(5);
+    PendingPaymentDto payment1 = new PendingPaymentDto(3L, "payment_1");
+    PendingPaymentDto payment2 = new PendingPaymentDto(7L, "payment_2");
+    PendingPaymentDto payment3 = new PendingPaymentDto(9L, "payment_3");
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        paymentReconcileJob = new PaymentReconcileJob(paymentReconcileJdbcRepository, portoneGateway, paymentService,
+                transactionManager, meterRegistry, 5, 120, 2, 2);
+    }
+
+    @AfterEach
+    void afterEach() {
+        paymentReconcileJob.destroy();
+    }
+
+    @Nested
+    class Reconcile {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                given(paymentReconcileJdbcRepository.claimStalePending(eq(cutoff), eq(now), any(), eq(0L), eq(2))).willReturn(List.of(payment1, payment2));
+                given(paymentReconcileJdbcRepository.claimStalePending(eq(cutoff), eq(now), any(), eq(7L), eq(2))).willReturn(List.of(payment3));
+                given(portoneGateway.getPayment("payment_1")).willReturn(Mono.just(paidPayment));
+                given(portoneGateway.getPayment("payment_2")).willReturn(Mono.just(mock(FailedPayment.class)));
+                given(portoneGateway.getPayment("payment_3")).willReturn(Mono.just(mock(ReadyPayment.class)));
+                given(paymentReconcileJdbcRepository.countStalePending(cutoff)).willReturn(1L);
+                given(paymentReconcileJdbcRepository.findOldestStalePendingOrderedAt(cutoff)).willReturn(Optional.of(now.minusMinutes(10)));
+
+                //when
+                int resolvedCount = paymentReconcileJob.reconcile(now);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(resolvedCount).isEqualTo(2);
+                    softly.check(() -> BDDMockito.then(paymentService).should().verifyAndComplete(eq(paidPayment), isNull()));
+                    softly.check(() -> BDDMockito.then(paymentService).should().failedPayment("payment_2"));
+                    softly.check(() -> BDDMockito.then(paymentService).should(never()).failedPayment("payment_3"));
+                    softly.then(meterRegistry.get("payment.reconcile.completed").counter().count()).isEqualTo(1);
+                    softly.then(meterRegistry.get("payment.reconcile.failed").counter().count()).isEqualTo(1);
+                    softly.then(meterRegistry.get("payment.reconcile.unresolved").counter().count()).isEqualTo(1);
+                    softly.then(meterRegistry.get("payment.reconcile.run").timer().count()).isEqualTo(1);
+                    softly.then(meterRegistry.get("payment.reconcile.throughput").gauge().value()).isPositive();
+                    softly.then(meterRegistry.get("payment.reconcile.backlog").gauge().value()).isEqualTo(1);
+                    softly.then(meterRegistry.get("payment.reconcile.lag").gauge().value()).isEqualTo(600);
+                });
+            }
+
+            @Test
+            void nothingToReconcile() {
+                //given
+                given(paymentReconcileJdbcRepository.claimStalePending(eq(cutoff), eq(now), any(), eq(0L), eq(2))).willReturn(List.of());
+                given(paymentReconcileJdbcRepository.countStalePending(cutoff)).willReturn(0L);
+                given(paymentReconcileJdbcRepository.findOldestStalePendingOrderedAt(cutoff)).willReturn(Optional.empty());
+
+                //when
+                int resolvedCount = paymentReconcileJob.reconcile(now);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(resolvedCount).isZero();
+                    softly.check(() -> BDDMockito.then(portoneGateway).shouldHaveNoInteractions());
+                    softly.then(meterRegistry.get("payment.reconcile.backlog").gauge().value()).isZero();
+                });
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void failedLookup_ShouldBeLeftForNextRun() {
+                //given
+                given(paymentReconcileJdbcRepository.claimStalePending(eq(cutoff), eq(now), any(), eq(0L), eq(2))).willReturn(List.of(payment1));
+                given(portoneGateway.getPayment("payment_1")).willReturn(Mono.error(new SyncPaymentException("포트원 응답이 없어 결제 조회를 잠시 중단했습니다")));
+                given(paymentReconcileJdbcRepository.countStalePending(cutoff)).willReturn(1L);
+                given(paymentReconcileJdbcRepository.findOldestStalePendingOrderedAt(cutoff)).willReturn(Optional.of(now.minusMinutes(10)));
+
+                //when
+                int resolvedCount = paymentReconcileJob.reconcile(now);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(resolvedCount).isZero();
+                    softly.check(() -> BDDMockito.then(paymentService).shouldHaveNoInteractions());
+                    softly.then(meterRegistry.get("payment.reconcile.errors").counter().count()).isEqualTo(1);
+                });
+            }
+
+            @Test
+            void failedVerification_ShouldBeLeftForNextRun() {
+                //given
+                given(paymentReconcileJdbcRepository.claimStalePending(eq(cutoff), eq(now), any(), eq(0L), eq(2))).willReturn(List.of(payment1));
+                given(portoneGateway.getPayment(anyString())).willReturn(Mono.just(paidPayment));
+                given(paymentService.verifyAndComplete(eq(paidPayment), isNull())).willThrow(new SyncPaymentException("결제 정보 검증 중 오류 발생"));
+                given(paymentReconcileJdbcRepository.countStalePending(cutoff)).willReturn(1L);
+                given(paymentReconcileJdbcRepository.findOldestStalePendingOrderedAt(cutoff)).willReturn(Optional.of(now.minusMinutes(10)));
+
+                //when
+                int resolvedCount = paymentReconcileJob.reconcile(now);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(resolvedCount).isZero();
+                    softly.check(() -> BDDMockito.then(paymentService).should(never()).failedPayment(anyString()));
+                    softly.then(meterRegistry.get("payment.reconcile.errors").counter().count()).isEqualTo(1);
+                });
+            }
+        }
+    }
+}
@@ -39,11 +39,13 @@ import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
 import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anySet;
 import static org.mockito.BDDMockito.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.never;
@@ -264,6 +266,53 @@ class PaymentServiceTest {
         }
     }
 
+    @Nested
+    class ValidateOwner extends Setup {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                String paymentId = multipleOrder.getPayment().getPaymentId();
+                given(paymentRepository.findWithOrderMember(anyString())).willReturn(Optional.of(multipleOrder.getPayment()));
+
+                //when
+                paymentService.validateOwner(paymentId, "id_A");
+
+                //then
+                BDDMockito.then(paymentRepository).should().findWithOrderMember(paymentId);
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void notOwner() {
+                //given
+                given(paymentRepository.findWithOrderMember(anyString())).willReturn(Optional.of(multipleOrder.getPayment()));
+
+                //when & then
+                thenThrownBy(() -> paymentService.validateOwner(multipleOrder.getPayment().getPaymentId(), "id_D"))
+                        .isInstanceOf(NotResourceOwnerException.class)
+                        .hasMessage("주문의 주인이 아닙니다");
+            }
+
+            @Test
+            void paymentNotFound() {
+                //given
+                given(paymentRepository.findWithOrderMember(anyString())).willReturn(Optional.empty());
+
+                //when & then
+                thenThrownBy(() -> paymentService.validateOwner(wrongPaymentId, "id_A"))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("존재하지 않는 결제 번호입니다");
+            }
+        }
+    }
+
     @Nested
     class VerityAndComplete extends Setup {
 
@@ -289,10 +338,10 @@ class PaymentServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(objectMapper).should().readValue(paidPayment.getCustomData(), PaymentCustomData.class));
-                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMember(anyString()));
+                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMemberForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(orderService).should().getOrderPaymentResponse(singleOrder));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
-                    softly.check(() -> BDDMockito.then(paymentRepository).should().findWithOrderDelivery(anyString()));
+                    softly.check(() -> BDDMockito.then(productService).should().existsAllProducts(Set.of(movie.getProductNumber())));
+                    softly.check(() -> BDDMockito.then(paymentRepository).should().findWithOrderDeliveryForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(eventPublisher).should().publishEvent(any(PaymentCompletedEvent.class)));
                 });
                 thenSoftly(softly -> {
@@ -331,10 +380,10 @@ class PaymentServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(objectMapper).should().readValue(paidPayment.getCustomData(), PaymentCustomData.class));
-                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMember(anyString()));
+                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMemberForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(orderService).should().getOrderPaymentResponse(multipleOrder));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
-                    softly.check(() -> BDDMockito.then(paymentRepository).should().findWithOrderDelivery(anyString()));
+                    softly.check(() -> BDDMockito.then(productService).should().existsAllProducts(Set.of(album.getProductNumber(), book.getProductNumber())));
+                    softly.check(() -> BDDMockito.then(paymentRepository).should().findWithOrderDeliveryForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(eventPublisher).should().publishEvent(any(PaymentCompletedEvent.class)));
                 });
                 thenSoftly(softly -> {
@@ -353,10 +402,32 @@ class PaymentServiceTest {
                 then(paymentCustomData.orderNumber()).isEqualTo(multipleOrder.getOrderNumber());
             }
 
+            @Test
+            void webhookWithoutLoginId() {
+                //given
+                OrderProductDto orderProductDto = new OrderProductDto("범죄도시", 15000, 2, 30000);
+
+                givenCustomData(singleOrder.getOrderNumber());
+
+                findOrderAndProducts(singleOrder, List.of(orderProductDto));
+
+                givenOrderNameAndAmount(singleOrder, orderPaymentResponse);
+
+                givenCompletePayment(singleOrder);
+
+                //when
+                paymentService.verifyAndComplete(paidPayment, null);
+
+                //then
+                then(singleOrder)
+                        .extracting("orderStatus", "delivery.deliveryStatus")
+                        .containsExactly(OrderStatus.PAID, DeliveryStatus.PREPARING);
+            }
+
             private void givenCompletePayment(Order order) {
                 String paymentId = order.getPayment().getPaymentId();
                 given(paidPayment.getId()).willReturn(paymentId);
-                given(paymentRepository.findWithOrderDelivery(anyString())).willReturn(Optional.of(order.getPayment()));
+                given(paymentRepository.findWithOrderDeliveryForUpdate(anyString())).willReturn(Optional.of(order.getPayment()));
                 given(paidPayment.getPaidAt()).willReturn(LocalDateTime.now().atZone(ZoneId.of("Asia/Seoul")).toInstant());
             }
         }
@@ -369,7 +440,7 @@ class PaymentServiceTest {
                 //given
                 givenCustomData(multipleOrder.getOrderNumber());
 
-                given(orderService.findOrderWithAllExceptMember(anyString())).willThrow(new DataNotFoundException("존재하지 않는 주문입니다. orderNumber: " + multipleOrder.getOrderNumber()));
+                given(orderService.findOrderWithAllExceptMemberForUpdate(anyString())).willThrow(new DataNotFoundException("존재하지 않는 주문입니다. orderNumber: " + multipleOrder.getOrderNumber()));
 
                 //when & then
                 thenThrownBy(() -> paymentService.verifyAndComplete(paidPayment, "id_A"))
@@ -379,10 +450,10 @@ class PaymentServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(objectMapper).should().readValue(paidPayment.getCustomData(), PaymentCustomData.class));
-                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMember(anyString()));
+                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMemberForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(orderService).should(never()).getOrderPaymentResponse(any()));
-                    softly.check(() -> BDDMockito.then(productService).should(never()).findProducts());
-                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDelivery(any()));
+                    softly.check(() -> BDDMockito.then(productService).should(never()).existsAllProducts(any()));
+                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDeliveryForUpdate(any()));
                     softly.check(() -> BDDMockito.then(eventPublisher).should(never()).publishEvent(any()));
                 });
             }
@@ -392,7 +463,7 @@ class PaymentServiceTest {
                 //given
                 givenCustomData(multipleOrder.getOrderNumber());
 
-                given(orderService.findOrderWithAllExceptMember(anyString())).willReturn(multipleOrder);
+                given(orderService.findOrderWithAllExceptMemberForUpdate(anyString())).willReturn(multipleOrder);
 
                 //when & then
                 thenThrownBy(() -> paymentService.verifyAndComplete(paidPayment, "id_D"))
@@ -402,25 +473,45 @@ class PaymentServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(objectMapper).should().readValue(paidPayment.getCustomData(), PaymentCustomData.class));
-                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMember(anyString()));
+                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMemberForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(orderService).should(never()).getOrderPaymentResponse(any()));
-                    softly.check(() -> BDDMockito.then(productService).should(never()).findProducts());
-                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDelivery(any()));
+                    softly.check(() -> BDDMockito.then(productService).should(never()).existsAllProducts(any()));
+                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDeliveryForUpdate(any()));
                     softly.check(() -> BDDMockito.then(eventPublisher).should(never()).publishEvent(any()));
                 });
             }
 
+            @Test
+            void expiredOrder() {
+                //given 만료 주문 취소가 먼저 커밋된 주문을 잠가서 읽는다.
+                givenCustomData(multipleOrder.getOrderNumber());
+                multipleOrder.cancel();
+
+                given(orderService.findOrderWithAllExceptMemberForUpdate(anyString())).willReturn(multipleOrder);
+
+                //when & then
+                thenThrownBy(() -> paymentService.verifyAndComplete(paidPayment, "id_A"))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("취소된 주문이어서 결제할 수 없습니다");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMemberForUpdate(anyString()));
+                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDeliveryForUpdate(any()));
+                    softly.check(() -> BDDMockito.then(eventPublisher).should(never()).publishEvent(any()));
+                    softly.then(multipleOrder.getPayment().getPaymentStatus()).isEqualTo(PaymentStatus.PENDING);
+                });
+            }
+
             @Test
             void orderProductDtoIsEmpty() {
                 //given
                 givenCustomData(multipleOrder.getOrderNumber());
 
-                given(orderService.findOrderWithAllExceptMember(anyString())).willReturn(multipleOrder);
+                given(orderService.findOrderWithAllExceptMemberForUpdate(anyString())).willReturn(multipleOrder);
                 given(orderPaymentResponse.orderProductDtoList()).willReturn(Collections.emptyList());
                 given(orderService.getOrderPaymentResponse(any())).willReturn(orderPaymentResponse);
 
-                given(productService.findProducts()).willReturn(List.of(album, book, movie));
-
                 //when & then
                 thenThrownBy(() -> paymentService.verifyAndComplete(paidPayment, "id_A"))
                         .isInstanceOf(IllegalArgumentException.class)
@@ -429,10 +520,10 @@ class PaymentServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(objectMapper).should().readValue(paidPayment.getCustomData(), PaymentCustomData.class));
-                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMember(anyString()));
+                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMemberForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(orderService).should().getOrderPaymentResponse(multipleOrder));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
-                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDelivery(any()));
+                    softly.check(() -> BDDMockito.then(productService).should(never()).existsAllProducts(any()));
+                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDeliveryForUpdate(any()));
                     softly.check(() -> BDDMockito.then(eventPublisher).should(never()).publishEvent(any()));
                 });
             }
@@ -445,11 +536,11 @@ class PaymentServiceTest {
 
                 givenCustomData(multipleOrder.getOrderNumber());
 
-                given(orderService.findOrderWithAllExceptMember(anyString())).willReturn(multipleOrder);
+                given(orderService.findOrderWithAllExceptMemberForUpdate(anyString())).willReturn(multipleOrder);
                 given(orderPaymentResponse.orderProductDtoList()).willReturn(List.of(orderProductDto1, orderProductDto2));
                 given(orderService.getOrderPaymentResponse(any())).willReturn(orderPaymentResponse);
 
-                given(productService.findProducts()).willReturn(List.of(movie));
+                given(productService.existsAllProducts(anySet())).willReturn(false);
 
                 //when & then
                 thenThrownBy(() -> paymentService.verifyAndComplete(paidPayment, "id_A"))
@@ -459,10 +550,10 @@ class PaymentServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(objectMapper).should().readValue(paidPayment.getCustomData(), PaymentCustomData.class));
-                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMember(anyString()));
+                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMemberForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(orderService).should().getOrderPaymentResponse(multipleOrder));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
-                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDelivery(any()));
+                    softly.check(() -> BDDMockito.then(productService).should().existsAllProducts(anySet()));
+                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDeliveryForUpdate(any()));
                     softly.check(() -> BDDMockito.then(eventPublisher).should(never()).publishEvent(any()));
                 });
             }
@@ -487,10 +578,10 @@ class PaymentServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(objectMapper).should().readValue(paidPayment.getCustomData(), PaymentCustomData.class));
-                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMember(anyString()));
+                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMemberForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(orderService).should().getOrderPaymentResponse(multipleOrder));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
-                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDelivery(any()));
+                    softly.check(() -> BDDMockito.then(productService).should().existsAllProducts(anySet()));
+                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDeliveryForUpdate(any()));
                     softly.check(() -> BDDMockito.then(eventPublisher).should(never()).publishEvent(any()));
                 });
             }
@@ -519,10 +610,10 @@ class PaymentServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(objectMapper).should().readValue(paidPayment.getCustomData(), PaymentCustomData.class));
-                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMember(anyString()));
+                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMemberForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(orderService).should().getOrderPaymentResponse(multipleOrder));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
-                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDelivery(any()));
+                    softly.check(() -> BDDMockito.then(productService).should().existsAllProducts(anySet()));
+                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDeliveryForUpdate(any()));
                     softly.check(() -> BDDMockito.then(eventPublisher).should(never()).publishEvent(any()));
                 });
             }
@@ -551,10 +642,10 @@ class PaymentServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(objectMapper).should().readValue(paidPayment.getCustomData(), PaymentCustomData.class));
-                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMember(anyString()));
+                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMemberForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(orderService).should().getOrderPaymentResponse(multipleOrder));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
-                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDelivery(any()));
+                    softly.check(() -> BDDMockito.then(productService).should().existsAllProducts(anySet()));
+                    softly.check(() -> BDDMockito.then(paymentRepository).should(never()).findWithOrderDeliveryForUpdate(any()));
                     softly.check(() -> BDDMockito.then(eventPublisher).should(never()).publishEvent(any()));
                 });
             }
@@ -574,7 +665,7 @@ class PaymentServiceTest {
                 givenOrderNameAndAmount(multipleOrder, orderPaymentResponse);
 
                 given(paidPayment.getId()).willReturn(wrongPaymentId);
-                given(paymentRepository.findWithOrderDelivery(anyString())).willReturn(Optional.empty());
+                given(paymentRepository.findWithOrderDeliveryForUpdate(anyString())).willReturn(Optional.empty());
 
                 //when & then
                 thenThrownBy(() -> paymentService.verifyAndComplete(paidPayment, "id_A"))
@@ -584,10 +675,10 @@ class PaymentServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(objectMapper).should().readValue(paidPayment.getCustomData(), PaymentCustomData.class));
-                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMember(anyString()));
+                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMemberForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(orderService).should().getOrderPaymentResponse(notRequestOrder));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
-                    softly.check(() -> BDDMockito.then(paymentRepository).should().findWithOrderDelivery(anyString()));
+                    softly.check(() -> BDDMockito.then(productService).should().existsAllProducts(anySet()));
+                    softly.check(() -> BDDMockito.then(paymentRepository).should().findWithOrderDeliveryForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(eventPublisher).should(never()).publishEvent(any()));
                 });
             }
@@ -606,7 +697,7 @@ class PaymentServiceTest {
 
                 String paymentId = multipleOrder.getPayment().getPaymentId();
                 given(paidPayment.getId()).willReturn(paymentId);
-                given(paymentRepository.findWithOrderDelivery(anyString())).willReturn(Optional.of(multipleOrder.getPayment()));
+                given(paymentRepository.findWithOrderDeliveryForUpdate(anyString())).willReturn(Optional.of(multipleOrder.getPayment()));
                 given(paidPayment.getPaidAt()).willReturn(LocalDateTime.now().atZone(ZoneId.of("Asia/Seoul")).toInstant());
 
                 willThrow(new RuntimeException("Event Publish Failed")).given(eventPublisher).publishEvent(any(PaymentCompletedEvent.class));
@@ -619,10 +710,10 @@ class PaymentServiceTest {
                 //then
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(objectMapper).should().readValue(paidPayment.getCustomData(), PaymentCustomData.class));
-                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMember(anyString()));
+                    softly.check(() -> BDDMockito.then(orderService).should().findOrderWithAllExceptMemberForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(orderService).should().getOrderPaymentResponse(multipleOrder));
-                    softly.check(() -> BDDMockito.then(productService).should().findProducts());
-                    softly.check(() -> BDDMockito.then(paymentRepository).should().findWithOrderDelivery(anyString()));
+                    softly.check(() -> BDDMockito.then(productService).should().existsAllProducts(anySet()));
+                    softly.check(() -> BDDMockito.then(paymentRepository).should().findWithOrderDeliveryForUpdate(anyString()));
                     softly.check(() -> BDDMockito.then(eventPublisher).should().publishEvent(any(PaymentCompletedEvent.class)));
                 });
             }
@@ -634,11 +725,11 @@ class PaymentServiceTest {
         }
 
         private void findOrderAndProducts(Order order, List<OrderProductDto> orderProductDto) {
-            given(orderService.findOrderWithAllExceptMember(anyString())).willReturn(order);
+            given(orderService.findOrderWithAllExceptMemberForUpdate(anyString())).willReturn(order);
             given(orderPaymentResponse.orderProductDtoList()).willReturn(orderProductDto);
             given(orderService.getOrderPaymentResponse(any())).willReturn(orderPaymentResponse);
 
-            given(productService.findProducts()).willReturn(List.of(album, book, movie));
+            given(productService.existsAllProducts(anySet())).willReturn(true);
         }
 
         private void givenOrderNameAndAmount(Order order, OrderPaymentResponse response) {
@@ -1,8 +1,10 @@
 package lsk.commerce.service;
 
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.portone.sdk.server.payment.FailedPayment;
 import io.portone.sdk.server.payment.PaidPayment;
 import io.portone.sdk.server.payment.PaymentClient;
+import lsk.commerce.api.portone.PortoneGateway;
 import lsk.commerce.api.portone.SyncPaymentException;
 import lsk.commerce.domain.Delivery;
 import lsk.commerce.domain.Member;
@@ -14,26 +16,38 @@ import lsk.commerce.domain.product.Album;
 import lsk.commerce.domain.product.Book;
 import lsk.commerce.domain.product.Movie;
 import lsk.commerce.dto.request.PaymentCompleteResponse;
+import lsk.commerce.exception.NotResourceOwnerException;
+import lsk.commerce.util.BoundedPaymentExecutor;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.BDDMockito;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.test.StepVerifier;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.isNull;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.times;
+import static org.mockito.BDDMockito.willThrow;
 
 @ExtendWith(MockitoExtension.class)
 class PaymentSyncServiceTest {
@@ -47,7 +61,7 @@ class PaymentSyncServiceTest {
     @Mock
     PaymentService paymentService;
 
-    @InjectMocks
+    BoundedPaymentExecutor paymentExecutor;
     PaymentSyncService paymentSyncService;
 
     Member member;
@@ -91,6 +105,14 @@ class PaymentSyncServiceTest {
         order = Order.createOrder(member, delivery, List.of(orderProduct1, orderProduct2));
 
         Payment.requestPayment(order);
+
+        paymentExecutor = new BoundedPaymentExecutor(4, 100, 1000, new SimpleMeterRegistry());
+        paymentSyncService = new PaymentSyncService(paymentService, new PortoneGateway(paymentClient, new SimpleMeterRegistry(), 1000, 5000, 2, 10, 5, 30), paymentExecutor, 10);
+    }
+
+    @AfterEach
+    void afterEach() {
+        paymentExecutor.destroy();
     }
 
     @Nested
@@ -172,4 +194,176 @@ class PaymentSyncServiceTest {
             }
         }
     }
+
+    @Nested
+    class Coalesce {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void concurrentCalls_ShouldShareOneSync() throws Exception {
+                //given
+                String paymentId = order.getPayment().getPaymentId();
+                CompletableFuture<io.portone.sdk.server.payment.Payment> portoneResponse = new CompletableFuture<>();
+                given(paymentClient.getPayment(paymentId)).willReturn(portoneResponse);
+                givenCompletePayment();
+
+                //브라우저 요청이 먼저 포트원 응답을 기다리는 중
+                CompletableFuture<PaymentCompleteResponse> first = paymentSyncService.syncPayment(paymentId, "id_A").toFuture();
+
+                int callerCount = 20;
+                ExecutorService executorService = Executors.newFixedThreadPool(callerCount);
+                CountDownLatch startLatch = new CountDownLatch(1);
+                List<Future<PaymentCompleteResponse>> responses = new ArrayList<>();
+                for (int i = 0; i < callerCount; i++) {
+                    //절반은 브라우저, 절반은 로그인 정보가 없는 웹훅
+                    String loginId = i % 2 == 0 ? "id_A" : null;
+                    responses.add(executorService.submit(() -> {
+                        startLatch.await();
+                        return paymentSyncService.syncPayment(paymentId, loginId).block(Duration.ofSeconds(5));
+                    }));
+                }
+
+                //when
+                startLatch.countDown();
+                portoneResponse.complete(paidPayment);
+
+                //then
+                then(first.get(5, TimeUnit.SECONDS).paymentStatus()).isEqualTo(PaymentStatus.COMPLETED);
+                for (Future<PaymentCompleteResponse> response : responses) {
+                    then(response.get(5, TimeUnit.SECONDS))
+                            .extracting("paymentId", "paymentStatus")
+                            .containsExactly(paymentId, PaymentStatus.COMPLETED);
+                }
+                executorService.shutdown();
+
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(paymentClient).should(times(1)).getPayment(paymentId));
+                    softly.check(() -> BDDMockito.then(paymentService).should(times(1)).verifyAndComplete(any(PaidPayment.class), anyString()));
+                });
+            }
+
+            @Test
+            void completed_ShouldReturnCachedResult() {
+                //given
+                String paymentId = order.getPayment().getPaymentId();
+                given(paymentClient.getPayment(paymentId)).willReturn(CompletableFuture.completedFuture(paidPayment));
+                givenCompletePayment();
+
+                paymentSyncService.syncPayment(paymentId, "id_A").block(Duration.ofSeconds(5));
+
+                //when
+                PaymentCompleteResponse browserResponse = paymentSyncService.syncPayment(paymentId, "id_A").block(Duration.ofSeconds(5));
+                PaymentCompleteResponse webhookResponse = paymentSyncService.syncPayment(paymentId, null).block(Duration.ofSeconds(5));
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(browserResponse.paymentStatus()).isEqualTo(PaymentStatus.COMPLETED);
+                    softly.then(webhookResponse.paymentStatus()).isEqualTo(PaymentStatus.COMPLETED);
+                    softly.check(() -> BDDMockito.then(paymentClient).should(times(1)).getPayment(paymentId));
+                    softly.check(() -> BDDMockito.then(paymentService).should(times(1)).verifyAndComplete(any(PaidPayment.class), anyString()));
+                });
+            }
+
+            @Test
+            void webhookFirst_ShouldShareResultWithOwner() {
+                //given
+                String paymentId = order.getPayment().getPaymentId();
+                given(paymentClient.getPayment(paymentId)).willReturn(CompletableFuture.completedFuture(paidPayment));
+                givenWebhookCompletePayment();
+
+                paymentSyncService.syncPayment(paymentId, null).block(Duration.ofSeconds(5));
+
+                //when
+                PaymentCompleteResponse browserResponse = paymentSyncService.syncPayment(paymentId, "id_A").block(Duration.ofSeconds(5));
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(browserResponse.paymentStatus()).isEqualTo(PaymentStatus.COMPLETED);
+                    softly.check(() -> BDDMockito.then(paymentService).should().validateOwner(paymentId, "id_A"));
+                    softly.check(() -> BDDMockito.then(paymentClient).should(times(1)).getPayment(paymentId));
+                    softly.check(() -> BDDMockito.then(paymentService).should(times(1)).verifyAndComplete(any(PaidPayment.class), any()));
+                });
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void otherMember_ShouldNotShareResult() {
+                //given
+                String paymentId = order.getPayment().getPaymentId();
+                given(paymentClient.getPayment(paymentId)).willReturn(CompletableFuture.completedFuture(paidPayment));
+                given(paymentService.verifyAndComplete(any(PaidPayment.class), anyString())).willAnswer(invocation -> {
+                    String loginId = invocation.getArgument(1);
+                    if (!loginId.equals("id_A")) {
+                        throw new NotResourceOwnerException("주문의 주인이 아닙니다");
+                    }
+                    Payment payment = order.getPayment();
+                    payment.complete(LocalDateTime.now());
+                    return payment;
+                });
+                given(paymentService.getPaymentCompleteResponse(any(Payment.class))).willAnswer(invocation -> new PaymentCompleteResponse(order.getPayment().getPaymentId(), order.getPayment().getPaymentStatus()));
+
+                paymentSyncService.syncPayment(paymentId, "id_A").block(Duration.ofSeconds(5));
+
+                //when & then
+                StepVerifier.create(paymentSyncService.syncPayment(paymentId, "id_B"))
+                        .verifyErrorSatisfies(error -> then(error).isInstanceOf(NotResourceOwnerException.class));
+            }
+
+            @Test
+            void webhookFirst_OtherMember_ShouldNotShareResult() {
+                //given
+                String paymentId = order.getPayment().getPaymentId();
+                given(paymentClient.getPayment(paymentId)).willReturn(CompletableFuture.completedFuture(paidPayment));
+                givenWebhookCompletePayment();
+                willThrow(new NotResourceOwnerException("주문의 주인이 아닙니다")).given(paymentService).validateOwner(paymentId, "id_B");
+
+                paymentSyncService.syncPayment(paymentId, null).block(Duration.ofSeconds(5));
+
+                //when & then
+                StepVerifier.create(paymentSyncService.syncPayment(paymentId, "id_B"))
+                        .verifyErrorSatisfies(error -> then(error).isInstanceOf(NotResourceOwnerException.class));
+            }
+
+            @Test
+            void failedSync_ShouldNotBeCached() {
+                //given
+                String paymentId = order.getPayment().getPaymentId();
+                given(paymentClient.getPayment(paymentId))
+                        .willReturn(CompletableFuture.failedFuture(new RuntimeException("Find Failed")))
+                        .willReturn(CompletableFuture.completedFuture(paidPayment));
+                givenCompletePayment();
+
+                StepVerifier.create(paymentSyncService.syncPayment(paymentId, "id_A"))
+                        .verifyErrorSatisfies(error -> then(error).isInstanceOf(SyncPaymentException.class));
+
+                //when & then
+                StepVerifier.create(paymentSyncService.syncPayment(paymentId, "id_A"))
+                        .assertNext(response -> then(response.paymentStatus()).isEqualTo(PaymentStatus.COMPLETED))
+                        .verifyComplete();
+            }
+        }
+
+        private void givenCompletePayment() {
+            given(paymentService.verifyAndComplete(any(PaidPayment.class), anyString())).willAnswer(invocation -> {
+                Payment payment = order.getPayment();
+                payment.complete(LocalDateTime.now());
+                return payment;
+            });
+            given(paymentService.getPaymentCompleteResponse(any(Payment.class))).willAnswer(invocation -> new PaymentCompleteResponse(order.getPayment().getPaymentId(), order.getPayment().getPaymentStatus()));
+        }
+
+        private void givenWebhookCompletePayment() {
+            given(paymentService.verifyAndComplete(any(PaidPayment.class), isNull())).willAnswer(invocation -> {
+                Payment payment = order.getPayment();
+                payment.complete(LocalDateTime.now());
+                return payment;
+            });
+            given(paymentService.getPaymentCompleteResponse(any(Payment.class))).willAnswer(invocation -> new PaymentCompleteResponse(order.getPayment().getPaymentId(), order.getPayment().getPaymentStatus()));
+        }
+    }
 }
\ No newline at end of file
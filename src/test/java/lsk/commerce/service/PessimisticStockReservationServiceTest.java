@@ -0,0 +1,120 @@
+package lsk.commerce.service;
+
+import lsk.commerce.domain.OrderProduct;
+import lsk.commerce.domain.product.Album;
+import lsk.commerce.domain.product.Book;
+import lsk.commerce.dto.ProductStockDto;
+import lsk.commerce.exception.DataNotFoundException;
+import lsk.commerce.repository.ProductStockJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.anyMap;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class PessimisticStockReservationServiceTest {
+
+    @Mock
+    ProductStockJdbcRepository productStockJdbcRepository;
+
+    @InjectMocks
+    PessimisticStockReservationService pessimisticStockReservationService;
+
+    Album album;
+    Book book;
+    List<OrderProduct> orderProducts;
+
+    @BeforeEach
+    void beforeEach() {
+        album = Album.builder()
+                .name("BANG BANG")
+                .price(15000)
+                .stockQuantity(10)
+                .build();
+        book = Book.builder()
+                .name("자바 ORM 표준 JPA 프로그래밍")
+                .price(15000)
+                .stockQuantity(7)
+                .build();
+
+        ReflectionTestUtils.setField(album, "id", 1L);
+        ReflectionTestUtils.setField(book, "id", 2L);
+
+        orderProducts = List.of(
+                OrderProduct.createOrderProduct(book, 2),
+                OrderProduct.createOrderProduct(album, 3),
+                OrderProduct.createOrderProduct(album, 1));
+    }
+
+    @Nested
+    class Reserve {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                given(productStockJdbcRepository.findProductStocksForUpdate(List.of(1L, 2L)))
+                        .willReturn(List.of(new ProductStockDto(1L, 10, 0L), new ProductStockDto(2L, 7, 0L)));
+
+                //when
+                pessimisticStockReservationService.reserve(orderProducts);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(productStockJdbcRepository).should().findProductStocksForUpdate(List.of(1L, 2L)));
+                    softly.check(() -> BDDMockito.then(productStockJdbcRepository).should().updateStockQuantities(Map.of(1L, 6, 2L, 5)));
+                });
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void exceed() {
+                //given
+                given(productStockJdbcRepository.findProductStocksForUpdate(List.of(1L, 2L)))
+                        .willReturn(List.of(new ProductStockDto(1L, 3, 0L), new ProductStockDto(2L, 7, 0L)));
+
+                //when & then
+                thenThrownBy(() -> pessimisticStockReservationService.reserve(orderProducts))
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("재고가 부족합니다. productNumber: " + album.getProductNumber());
+
+                //then
+                BDDMockito.then(productStockJdbcRepository).should(never()).updateStockQuantities(anyMap());
+            }
+
+            @Test
+            void productNotFound() {
+                //given
+                given(productStockJdbcRepository.findProductStocksForUpdate(List.of(1L, 2L)))
+                        .willReturn(List.of(new ProductStockDto(1L, 10, 0L)));
+
+                //when & then
+                thenThrownBy(() -> pessimisticStockReservationService.reserve(orderProducts))
+                        .isInstanceOf(DataNotFoundException.class)
+                        .hasMessage("존재하지 않는 상품입니다. productNumber: " + book.getProductNumber());
+
+                //then
+                BDDMockito.then(productStockJdbcRepository).should(never()).updateStockQuantities(anyMap());
+            }
+        }
+    }
+}
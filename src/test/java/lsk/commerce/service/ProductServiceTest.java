@@ -9,6 +9,8 @@ import lsk.commerce.dto.request.ProductChangeRequest;
 import lsk.commerce.dto.request.ProductCreateRequest;
 import lsk.commerce.dto.response.ProductDetailResponse;
 import lsk.commerce.dto.response.ProductNameWithCategoryNameResponse;
+import lsk.commerce.event.ProductDeletedEvent;
+import lsk.commerce.event.ProductRegisteredEvent;
 import lsk.commerce.exception.DataNotFoundException;
 import lsk.commerce.exception.DuplicateResourceException;
 import lsk.commerce.repository.ProductRepository;
@@ -22,10 +24,13 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.assertj.core.api.BDDAssertions.then;
 import static org.assertj.core.api.BDDAssertions.thenNoException;
@@ -33,8 +38,10 @@ import static org.assertj.core.api.BDDAssertions.thenThrownBy;
 import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.anyList;
+import static org.mockito.BDDMockito.anySet;
 import static org.mockito.BDDMockito.anyString;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.times;
 
@@ -47,6 +54,12 @@ class ProductServiceTest {
     @Mock
     CategoryService categoryService;
 
+    @Mock
+    ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    ObjectProvider<HotStockReservationService> hotStockReservationService;
+
     @InjectMocks
     ProductService productService;
 
@@ -99,6 +112,7 @@ class ProductServiceTest {
                     softly.check(() -> BDDMockito.then(productRepository).should().existsAlbum(anyString(), anyString(), anyString()));
                     softly.check(() -> BDDMockito.then(categoryService).should().validateAndGetCategories(List.of("가요")));
                     softly.check(() -> BDDMockito.then(productRepository).should().save(productCaptor.capture()));
+                    softly.check(() -> BDDMockito.then(eventPublisher).should().publishEvent(any(ProductRegisteredEvent.class)));
                 });
 
                 Product product = productCaptor.getValue();
@@ -296,6 +310,60 @@ class ProductServiceTest {
                         .extracting("name")
                         .containsExactlyInAnyOrder("BANG BANG", "자바 ORM 표준 JPA 프로그래밍", "범죄도시");
             }
+
+            @Test
+            void byProductNumbers() {
+                //given
+                Album album = Album.builder()
+                        .name("BANG BANG")
+                        .build();
+                Book book = Book.builder()
+                        .name("자바 ORM 표준 JPA 프로그래밍")
+                        .build();
+                Set<String> productNumbers = Set.of(album.getProductNumber(), book.getProductNumber());
+
+                given(productRepository.findAllByProductNumbers(anySet())).willReturn(List.of(album, book));
+
+                //when
+                List<Product> products = productService.findProductsByProductNumbers(productNumbers);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(productRepository).should().findAllByProductNumbers(productNumbers));
+                    softly.then(products)
+                            .extracting("name")
+                            .containsExactlyInAnyOrder("BANG BANG", "자바 ORM 표준 JPA 프로그래밍");
+                });
+            }
+
+            @Test
+            void existsAllProducts() {
+                //given
+                Set<String> productNumbers = Set.of("ABCDEFGHIJ12", "ABCDEFGHIJ34");
+
+                given(productRepository.countByProductNumbers(anySet())).willReturn(2L);
+
+                //when
+                boolean result = productService.existsAllProducts(productNumbers);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.check(() -> BDDMockito.then(productRepository).should().countByProductNumbers(productNumbers));
+                    softly.then(result).isTrue();
+                });
+            }
+
+            @Test
+            void existsAllProducts_ShouldReturnFalse_WhenSomeProductIsMissing() {
+                //given
+                given(productRepository.countByProductNumbers(anySet())).willReturn(1L);
+
+                //when
+                boolean result = productService.existsAllProducts(Set.of("ABCDEFGHIJ12", "ABCDEFGHIJ34"));
+
+                //then
+                then(result).isFalse();
+            }
         }
 
         @Nested
@@ -345,6 +413,61 @@ class ProductServiceTest {
                         .extracting("price", "stockQuantity")
                         .containsExactly(12000, 20);
             }
+
+            @Test
+            void hotProduct_PriceOnly() {
+                //given
+                Album album = Album.builder()
+                        .name("BANG BANG")
+                        .price(15000)
+                        .stockQuantity(10)
+                        .artist("IVE")
+                        .studio("STARSHIP")
+                        .build();
+                ProductChangeRequest request = new ProductChangeRequest(12000, null);
+
+                given(productRepository.findByNumber(anyString())).willReturn(Optional.of(album));
+
+                //when
+                productService.changePriceAndStock(productNumber, request);
+
+                //then
+                then(album)
+                        .extracting("price", "stockQuantity")
+                        .containsExactly(12000, 10);
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void hotProduct_StockChange() {
+                //given
+                Album album = Album.builder()
+                        .name("BANG BANG")
+                        .price(15000)
+                        .stockQuantity(10)
+                        .artist("IVE")
+                        .studio("STARSHIP")
+                        .build();
+                ProductChangeRequest request = new ProductChangeRequest(12000, 20);
+                HotStockReservationService hotStock = mock(HotStockReservationService.class);
+
+                given(productRepository.findByNumber(anyString())).willReturn(Optional.of(album));
+                given(hotStockReservationService.getIfAvailable()).willReturn(hotStock);
+                given(hotStock.isHotProduct(any())).willReturn(true);
+
+                //when & then
+                thenThrownBy(() -> productService.changePriceAndStock(productNumber, request))
+                        .isInstanceOf(IllegalStateException.class)
+                        .hasMessage("인기 상품은 재고를 바꿀 수 없습니다. productNumber: " + productNumber);
+
+                //then
+                then(album)
+                        .extracting("price", "stockQuantity")
+                        .containsExactly(15000, 10);
+            }
         }
     }
 
@@ -374,6 +497,7 @@ class ProductServiceTest {
                 thenSoftly(softly -> {
                     softly.check(() -> BDDMockito.then(productRepository).should().findWithCategoryProductCategory(anyString()));
                     softly.check(() -> BDDMockito.then(productRepository).should().delete(album));
+                    softly.check(() -> BDDMockito.then(eventPublisher).should().publishEvent(any(ProductDeletedEvent.class)));
                 });
             }
 
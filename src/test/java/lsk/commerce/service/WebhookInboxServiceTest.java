@@ -0,0 +1,73 @@
+package lsk.commerce.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lsk.commerce.repository.WebhookInboxJdbcRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.eq;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookInboxServiceTest {
+
+    @Mock
+    WebhookInboxJdbcRepository webhookInboxJdbcRepository;
+
+    SimpleMeterRegistry meterRegistry;
+
+    WebhookInboxService webhookInboxService;
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        webhookInboxService = new WebhookInboxService(webhookInboxJdbcRepository, meterRegistry);
+    }
+
+    @Nested
+    class Receive {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                given(webhookInboxJdbcRepository.save(eq("msg_1"), eq("payment_1"), any())).willReturn(true);
+
+                //when
+                boolean received = webhookInboxService.receive("msg_1", "payment_1");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(received).isTrue();
+                    softly.check(() -> BDDMockito.then(webhookInboxJdbcRepository).should().save(eq("msg_1"), eq("payment_1"), any()));
+                    softly.then(meterRegistry.get("webhook.inbox.received").counter().count()).isEqualTo(1);
+                });
+            }
+
+            @Test
+            void duplicateWebhookId() {
+                //given
+                given(webhookInboxJdbcRepository.save(eq("msg_1"), eq("payment_1"), any())).willReturn(false);
+
+                //when
+                boolean received = webhookInboxService.receive("msg_1", "payment_1");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(received).isFalse();
+                    softly.then(meterRegistry.get("webhook.inbox.received").counter().count()).isZero();
+                    softly.then(meterRegistry.get("webhook.inbox.duplicate").counter().count()).isEqualTo(1);
+                });
+            }
+        }
+    }
+}
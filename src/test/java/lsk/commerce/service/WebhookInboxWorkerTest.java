@@ -0,0 +1,174 @@
+package lsk.commerce.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lsk.commerce.api.portone.SyncPaymentException;
+import lsk.commerce.domain.PaymentStatus;
+import lsk.commerce.dto.WebhookInboxDto;
+import lsk.commerce.dto.request.PaymentCompleteResponse;
+import lsk.commerce.repository.WebhookInboxJdbcRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.BDDMockito;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.isNull;
+import static org.mockito.BDDMockito.never;
+
+@ExtendWith(MockitoExtension.class)
+class WebhookInboxWorkerTest {
+
+    @Mock
+    WebhookInboxJdbcRepository webhookInboxJdbcRepository;
+
+    @Mock
+    PaymentSyncService paymentSyncService;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    SimpleMeterRegistry meterRegistry;
+
+    WebhookInboxWorker webhookInboxWorker;
+
+    LocalDateTime now = LocalDateTime.of(2026, 1, 1, 12, 0);
+    WebhookInboxDto webhook1 = new WebhookInboxDto(1L, "msg_1", "payment_1", 1, now.minusSeconds(3));
+    WebhookInboxDto webhook2 = new WebhookInboxDto(2L, "msg_2", "payment_2", 1, now.minusSeconds(2));
+    WebhookInboxDto webhook3 = new WebhookInboxDto(3L, "msg_3", "payment_3", 3, now.minusSeconds(1));
+
+    @BeforeEach
+    void beforeEach() {
+        meterRegistry = new SimpleMeterRegistry();
+        webhookInboxWorker = new WebhookInboxWorker(webhookInboxJdbcRepository, paymentSyncService, transactionManager, meterRegistry, 2, 2, 10, 60, 5, 600, 7);
+    }
+
+    @AfterEach
+    void afterEach() {
+        webhookInboxWorker.destroy();
+    }
+
+    @Nested
+    class Drain {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                given(webhookInboxJdbcRepository.claim(eq(now), any(), eq(10), eq(2)))
+                        .willReturn(List.of(webhook1, webhook2))
+                        .willReturn(List.of(webhook3));
+                given(paymentSyncService.syncPayment(any(), isNull()))
+                        .willAnswer(invocation -> Mono.just(new PaymentCompleteResponse(invocation.getArgument(0), PaymentStatus.COMPLETED)));
+                given(webhookInboxJdbcRepository.countPending(10)).willReturn(0L);
+                given(webhookInboxJdbcRepository.findOldestPendingReceivedAt(10)).willReturn(Optional.empty());
+
+                //when
+                int doneCount = webhookInboxWorker.drain(now);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(doneCount).isEqualTo(3);
+                    softly.check(() -> BDDMockito.then(paymentSyncService).should().syncPayment("payment_1", null));
+                    softly.check(() -> BDDMockito.then(paymentSyncService).should().syncPayment("payment_2", null));
+                    softly.check(() -> BDDMockito.then(paymentSyncService).should().syncPayment("payment_3", null));
+                    softly.check(() -> BDDMockito.then(webhookInboxJdbcRepository).should().markProcessed(eq(List.of(1L, 2L)), any()));
+                    softly.check(() -> BDDMockito.then(webhookInboxJdbcRepository).should().markProcessed(eq(List.of(3L)), any()));
+                    softly.check(() -> BDDMockito.then(webhookInboxJdbcRepository).should().deleteProcessedBefore(now.minusDays(7), 2));
+                    softly.then(meterRegistry.get("webhook.inbox.processed").counter().count()).isEqualTo(3);
+                    softly.then(meterRegistry.get("webhook.inbox.batch").timer().count()).isEqualTo(2);
+                    softly.then(meterRegistry.get("webhook.inbox.depth").gauge().value()).isZero();
+                });
+            }
+
+            @Test
+            void nothingToDrain_ShouldReportDepthAndLag() {
+                //given
+                given(webhookInboxJdbcRepository.claim(eq(now), any(), eq(10), eq(2))).willReturn(List.of());
+                given(webhookInboxJdbcRepository.countPending(10)).willReturn(4L);
+                given(webhookInboxJdbcRepository.findOldestPendingReceivedAt(10)).willReturn(Optional.of(now.minusSeconds(45)));
+
+                //when
+                int doneCount = webhookInboxWorker.drain(now);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(doneCount).isZero();
+                    softly.check(() -> BDDMockito.then(paymentSyncService).shouldHaveNoInteractions());
+                    softly.then(meterRegistry.get("webhook.inbox.depth").gauge().value()).isEqualTo(4);
+                    softly.then(meterRegistry.get("webhook.inbox.lag").gauge().value()).isEqualTo(45);
+                });
+            }
+
+            @Test
+            void alreadyPaid_ShouldNotRetry() {
+                //given
+                given(webhookInboxJdbcRepository.claim(eq(now), any(), eq(10), eq(2))).willReturn(List.of(webhook1));
+                given(paymentSyncService.syncPayment("payment_1", null)).willReturn(Mono.error(new IllegalStateException("이미 결제 완료된 주문입니다")));
+                given(webhookInboxJdbcRepository.countPending(10)).willReturn(0L);
+                given(webhookInboxJdbcRepository.findOldestPendingReceivedAt(10)).willReturn(Optional.empty());
+
+                //when
+                int doneCount = webhookInboxWorker.drain(now);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(doneCount).isEqualTo(1);
+                    softly.check(() -> BDDMockito.then(webhookInboxJdbcRepository).should().markProcessed(eq(List.of(1L)), any()));
+                    softly.check(() -> BDDMockito.then(webhookInboxJdbcRepository).should(never()).reschedule(any(), any()));
+                    softly.then(meterRegistry.get("webhook.inbox.rejected").counter().count()).isEqualTo(1);
+                });
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void failedSync_ShouldRescheduleWithBackoff() {
+                //given
+                given(webhookInboxJdbcRepository.claim(eq(now), any(), eq(10), eq(2)))
+                        .willReturn(List.of(webhook1, webhook3))
+                        .willReturn(List.of());
+                given(paymentSyncService.syncPayment("payment_1", null)).willReturn(Mono.just(new PaymentCompleteResponse("payment_1", PaymentStatus.COMPLETED)));
+                given(paymentSyncService.syncPayment("payment_3", null)).willReturn(Mono.error(new SyncPaymentException("결제 정보 조회 중 오류 발생")));
+                given(webhookInboxJdbcRepository.countPending(10)).willReturn(1L);
+                given(webhookInboxJdbcRepository.findOldestPendingReceivedAt(10)).willReturn(Optional.of(now.minusSeconds(1)));
+
+                LocalDateTime before = LocalDateTime.now();
+
+                //when
+                int doneCount = webhookInboxWorker.drain(now);
+
+                //then
+                ArgumentCaptor<LocalDateTime> availableAt = ArgumentCaptor.forClass(LocalDateTime.class);
+                BDDMockito.then(webhookInboxJdbcRepository).should().reschedule(eq(3L), availableAt.capture());
+
+                //세 번째 시도에 실패하면 5초 × 2^2
+                thenSoftly(softly -> {
+                    softly.then(doneCount).isEqualTo(1);
+                    softly.check(() -> BDDMockito.then(webhookInboxJdbcRepository).should().markProcessed(eq(List.of(1L)), any()));
+                    softly.then(Duration.between(before, availableAt.getValue())).isBetween(Duration.ofSeconds(20), Duration.ofSeconds(21));
+                    softly.then(meterRegistry.get("webhook.inbox.failed").counter().count()).isEqualTo(1);
+                    softly.then(meterRegistry.get("webhook.inbox.depth").gauge().value()).isEqualTo(1);
+                });
+            }
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package lsk.commerce.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lsk.commerce.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+class BoundedPasswordEncoderTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    BoundedPasswordEncoder boundedPasswordEncoder;
+
+    @AfterEach
+    void afterEach() {
+        boundedPasswordEncoder.destroy();
+    }
+
+    @Nested
+    class Hash {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                boundedPasswordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 2, meterRegistry);
+
+                //when
+                String encodedPassword = boundedPasswordEncoder.encode("abAB12!@");
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(boundedPasswordEncoder.matches("abAB12!@", encodedPassword)).isTrue();
+                    softly.then(boundedPasswordEncoder.matches("cdCD34#$", encodedPassword)).isFalse();
+                    softly.then(meterRegistry.get("password.hash.latency").timer().count()).isEqualTo(3);
+                });
+            }
+
+            @Test
+            void upgradeEncoding() {
+                //given
+                boundedPasswordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1, meterRegistry);
+                String weakPassword = new BCryptPasswordEncoder(4).encode("abAB12!@");
+
+                //when & then
+                then(boundedPasswordEncoder.upgradeEncoding(weakPassword)).isTrue();
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void shouldReject_WhenQueueIsFull() throws Exception {
+                //given
+                CountDownLatch started = new CountDownLatch(1);
+                CountDownLatch release = new CountDownLatch(1);
+                PasswordEncoder slowPasswordEncoder = new PasswordEncoder() {
+                    @Override
+                    public String encode(CharSequence rawPassword) {
+                        started.countDown();
+                        try {
+                            release.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        return "encoded";
+                    }
+
+                    @Override
+                    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                        return true;
+                    }
+                };
+                boundedPasswordEncoder = new BoundedPasswordEncoder(slowPasswordEncoder, 1, 1, meterRegistry);
+
+                //계산 중 1개, 대기 1개
+                CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("a"));
+                started.await(1, TimeUnit.SECONDS);
+                CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> boundedPasswordEncoder.encode("b"));
+                while (meterRegistry.get("password.hash.queue.size").gauge().value() < 1) {
+                    Thread.onSpinWait();
+                }
+
+                //when & then
+                thenThrownBy(() -> boundedPasswordEncoder.encode("c"))
+                        .isInstanceOf(ServiceBusyException.class)
+                        .hasMessage("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요");
+
+                release.countDown();
+                thenSoftly(softly -> {
+                    softly.then(running.get(1, TimeUnit.SECONDS)).isEqualTo("encoded");
+                    softly.then(queued.get(1, TimeUnit.SECONDS)).isEqualTo("encoded");
+                    softly.then(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1);
+                });
+            }
+        }
+    }
+}
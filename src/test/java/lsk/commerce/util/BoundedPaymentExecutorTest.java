@@ -0,0 +1,158 @@
+package lsk.commerce.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import lsk.commerce.exception.ServiceBusyException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+class BoundedPaymentExecutorTest {
+
+    SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    BoundedPaymentExecutor boundedPaymentExecutor;
+
+    @AfterEach
+    void afterEach() {
+        boundedPaymentExecutor.destroy();
+    }
+
+    @Nested
+    class Submit {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() throws Exception {
+                //given
+                boundedPaymentExecutor = new BoundedPaymentExecutor(2, 2, 1000, meterRegistry);
+
+                //when
+                String threadName = boundedPaymentExecutor.submit(() -> Thread.currentThread().isVirtual() + " " + Thread.currentThread().getName())
+                        .get(1, TimeUnit.SECONDS);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(threadName).startsWith("true payment-");
+                    softly.then(meterRegistry.get("payment.executor.latency").timer().count()).isEqualTo(1);
+                    softly.then(meterRegistry.get("payment.executor.active").gauge().value()).isZero();
+                    softly.then(meterRegistry.get("payment.executor.queue.size").gauge().value()).isZero();
+                });
+            }
+
+            @Test
+            void shouldLimitConcurrency() throws Exception {
+                //given
+                boundedPaymentExecutor = new BoundedPaymentExecutor(2, 100, 5000, meterRegistry);
+                AtomicInteger running = new AtomicInteger();
+                AtomicInteger maxRunning = new AtomicInteger();
+
+                //when
+                CompletableFuture<?>[] futures = new CompletableFuture<?>[50];
+                for (int i = 0; i < futures.length; i++) {
+                    futures[i] = boundedPaymentExecutor.submit(() -> {
+                        maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                        Thread.sleep(5);
+                        return running.decrementAndGet();
+                    });
+                }
+                CompletableFuture.allOf(futures).get(5, TimeUnit.SECONDS);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(maxRunning.get()).isEqualTo(2);
+                    softly.then(meterRegistry.get("payment.executor.latency").timer().count()).isEqualTo(50);
+                    softly.then(meterRegistry.get("payment.executor.rejected").counter().count()).isZero();
+                });
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void failedWork() {
+                //given
+                boundedPaymentExecutor = new BoundedPaymentExecutor(1, 1, 1000, meterRegistry);
+
+                //when
+                CompletableFuture<Object> future = boundedPaymentExecutor.submit(() -> {
+                    throw new IllegalArgumentException("존재하지 않는 결제 번호입니다");
+                });
+
+                //then
+                thenThrownBy(() -> future.get(1, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .cause()
+                        .isInstanceOf(IllegalArgumentException.class)
+                        .hasMessage("존재하지 않는 결제 번호입니다");
+            }
+
+            @Test
+            void shouldReject_WhenQueueIsFull() throws Exception {
+                //given
+                boundedPaymentExecutor = new BoundedPaymentExecutor(1, 1, 5000, meterRegistry);
+                CountDownLatch started = new CountDownLatch(1);
+                CountDownLatch release = new CountDownLatch(1);
+
+                //실행 중 1개, 대기 1개
+                CompletableFuture<String> running = boundedPaymentExecutor.submit(() -> {
+                    started.countDown();
+                    release.await();
+                    return "running";
+                });
+                started.await(1, TimeUnit.SECONDS);
+                CompletableFuture<String> queued = boundedPaymentExecutor.submit(() -> "queued");
+
+                //when & then
+                thenThrownBy(() -> boundedPaymentExecutor.submit(() -> "rejected"))
+                        .isInstanceOf(ServiceBusyException.class)
+                        .hasMessage("요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요");
+
+                release.countDown();
+                thenSoftly(softly -> {
+                    softly.then(running.get(1, TimeUnit.SECONDS)).isEqualTo("running");
+                    softly.then(queued.get(1, TimeUnit.SECONDS)).isEqualTo("queued");
+                    softly.then(meterRegistry.get("payment.executor.rejected").counter().count()).isEqualTo(1);
+                });
+            }
+
+            @Test
+            void shouldReject_WhenWaitingTooLong() throws Exception {
+                //given
+                boundedPaymentExecutor = new BoundedPaymentExecutor(1, 10, 50, meterRegistry);
+                CountDownLatch release = new CountDownLatch(1);
+                CompletableFuture<String> running = boundedPaymentExecutor.submit(() -> {
+                    release.await();
+                    return "running";
+                });
+
+                //when
+                CompletableFuture<String> timedOut = boundedPaymentExecutor.submit(() -> "timedOut");
+
+                //then
+                thenThrownBy(() -> timedOut.get(1, TimeUnit.SECONDS))
+                        .isInstanceOf(ExecutionException.class)
+                        .cause()
+                        .isInstanceOf(ServiceBusyException.class);
+
+                release.countDown();
+                thenSoftly(softly -> {
+                    softly.then(running.get(1, TimeUnit.SECONDS)).isEqualTo("running");
+                    softly.then(meterRegistry.get("payment.executor.rejected").counter().count()).isEqualTo(1);
+                });
+                then(meterRegistry.get("payment.executor.wait").timer().count()).isEqualTo(2);
+            }
+        }
+    }
+}
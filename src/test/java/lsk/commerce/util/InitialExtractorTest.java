@@ -1,5 +1,6 @@
 package lsk.commerce.util;
 
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
@@ -24,4 +25,16 @@ class InitialExtractorTest {
         //then
         then(result).isEqualTo(expected);
     }
-}
\ No newline at end of file
+
+    @Test
+    void shouldReturnSameInstance_WhenNoHangulSyllable() {
+        //given
+        String text = "InitialExtractor ㄱㄴㄷ 123";
+
+        //when
+        String result = InitialExtractor.extract(text);
+
+        //then
+        then(result).isSameAs(text);
+    }
+}
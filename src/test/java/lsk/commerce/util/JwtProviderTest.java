@@ -0,0 +1,119 @@
+package lsk.commerce.util;
+
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import lsk.commerce.domain.Member;
+import lsk.commerce.dto.LoginPrincipalDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+class JwtProviderTest {
+
+    static final String SECRET = "c2VjcmV0LWtleS1mb3Itand0LXByb3ZpZGVyLXRlc3QtMDEyMzQ1Njc4OQ==";
+
+    JwtProvider jwtProvider;
+    Member member;
+
+    @BeforeEach
+    void beforeEach() {
+        jwtProvider = new JwtProvider(SECRET, 100);
+        member = Member.builder()
+                .name("UserA")
+                .loginId("id_A")
+                .password("abAB12!@")
+                .zipcode("01234")
+                .baseAddress("서울시 강남구")
+                .detailAddress("101동 101호")
+                .build();
+    }
+
+    @Nested
+    class Verify {
+
+        @Nested
+        class SuccessCase {
+
+            @Test
+            void basic() {
+                //given
+                String token = jwtProvider.createToken(member);
+
+                //when
+                LoginPrincipalDto principal1 = jwtProvider.verify(token);
+                LoginPrincipalDto principal2 = jwtProvider.verify(token);
+
+                //then
+                thenSoftly(softly -> {
+                    softly.then(principal1)
+                            .extracting("loginId", "role")
+                            .containsExactly("id_A", "USER");
+                    softly.then(principal1.expiresAtMillis()).isGreaterThan(System.currentTimeMillis());
+                    softly.then(principal2).isSameAs(principal1);
+                });
+            }
+        }
+
+        @Nested
+        class FailureCase {
+
+            @Test
+            void invalidToken() {
+                //when & then
+                thenThrownBy(() -> jwtProvider.verify("invalid.token.value"))
+                        .isInstanceOf(JwtException.class)
+                        .hasMessage("유효하지 않은 토큰입니다");
+            }
+
+            @Test
+            void otherSecretKey() {
+                //given
+                JwtProvider otherJwtProvider = new JwtProvider("b3RoZXItc2VjcmV0LWtleS1mb3Itand0LXByb3ZpZGVyLXRlc3Q=", 100);
+                String token = otherJwtProvider.createToken(member);
+
+                //when & then
+                thenThrownBy(() -> jwtProvider.verify(token))
+                        .isInstanceOf(JwtException.class)
+                        .hasMessage("유효하지 않은 토큰입니다");
+            }
+
+            @Test
+            void expiredToken() {
+                //given
+                String token = Jwts.builder()
+                        .subject("id_A")
+                        .claim("role", "USER")
+                        .expiration(new Date(System.currentTimeMillis() - 1000))
+                        .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                        .compact();
+
+                //when & then
+                thenThrownBy(() -> jwtProvider.verify(token))
+                        .isInstanceOf(JwtException.class)
+                        .hasMessage("유효하지 않은 토큰입니다");
+            }
+
+            @Test
+            void withoutRole() {
+                //given
+                String token = Jwts.builder()
+                        .subject("id_A")
+                        .expiration(new Date(System.currentTimeMillis() + 60000))
+                        .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET)))
+                        .compact();
+
+                //when & then
+                thenThrownBy(() -> jwtProvider.verify(token))
+                        .isInstanceOf(JwtException.class)
+                        .hasMessage("잘못된 토큰입니다");
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package lsk.commerce.util;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.BDDAssertions.then;
+import static org.assertj.core.api.BDDAssertions.thenThrownBy;
+import static org.assertj.core.api.BDDSoftAssertions.thenSoftly;
+
+class StripedStockCounterTest {
+
+    @Nested
+    class Create {
+
+        @Test
+        void basic() {
+            //when
+            StripedStockCounter counter = new StripedStockCounter(10, 4);
+
+            //then
+            then(counter.sum()).isEqualTo(10);
+        }
+
+        @Test
+        void stripeCountIsZero() {
+            //when & then
+            thenThrownBy(() -> new StripedStockCounter(10, 0))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("칸 수는 1 이상이어야 합니다");
+        }
+    }
+
+    @Nested
+    class Decrease {
+
+        @Test
+        void basic() {
+            //given
+            StripedStockCounter counter = new StripedStockCounter(10, 4);
+
+            //when
+            boolean result = counter.tryDecrease(2);
+
+            //then
+            thenSoftly(softly -> {
+                softly.then(result).isTrue();
+                softly.then(counter.sum()).isEqualTo(8);
+            });
+        }
+
+        @Test
+        void shouldTakeFromSeveralStripes_WhenOneStripeIsNotEnough() {
+            //given
+            StripedStockCounter counter = new StripedStockCounter(10, 4);
+
+            //when
+            boolean result = counter.tryDecrease(10);
+
+            //then
+            thenSoftly(softly -> {
+                softly.then(result).isTrue();
+                softly.then(counter.sum()).isEqualTo(0);
+            });
+        }
+
+        @Test
+        void shouldRestore_WhenStockIsNotEnough() {
+            //given
+            StripedStockCounter counter = new StripedStockCounter(10, 4);
+
+            //when
+            boolean result = counter.tryDecrease(11);
+
+            //then
+            thenSoftly(softly -> {
+                softly.then(result).isFalse();
+                softly.then(counter.sum()).isEqualTo(10);
+            });
+        }
+
+        @Test
+        void shouldNotOversell_WhenThreadsCompete() throws InterruptedException {
+            //given
+            StripedStockCounter counter = new StripedStockCounter(1000, 8);
+            AtomicInteger successCount = new AtomicInteger();
+
+            ExecutorService executorService = Executors.newFixedThreadPool(16);
+            CountDownLatch latch = new CountDownLatch(2000);
+
+            //when
+            for (int i = 0; i < 2000; i++) {
+                executorService.submit(() -> {
+                    try {
+                        if (counter.tryDecrease(1)) {
+                            successCount.incrementAndGet();
+                        }
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executorService.shutdown();
+            executorService.awaitTermination(5, TimeUnit.SECONDS);
+
+            //then
+            thenSoftly(softly -> {
+                softly.then(successCount.get()).isEqualTo(1000);
+                softly.then(counter.sum()).isEqualTo(0);
+            });
+        }
+    }
+
+    @Nested
+    class Increase {
+
+        @Test
+        void basic() {
+            //given
+            StripedStockCounter counter = new StripedStockCounter(10, 4);
+
+            //when
+            counter.increase(5);
+
+            //then
+            then(counter.sum()).isEqualTo(15);
+        }
+    }
+}